@@ -13,7 +13,7 @@ public class MatrixBenchmark {
 	public static class MatrixData {
 		private static final int SEED = 1245;
 
-		@Param({"8", "32", "128"})
+		@Param({"8", "32", "128", "512"})
 		public int size;
 
 		private ArrayMatrix A, B;
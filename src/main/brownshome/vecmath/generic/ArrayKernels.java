@@ -0,0 +1,104 @@
+package brownshome.vecmath.generic;
+
+/**
+ * The inner loops used by array-backed elements, operating on contiguous runs of backing arrays.
+ * <p>
+ * The implementation is chosen when this interface is initialised. If the incubating {@code jdk.incubator.vector}
+ * module has been added to the JVM a SIMD implementation is used, otherwise a scalar implementation is used. The SIMD
+ * implementation can be disabled by setting the {@code brownshome.vecmath.simd} system property to {@code false}.
+ */
+public interface ArrayKernels {
+	/**
+	 * The kernels in use by this library
+	 */
+	ArrayKernels INSTANCE = KernelLoader.load();
+
+	/**
+	 * The number of rows and columns in the tile computed by {@link #multiplyPanels}
+	 */
+	int TILE_SIZE = 4;
+
+	/**
+	 * Adds the source values to the destination values
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	void add(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length);
+
+	/**
+	 * Adds the source values multiplied by a scale to the destination values
+	 * @param scale the scale of the source values
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	void scaleAdd(double scale, double[] source, int sourceOffset, double[] destination, int destinationOffset, int length);
+
+	/**
+	 * Multiplies the values in an array by a scale
+	 * @param scale the scale
+	 * @param array the array
+	 * @param offset the first index
+	 * @param length the number of values
+	 */
+	void scale(double scale, double[] array, int offset, int length);
+
+	/**
+	 * Multiplies the destination values by the source values element-wise
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	void multiply(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length);
+
+	/**
+	 * The sum of the element-wise products of two runs of values
+	 * @param a the first array
+	 * @param aOffset the first index in the first array
+	 * @param b the second array
+	 * @param bOffset the first index in the second array
+	 * @param length the number of values
+	 * @return the dot product
+	 */
+	double dot(double[] a, int aOffset, double[] b, int bOffset, int length);
+
+	/**
+	 * Computes the product of a packed {@code TILE_SIZE x length} panel and a packed {@code length x TILE_SIZE} panel.
+	 * The left panel stores each column contiguously and the right panel stores each row contiguously.
+	 * @param length the inner dimension of the product
+	 * @param a the left panel
+	 * @param aOffset the index of the left panel
+	 * @param b the right panel
+	 * @param bOffset the index of the right panel
+	 * @param tile the output, this is overwritten with the product in row-major order
+	 */
+	void multiplyPanels(int length, double[] a, int aOffset, double[] b, int bOffset, double[] tile);
+}
+
+record KernelLoader() {
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final String VECTOR_KERNELS = "brownshome.vecmath.simd.VectorArrayKernels";
+
+	static ArrayKernels load() {
+		var vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE);
+		if (!Boolean.parseBoolean(System.getProperty("brownshome.vecmath.simd", "true")) || vectorModule.isEmpty()) {
+			return new ScalarArrayKernels();
+		}
+
+		try {
+			// The module does not declare the incubator module, so that it is never resolved unless it was asked for
+			KernelLoader.class.getModule().addReads(vectorModule.get());
+			return (ArrayKernels) Class.forName(VECTOR_KERNELS).getConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// The SIMD kernels were not packaged, or this platform has no useful vector shape
+			return new ScalarArrayKernels();
+		}
+	}
+}
@@ -28,6 +28,24 @@ public interface ElementLayout {
 		return end() - start();
 	}
 
+	/**
+	 * The index of the first element in the backing storage. Unlike {@link #start()} this does not overflow for layouts
+	 * of storage that is larger than an array.
+	 * @return the index
+	 */
+	default long longStart() {
+		return start();
+	}
+
+	/**
+	 * The index one past the last element in the backing storage. Unlike {@link #end()} this does not overflow for
+	 * layouts of storage that is larger than an array.
+	 * @return the index
+	 */
+	default long longEnd() {
+		return end();
+	}
+
 	/**
 	 * Whether all array elements between start and end belong to this element
 	 * @return a boolean
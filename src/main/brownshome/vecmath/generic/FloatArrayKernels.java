@@ -0,0 +1,150 @@
+package brownshome.vecmath.generic;
+
+/**
+ * The inner loops used by float-backed elements, operating on contiguous runs of backing arrays.
+ * <p>
+ * Values are loaded as floats and widened, so all arithmetic is done in double precision and each result is rounded to
+ * a float once, when it is stored. Sums are accumulated in double precision, so the result of a dot product is only as
+ * inexact as its inputs.
+ */
+public record FloatArrayKernels() {
+	/**
+	 * Widens floats into doubles
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	public static void widen(float[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = source[sourceOffset + i];
+		}
+	}
+
+	/**
+	 * Rounds doubles to floats
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	public static void narrow(double[] source, int sourceOffset, float[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = (float) source[sourceOffset + i];
+		}
+	}
+
+	/**
+	 * Adds the source values to the destination values
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	public static void add(float[] source, int sourceOffset, float[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = (float) ((double) destination[destinationOffset + i] + source[sourceOffset + i]);
+		}
+	}
+
+	/**
+	 * Adds the source values multiplied by a scale to the destination values
+	 * @param scale the scale of the source values
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	public static void scaleAdd(double scale, float[] source, int sourceOffset, float[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = (float) (destination[destinationOffset + i] + scale * source[sourceOffset + i]);
+		}
+	}
+
+	/**
+	 * Multiplies the values in an array by a scale
+	 * @param scale the scale
+	 * @param array the array
+	 * @param offset the first index
+	 * @param length the number of values
+	 */
+	public static void scale(double scale, float[] array, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			array[i] = (float) (array[i] * scale);
+		}
+	}
+
+	/**
+	 * Multiplies the destination values by the source values element-wise
+	 * @param source the source array
+	 * @param sourceOffset the first index in the source array
+	 * @param destination the destination array
+	 * @param destinationOffset the first index in the destination array
+	 * @param length the number of values
+	 */
+	public static void multiply(float[] source, int sourceOffset, float[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = (float) ((double) destination[destinationOffset + i] * source[sourceOffset + i]);
+		}
+	}
+
+	/**
+	 * Computes the dot product of two runs of floats
+	 * @param a the first array
+	 * @param aOffset the first index in the first array
+	 * @param b the second array
+	 * @param bOffset the first index in the second array
+	 * @param length the number of values
+	 * @return the dot product
+	 */
+	public static double dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		// Independent sums allow the additions to overlap, as the loads are cheap enough that the latency of each
+		// addition would otherwise limit the speed of the loop
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+
+		int i = 0;
+		for (; i <= length - 4; i += 4) {
+			s0 += (double) a[aOffset + i] * b[bOffset + i];
+			s1 += (double) a[aOffset + i + 1] * b[bOffset + i + 1];
+			s2 += (double) a[aOffset + i + 2] * b[bOffset + i + 2];
+			s3 += (double) a[aOffset + i + 3] * b[bOffset + i + 3];
+		}
+
+		for (; i < length; i++) {
+			s0 += (double) a[aOffset + i] * b[bOffset + i];
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * Computes the dot product of a run of floats and a run of doubles
+	 * @param a the float array
+	 * @param aOffset the first index in the float array
+	 * @param b the double array
+	 * @param bOffset the first index in the double array
+	 * @param length the number of values
+	 * @return the dot product
+	 */
+	public static double dot(float[] a, int aOffset, double[] b, int bOffset, int length) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+
+		int i = 0;
+		for (; i <= length - 4; i += 4) {
+			s0 += a[aOffset + i] * b[bOffset + i];
+			s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+			s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+			s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+		}
+
+		for (; i < length; i++) {
+			s0 += a[aOffset + i] * b[bOffset + i];
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+}
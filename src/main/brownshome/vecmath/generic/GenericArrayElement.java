@@ -39,18 +39,14 @@ public interface GenericArrayElement<
 		assert layout().isContinuous();
 		assert cast.layout().equals(layout());
 
-		for (int i = layout().start(), j = cast.layout().start(); i < layout().end(); i++, j++) {
-			backingArray()[i] += cast.backingArray()[j];
-		}
+		ArrayKernels.INSTANCE.add(cast.backingArray(), cast.layout().start(), backingArray(), layout().start(), layout().size());
 	}
 
 	@Override
 	default void scaleSelf(double scale) {
 		assert layout().isContinuous();
 
-		for (int i = layout().start(); i < layout().end(); i++) {
-			backingArray()[i] *= scale;
-		}
+		ArrayKernels.INSTANCE.scale(scale, backingArray(), layout().start(), layout().size());
 	}
 
 	@Override
@@ -59,9 +55,7 @@ public interface GenericArrayElement<
 		assert layout().isContinuous();
 		assert cast.layout().equals(layout());
 
-		for (int i = layout().start(), j = cast.layout().start(); i < layout().end(); i++, j++) {
-			backingArray()[i] += cast.backingArray()[j];
-		}
+		ArrayKernels.INSTANCE.multiply(cast.backingArray(), cast.layout().start(), backingArray(), layout().start(), layout().size());
 	}
 
 	@Override
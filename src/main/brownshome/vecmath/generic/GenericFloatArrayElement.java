@@ -0,0 +1,24 @@
+package brownshome.vecmath.generic;
+
+/**
+ * An element backed by an array of floats. The elements are widened to doubles when they are read, and rounded to
+ * floats when they are written.
+ *
+ * @param <LAYOUT_TYPE> the layout type of this float-backed element
+ * @param <ELEMENT_TYPE> the element type
+ */
+public interface GenericFloatArrayElement<
+		LAYOUT_TYPE extends ElementLayout,
+		ELEMENT_TYPE extends GenericElement<ELEMENT_TYPE>> extends GenericMElement<ELEMENT_TYPE> {
+	/**
+	 * The layout of this element
+	 * @return the layout of this element
+	 */
+	LAYOUT_TYPE layout();
+
+	/**
+	 * The backing array for this element
+	 * @return the backing array
+	 */
+	float[] backingArray();
+}
@@ -0,0 +1,25 @@
+package brownshome.vecmath.generic;
+
+import brownshome.vecmath.memory.DoubleSegment;
+
+/**
+ * An element backed by a segment, which may be stored off-heap, and may be larger than an array
+ *
+ * @param <LAYOUT_TYPE> the layout type of this segment-backed element
+ * @param <ELEMENT_TYPE> the element type
+ */
+public interface GenericSegmentElement<
+		LAYOUT_TYPE extends ElementLayout,
+		ELEMENT_TYPE extends GenericElement<ELEMENT_TYPE>> extends GenericMElement<ELEMENT_TYPE> {
+	/**
+	 * The layout of this element. Indexes into the segment are found using the long index methods of the layout.
+	 * @return the layout of this element
+	 */
+	LAYOUT_TYPE layout();
+
+	/**
+	 * The backing segment for this element
+	 * @return the backing segment
+	 */
+	DoubleSegment backingSegment();
+}
@@ -0,0 +1,392 @@
+package brownshome.vecmath.generic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * An unevaluated chain of element-wise operations on elements of type {@code T}. Sums and scales are flattened into a
+ * single linear combination as the expression is built, so that {@code a.add(b).scale(2).subtract(c)} becomes
+ * {@code 2a + 2b - c}.
+ * <p>
+ * Expressions are evaluated by compiling them into a {@link Kernel}, which is run over the elements a block at a time.
+ * Each block of intermediate values is small enough to stay in the cache, so the whole expression is evaluated in a
+ * single pass over the operands and the destination, without allocating a temporary for each operation.
+ *
+ * @param <T> the type of the operands
+ */
+public sealed interface LazyExpression<T> {
+	/**
+	 * A single operand
+	 */
+	record Operand<T>(T value) implements LazyExpression<T> { }
+
+	/**
+	 * A term in a linear combination
+	 */
+	record Term<T>(double coefficient, LazyExpression<T> expression) { }
+
+	/**
+	 * A linear combination of expressions, none of which are themselves linear combinations
+	 */
+	record Sum<T>(List<Term<T>> terms) implements LazyExpression<T> { }
+
+	/**
+	 * The element-wise product of two expressions
+	 */
+	record Product<T>(LazyExpression<T> left, LazyExpression<T> right) implements LazyExpression<T> { }
+
+	/**
+	 * Creates an expression that evaluates to an operand
+	 * @param value the operand
+	 * @return an expression
+	 */
+	static <T> LazyExpression<T> of(T value) {
+		return new Operand<>(value);
+	}
+
+	/**
+	 * The sum of this expression and another one scaled
+	 * @param other the expression to add
+	 * @param scale the scale of the other expression
+	 * @return an expression
+	 */
+	default LazyExpression<T> scaleAdd(LazyExpression<T> other, double scale) {
+		var terms = new ArrayList<Term<T>>();
+		addTerms(terms, this, 1.0);
+		addTerms(terms, other, scale);
+		return new Sum<>(List.copyOf(terms));
+	}
+
+	/**
+	 * This expression scaled
+	 * @param scale the amount to scale by
+	 * @return an expression
+	 */
+	default LazyExpression<T> scale(double scale) {
+		var terms = new ArrayList<Term<T>>();
+		addTerms(terms, this, scale);
+		return new Sum<>(List.copyOf(terms));
+	}
+
+	/**
+	 * The element-wise product of this expression and another one
+	 * @param other the expression to multiply by
+	 * @return an expression
+	 */
+	default LazyExpression<T> multiply(LazyExpression<T> other) {
+		return new Product<>(this, other);
+	}
+
+	private static <T> void addTerms(List<Term<T>> terms, LazyExpression<T> expression, double scale) {
+		if (expression instanceof Sum<T> sum) {
+			for (var term : sum.terms()) {
+				terms.add(new Term<>(term.coefficient() * scale, term.expression()));
+			}
+		} else {
+			terms.add(new Term<>(scale, expression));
+		}
+	}
+
+	/**
+	 * Evaluates a single element of this expression
+	 * @param element a function returning the element of an operand
+	 * @return the value of the element
+	 */
+	default double evaluate(ToDoubleFunction<? super T> element) {
+		if (this instanceof Operand<T> operand) {
+			return element.applyAsDouble(operand.value());
+		}
+
+		if (this instanceof Product<T> product) {
+			return product.left().evaluate(element) * product.right().evaluate(element);
+		}
+
+		double result = 0.0;
+		for (var term : ((Sum<T>) this).terms()) {
+			result += term.coefficient() * term.expression().evaluate(element);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns true if every operand in this expression matches a predicate
+	 * @param predicate the predicate
+	 * @return a boolean
+	 */
+	default boolean allOperandsMatch(Predicate<? super T> predicate) {
+		if (this instanceof Operand<T> operand) {
+			return predicate.test(operand.value());
+		}
+
+		if (this instanceof Product<T> product) {
+			return product.left().allOperandsMatch(predicate) && product.right().allOperandsMatch(predicate);
+		}
+
+		for (var term : ((Sum<T>) this).terms()) {
+			if (!term.expression().allOperandsMatch(predicate)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compiles this expression into a kernel that can be evaluated
+	 * @param operands a function mapping each operand to a kernel that reads its values
+	 * @return a kernel
+	 */
+	default Kernel compile(Function<? super T, Kernel> operands) {
+		if (this instanceof Operand<T> operand) {
+			return operands.apply(operand.value());
+		}
+
+		if (this instanceof Product<T> product) {
+			return new ProductKernel(product.left().compile(operands), product.right().compile(operands));
+		}
+
+		var terms = ((Sum<T>) this).terms();
+		var coefficients = new double[terms.size()];
+		var kernels = new Kernel[terms.size()];
+
+		for (int i = 0; i < kernels.length; i++) {
+			coefficients[i] = terms.get(i).coefficient();
+			kernels[i] = terms.get(i).expression().compile(operands);
+		}
+
+		return new SumKernel(coefficients, kernels);
+	}
+
+	/**
+	 * Evaluates a kernel into a contiguous run of an array. The destination may also be read by the kernel, provided
+	 * that it is read at the same index that is written.
+	 * @param kernel the kernel
+	 * @param length the number of elements
+	 * @param destination the destination array
+	 * @param offset the index of the first element in the destination array
+	 */
+	static void evaluate(Kernel kernel, int length, double[] destination, int offset) {
+		var scratch = new double[Kernel.BLOCK_SIZE * (1 + kernel.scratchBlocks())];
+
+		for (int index = 0; index < length; index += Kernel.BLOCK_SIZE) {
+			int block = Math.min(Kernel.BLOCK_SIZE, length - index);
+
+			// Blocks are evaluated into scratch space in case the destination is also an operand
+			kernel.evaluate(index, block, scratch, 0, scratch, Kernel.BLOCK_SIZE);
+			System.arraycopy(scratch, 0, destination, offset + index, block);
+		}
+	}
+
+	/**
+	 * Evaluates a kernel into a destination that is written one element at a time. The destination may also be read by
+	 * the kernel, provided that it is read at the same index that is written.
+	 * @param kernel the kernel
+	 * @param length the number of elements
+	 * @param destination the destination
+	 */
+	static void evaluate(Kernel kernel, int length, Destination destination) {
+		var scratch = new double[Kernel.BLOCK_SIZE * (1 + kernel.scratchBlocks())];
+
+		for (int index = 0; index < length; index += Kernel.BLOCK_SIZE) {
+			int block = Math.min(Kernel.BLOCK_SIZE, length - index);
+
+			kernel.evaluate(index, block, scratch, 0, scratch, Kernel.BLOCK_SIZE);
+
+			for (int i = 0; i < block; i++) {
+				destination.set(scratch[i], index + i);
+			}
+		}
+	}
+
+	/**
+	 * A destination for evaluated elements
+	 */
+	@FunctionalInterface
+	interface Destination {
+		/**
+		 * Sets an element
+		 * @param value the value
+		 * @param index the index of the element
+		 */
+		void set(double value, int index);
+	}
+
+	/**
+	 * A compiled expression, which computes a block of elements at a time
+	 */
+	sealed interface Kernel {
+		/**
+		 * The number of elements computed at a time
+		 */
+		int BLOCK_SIZE = 512;
+
+		/**
+		 * A kernel reading a contiguous run of an array
+		 * @param array the array
+		 * @param offset the index of the first element
+		 * @return a kernel
+		 */
+		static Kernel ofArray(double[] array, int offset) {
+			return new ArrayKernel(array, offset);
+		}
+
+		/**
+		 * A kernel reading elements by index
+		 * @param elements a function returning the element at each index
+		 * @return a kernel
+		 */
+		static Kernel ofElements(IntToDoubleFunction elements) {
+			return new ElementKernel(elements);
+		}
+
+		/**
+		 * Writes a block of values
+		 * @param index the index of the first element in the block
+		 * @param length the number of elements in the block, which is at most {@link #BLOCK_SIZE}
+		 * @param out the array to write to
+		 * @param outOffset the index to write the first element to
+		 * @param scratch space for intermediate values
+		 * @param scratchOffset the start of the scratch space this kernel may use
+		 */
+		void evaluate(int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset);
+
+		/**
+		 * Adds a block of values multiplied by a scale to an array
+		 */
+		default void scaleAddTo(double scale, int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+			evaluate(index, length, scratch, scratchOffset, scratch, scratchOffset + BLOCK_SIZE);
+			ArrayKernels.INSTANCE.scaleAdd(scale, scratch, scratchOffset, out, outOffset, length);
+		}
+
+		/**
+		 * The number of blocks of scratch space used by {@link #evaluate}
+		 */
+		int scratchBlocks();
+
+		/**
+		 * The number of blocks of scratch space used by {@link #scaleAddTo}
+		 */
+		default int scaleAddScratchBlocks() {
+			return 1 + scratchBlocks();
+		}
+	}
+}
+
+record ArrayKernel(double[] array, int offset) implements LazyExpression.Kernel {
+	@Override
+	public void evaluate(int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		System.arraycopy(array, offset + index, out, outOffset, length);
+	}
+
+	@Override
+	public void scaleAddTo(double scale, int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		ArrayKernels.INSTANCE.scaleAdd(scale, array, offset + index, out, outOffset, length);
+	}
+
+	@Override
+	public int scratchBlocks() {
+		return 0;
+	}
+
+	@Override
+	public int scaleAddScratchBlocks() {
+		return 0;
+	}
+}
+
+record ElementKernel(IntToDoubleFunction elements) implements LazyExpression.Kernel {
+	@Override
+	public void evaluate(int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		for (int i = 0; i < length; i++) {
+			out[outOffset + i] = elements.applyAsDouble(index + i);
+		}
+	}
+
+	@Override
+	public void scaleAddTo(double scale, int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		for (int i = 0; i < length; i++) {
+			out[outOffset + i] += elements.applyAsDouble(index + i) * scale;
+		}
+	}
+
+	@Override
+	public int scratchBlocks() {
+		return 0;
+	}
+
+	@Override
+	public int scaleAddScratchBlocks() {
+		return 0;
+	}
+}
+
+record SumKernel(double[] coefficients, LazyExpression.Kernel[] terms) implements LazyExpression.Kernel {
+	@Override
+	public void evaluate(int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		terms[0].evaluate(index, length, out, outOffset, scratch, scratchOffset);
+
+		if (coefficients[0] != 1.0) {
+			ArrayKernels.INSTANCE.scale(coefficients[0], out, outOffset, length);
+		}
+
+		for (int t = 1; t < terms.length; t++) {
+			terms[t].scaleAddTo(coefficients[t], index, length, out, outOffset, scratch, scratchOffset);
+		}
+	}
+
+	@Override
+	public void scaleAddTo(double scale, int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		for (int t = 0; t < terms.length; t++) {
+			terms[t].scaleAddTo(coefficients[t] * scale, index, length, out, outOffset, scratch, scratchOffset);
+		}
+	}
+
+	@Override
+	public int scratchBlocks() {
+		int blocks = terms[0].scratchBlocks();
+		for (int t = 1; t < terms.length; t++) {
+			blocks = Math.max(blocks, terms[t].scaleAddScratchBlocks());
+		}
+
+		return blocks;
+	}
+
+	@Override
+	public int scaleAddScratchBlocks() {
+		int blocks = 0;
+		for (var term : terms) {
+			blocks = Math.max(blocks, term.scaleAddScratchBlocks());
+		}
+
+		return blocks;
+	}
+}
+
+record ProductKernel(LazyExpression.Kernel left, LazyExpression.Kernel right) implements LazyExpression.Kernel {
+	@Override
+	public void evaluate(int index, int length, double[] out, int outOffset, double[] scratch, int scratchOffset) {
+		left.evaluate(index, length, out, outOffset, scratch, scratchOffset);
+
+		if (right instanceof ArrayKernel a) {
+			ArrayKernels.INSTANCE.multiply(a.array(), a.offset() + index, out, outOffset, length);
+			return;
+		}
+
+		right.evaluate(index, length, scratch, scratchOffset, scratch, scratchOffset + BLOCK_SIZE);
+		ArrayKernels.INSTANCE.multiply(scratch, scratchOffset, out, outOffset, length);
+	}
+
+	@Override
+	public int scratchBlocks() {
+		if (right instanceof ArrayKernel) {
+			return left.scratchBlocks();
+		}
+
+		return Math.max(left.scratchBlocks(), 1 + right.scratchBlocks());
+	}
+}
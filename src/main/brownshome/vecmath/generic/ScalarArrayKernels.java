@@ -0,0 +1,70 @@
+package brownshome.vecmath.generic;
+
+/**
+ * Array kernels written as plain loops
+ */
+public record ScalarArrayKernels() implements ArrayKernels {
+	@Override
+	public void add(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] += source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public void scaleAdd(double scale, double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] += scale * source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public void scale(double scale, double[] array, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			array[i] *= scale;
+		}
+	}
+
+	@Override
+	public void multiply(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] *= source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+		double sum = 0.0;
+
+		for (int i = 0; i < length; i++) {
+			sum += a[aOffset + i] * b[bOffset + i];
+		}
+
+		return sum;
+	}
+
+	@Override
+	public void multiplyPanels(int length, double[] a, int aOffset, double[] b, int bOffset, double[] tile) {
+		assert TILE_SIZE == 4;
+
+		double c00 = 0.0, c01 = 0.0, c02 = 0.0, c03 = 0.0;
+		double c10 = 0.0, c11 = 0.0, c12 = 0.0, c13 = 0.0;
+		double c20 = 0.0, c21 = 0.0, c22 = 0.0, c23 = 0.0;
+		double c30 = 0.0, c31 = 0.0, c32 = 0.0, c33 = 0.0;
+
+		for (int p = 0; p < length; p++, aOffset += 4, bOffset += 4) {
+			double a0 = a[aOffset], a1 = a[aOffset + 1], a2 = a[aOffset + 2], a3 = a[aOffset + 3];
+			double b0 = b[bOffset], b1 = b[bOffset + 1], b2 = b[bOffset + 2], b3 = b[bOffset + 3];
+
+			c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+			c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+			c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+			c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+		}
+
+		tile[0] = c00; tile[1] = c01; tile[2] = c02; tile[3] = c03;
+		tile[4] = c10; tile[5] = c11; tile[6] = c12; tile[7] = c13;
+		tile[8] = c20; tile[9] = c21; tile[10] = c22; tile[11] = c23;
+		tile[12] = c30; tile[13] = c31; tile[14] = c32; tile[15] = c33;
+	}
+}
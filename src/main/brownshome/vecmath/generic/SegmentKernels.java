@@ -0,0 +1,153 @@
+package brownshome.vecmath.generic;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.memory.DoubleSegment;
+
+/**
+ * The inner loops used by segment-backed elements, operating on contiguous runs of segments.
+ * <p>
+ * Blocks of each segment are copied into scratch arrays, so that the same {@link ArrayKernels} are used as for
+ * array-backed elements. The bulk copies between buffers and arrays are cheap compared to the arithmetic.
+ */
+public record SegmentKernels() {
+	/**
+	 * The number of doubles staged at once, which keeps both scratch arrays in the L1 cache
+	 */
+	private static final int BLOCK_SIZE = 2048;
+
+	private interface BlockOperation {
+		void apply(double[] source, double[] destination, int length);
+	}
+
+	/**
+	 * Stages blocks of the source and destination, and writes the destination blocks back after applying the operation
+	 */
+	private static void update(DoubleSegment source, long sourceIndex, DoubleSegment destination, long destinationIndex, long length, BlockOperation operation) {
+		int block = (int) Math.min(length, BLOCK_SIZE);
+		var a = new double[block];
+		var b = new double[block];
+
+		for (long i = 0; i < length; i += block) {
+			int count = (int) Math.min(block, length - i);
+
+			source.copyTo(sourceIndex + i, a, 0, count);
+			destination.copyTo(destinationIndex + i, b, 0, count);
+			operation.apply(a, b, count);
+			destination.copyFrom(b, 0, destinationIndex + i, count);
+		}
+	}
+
+	/**
+	 * Adds the source values to the destination values
+	 * @param source the source segment
+	 * @param sourceIndex the first index in the source segment
+	 * @param destination the destination segment
+	 * @param destinationIndex the first index in the destination segment
+	 * @param length the number of values
+	 */
+	public static void add(DoubleSegment source, long sourceIndex, DoubleSegment destination, long destinationIndex, long length) {
+		update(source, sourceIndex, destination, destinationIndex, length,
+				(a, b, count) -> ArrayKernels.INSTANCE.add(a, 0, b, 0, count));
+	}
+
+	/**
+	 * Adds the scaled source values to the destination values
+	 * @param scale the amount to scale the source by
+	 * @param source the source segment
+	 * @param sourceIndex the first index in the source segment
+	 * @param destination the destination segment
+	 * @param destinationIndex the first index in the destination segment
+	 * @param length the number of values
+	 */
+	public static void scaleAdd(double scale, DoubleSegment source, long sourceIndex, DoubleSegment destination, long destinationIndex, long length) {
+		update(source, sourceIndex, destination, destinationIndex, length,
+				(a, b, count) -> ArrayKernels.INSTANCE.scaleAdd(scale, a, 0, b, 0, count));
+	}
+
+	/**
+	 * Multiplies the destination values by the source values
+	 * @param source the source segment
+	 * @param sourceIndex the first index in the source segment
+	 * @param destination the destination segment
+	 * @param destinationIndex the first index in the destination segment
+	 * @param length the number of values
+	 */
+	public static void multiply(DoubleSegment source, long sourceIndex, DoubleSegment destination, long destinationIndex, long length) {
+		update(source, sourceIndex, destination, destinationIndex, length,
+				(a, b, count) -> ArrayKernels.INSTANCE.multiply(a, 0, b, 0, count));
+	}
+
+	/**
+	 * Scales values in place
+	 * @param scale the amount to scale by
+	 * @param segment the segment
+	 * @param index the first index
+	 * @param length the number of values
+	 */
+	public static void scale(double scale, DoubleSegment segment, long index, long length) {
+		var block = new double[(int) Math.min(length, BLOCK_SIZE)];
+
+		for (long i = 0; i < length; i += block.length) {
+			int count = (int) Math.min(block.length, length - i);
+
+			segment.copyTo(index + i, block, 0, count);
+			ArrayKernels.INSTANCE.scale(scale, block, 0, count);
+			segment.copyFrom(block, 0, index + i, count);
+		}
+	}
+
+	/**
+	 * The dot product of two runs of values
+	 * @param a the first segment
+	 * @param aIndex the first index in the first segment
+	 * @param b the second segment
+	 * @param bIndex the first index in the second segment
+	 * @param length the number of values
+	 * @return the dot product
+	 */
+	public static double dot(DoubleSegment a, long aIndex, DoubleSegment b, long bIndex, long length) {
+		int block = (int) Math.min(length, BLOCK_SIZE);
+		var x = new double[block];
+		var y = new double[block];
+		double result = 0.0;
+
+		for (long i = 0; i < length; i += block) {
+			int count = (int) Math.min(block, length - i);
+
+			a.copyTo(aIndex + i, x, 0, count);
+			b.copyTo(bIndex + i, y, 0, count);
+			result += ArrayKernels.INSTANCE.dot(x, 0, y, 0, count);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Whether two runs of values are exactly equal
+	 * @param a the first segment
+	 * @param aIndex the first index in the first segment
+	 * @param b the second segment
+	 * @param bIndex the first index in the second segment
+	 * @param length the number of values
+	 * @return a boolean
+	 */
+	public static boolean equals(DoubleSegment a, long aIndex, DoubleSegment b, long bIndex, long length) {
+		int block = (int) Math.min(length, BLOCK_SIZE);
+		var x = new double[block];
+		var y = new double[block];
+
+		for (long i = 0; i < length; i += block) {
+			int count = (int) Math.min(block, length - i);
+
+			a.copyTo(aIndex + i, x, 0, count);
+			b.copyTo(bIndex + i, y, 0, count);
+
+			if (!Arrays.equals(x, 0, count, y, 0, count)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
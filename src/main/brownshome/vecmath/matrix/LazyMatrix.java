@@ -0,0 +1,155 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.generic.LazyExpression;
+import brownshome.vecmath.generic.LazyExpression.Kernel;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * An unevaluated chain of element-wise operations on matrices, created by {@link Matrix#lazy()}. The element-wise
+ * operations on this matrix return another lazy matrix instead of allocating a result, and the whole chain is evaluated
+ * in a single pass when {@link #evaluate()}, {@link #copy()} or {@link MMatrix#set(Matrix)} is called. If every operand
+ * is array-backed with the same continuous layout as the destination then the backing arrays are read directly.
+ * <p>
+ * The operands are read when the chain is evaluated, not when it is built. A matrix may be set to an expression that
+ * it is an operand of.
+ */
+public final class LazyMatrix implements Matrix {
+	private final int rows, columns;
+	private final LazyExpression<Matrix> expression;
+
+	LazyMatrix(Matrix matrix) {
+		this(matrix.rows(), matrix.columns(), LazyExpression.of(matrix));
+	}
+
+	private LazyMatrix(int rows, int columns, LazyExpression<Matrix> expression) {
+		this.rows = rows;
+		this.columns = columns;
+		this.expression = expression;
+	}
+
+	private static LazyExpression<Matrix> expressionOf(Matrix matrix) {
+		return matrix instanceof LazyMatrix lazy ? lazy.expression : LazyExpression.of(matrix);
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public int columns() {
+		return columns;
+	}
+
+	/**
+	 * Evaluates a single element of this matrix. Evaluating the whole matrix using {@link #evaluate()} is much faster
+	 * than calling this method for each element.
+	 */
+	@Override
+	public double get(int row, int column) {
+		return expression.evaluate(m -> m.get(row, column));
+	}
+
+	@Override
+	public LazyMatrix lazy() {
+		return this;
+	}
+
+	@Override
+	public LazyMatrix add(Matrix e) {
+		return scaleAdd(e, 1.0);
+	}
+
+	@Override
+	public LazyMatrix subtract(Matrix e) {
+		return scaleAdd(e, -1.0);
+	}
+
+	@Override
+	public LazyMatrix scale(double scale) {
+		return new LazyMatrix(rows, columns, expression.scale(scale));
+	}
+
+	@Override
+	public LazyMatrix scale(Matrix scale) {
+		assert rows == scale.rows() && columns == scale.columns();
+
+		return new LazyMatrix(rows, columns, expression.multiply(expressionOf(scale)));
+	}
+
+	@Override
+	public LazyMatrix scaleAdd(Matrix e, double scale) {
+		assert rows == e.rows() && columns == e.columns();
+
+		return new LazyMatrix(rows, columns, expression.scaleAdd(expressionOf(e), scale));
+	}
+
+	@Override
+	public LazyMatrix negated() {
+		return scale(-1.0);
+	}
+
+	@Override
+	public LazyMatrix interpolated(Matrix other, double t) {
+		assert rows == other.rows() && columns == other.columns();
+
+		return new LazyMatrix(rows, columns, expression.scale(1.0 - t).scaleAdd(expressionOf(other), t));
+	}
+
+	/**
+	 * Evaluates this matrix into a newly allocated matrix
+	 * @return the result
+	 */
+	public ArrayMatrix evaluate() {
+		var result = Matrix.of(MatrixLayout.ofOptimal(rows, columns));
+		evaluateInto(result);
+		return result;
+	}
+
+	/**
+	 * Evaluates this matrix, storing the result in the destination
+	 * @param destination the destination, which may be one of the operands of this matrix
+	 */
+	public void evaluateInto(MMatrix destination) {
+		assert rows == destination.rows() && columns == destination.columns();
+
+		if (destination instanceof ArrayMatrix d && d.layout().isContinuous()
+				&& expression.allOperandsMatch(m -> m instanceof ArrayMatrix a && a.layout().equals(d.layout()))) {
+			var kernel = expression.compile(m -> {
+				var a = (ArrayMatrix) m;
+				return Kernel.ofArray(a.backingArray(), a.layout().start());
+			});
+
+			LazyExpression.evaluate(kernel, d.layout().size(), d.backingArray(), d.layout().start());
+			return;
+		}
+
+		// Elements are numbered in row-major order
+		int columns = this.columns;
+		var kernel = expression.compile(m -> Kernel.ofElements(i -> m.get(i / columns, i % columns)));
+		LazyExpression.evaluate(kernel, rows * columns, (value, i) -> destination.set(value, i / columns, i % columns));
+	}
+
+	@Override
+	public ArrayMatrix arrayBackedCopy(MatrixLayout layout) {
+		var result = Matrix.of(layout);
+		evaluateInto(result);
+		return result;
+	}
+
+	@Override
+	public ArrayMatrix copy() {
+		return evaluate();
+	}
+
+	@Override
+	public ArrayMatrix move() {
+		return evaluate();
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
@@ -0,0 +1,262 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.generic.GenericMElement;
+import brownshome.vecmath.matrix.basic.SubMMatrix;
+import brownshome.vecmath.rotation.Rot3;
+
+/**
+ * A mutable 3x3 matrix
+ */
+public interface MMat3 extends GenericMElement<Mat3>, Mat3 {
+	void m00(double m00);
+	void m01(double m01);
+	void m02(double m02);
+	void m10(double m10);
+	void m11(double m11);
+	void m12(double m12);
+	void m20(double m20);
+	void m21(double m21);
+	void m22(double m22);
+
+	/**
+	 * Sets an element of this matrix
+	 * @param value the value
+	 * @param row the row
+	 * @param column the column
+	 */
+	default void set(double value, int row, int column) {
+		assert row >= 0 && row < 3 && column >= 0 && column < 3;
+
+		switch (row * 3 + column) {
+			case 0 -> m00(value);
+			case 1 -> m01(value);
+			case 2 -> m02(value);
+			case 3 -> m10(value);
+			case 4 -> m11(value);
+			case 5 -> m12(value);
+			case 6 -> m20(value);
+			case 7 -> m21(value);
+			default -> m22(value);
+		}
+	}
+
+	/**
+	 * Sets every element of this matrix, given in row-major order
+	 */
+	default void set(double m00, double m01, double m02,
+	                 double m10, double m11, double m12,
+	                 double m20, double m21, double m22) {
+		m00(m00);
+		m01(m01);
+		m02(m02);
+		m10(m10);
+		m11(m11);
+		m12(m12);
+		m20(m20);
+		m21(m21);
+		m22(m22);
+	}
+
+	@Override
+	default void set(Mat3 m) {
+		set(
+				m.m00(), m.m01(), m.m02(),
+				m.m10(), m.m11(), m.m12(),
+				m.m20(), m.m21(), m.m22()
+		);
+	}
+
+	/**
+	 * Sets this matrix to the value of a general 3x3 matrix
+	 * @param m the matrix
+	 */
+	default void set(Matrix m) {
+		assert m.rows() == 3 && m.columns() == 3;
+
+		set(
+				m.get(0, 0), m.get(0, 1), m.get(0, 2),
+				m.get(1, 0), m.get(1, 1), m.get(1, 2),
+				m.get(2, 0), m.get(2, 1), m.get(2, 2)
+		);
+	}
+
+	/**
+	 * Sets this matrix to the identity matrix
+	 */
+	default void setToIdentity() {
+		set(IDENTITY);
+	}
+
+	/**
+	 * Sets this matrix to the rotation matrix of a rotation
+	 * @param rotation the rotation, which must be normalised
+	 */
+	default void setToRotation(Rot3 rotation) {
+		double x = rotation.x(), y = rotation.y(), z = rotation.z(), w = rotation.w();
+		double x2 = x * x, y2 = y * y, z2 = z * z;
+
+		set(
+				1 - 2 * (y2 + z2),     2 * (x * y - z * w), 2 * (x * z + y * w),
+				2 * (x * y + z * w), 1 - 2 * (x2 + z2),     2 * (y * z - x * w),
+				2 * (x * z - y * w), 2 * (y * z + x * w), 1 - 2 * (x2 + y2)
+		);
+	}
+
+	@Override
+	default void addToSelf(Mat3 m) {
+		scaleAddToSelf(m, 1.0);
+	}
+
+	@Override
+	default void scaleAddToSelf(Mat3 m, double scale) {
+		set(
+				m00() + m.m00() * scale, m01() + m.m01() * scale, m02() + m.m02() * scale,
+				m10() + m.m10() * scale, m11() + m.m11() * scale, m12() + m.m12() * scale,
+				m20() + m.m20() * scale, m21() + m.m21() * scale, m22() + m.m22() * scale
+		);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		set(
+				m00() * scale, m01() * scale, m02() * scale,
+				m10() * scale, m11() * scale, m12() * scale,
+				m20() * scale, m21() * scale, m22() * scale
+		);
+	}
+
+	@Override
+	default void scaleSelf(Mat3 scale) {
+		set(
+				m00() * scale.m00(), m01() * scale.m01(), m02() * scale.m02(),
+				m10() * scale.m10(), m11() * scale.m11(), m12() * scale.m12(),
+				m20() * scale.m20(), m21() * scale.m21(), m22() * scale.m22()
+		);
+	}
+
+	/**
+	 * Sets this matrix to this * right
+	 * @param right the matrix to the right of this one
+	 */
+	default void multiplyRightSelf(Mat3 right) {
+		double a00 = m00(), a01 = m01(), a02 = m02();
+		double a10 = m10(), a11 = m11(), a12 = m12();
+		double a20 = m20(), a21 = m21(), a22 = m22();
+
+		double b00 = right.m00(), b01 = right.m01(), b02 = right.m02();
+		double b10 = right.m10(), b11 = right.m11(), b12 = right.m12();
+		double b20 = right.m20(), b21 = right.m21(), b22 = right.m22();
+
+		set(
+				a00 * b00 + a01 * b10 + a02 * b20, a00 * b01 + a01 * b11 + a02 * b21, a00 * b02 + a01 * b12 + a02 * b22,
+				a10 * b00 + a11 * b10 + a12 * b20, a10 * b01 + a11 * b11 + a12 * b21, a10 * b02 + a11 * b12 + a12 * b22,
+				a20 * b00 + a21 * b10 + a22 * b20, a20 * b01 + a21 * b11 + a22 * b21, a20 * b02 + a21 * b12 + a22 * b22
+		);
+	}
+
+	/**
+	 * Sets this matrix to left * this
+	 * @param left the matrix to the left of this one
+	 */
+	default void multiplyLeftSelf(Mat3 left) {
+		double a00 = left.m00(), a01 = left.m01(), a02 = left.m02();
+		double a10 = left.m10(), a11 = left.m11(), a12 = left.m12();
+		double a20 = left.m20(), a21 = left.m21(), a22 = left.m22();
+
+		double b00 = m00(), b01 = m01(), b02 = m02();
+		double b10 = m10(), b11 = m11(), b12 = m12();
+		double b20 = m20(), b21 = m21(), b22 = m22();
+
+		set(
+				a00 * b00 + a01 * b10 + a02 * b20, a00 * b01 + a01 * b11 + a02 * b21, a00 * b02 + a01 * b12 + a02 * b22,
+				a10 * b00 + a11 * b10 + a12 * b20, a10 * b01 + a11 * b11 + a12 * b21, a10 * b02 + a11 * b12 + a12 * b22,
+				a20 * b00 + a21 * b10 + a22 * b20, a20 * b01 + a21 * b11 + a22 * b21, a20 * b02 + a21 * b12 + a22 * b22
+		);
+	}
+
+	/**
+	 * Transposes this matrix
+	 */
+	default void setToTransposed() {
+		set(
+				m00(), m10(), m20(),
+				m01(), m11(), m21(),
+				m02(), m12(), m22()
+		);
+	}
+
+	/**
+	 * Inverts this matrix. The behaviour of this method is undefined if this matrix is singular.
+	 */
+	default void setToInverted() {
+		double a00 = m00(), a01 = m01(), a02 = m02();
+		double a10 = m10(), a11 = m11(), a12 = m12();
+		double a20 = m20(), a21 = m21(), a22 = m22();
+
+		// The cofactors of the first row, which are also used for the determinant
+		double c00 = a11 * a22 - a12 * a21;
+		double c01 = a12 * a20 - a10 * a22;
+		double c02 = a10 * a21 - a11 * a20;
+
+		double inverseDeterminant = 1.0 / (a00 * c00 + a01 * c01 + a02 * c02);
+
+		set(
+				c00 * inverseDeterminant,
+				(a02 * a21 - a01 * a22) * inverseDeterminant,
+				(a01 * a12 - a02 * a11) * inverseDeterminant,
+
+				c01 * inverseDeterminant,
+				(a00 * a22 - a02 * a20) * inverseDeterminant,
+				(a02 * a10 - a00 * a12) * inverseDeterminant,
+
+				c02 * inverseDeterminant,
+				(a01 * a20 - a00 * a21) * inverseDeterminant,
+				(a00 * a11 - a01 * a10) * inverseDeterminant
+		);
+	}
+
+	/**
+	 * This matrix as a general matrix. The returned matrix will reflect changes to this matrix, and changes to it will
+	 * change this matrix.
+	 * @return a matrix
+	 */
+	@Override
+	default MMatrix asMatrix() {
+		return new MMatrix() {
+			@Override
+			public int rows() {
+				return 3;
+			}
+
+			@Override
+			public int columns() {
+				return 3;
+			}
+
+			@Override
+			public double get(int row, int column) {
+				return MMat3.this.get(row, column);
+			}
+
+			@Override
+			public void set(double value, int row, int column) {
+				MMat3.this.set(value, row, column);
+			}
+
+			@Override
+			public MMatrix subMatrix(int r, int c, int rows, int columns) {
+				return new SubMMatrix(this, r, c, rows, columns);
+			}
+
+			@Override
+			public String toString() {
+				return MMat3.this.toString();
+			}
+		};
+	}
+
+	@Override
+	default MMat3 move() {
+		return (MMat3) GenericMElement.super.move();
+	}
+}
@@ -0,0 +1,329 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.generic.GenericMElement;
+import brownshome.vecmath.matrix.basic.SubMMatrix;
+
+/**
+ * A mutable 4x4 matrix
+ */
+public interface MMat4 extends GenericMElement<Mat4>, Mat4 {
+	void m00(double m00);
+	void m01(double m01);
+	void m02(double m02);
+	void m03(double m03);
+	void m10(double m10);
+	void m11(double m11);
+	void m12(double m12);
+	void m13(double m13);
+	void m20(double m20);
+	void m21(double m21);
+	void m22(double m22);
+	void m23(double m23);
+	void m30(double m30);
+	void m31(double m31);
+	void m32(double m32);
+	void m33(double m33);
+
+	/**
+	 * Sets an element of this matrix
+	 * @param value the value
+	 * @param row the row
+	 * @param column the column
+	 */
+	default void set(double value, int row, int column) {
+		assert row >= 0 && row < 4 && column >= 0 && column < 4;
+
+		switch (row * 4 + column) {
+			case 0 -> m00(value);
+			case 1 -> m01(value);
+			case 2 -> m02(value);
+			case 3 -> m03(value);
+			case 4 -> m10(value);
+			case 5 -> m11(value);
+			case 6 -> m12(value);
+			case 7 -> m13(value);
+			case 8 -> m20(value);
+			case 9 -> m21(value);
+			case 10 -> m22(value);
+			case 11 -> m23(value);
+			case 12 -> m30(value);
+			case 13 -> m31(value);
+			case 14 -> m32(value);
+			default -> m33(value);
+		}
+	}
+
+	/**
+	 * Sets every element of this matrix, given in row-major order
+	 */
+	default void set(double m00, double m01, double m02, double m03,
+	                 double m10, double m11, double m12, double m13,
+	                 double m20, double m21, double m22, double m23,
+	                 double m30, double m31, double m32, double m33) {
+		m00(m00);
+		m01(m01);
+		m02(m02);
+		m03(m03);
+		m10(m10);
+		m11(m11);
+		m12(m12);
+		m13(m13);
+		m20(m20);
+		m21(m21);
+		m22(m22);
+		m23(m23);
+		m30(m30);
+		m31(m31);
+		m32(m32);
+		m33(m33);
+	}
+
+	@Override
+	default void set(Mat4 m) {
+		set(
+				m.m00(), m.m01(), m.m02(), m.m03(),
+				m.m10(), m.m11(), m.m12(), m.m13(),
+				m.m20(), m.m21(), m.m22(), m.m23(),
+				m.m30(), m.m31(), m.m32(), m.m33()
+		);
+	}
+
+	/**
+	 * Sets this matrix to the value of a general 4x4 matrix
+	 * @param m the matrix
+	 */
+	default void set(Matrix m) {
+		assert m.rows() == 4 && m.columns() == 4;
+
+		set(
+				m.get(0, 0), m.get(0, 1), m.get(0, 2), m.get(0, 3),
+				m.get(1, 0), m.get(1, 1), m.get(1, 2), m.get(1, 3),
+				m.get(2, 0), m.get(2, 1), m.get(2, 2), m.get(2, 3),
+				m.get(3, 0), m.get(3, 1), m.get(3, 2), m.get(3, 3)
+		);
+	}
+
+	/**
+	 * Sets this matrix to the identity matrix
+	 */
+	default void setToIdentity() {
+		set(IDENTITY);
+	}
+
+	@Override
+	default void addToSelf(Mat4 m) {
+		scaleAddToSelf(m, 1.0);
+	}
+
+	@Override
+	default void scaleAddToSelf(Mat4 m, double scale) {
+		set(
+				m00() + m.m00() * scale, m01() + m.m01() * scale, m02() + m.m02() * scale, m03() + m.m03() * scale,
+				m10() + m.m10() * scale, m11() + m.m11() * scale, m12() + m.m12() * scale, m13() + m.m13() * scale,
+				m20() + m.m20() * scale, m21() + m.m21() * scale, m22() + m.m22() * scale, m23() + m.m23() * scale,
+				m30() + m.m30() * scale, m31() + m.m31() * scale, m32() + m.m32() * scale, m33() + m.m33() * scale
+		);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		set(
+				m00() * scale, m01() * scale, m02() * scale, m03() * scale,
+				m10() * scale, m11() * scale, m12() * scale, m13() * scale,
+				m20() * scale, m21() * scale, m22() * scale, m23() * scale,
+				m30() * scale, m31() * scale, m32() * scale, m33() * scale
+		);
+	}
+
+	@Override
+	default void scaleSelf(Mat4 scale) {
+		set(
+				m00() * scale.m00(), m01() * scale.m01(), m02() * scale.m02(), m03() * scale.m03(),
+				m10() * scale.m10(), m11() * scale.m11(), m12() * scale.m12(), m13() * scale.m13(),
+				m20() * scale.m20(), m21() * scale.m21(), m22() * scale.m22(), m23() * scale.m23(),
+				m30() * scale.m30(), m31() * scale.m31(), m32() * scale.m32(), m33() * scale.m33()
+		);
+	}
+
+	/**
+	 * Sets this matrix to this * right
+	 * @param right the matrix to the right of this one
+	 */
+	default void multiplyRightSelf(Mat4 right) {
+		double a00 = m00(), a01 = m01(), a02 = m02(), a03 = m03();
+		double a10 = m10(), a11 = m11(), a12 = m12(), a13 = m13();
+		double a20 = m20(), a21 = m21(), a22 = m22(), a23 = m23();
+		double a30 = m30(), a31 = m31(), a32 = m32(), a33 = m33();
+
+		double b00 = right.m00(), b01 = right.m01(), b02 = right.m02(), b03 = right.m03();
+		double b10 = right.m10(), b11 = right.m11(), b12 = right.m12(), b13 = right.m13();
+		double b20 = right.m20(), b21 = right.m21(), b22 = right.m22(), b23 = right.m23();
+		double b30 = right.m30(), b31 = right.m31(), b32 = right.m32(), b33 = right.m33();
+
+		set(
+				a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30,
+				a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31,
+				a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32,
+				a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33,
+
+				a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30,
+				a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31,
+				a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32,
+				a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33,
+
+				a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30,
+				a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31,
+				a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32,
+				a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33,
+
+				a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30,
+				a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31,
+				a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32,
+				a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33
+		);
+	}
+
+	/**
+	 * Sets this matrix to left * this
+	 * @param left the matrix to the left of this one
+	 */
+	default void multiplyLeftSelf(Mat4 left) {
+		double a00 = left.m00(), a01 = left.m01(), a02 = left.m02(), a03 = left.m03();
+		double a10 = left.m10(), a11 = left.m11(), a12 = left.m12(), a13 = left.m13();
+		double a20 = left.m20(), a21 = left.m21(), a22 = left.m22(), a23 = left.m23();
+		double a30 = left.m30(), a31 = left.m31(), a32 = left.m32(), a33 = left.m33();
+
+		double b00 = m00(), b01 = m01(), b02 = m02(), b03 = m03();
+		double b10 = m10(), b11 = m11(), b12 = m12(), b13 = m13();
+		double b20 = m20(), b21 = m21(), b22 = m22(), b23 = m23();
+		double b30 = m30(), b31 = m31(), b32 = m32(), b33 = m33();
+
+		set(
+				a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30,
+				a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31,
+				a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32,
+				a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33,
+
+				a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30,
+				a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31,
+				a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32,
+				a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33,
+
+				a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30,
+				a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31,
+				a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32,
+				a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33,
+
+				a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30,
+				a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31,
+				a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32,
+				a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33
+		);
+	}
+
+	/**
+	 * Transposes this matrix
+	 */
+	default void setToTransposed() {
+		set(
+				m00(), m10(), m20(), m30(),
+				m01(), m11(), m21(), m31(),
+				m02(), m12(), m22(), m32(),
+				m03(), m13(), m23(), m33()
+		);
+	}
+
+	/**
+	 * Inverts this matrix. The behaviour of this method is undefined if this matrix is singular.
+	 */
+	default void setToInverted() {
+		double a00 = m00(), a01 = m01(), a02 = m02(), a03 = m03();
+		double a10 = m10(), a11 = m11(), a12 = m12(), a13 = m13();
+		double a20 = m20(), a21 = m21(), a22 = m22(), a23 = m23();
+		double a30 = m30(), a31 = m31(), a32 = m32(), a33 = m33();
+
+		// The 2x2 minors of the top two rows and the bottom two rows, from which every cofactor can be built
+		double s0 = a00 * a11 - a10 * a01;
+		double s1 = a00 * a12 - a10 * a02;
+		double s2 = a00 * a13 - a10 * a03;
+		double s3 = a01 * a12 - a11 * a02;
+		double s4 = a01 * a13 - a11 * a03;
+		double s5 = a02 * a13 - a12 * a03;
+
+		double c5 = a22 * a33 - a32 * a23;
+		double c4 = a21 * a33 - a31 * a23;
+		double c3 = a21 * a32 - a31 * a22;
+		double c2 = a20 * a33 - a30 * a23;
+		double c1 = a20 * a32 - a30 * a22;
+		double c0 = a20 * a31 - a30 * a21;
+
+		double inverseDeterminant = 1.0 / (s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0);
+
+		set(
+				(a11 * c5 - a12 * c4 + a13 * c3) * inverseDeterminant,
+				(-a01 * c5 + a02 * c4 - a03 * c3) * inverseDeterminant,
+				(a31 * s5 - a32 * s4 + a33 * s3) * inverseDeterminant,
+				(-a21 * s5 + a22 * s4 - a23 * s3) * inverseDeterminant,
+
+				(-a10 * c5 + a12 * c2 - a13 * c1) * inverseDeterminant,
+				(a00 * c5 - a02 * c2 + a03 * c1) * inverseDeterminant,
+				(-a30 * s5 + a32 * s2 - a33 * s1) * inverseDeterminant,
+				(a20 * s5 - a22 * s2 + a23 * s1) * inverseDeterminant,
+
+				(a10 * c4 - a11 * c2 + a13 * c0) * inverseDeterminant,
+				(-a00 * c4 + a01 * c2 - a03 * c0) * inverseDeterminant,
+				(a30 * s4 - a31 * s2 + a33 * s0) * inverseDeterminant,
+				(-a20 * s4 + a21 * s2 - a23 * s0) * inverseDeterminant,
+
+				(-a10 * c3 + a11 * c1 - a12 * c0) * inverseDeterminant,
+				(a00 * c3 - a01 * c1 + a02 * c0) * inverseDeterminant,
+				(-a30 * s3 + a31 * s1 - a32 * s0) * inverseDeterminant,
+				(a20 * s3 - a21 * s1 + a22 * s0) * inverseDeterminant
+		);
+	}
+
+	/**
+	 * This matrix as a general matrix. The returned matrix will reflect changes to this matrix, and changes to it will
+	 * change this matrix.
+	 * @return a matrix
+	 */
+	@Override
+	default MMatrix asMatrix() {
+		return new MMatrix() {
+			@Override
+			public int rows() {
+				return 4;
+			}
+
+			@Override
+			public int columns() {
+				return 4;
+			}
+
+			@Override
+			public double get(int row, int column) {
+				return MMat4.this.get(row, column);
+			}
+
+			@Override
+			public void set(double value, int row, int column) {
+				MMat4.this.set(value, row, column);
+			}
+
+			@Override
+			public MMatrix subMatrix(int r, int c, int rows, int columns) {
+				return new SubMMatrix(this, r, c, rows, columns);
+			}
+
+			@Override
+			public String toString() {
+				return MMat4.this.toString();
+			}
+		};
+	}
+
+	@Override
+	default MMat4 move() {
+		return (MMat4) GenericMElement.super.move();
+	}
+}
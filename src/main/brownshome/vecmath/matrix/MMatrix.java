@@ -1,6 +1,7 @@
 package brownshome.vecmath.matrix;
 
 import brownshome.vecmath.generic.GenericMElement;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.vector.MVecN;
 
 /**
@@ -20,6 +21,11 @@ public interface MMatrix extends GenericMElement<Matrix>, Matrix {
 		assert rows() == matrix.rows();
 		assert columns() == matrix.columns();
 
+		if (matrix instanceof LazyMatrix lazy) {
+			lazy.evaluateInto(this);
+			return;
+		}
+
 		for (int r = 0; r < rows(); r++) for (int c = 0; c < columns(); c++) {
 			set(matrix.get(r, c), r, c);
 		}
@@ -148,7 +154,26 @@ public interface MMatrix extends GenericMElement<Matrix>, Matrix {
 	 * @param right the right matrix
 	 */
 	default void multiplyRightSelf(Matrix right) {
-		set(multiply(right));
+		assert right.rows() == columns();
+		assert right.columns() == columns();
+
+		if (right instanceof MatrixWithFastMultiply || sharesStorage(right)) {
+			set(multiply(right));
+			return;
+		}
+
+		// Each row of the result only depends on the same row of this matrix, so only a block of rows needs buffering
+		int blockSize = Math.min(rows(), 64);
+		var buffer = Matrix.of(MatrixLayout.ofRowMajor(blockSize, columns()));
+
+		for (int r = 0; r < rows(); r += blockSize) {
+			int count = Math.min(blockSize, rows() - r);
+			var block = count == blockSize ? buffer : buffer.subMatrix(0, 0, count, columns());
+			var destination = subMatrix(r, 0, count, columns());
+
+			block.set(destination);
+			block.multiplyInto(right, destination);
+		}
 	}
 
 	/**
@@ -156,7 +181,26 @@ public interface MMatrix extends GenericMElement<Matrix>, Matrix {
 	 * @param left the left matrix
 	 */
 	default void multiplyLeftSelf(Matrix left) {
-		set(left.multiply(this));
+		assert left.rows() == rows();
+		assert left.columns() == rows();
+
+		if (left instanceof MatrixWithFastMultiply || sharesStorage(left)) {
+			set(left.multiply(this));
+			return;
+		}
+
+		// Each column of the result only depends on the same column of this matrix
+		int blockSize = Math.min(columns(), 64);
+		var buffer = Matrix.of(MatrixLayout.ofColumnMajor(rows(), blockSize));
+
+		for (int c = 0; c < columns(); c += blockSize) {
+			int count = Math.min(blockSize, columns() - c);
+			var block = count == blockSize ? buffer : buffer.subMatrix(0, 0, rows(), count);
+			var destination = subMatrix(0, c, rows(), count);
+
+			block.set(destination);
+			left.multiplyInto(block, destination);
+		}
 	}
 
 	/**
@@ -0,0 +1,264 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.generic.GenericElement;
+import brownshome.vecmath.matrix.array.ArrayMat3;
+import brownshome.vecmath.matrix.basic.BasicArrayMat3;
+import brownshome.vecmath.matrix.basic.BasicMat3;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+
+/**
+ * A 3x3 matrix. Unlike a general {@link Matrix} every operation on this matrix is unrolled, and the mutating operations
+ * do not allocate.
+ */
+public interface Mat3 extends GenericElement<Mat3> {
+	/**
+	 * The zero matrix
+	 */
+	Mat3 ZERO = new BasicMat3(
+			0, 0, 0,
+			0, 0, 0,
+			0, 0, 0
+	);
+
+	/**
+	 * The identity matrix
+	 */
+	Mat3 IDENTITY = new BasicMat3(
+			1, 0, 0,
+			0, 1, 0,
+			0, 0, 1
+	);
+
+	/**
+	 * Creates a new matrix with the given elements, given in row-major order
+	 * @return a newly created matrix
+	 */
+	static MMat3 of(double m00, double m01, double m02,
+	                double m10, double m11, double m12,
+	                double m20, double m21, double m22) {
+		return new BasicMat3(
+				m00, m01, m02,
+				m10, m11, m12,
+				m20, m21, m22
+		);
+	}
+
+	/**
+	 * Creates a new matrix with the same elements as a general 3x3 matrix
+	 * @param matrix the matrix to copy
+	 * @return a newly created matrix
+	 */
+	static MMat3 of(Matrix matrix) {
+		var result = new BasicMat3(ZERO);
+		result.set(matrix);
+		return result;
+	}
+
+	/**
+	 * Creates a new matrix with the given vectors as columns
+	 * @param x the first column
+	 * @param y the second column
+	 * @param z the third column
+	 * @return a newly created matrix
+	 */
+	static MMat3 ofColumns(Vec3 x, Vec3 y, Vec3 z) {
+		return of(
+				x.x(), y.x(), z.x(),
+				x.y(), y.y(), z.y(),
+				x.z(), y.z(), z.z()
+		);
+	}
+
+	/**
+	 * Creates an array-backed matrix with a row-major layout
+	 * @return a matrix
+	 */
+	static ArrayMat3 ofArrayBacked() {
+		return of(MatrixLayout.ofRowMajor(3, 3));
+	}
+
+	/**
+	 * Creates an array-backed matrix with the given layout
+	 * @param layout the layout, which must have three rows and three columns
+	 * @return a matrix
+	 */
+	static ArrayMat3 of(MatrixLayout layout) {
+		return of(new double[layout.end()], layout);
+	}
+
+	/**
+	 * Creates a matrix from the elements in this array. Edits to the array will change this matrix and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array, which must have three rows and three columns
+	 * @return a matrix
+	 */
+	static ArrayMat3 of(double[] array, MatrixLayout layout) {
+		return new BasicArrayMat3(array, layout);
+	}
+
+	double m00();
+	double m01();
+	double m02();
+	double m10();
+	double m11();
+	double m12();
+	double m20();
+	double m21();
+	double m22();
+
+	/**
+	 * Gets an element of this matrix
+	 * @param row the row
+	 * @param column the column
+	 * @return the element
+	 */
+	default double get(int row, int column) {
+		assert row >= 0 && row < 3 && column >= 0 && column < 3;
+
+		return switch (row * 3 + column) {
+			case 0 -> m00();
+			case 1 -> m01();
+			case 2 -> m02();
+			case 3 -> m10();
+			case 4 -> m11();
+			case 5 -> m12();
+			case 6 -> m20();
+			case 7 -> m21();
+			default -> m22();
+		};
+	}
+
+	/**
+	 * The determinant of this matrix
+	 * @return the determinant
+	 */
+	default double determinant() {
+		return m00() * (m11() * m22() - m12() * m21())
+				- m01() * (m10() * m22() - m12() * m20())
+				+ m02() * (m10() * m21() - m11() * m20());
+	}
+
+	/**
+	 * The product of this matrix and the given matrix, this * right
+	 * @param right the matrix to the right of this one
+	 * @return the product
+	 */
+	default Mat3 multiply(Mat3 right) {
+		var result = copy();
+		result.multiplyRightSelf(right);
+		return result;
+	}
+
+	/**
+	 * The transpose of this matrix
+	 * @return a matrix
+	 */
+	default Mat3 transposed() {
+		var result = copy();
+		result.setToTransposed();
+		return result;
+	}
+
+	/**
+	 * The inverse of this matrix. The behaviour of this method is undefined if this matrix is singular.
+	 * @return a matrix
+	 */
+	default Mat3 inverted() {
+		var result = copy();
+		result.setToInverted();
+		return result;
+	}
+
+	/**
+	 * Transforms the given vector by this matrix
+	 * @param v the vector
+	 * @return the transformed vector
+	 */
+	default Vec3 transformed(Vec3 v) {
+		var result = v.copy();
+		setToTransformed(result);
+		return result;
+	}
+
+	/**
+	 * Transforms the given vector by this matrix, replacing its value
+	 * @param v the vector
+	 */
+	default void setToTransformed(MVec3 v) {
+		double x = v.x(), y = v.y(), z = v.z();
+
+		v.set(
+				m00() * x + m01() * y + m02() * z,
+				m10() * x + m11() * y + m12() * z,
+				m20() * x + m21() * y + m22() * z
+		);
+	}
+
+	/**
+	 * This matrix as a general matrix. The returned matrix will reflect changes to this matrix.
+	 * @return a matrix
+	 */
+	default Matrix asMatrix() {
+		return new Matrix() {
+			@Override
+			public int rows() {
+				return 3;
+			}
+
+			@Override
+			public int columns() {
+				return 3;
+			}
+
+			@Override
+			public double get(int row, int column) {
+				return Mat3.this.get(row, column);
+			}
+
+			@Override
+			public String toString() {
+				return Mat3.this.toString();
+			}
+		};
+	}
+
+	@Override
+	default boolean exactEquals(Mat3 other) {
+		return m00() == other.m00() && m01() == other.m01() && m02() == other.m02()
+				&& m10() == other.m10() && m11() == other.m11() && m12() == other.m12()
+				&& m20() == other.m20() && m21() == other.m21() && m22() == other.m22();
+	}
+
+	@Override
+	default ArrayMat3 asArrayBacked() {
+		return (ArrayMat3) GenericElement.super.asArrayBacked();
+	}
+
+	@Override
+	default ArrayMat3 arrayBackedCopy() {
+		return arrayBackedCopy(MatrixLayout.ofRowMajor(3, 3));
+	}
+
+	/**
+	 * An array-backed copy of this matrix with the given layout
+	 * @param layout the layout, which must have three rows and three columns
+	 * @return a copy
+	 */
+	default ArrayMat3 arrayBackedCopy(MatrixLayout layout) {
+		var result = Mat3.of(layout);
+		result.set(this);
+		return result;
+	}
+
+	@Override
+	default MMat3 copy() {
+		return new BasicMat3(this);
+	}
+
+	@Override
+	default MMat3 move() {
+		return (MMat3) GenericElement.super.move();
+	}
+}
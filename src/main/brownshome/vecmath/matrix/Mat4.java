@@ -0,0 +1,299 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.generic.GenericElement;
+import brownshome.vecmath.matrix.array.ArrayMat4;
+import brownshome.vecmath.matrix.basic.BasicArrayMat4;
+import brownshome.vecmath.matrix.basic.BasicMat4;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.MVec4;
+import brownshome.vecmath.vector.Vec4;
+
+/**
+ * A 4x4 matrix. Unlike a general {@link Matrix} every operation on this matrix is unrolled, and the mutating operations
+ * do not allocate.
+ */
+public interface Mat4 extends GenericElement<Mat4> {
+	/**
+	 * The zero matrix
+	 */
+	Mat4 ZERO = new BasicMat4(
+				0, 0, 0, 0,
+				0, 0, 0, 0,
+				0, 0, 0, 0,
+				0, 0, 0, 0
+	);
+
+	/**
+	 * The identity matrix
+	 */
+	Mat4 IDENTITY = new BasicMat4(
+				1, 0, 0, 0,
+				0, 1, 0, 0,
+				0, 0, 1, 0,
+				0, 0, 0, 1
+	);
+
+	/**
+	 * Creates a new matrix with the given elements, given in row-major order
+	 * @return a newly created matrix
+	 */
+	static MMat4 of(double m00, double m01, double m02, double m03,
+	                double m10, double m11, double m12, double m13,
+	                double m20, double m21, double m22, double m23,
+	                double m30, double m31, double m32, double m33) {
+		return new BasicMat4(
+				m00, m01, m02, m03,
+				m10, m11, m12, m13,
+				m20, m21, m22, m23,
+				m30, m31, m32, m33
+		);
+	}
+
+	/**
+	 * Creates a new matrix with the same elements as a general 4x4 matrix
+	 * @param matrix the matrix to copy
+	 * @return a newly created matrix
+	 */
+	static MMat4 of(Matrix matrix) {
+		var result = new BasicMat4(ZERO);
+		result.set(matrix);
+		return result;
+	}
+
+	/**
+	 * Creates a new matrix with the given vectors as columns
+	 * @param x the first column
+	 * @param y the second column
+	 * @param z the third column
+	 * @param w the fourth column
+	 * @return a newly created matrix
+	 */
+	static MMat4 ofColumns(Vec4 x, Vec4 y, Vec4 z, Vec4 w) {
+		return of(
+				x.x(), y.x(), z.x(), w.x(),
+				x.y(), y.y(), z.y(), w.y(),
+				x.z(), y.z(), z.z(), w.z(),
+				x.w(), y.w(), z.w(), w.w()
+		);
+	}
+
+	/**
+	 * Creates an array-backed matrix with a row-major layout
+	 * @return a matrix
+	 */
+	static ArrayMat4 ofArrayBacked() {
+		return of(MatrixLayout.ofRowMajor(4, 4));
+	}
+
+	/**
+	 * Creates an array-backed matrix with the given layout
+	 * @param layout the layout, which must have four rows and four columns
+	 * @return a matrix
+	 */
+	static ArrayMat4 of(MatrixLayout layout) {
+		return of(new double[layout.end()], layout);
+	}
+
+	/**
+	 * Creates a matrix from the elements in this array. Edits to the array will change this matrix and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array, which must have four rows and four columns
+	 * @return a matrix
+	 */
+	static ArrayMat4 of(double[] array, MatrixLayout layout) {
+		return new BasicArrayMat4(array, layout);
+	}
+
+	double m00();
+	double m01();
+	double m02();
+	double m03();
+	double m10();
+	double m11();
+	double m12();
+	double m13();
+	double m20();
+	double m21();
+	double m22();
+	double m23();
+	double m30();
+	double m31();
+	double m32();
+	double m33();
+
+	/**
+	 * Gets an element of this matrix
+	 * @param row the row
+	 * @param column the column
+	 * @return the element
+	 */
+	default double get(int row, int column) {
+		assert row >= 0 && row < 4 && column >= 0 && column < 4;
+
+		return switch (row * 4 + column) {
+			case 0 -> m00();
+			case 1 -> m01();
+			case 2 -> m02();
+			case 3 -> m03();
+			case 4 -> m10();
+			case 5 -> m11();
+			case 6 -> m12();
+			case 7 -> m13();
+			case 8 -> m20();
+			case 9 -> m21();
+			case 10 -> m22();
+			case 11 -> m23();
+			case 12 -> m30();
+			case 13 -> m31();
+			case 14 -> m32();
+			default -> m33();
+		};
+	}
+
+	/**
+	 * The determinant of this matrix
+	 * @return the determinant
+	 */
+	default double determinant() {
+		// Expanded in terms of the 2x2 minors of the top two rows and the bottom two rows
+		double s0 = m00() * m11() - m10() * m01();
+		double s1 = m00() * m12() - m10() * m02();
+		double s2 = m00() * m13() - m10() * m03();
+		double s3 = m01() * m12() - m11() * m02();
+		double s4 = m01() * m13() - m11() * m03();
+		double s5 = m02() * m13() - m12() * m03();
+
+		double c5 = m22() * m33() - m32() * m23();
+		double c4 = m21() * m33() - m31() * m23();
+		double c3 = m21() * m32() - m31() * m22();
+		double c2 = m20() * m33() - m30() * m23();
+		double c1 = m20() * m32() - m30() * m22();
+		double c0 = m20() * m31() - m30() * m21();
+
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * The product of this matrix and the given matrix, this * right
+	 * @param right the matrix to the right of this one
+	 * @return the product
+	 */
+	default Mat4 multiply(Mat4 right) {
+		var result = copy();
+		result.multiplyRightSelf(right);
+		return result;
+	}
+
+	/**
+	 * The transpose of this matrix
+	 * @return a matrix
+	 */
+	default Mat4 transposed() {
+		var result = copy();
+		result.setToTransposed();
+		return result;
+	}
+
+	/**
+	 * The inverse of this matrix. The behaviour of this method is undefined if this matrix is singular.
+	 * @return a matrix
+	 */
+	default Mat4 inverted() {
+		var result = copy();
+		result.setToInverted();
+		return result;
+	}
+
+	/**
+	 * Transforms the given vector by this matrix
+	 * @param v the vector
+	 * @return the transformed vector
+	 */
+	default Vec4 transformed(Vec4 v) {
+		var result = v.copy();
+		setToTransformed(result);
+		return result;
+	}
+
+	/**
+	 * Transforms the given vector by this matrix, replacing its value
+	 * @param v the vector
+	 */
+	default void setToTransformed(MVec4 v) {
+		double x = v.x(), y = v.y(), z = v.z(), w = v.w();
+
+		v.set(
+				m00() * x + m01() * y + m02() * z + m03() * w,
+				m10() * x + m11() * y + m12() * z + m13() * w,
+				m20() * x + m21() * y + m22() * z + m23() * w,
+				m30() * x + m31() * y + m32() * z + m33() * w
+		);
+	}
+
+	/**
+	 * This matrix as a general matrix. The returned matrix will reflect changes to this matrix.
+	 * @return a matrix
+	 */
+	default Matrix asMatrix() {
+		return new Matrix() {
+			@Override
+			public int rows() {
+				return 4;
+			}
+
+			@Override
+			public int columns() {
+				return 4;
+			}
+
+			@Override
+			public double get(int row, int column) {
+				return Mat4.this.get(row, column);
+			}
+
+			@Override
+			public String toString() {
+				return Mat4.this.toString();
+			}
+		};
+	}
+
+	@Override
+	default boolean exactEquals(Mat4 other) {
+		return m00() == other.m00() && m01() == other.m01() && m02() == other.m02() && m03() == other.m03()
+				&& m10() == other.m10() && m11() == other.m11() && m12() == other.m12() && m13() == other.m13()
+				&& m20() == other.m20() && m21() == other.m21() && m22() == other.m22() && m23() == other.m23()
+				&& m30() == other.m30() && m31() == other.m31() && m32() == other.m32() && m33() == other.m33();
+	}
+
+	@Override
+	default ArrayMat4 asArrayBacked() {
+		return (ArrayMat4) GenericElement.super.asArrayBacked();
+	}
+
+	@Override
+	default ArrayMat4 arrayBackedCopy() {
+		return arrayBackedCopy(MatrixLayout.ofRowMajor(4, 4));
+	}
+
+	/**
+	 * An array-backed copy of this matrix with the given layout
+	 * @param layout the layout, which must have four rows and four columns
+	 * @return a copy
+	 */
+	default ArrayMat4 arrayBackedCopy(MatrixLayout layout) {
+		var result = Mat4.of(layout);
+		result.set(this);
+		return result;
+	}
+
+	@Override
+	default MMat4 copy() {
+		return new BasicMat4(this);
+	}
+
+	@Override
+	default MMat4 move() {
+		return (MMat4) GenericElement.super.move();
+	}
+}
@@ -3,8 +3,17 @@ package brownshome.vecmath.matrix;
 import brownshome.vecmath.generic.GenericElement;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
 import brownshome.vecmath.matrix.basic.*;
+import brownshome.vecmath.matrix.basic.layout.BandedMatrixLayout;
+import brownshome.vecmath.matrix.factorisation.EigenDecomposition;
+import brownshome.vecmath.matrix.factorisation.EigenOptions;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.LeastSquaresFactorisation;
+import brownshome.vecmath.matrix.factorisation.SingularValueDecomposition;
 import brownshome.vecmath.matrix.factorisation.basic.LowerUpperFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.QRFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.SVDFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.SymmetricEigenDecomposition;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.vector.*;
 import brownshome.vecmath.vector.basic.MatrixVecN;
@@ -44,6 +53,15 @@ public interface Matrix extends GenericElement<Matrix> {
 		return new DiagonalMatrix(value, size);
 	}
 
+	/**
+	 * A matrix with the given values on the leading diagonal. The matrix is a view of the vector.
+	 * @param diagonal the values on the diagonal
+	 * @return a matrix
+	 */
+	static Matrix diagonal(VecN diagonal) {
+		return new DiagonalMatrix(diagonal);
+	}
+
 	/**
 	 * The identity matrix
 	 * @param size the number of rows and columns
@@ -166,6 +184,39 @@ public interface Matrix extends GenericElement<Matrix> {
 		return new BasicSymmetricMatrix(matrix, layout);
 	}
 
+	/**
+	 * Creates a square banded matrix, which only stores the entries near the diagonal. Entries outside the band are zero
+	 * and cannot be set.
+	 * @param size the number of rows and columns
+	 * @param lower the number of diagonals stored below the main diagonal
+	 * @param upper the number of diagonals stored above the main diagonal
+	 * @return a banded array-backed matrix
+	 */
+	static ArrayMatrix ofBanded(int size, int lower, int upper) {
+		var layout = new BandedMatrixLayout(size, size, lower, upper, 0);
+		return new BandedMatrix(new double[layout.end()], layout);
+	}
+
+	/**
+	 * Creates a tridiagonal matrix, which only stores the main diagonal and the diagonals on either side of it
+	 * @param size the number of rows and columns
+	 * @return a tridiagonal array-backed matrix
+	 */
+	static ArrayMatrix ofTridiagonal(int size) {
+		return ofBanded(size, 1, 1);
+	}
+
+	/**
+	 * Creates a symmetric banded matrix, which only stores the diagonals on and below the main diagonal. Setting an item
+	 * in this matrix will also set the symmetric item.
+	 * @param size the number of rows and columns
+	 * @param bandwidth the number of diagonals stored on each side of the main diagonal
+	 * @return a symmetric banded array-backed matrix
+	 */
+	static ArrayMatrix ofSymmetricBanded(int size, int bandwidth) {
+		return ofSymmetric(MatrixLayout.ofBanded(size, size, bandwidth, 0));
+	}
+
 	/**
 	 * The number of rows in this matrix
 	 * @return the number of rows
@@ -202,6 +253,16 @@ public interface Matrix extends GenericElement<Matrix> {
 	 */
 	double get(int row, int column);
 
+	/**
+	 * A lazy view of this matrix. Chains of element-wise operations on the view are not evaluated until the result is
+	 * needed, and are then evaluated in a single pass without creating a temporary matrix for each operation.
+	 * @return a lazy matrix
+	 * @see LazyMatrix
+	 */
+	default LazyMatrix lazy() {
+		return new LazyMatrix(this);
+	}
+
 	/**
 	 * Creates a sub-matrix view of this matrix
 	 * @param r the starting row
@@ -272,7 +333,7 @@ public interface Matrix extends GenericElement<Matrix> {
 	 * @return a factorisation
 	 */
 	default Factorisation factorisation() {
-		return factorisation(1e-10);
+		return factorisation(FactorisationOptions.defaults());
 	}
 
 	/**
@@ -281,21 +342,125 @@ public interface Matrix extends GenericElement<Matrix> {
 	 * @return a factorisation
 	 */
 	default Factorisation factorisation(double tolerance) {
-		return new LowerUpperFactorisation(arrayBackedCopy(), tolerance);
+		return factorisation(FactorisationOptions.of(tolerance));
+	}
+
+	/**
+	 * The factorisation of this matrix. Implementations should override this method rather than the other
+	 * factorisation methods.
+	 * @param options the options to use
+	 * @return a factorisation
+	 */
+	default Factorisation factorisation(FactorisationOptions options) {
+		return new LowerUpperFactorisation(arrayBackedCopy(), options);
+	}
+
+	/**
+	 * The QR factorisation of this matrix, which must have at least as many rows as columns
+	 * @return a factorisation
+	 */
+	default LeastSquaresFactorisation qrFactorisation() {
+		return qrFactorisation(FactorisationOptions.defaults());
+	}
+
+	/**
+	 * The QR factorisation of this matrix, which must have at least as many rows as columns
+	 * @param options the options to use
+	 * @return a factorisation
+	 */
+	default LeastSquaresFactorisation qrFactorisation(FactorisationOptions options) {
+		return new QRFactorisation(this, options);
+	}
+
+	/**
+	 * The singular value decomposition of this matrix
+	 * @return a factorisation
+	 */
+	default SingularValueDecomposition singularValueDecomposition() {
+		return singularValueDecomposition(FactorisationOptions.defaults());
+	}
+
+	/**
+	 * The singular value decomposition of this matrix
+	 * @param options the options to use. The tolerance is relative to the largest singular value.
+	 * @return a factorisation
+	 */
+	default SingularValueDecomposition singularValueDecomposition(FactorisationOptions options) {
+		return new SVDFactorisation(this, options);
+	}
+
+	/**
+	 * Finds the largest singular values of this matrix, and their singular vectors, using a randomised algorithm that
+	 * only multiplies this matrix and its transpose by thin matrices
+	 * @param count the number of singular values to find
+	 * @return a truncated factorisation
+	 */
+	default SingularValueDecomposition truncatedSingularValueDecomposition(int count) {
+		return truncatedSingularValueDecomposition(count, FactorisationOptions.defaults());
+	}
+
+	/**
+	 * Finds the largest singular values of this matrix, and their singular vectors, using a randomised algorithm that
+	 * only multiplies this matrix and its transpose by thin matrices
+	 * @param count the number of singular values to find
+	 * @param options the options to use. The tolerance is relative to the largest singular value.
+	 * @return a truncated factorisation
+	 */
+	default SingularValueDecomposition truncatedSingularValueDecomposition(int count, FactorisationOptions options) {
+		return SVDFactorisation.truncated(this, count, options);
+	}
+
+	/**
+	 * The eigen-decomposition of this matrix, which must be symmetric
+	 * @return a decomposition holding every eigenvalue and eigenvector
+	 * @throws ArithmeticException if the eigenvalues do not converge, such as when the matrix holds NaN
+	 */
+	default EigenDecomposition symmetricEigenDecomposition() {
+		return symmetricEigenDecomposition(EigenOptions.all());
+	}
+
+	/**
+	 * The eigen-decomposition of this matrix, which must be symmetric
+	 * @param options the eigenvalues and eigenvectors to compute
+	 * @return a decomposition
+	 * @throws ArithmeticException if the eigenvalues do not converge, such as when the matrix holds NaN
+	 */
+	default EigenDecomposition symmetricEigenDecomposition(EigenOptions options) {
+		assert exactEquals(transpose());
+
+		return new SymmetricEigenDecomposition(this, options);
 	}
 
 	/**
-	 * Gets the result of multiplying this matrix by the other one
+	 * Gets the result of multiplying this matrix by the other one. Large products are split into tasks using the
+	 * {@link Parallelism#global() global parallelism}.
 	 * @param other the other matrix
 	 * @return a matrix
 	 */
 	default Matrix multiply(Matrix other) {
+		return multiply(other, Parallelism.global());
+	}
+
+	/**
+	 * Gets the result of multiplying this matrix by the other one. Implementations should override this method rather
+	 * than {@link #multiply(Matrix)}.
+	 * @param other the other matrix
+	 * @param parallelism controls whether the product is split into tasks
+	 * @return a matrix
+	 */
+	default Matrix multiply(Matrix other, Parallelism parallelism) {
 		assert columns() == other.rows();
+		assert parallelism != null;
 
 		if (other instanceof MatrixWithFastMultiply fast) {
 			return fast.multiplyLeft(this);
 		}
 
+		if (parallelism.isParallel((long) rows() * columns() * other.columns())) {
+			// The dense kernel reads views one slab at a time, so neither operand is copied whole
+			return DenseMultiplication.multiplyStreamed(this, other, parallelism);
+		}
+
 		// Attempt to find the most cache-friendly result
 		MMatrix result;
 		if (other.isRowOptimal()) {
@@ -339,6 +504,75 @@ public interface Matrix extends GenericElement<Matrix> {
 		return result;
 	}
 
+	/**
+	 * Sets the destination to the result of multiplying this matrix by the other one, without allocating a new matrix
+	 * @param other the other matrix
+	 * @param destination the matrix to write the result into. This may share storage with either operand, in which case
+	 *                    a temporary is used
+	 */
+	default void multiplyInto(Matrix other, MMatrix destination) {
+		multiplyAddInto(1.0, other, 0.0, destination);
+	}
+
+	/**
+	 * Sets the destination to alpha * this * other + beta * destination, without allocating a new matrix
+	 * @param alpha the scale of the product
+	 * @param other the other matrix
+	 * @param beta the scale of the existing values of the destination. If this is zero then the existing values are
+	 *             ignored
+	 * @param destination the matrix to write the result into. This may share storage with either operand, in which case
+	 *                    a temporary is used
+	 */
+	default void multiplyAddInto(double alpha, Matrix other, double beta, MMatrix destination) {
+		assert columns() == other.rows();
+		assert destination.rows() == rows();
+		assert destination.columns() == other.columns();
+
+		if (other instanceof MatrixWithFastMultiply || destination.sharesStorage(this) || destination.sharesStorage(other)) {
+			var product = multiply(other);
+
+			if (beta == 0.0) {
+				destination.set(product);
+
+				if (alpha != 1.0) {
+					destination.scaleSelf(alpha);
+				}
+			} else {
+				destination.scaleSelf(beta);
+				destination.scaleAddToSelf(product, alpha);
+			}
+
+			return;
+		}
+
+		for (int r = 0; r < rows(); r++) for (int c = 0; c < other.columns(); c++) {
+			double value = 0.0;
+
+			for (int k = 0; k < columns(); k++) {
+				value += get(r, k) * other.get(k, c);
+			}
+
+			value *= alpha;
+
+			if (beta != 0.0) {
+				value += beta * destination.get(r, c);
+			}
+
+			destination.set(value, r, c);
+		}
+	}
+
+	/**
+	 * Returns true if writing to one of these matrices may change the values of the other. This is conservative, and
+	 * may return true for matrices that do not overlap. Views and lazy matrices can read from any storage, so only
+	 * implementations that know where both matrices are stored return false.
+	 * @param other the other matrix
+	 * @return a boolean
+	 */
+	default boolean sharesStorage(Matrix other) {
+		return true;
+	}
+
 	/**
 	 * Returns a matrix such that the divider multiplied by that matrix equals this matrix
 	 * @param divider the matrix to divide by
@@ -0,0 +1,75 @@
+package brownshome.vecmath.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Controls when large matrix operations are split into tasks, and which pool those tasks are run on.
+ * <p>
+ * Operations below the threshold always run on the calling thread, so small matrices never pay for task creation.
+ *
+ * @param pool the pool to run tasks on
+ * @param threshold the number of multiply-adds an operation must exceed before it is split into tasks
+ */
+public record Parallelism(ForkJoinPool pool, long threshold) {
+	/**
+	 * The default threshold, a product of two 128x128 matrices
+	 */
+	public static final long DEFAULT_THRESHOLD = 128L * 128L * 128L;
+
+	/**
+	 * Runs every operation on the calling thread
+	 */
+	public static final Parallelism SEQUENTIAL = new Parallelism(ForkJoinPool.commonPool(), Long.MAX_VALUE);
+
+	private static volatile Parallelism global = of(ForkJoinPool.commonPool());
+
+	public Parallelism {
+		assert pool != null;
+		assert threshold >= 0;
+	}
+
+	/**
+	 * Creates a parallelism that runs tasks on the given pool, using the default threshold
+	 * @param pool the pool to use
+	 * @return a parallelism
+	 */
+	public static Parallelism of(ForkJoinPool pool) {
+		return new Parallelism(pool, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * The parallelism used by operations that are not given one explicitly. This uses the common pool by default.
+	 * @return the global parallelism
+	 */
+	public static Parallelism global() {
+		return global;
+	}
+
+	/**
+	 * Sets the parallelism used by operations that are not given one explicitly
+	 * @param parallelism the new global parallelism
+	 */
+	public static void setGlobal(Parallelism parallelism) {
+		assert parallelism != null;
+
+		global = parallelism;
+	}
+
+	/**
+	 * Returns a copy of this parallelism with a different threshold
+	 * @param threshold the number of multiply-adds an operation must exceed before it is split into tasks
+	 * @return a parallelism
+	 */
+	public Parallelism withThreshold(long threshold) {
+		return new Parallelism(pool, threshold);
+	}
+
+	/**
+	 * Returns true if an operation of this size should be split into tasks
+	 * @param operations the number of multiply-adds in the operation
+	 * @return a boolean
+	 */
+	public boolean isParallel(long operations) {
+		return operations > threshold && pool.getParallelism() > 1;
+	}
+}
@@ -0,0 +1,176 @@
+package brownshome.vecmath.matrix.array;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.generic.GenericArrayElement;
+import brownshome.vecmath.matrix.MMat3;
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * An array-backed 3x3 matrix
+ */
+public interface ArrayMat3 extends MMat3, GenericArrayElement<MatrixLayout, Mat3> {
+	@Override
+	default double m00() {
+		return backingArray()[layout().arrayIndex(0, 0)];
+	}
+
+	@Override
+	default double m01() {
+		return backingArray()[layout().arrayIndex(0, 1)];
+	}
+
+	@Override
+	default double m02() {
+		return backingArray()[layout().arrayIndex(0, 2)];
+	}
+
+	@Override
+	default double m10() {
+		return backingArray()[layout().arrayIndex(1, 0)];
+	}
+
+	@Override
+	default double m11() {
+		return backingArray()[layout().arrayIndex(1, 1)];
+	}
+
+	@Override
+	default double m12() {
+		return backingArray()[layout().arrayIndex(1, 2)];
+	}
+
+	@Override
+	default double m20() {
+		return backingArray()[layout().arrayIndex(2, 0)];
+	}
+
+	@Override
+	default double m21() {
+		return backingArray()[layout().arrayIndex(2, 1)];
+	}
+
+	@Override
+	default double m22() {
+		return backingArray()[layout().arrayIndex(2, 2)];
+	}
+
+	@Override
+	default void m00(double m00) {
+		backingArray()[layout().arrayIndex(0, 0)] = m00;
+	}
+
+	@Override
+	default void m01(double m01) {
+		backingArray()[layout().arrayIndex(0, 1)] = m01;
+	}
+
+	@Override
+	default void m02(double m02) {
+		backingArray()[layout().arrayIndex(0, 2)] = m02;
+	}
+
+	@Override
+	default void m10(double m10) {
+		backingArray()[layout().arrayIndex(1, 0)] = m10;
+	}
+
+	@Override
+	default void m11(double m11) {
+		backingArray()[layout().arrayIndex(1, 1)] = m11;
+	}
+
+	@Override
+	default void m12(double m12) {
+		backingArray()[layout().arrayIndex(1, 2)] = m12;
+	}
+
+	@Override
+	default void m20(double m20) {
+		backingArray()[layout().arrayIndex(2, 0)] = m20;
+	}
+
+	@Override
+	default void m21(double m21) {
+		backingArray()[layout().arrayIndex(2, 1)] = m21;
+	}
+
+	@Override
+	default void m22(double m22) {
+		backingArray()[layout().arrayIndex(2, 2)] = m22;
+	}
+
+	@Override
+	default double get(int row, int column) {
+		return backingArray()[layout().arrayIndex(row, column)];
+	}
+
+	@Override
+	default void set(double value, int row, int column) {
+		backingArray()[layout().arrayIndex(row, column)] = value;
+	}
+
+	@Override
+	default void set(Mat3 m) {
+		MMat3.super.set(m);
+	}
+
+	@Override
+	default void addToSelf(Mat3 m) {
+		MMat3.super.addToSelf(m);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		MMat3.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(Mat3 scale) {
+		MMat3.super.scaleSelf(scale);
+	}
+
+	@Override
+	default boolean exactEquals(Mat3 other) {
+		return MMat3.super.exactEquals(other);
+	}
+
+	/**
+	 * This matrix as a general array-backed matrix, sharing the same backing array
+	 * @return a matrix
+	 */
+	@Override
+	default ArrayMatrix asMatrix() {
+		return Matrix.of(backingArray(), layout());
+	}
+
+	@Override
+	default ArrayMat3 asArrayBacked() {
+		return this;
+	}
+
+	@Override
+	default ArrayMat3 arrayBackedCopy(MatrixLayout layout) {
+		assert layout != null;
+
+		if (layout().equals(layout)) {
+			return Mat3.of(Arrays.copyOf(backingArray(), layout().end()), layout);
+		}
+
+		return MMat3.super.arrayBackedCopy(layout);
+	}
+
+	@Override
+	default ArrayMat3 copy() {
+		return arrayBackedCopy(layout().isColumnPacked() && !layout().isRowPacked()
+				? MatrixLayout.ofColumnMajor(3, 3)
+				: MatrixLayout.ofRowMajor(3, 3));
+	}
+
+	@Override
+	default ArrayMat3 move() {
+		return (ArrayMat3) MMat3.super.move();
+	}
+}
@@ -0,0 +1,246 @@
+package brownshome.vecmath.matrix.array;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.generic.GenericArrayElement;
+import brownshome.vecmath.matrix.MMat4;
+import brownshome.vecmath.matrix.Mat4;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * An array-backed 4x4 matrix
+ */
+public interface ArrayMat4 extends MMat4, GenericArrayElement<MatrixLayout, Mat4> {
+	@Override
+	default double m00() {
+		return backingArray()[layout().arrayIndex(0, 0)];
+	}
+
+	@Override
+	default double m01() {
+		return backingArray()[layout().arrayIndex(0, 1)];
+	}
+
+	@Override
+	default double m02() {
+		return backingArray()[layout().arrayIndex(0, 2)];
+	}
+
+	@Override
+	default double m03() {
+		return backingArray()[layout().arrayIndex(0, 3)];
+	}
+
+	@Override
+	default double m10() {
+		return backingArray()[layout().arrayIndex(1, 0)];
+	}
+
+	@Override
+	default double m11() {
+		return backingArray()[layout().arrayIndex(1, 1)];
+	}
+
+	@Override
+	default double m12() {
+		return backingArray()[layout().arrayIndex(1, 2)];
+	}
+
+	@Override
+	default double m13() {
+		return backingArray()[layout().arrayIndex(1, 3)];
+	}
+
+	@Override
+	default double m20() {
+		return backingArray()[layout().arrayIndex(2, 0)];
+	}
+
+	@Override
+	default double m21() {
+		return backingArray()[layout().arrayIndex(2, 1)];
+	}
+
+	@Override
+	default double m22() {
+		return backingArray()[layout().arrayIndex(2, 2)];
+	}
+
+	@Override
+	default double m23() {
+		return backingArray()[layout().arrayIndex(2, 3)];
+	}
+
+	@Override
+	default double m30() {
+		return backingArray()[layout().arrayIndex(3, 0)];
+	}
+
+	@Override
+	default double m31() {
+		return backingArray()[layout().arrayIndex(3, 1)];
+	}
+
+	@Override
+	default double m32() {
+		return backingArray()[layout().arrayIndex(3, 2)];
+	}
+
+	@Override
+	default double m33() {
+		return backingArray()[layout().arrayIndex(3, 3)];
+	}
+
+	@Override
+	default void m00(double m00) {
+		backingArray()[layout().arrayIndex(0, 0)] = m00;
+	}
+
+	@Override
+	default void m01(double m01) {
+		backingArray()[layout().arrayIndex(0, 1)] = m01;
+	}
+
+	@Override
+	default void m02(double m02) {
+		backingArray()[layout().arrayIndex(0, 2)] = m02;
+	}
+
+	@Override
+	default void m03(double m03) {
+		backingArray()[layout().arrayIndex(0, 3)] = m03;
+	}
+
+	@Override
+	default void m10(double m10) {
+		backingArray()[layout().arrayIndex(1, 0)] = m10;
+	}
+
+	@Override
+	default void m11(double m11) {
+		backingArray()[layout().arrayIndex(1, 1)] = m11;
+	}
+
+	@Override
+	default void m12(double m12) {
+		backingArray()[layout().arrayIndex(1, 2)] = m12;
+	}
+
+	@Override
+	default void m13(double m13) {
+		backingArray()[layout().arrayIndex(1, 3)] = m13;
+	}
+
+	@Override
+	default void m20(double m20) {
+		backingArray()[layout().arrayIndex(2, 0)] = m20;
+	}
+
+	@Override
+	default void m21(double m21) {
+		backingArray()[layout().arrayIndex(2, 1)] = m21;
+	}
+
+	@Override
+	default void m22(double m22) {
+		backingArray()[layout().arrayIndex(2, 2)] = m22;
+	}
+
+	@Override
+	default void m23(double m23) {
+		backingArray()[layout().arrayIndex(2, 3)] = m23;
+	}
+
+	@Override
+	default void m30(double m30) {
+		backingArray()[layout().arrayIndex(3, 0)] = m30;
+	}
+
+	@Override
+	default void m31(double m31) {
+		backingArray()[layout().arrayIndex(3, 1)] = m31;
+	}
+
+	@Override
+	default void m32(double m32) {
+		backingArray()[layout().arrayIndex(3, 2)] = m32;
+	}
+
+	@Override
+	default void m33(double m33) {
+		backingArray()[layout().arrayIndex(3, 3)] = m33;
+	}
+
+	@Override
+	default double get(int row, int column) {
+		return backingArray()[layout().arrayIndex(row, column)];
+	}
+
+	@Override
+	default void set(double value, int row, int column) {
+		backingArray()[layout().arrayIndex(row, column)] = value;
+	}
+
+	@Override
+	default void set(Mat4 m) {
+		MMat4.super.set(m);
+	}
+
+	@Override
+	default void addToSelf(Mat4 m) {
+		MMat4.super.addToSelf(m);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		MMat4.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(Mat4 scale) {
+		MMat4.super.scaleSelf(scale);
+	}
+
+	@Override
+	default boolean exactEquals(Mat4 other) {
+		return MMat4.super.exactEquals(other);
+	}
+
+	/**
+	 * This matrix as a general array-backed matrix, sharing the same backing array
+	 * @return a matrix
+	 */
+	@Override
+	default ArrayMatrix asMatrix() {
+		return Matrix.of(backingArray(), layout());
+	}
+
+	@Override
+	default ArrayMat4 asArrayBacked() {
+		return this;
+	}
+
+	@Override
+	default ArrayMat4 arrayBackedCopy(MatrixLayout layout) {
+		assert layout != null;
+
+		if (layout().equals(layout)) {
+			return Mat4.of(Arrays.copyOf(backingArray(), layout().end()), layout);
+		}
+
+		return MMat4.super.arrayBackedCopy(layout);
+	}
+
+	@Override
+	default ArrayMat4 copy() {
+		return arrayBackedCopy(layout().isColumnPacked() && !layout().isRowPacked()
+				? MatrixLayout.ofColumnMajor(4, 4)
+				: MatrixLayout.ofRowMajor(4, 4));
+	}
+
+	@Override
+	default ArrayMat4 move() {
+		return (ArrayMat4) MMat4.super.move();
+	}
+}
@@ -2,17 +2,19 @@ package brownshome.vecmath.matrix.array;
 
 import java.util.Arrays;
 
+import brownshome.vecmath.generic.ArrayKernels;
 import brownshome.vecmath.generic.GenericArrayElement;
+import brownshome.vecmath.matrix.LazyMatrix;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.basic.DenseMultiplication;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
 import brownshome.vecmath.vector.VecN;
 import brownshome.vecmath.vector.array.ArrayVecN;
 
-record CacheStrategy() {
-	static final int CACHE_SIZE = 16 * 1024;
-}
-
 /**
  * An array-backed matrix
  */
@@ -81,6 +83,11 @@ public interface ArrayMatrix extends GenericArrayElement<MatrixLayout, Matrix>,
 	default void set(Matrix e) {
 		assert e != null;
 
+		if (e instanceof LazyMatrix lazy) {
+			lazy.evaluateInto(this);
+			return;
+		}
+
 		if (layout().isContinuous() && e instanceof ArrayMatrix a && a.layout().equals(layout())) {
 			GenericArrayElement.super.set(a);
 			return;
@@ -101,6 +108,18 @@ public interface ArrayMatrix extends GenericArrayElement<MatrixLayout, Matrix>,
 		MMatrix.super.addToSelf(e);
 	}
 
+	@Override
+	default void scaleAddToSelf(Matrix e, double scale) {
+		assert e != null;
+
+		if (layout().isContinuous() && e instanceof ArrayMatrix a && a.layout().equals(layout())) {
+			ArrayKernels.INSTANCE.scaleAdd(scale, a.backingArray(), a.layout().start(), backingArray(), layout().start(), layout().size());
+			return;
+		}
+
+		MMatrix.super.scaleAddToSelf(e, scale);
+	}
+
 	@Override
 	default void scaleSelf(double scale) {
 		if (layout().isContinuous()) {
@@ -123,6 +142,60 @@ public interface ArrayMatrix extends GenericArrayElement<MatrixLayout, Matrix>,
 		MMatrix.super.scaleSelf(scale);
 	}
 
+	@Override
+	default Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns() == other.rows();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& DenseMultiplication.isSupported(this)
+				&& DenseMultiplication.isSupported(other)) {
+			var right = (ArrayMatrix) other;
+
+			// Keep column-major operands column-major, as the result is likely to be used in the same way
+			var layout = layout().isColumnPacked() && right.layout().isColumnPacked() && !layout().isRowPacked()
+					? MatrixLayout.ofColumnMajor(rows(), right.columns())
+					: MatrixLayout.ofRowMajor(rows(), right.columns());
+
+			var result = Matrix.of(layout);
+			DenseMultiplication.multiply(1.0, this, right, 0.0, result, parallelism);
+			return result;
+		}
+
+		return MMatrix.super.multiply(other, parallelism);
+	}
+
+	@Override
+	default void multiplyAddInto(double alpha, Matrix other, double beta, MMatrix destination) {
+		assert columns() == other.rows();
+		assert destination.rows() == rows();
+		assert destination.columns() == other.columns();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& DenseMultiplication.isSupported(this)
+				&& DenseMultiplication.isSupported(other)
+				&& DenseMultiplication.isSupported(destination)
+				&& !destination.sharesStorage(this)
+				&& !destination.sharesStorage(other)) {
+			DenseMultiplication.multiply(alpha, this, (ArrayMatrix) other, beta, (ArrayMatrix) destination);
+			return;
+		}
+
+		MMatrix.super.multiplyAddInto(alpha, other, beta, destination);
+	}
+
+	@Override
+	default boolean sharesStorage(Matrix other) {
+		if (other instanceof ArrayMatrix a) {
+			return a.backingArray() == backingArray();
+		}
+
+		if (other instanceof SegmentMatrix s) {
+			return s.backingSegment().isBackedBy(backingArray());
+		}
+
+		return !(other instanceof FloatArrayMatrix) && MMatrix.super.sharesStorage(other);
+	}
+
 	@Override
 	default boolean exactEquals(Matrix other) {
 		assert other != null;
@@ -0,0 +1,8 @@
+package brownshome.vecmath.matrix.array;
+
+/**
+ * Matrices with at most this many elements are assumed to fit in the cache, so they are optimal in either order
+ */
+record CacheStrategy() {
+	static final int CACHE_SIZE = 16 * 1024;
+}
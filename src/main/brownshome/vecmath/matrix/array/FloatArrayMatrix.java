@@ -0,0 +1,277 @@
+package brownshome.vecmath.matrix.array;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.generic.FloatArrayKernels;
+import brownshome.vecmath.generic.GenericFloatArrayElement;
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.basic.BasicFloatMatrix;
+import brownshome.vecmath.matrix.basic.StagedMultiplication;
+import brownshome.vecmath.matrix.basic.layout.StridedRuns;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
+import brownshome.vecmath.vector.array.FloatArrayVecN;
+
+/**
+ * A matrix backed by an array of floats, which halves the memory used by the matrix compared to an {@link ArrayMatrix}.
+ * <p>
+ * Arithmetic is done in double precision, and results are rounded to floats when they are stored. Products are
+ * accumulated in double precision, and are only rounded once.
+ */
+public interface FloatArrayMatrix extends GenericFloatArrayElement<MatrixLayout, Matrix>, MMatrix {
+	/**
+	 * Creates a zeroed matrix
+	 * @param layout the layout of the matrix
+	 * @return a matrix
+	 */
+	static FloatArrayMatrix of(MatrixLayout layout) {
+		return of(new float[layout.end()], layout);
+	}
+
+	/**
+	 * Creates a matrix from the values in an array. Edits to the array will change this matrix and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array
+	 * @return a matrix
+	 */
+	static FloatArrayMatrix of(float[] array, MatrixLayout layout) {
+		return new BasicFloatMatrix(array, layout);
+	}
+
+	@Override
+	default int rows() {
+		return layout().rows();
+	}
+
+	@Override
+	default int columns() {
+		return layout().columns();
+	}
+
+	@Override
+	default boolean isRowOptimal() {
+		return rows() * columns() <= CacheStrategy.CACHE_SIZE || layout().isRowOptimal();
+	}
+
+	@Override
+	default boolean isColumnOptimal() {
+		return rows() * columns() <= CacheStrategy.CACHE_SIZE || layout().isColumnOptimal();
+	}
+
+	@Override
+	default double get(int row, int column) {
+		return backingArray()[layout().arrayIndex(row, column)];
+	}
+
+	@Override
+	default void set(double value, int row, int column) {
+		backingArray()[layout().arrayIndex(row, column)] = (float) value;
+	}
+
+	@Override
+	default FloatArrayMatrix subMatrix(int r, int c, int rows, int columns) {
+		return of(backingArray(), layout().subLayout(r, c, rows, columns));
+	}
+
+	@Override
+	default FloatArrayVecN row(int r) {
+		return FloatArrayVecN.of(backingArray(), layout().row(r));
+	}
+
+	@Override
+	default FloatArrayVecN column(int c) {
+		return FloatArrayVecN.of(backingArray(), layout().column(c));
+	}
+
+	@Override
+	default FloatArrayMatrix transpose() {
+		return of(backingArray(), layout().transpose());
+	}
+
+	@Override
+	default FloatArrayMatrix permuteByRow(int... rows) {
+		return of(backingArray(), layout().permuteByRow(rows));
+	}
+
+	@Override
+	default FloatArrayMatrix permuteByColumn(int... columns) {
+		return of(backingArray(), layout().permuteByColumn(columns));
+	}
+
+	@Override
+	default void set(Matrix e) {
+		assert e != null;
+
+		var array = backingArray();
+
+		if (e instanceof FloatArrayMatrix f && StridedRuns.forEach(layout(), f.layout(),
+				(to, from, length) -> System.arraycopy(f.backingArray(), (int) from, array, (int) to, (int) length))) {
+			return;
+		}
+
+		if (e instanceof ArrayMatrix a && StridedRuns.forEach(layout(), a.layout(),
+				(to, from, length) -> FloatArrayKernels.narrow(a.backingArray(), (int) from, array, (int) to, (int) length))) {
+			return;
+		}
+
+		MMatrix.super.set(e);
+	}
+
+	@Override
+	default void addToSelf(Matrix e) {
+		assert e != null;
+
+		var array = backingArray();
+
+		if (e instanceof FloatArrayMatrix f && StridedRuns.forEach(layout(), f.layout(),
+				(to, from, length) -> FloatArrayKernels.add(f.backingArray(), (int) from, array, (int) to, (int) length))) {
+			return;
+		}
+
+		MMatrix.super.addToSelf(e);
+	}
+
+	@Override
+	default void scaleAddToSelf(Matrix e, double scale) {
+		assert e != null;
+
+		var array = backingArray();
+
+		if (e instanceof FloatArrayMatrix f && StridedRuns.forEach(layout(), f.layout(),
+				(to, from, length) -> FloatArrayKernels.scaleAdd(scale, f.backingArray(), (int) from, array, (int) to, (int) length))) {
+			return;
+		}
+
+		MMatrix.super.scaleAddToSelf(e, scale);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		var array = backingArray();
+
+		if (StridedRuns.forEach(layout(), layout(), (index, ignored, length) -> FloatArrayKernels.scale(scale, array, (int) index, (int) length))) {
+			return;
+		}
+
+		MMatrix.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(Matrix scale) {
+		assert scale != null;
+
+		var array = backingArray();
+
+		if (scale instanceof FloatArrayMatrix f && StridedRuns.forEach(layout(), f.layout(),
+				(to, from, length) -> FloatArrayKernels.multiply(f.backingArray(), (int) from, array, (int) to, (int) length))) {
+			return;
+		}
+
+		MMatrix.super.scaleSelf(scale);
+	}
+
+	/**
+	 * The product of this matrix and another, which is float-backed if the other matrix is float-backed
+	 * @param other the other matrix
+	 * @param parallelism controls whether the product is split into tasks
+	 * @return a matrix
+	 */
+	@Override
+	default Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns() == other.rows();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& StagedMultiplication.isSupported(this)
+				&& StagedMultiplication.isSupported(other)) {
+			var layout = MatrixLayout.ofRowMajor(rows(), other.columns());
+			MMatrix result = other instanceof FloatArrayMatrix ? of(layout) : Matrix.of(layout);
+
+			StagedMultiplication.multiply(1.0, this, other, 0.0, result, parallelism);
+			return result;
+		}
+
+		return MMatrix.super.multiply(other, parallelism);
+	}
+
+	@Override
+	default void multiplyAddInto(double alpha, Matrix other, double beta, MMatrix destination) {
+		assert columns() == other.rows();
+		assert destination.rows() == rows();
+		assert destination.columns() == other.columns();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& StagedMultiplication.isSupported(this)
+				&& StagedMultiplication.isSupported(other)
+				&& StagedMultiplication.isSupported(destination)
+				&& !destination.sharesStorage(this)
+				&& !destination.sharesStorage(other)) {
+			StagedMultiplication.multiply(alpha, this, other, beta, destination, Parallelism.global());
+			return;
+		}
+
+		MMatrix.super.multiplyAddInto(alpha, other, beta, destination);
+	}
+
+	@Override
+	default boolean sharesStorage(Matrix other) {
+		if (other instanceof FloatArrayMatrix f) {
+			return f.backingArray() == backingArray();
+		}
+
+		// Neither of these can be backed by a float array
+		return !(other instanceof ArrayMatrix || other instanceof SegmentMatrix) && MMatrix.super.sharesStorage(other);
+	}
+
+	@Override
+	default boolean exactEquals(Matrix other) {
+		assert other != null;
+
+		var array = backingArray();
+		var equal = new boolean[] { true };
+
+		if (other instanceof FloatArrayMatrix f && StridedRuns.forEach(layout(), f.layout(),
+				(a, b, length) -> equal[0] = equal[0] && Arrays.equals(array, (int) a, (int) (a + length), f.backingArray(), (int) b, (int) (b + length)))) {
+			return equal[0];
+		}
+
+		return MMatrix.super.exactEquals(other);
+	}
+
+	@Override
+	default ArrayMatrix arrayBackedCopy(MatrixLayout layout) {
+		assert layout != null;
+
+		var result = Matrix.of(layout);
+		var array = backingArray();
+
+		if (!StridedRuns.forEach(layout(), layout,
+				(from, to, length) -> FloatArrayKernels.widen(array, (int) from, result.backingArray(), (int) to, (int) length))) {
+			result.set(this);
+		}
+
+		return result;
+	}
+
+	/**
+	 * A float-backed copy of this matrix
+	 * @return a copy
+	 */
+	@Override
+	default FloatArrayMatrix copy() {
+		// Keep column-major matrices column-major so that the copy is made in long runs
+		var result = of(layout().isColumnPacked() && !layout().isRowPacked()
+				? MatrixLayout.ofColumnMajor(rows(), columns())
+				: MatrixLayout.ofRowMajor(rows(), columns()));
+
+		result.set(this);
+		return result;
+	}
+
+	@Override
+	default FloatArrayMatrix move() {
+		return (FloatArrayMatrix) MMatrix.super.move();
+	}
+}
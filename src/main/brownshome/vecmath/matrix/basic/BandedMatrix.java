@@ -0,0 +1,166 @@
+package brownshome.vecmath.matrix.basic;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.BandedMatrixLayout;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.basic.BandedLowerUpperFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.TridiagonalFactorisation;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * A matrix stored in LAPACK band storage. Entries outside the band are zero, and must not be set to any other value.
+ * <p>
+ * Products and factorisations only visit the band, so a square matrix with bandwidths l and u is factorised in
+ * O(n·l·(l + u)) time and O(n·(2l + u)) memory.
+ */
+public record BandedMatrix(double[] backingArray, BandedMatrixLayout layout) implements ArrayMatrix, MatrixWithFastMultiply {
+	public BandedMatrix {
+		assert backingArray.length >= layout.end();
+	}
+
+	@Override
+	public double get(int row, int column) {
+		assert row >= 0 && row < rows();
+		assert column >= 0 && column < columns();
+
+		return layout.inBand(row, column) ? backingArray[layout.arrayIndex(row, column)] : 0.0;
+	}
+
+	@Override
+	public void set(double value, int row, int column) {
+		assert row >= 0 && row < rows();
+		assert column >= 0 && column < columns();
+
+		if (!layout.inBand(row, column)) {
+			assert value == 0.0 : "(%d, %d) is outside the band".formatted(row, column);
+			return;
+		}
+
+		backingArray[layout.arrayIndex(row, column)] = value;
+	}
+
+	/**
+	 * Tridiagonal matrices that are diagonally dominant by rows are factorised without pivoting using the Thomas
+	 * algorithm. Other matrices use a banded LU factorisation with partial pivoting.
+	 */
+	@Override
+	public Factorisation factorisation(FactorisationOptions options) {
+		assert rows() == columns();
+
+		if (layout.lower() <= 1 && layout.upper() <= 1 && isDiagonallyDominant()) {
+			return new TridiagonalFactorisation(this, options);
+		}
+
+		return new BandedLowerUpperFactorisation(this, layout.lower(), layout.upper(), options);
+	}
+
+	private boolean isDiagonallyDominant() {
+		for (int r = 0; r < rows(); r++) {
+			double offDiagonal = 0.0;
+
+			for (int c = Math.max(0, r - layout.lower()); c <= Math.min(columns() - 1, r + layout.upper()); c++) {
+				if (c != r) {
+					offDiagonal += Math.abs(get(r, c));
+				}
+			}
+
+			if (Math.abs(get(r, r)) < offDiagonal) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Multiplies this matrix by another. The product of two banded matrices is banded, with the bandwidths added, and
+	 * any other product is dense.
+	 */
+	@Override
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns() == other.rows();
+
+		int rows = rows();
+		int columns = columns();
+		int otherColumns = other.columns();
+
+		if (other instanceof BandedMatrix banded) {
+			var resultLayout = new BandedMatrixLayout(rows, otherColumns,
+					layout.lower() + banded.layout.lower(), layout.upper() + banded.layout.upper(), 0);
+			var result = new BandedMatrix(new double[resultLayout.end()], resultLayout);
+
+			for (int k = 0; k < columns; k++) {
+				for (int r = Math.max(0, k - layout.upper()); r <= Math.min(rows - 1, k + layout.lower()); r++) {
+					double a = get(r, k);
+
+					for (int c = Math.max(0, k - banded.layout.lower()); c <= Math.min(otherColumns - 1, k + banded.layout.upper()); c++) {
+						result.backingArray[resultLayout.arrayIndex(r, c)] += a * banded.get(k, c);
+					}
+				}
+			}
+
+			return result;
+		}
+
+		// Each entry of this matrix adds a scaled row of the other matrix to a row of the result. The other matrix is copied
+		// element-wise, as arrayBackedCopy keeps the packing of symmetric matrices.
+		var copy = Matrix.of(MatrixLayout.ofRowMajor(columns, otherColumns));
+		copy.set(other);
+		var right = copy.backingArray();
+		double[] result = new double[rows * otherColumns];
+
+		for (int k = 0; k < columns; k++) {
+			for (int r = Math.max(0, k - layout.upper()); r <= Math.min(rows - 1, k + layout.lower()); r++) {
+				ArrayKernels.INSTANCE.scaleAdd(get(r, k), right, k * otherColumns, result, r * otherColumns, otherColumns);
+			}
+		}
+
+		return Matrix.of(result, MatrixLayout.ofRowMajor(rows, otherColumns));
+	}
+
+	@Override
+	public Matrix multiplyLeft(Matrix other) {
+		assert other.columns() == rows();
+
+		int rows = rows();
+		int columns = columns();
+		int otherRows = other.rows();
+
+		// Each entry of this matrix adds a scaled column of the other matrix to a column of the result
+		var copy = Matrix.of(MatrixLayout.ofColumnMajor(otherRows, rows));
+		copy.set(other);
+		var left = copy.backingArray();
+		double[] result = new double[otherRows * columns];
+
+		for (int c = 0; c < columns; c++) {
+			for (int k = Math.max(0, c - layout.upper()); k <= Math.min(rows - 1, c + layout.lower()); k++) {
+				ArrayKernels.INSTANCE.scaleAdd(get(k, c), left, k * otherRows, result, c * otherRows, otherRows);
+			}
+		}
+
+		return Matrix.of(result, MatrixLayout.ofColumnMajor(otherRows, columns));
+	}
+
+	@Override
+	public ArrayMatrix arrayBackedCopy(MatrixLayout layout) {
+		assert layout != null;
+
+		if (layout.equals(this.layout)) {
+			return new BandedMatrix(Arrays.copyOf(backingArray, this.layout.end()), this.layout);
+		}
+
+		return ArrayMatrix.super.arrayBackedCopy(layout);
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
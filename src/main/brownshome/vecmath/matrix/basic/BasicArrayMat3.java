@@ -0,0 +1,17 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMat3;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+public record BasicArrayMat3(double[] backingArray, MatrixLayout layout) implements ArrayMat3 {
+	public BasicArrayMat3 {
+		assert layout.rows() == 3 && layout.columns() == 3;
+		assert layout.end() <= backingArray.length;
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(asMatrix());
+	}
+}
@@ -0,0 +1,17 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMat4;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+public record BasicArrayMat4(double[] backingArray, MatrixLayout layout) implements ArrayMat4 {
+	public BasicArrayMat4 {
+		assert layout.rows() == 4 && layout.columns() == 4;
+		assert layout.end() <= backingArray.length;
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(asMatrix());
+	}
+}
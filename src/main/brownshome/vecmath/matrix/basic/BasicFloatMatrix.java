@@ -0,0 +1,16 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.FloatArrayMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+public record BasicFloatMatrix(float[] backingArray, MatrixLayout layout) implements FloatArrayMatrix {
+	public BasicFloatMatrix {
+		assert layout.rows() == 0 || layout.columns() == 0 || layout.end() <= backingArray.length;
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
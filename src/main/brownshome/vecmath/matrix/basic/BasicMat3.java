@@ -0,0 +1,128 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.MMat3;
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.matrix.Matrix;
+
+public final class BasicMat3 implements MMat3 {
+	private double m00, m01, m02;
+	private double m10, m11, m12;
+	private double m20, m21, m22;
+
+	public BasicMat3(Mat3 copy) {
+		this(
+				copy.m00(), copy.m01(), copy.m02(),
+				copy.m10(), copy.m11(), copy.m12(),
+				copy.m20(), copy.m21(), copy.m22()
+		);
+	}
+
+	public BasicMat3(double m00, double m01, double m02,
+	                 double m10, double m11, double m12,
+	                 double m20, double m21, double m22) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+		this.m20 = m20;
+		this.m21 = m21;
+		this.m22 = m22;
+	}
+
+	@Override
+	public double m00() {
+		return m00;
+	}
+
+	@Override
+	public double m01() {
+		return m01;
+	}
+
+	@Override
+	public double m02() {
+		return m02;
+	}
+
+	@Override
+	public double m10() {
+		return m10;
+	}
+
+	@Override
+	public double m11() {
+		return m11;
+	}
+
+	@Override
+	public double m12() {
+		return m12;
+	}
+
+	@Override
+	public double m20() {
+		return m20;
+	}
+
+	@Override
+	public double m21() {
+		return m21;
+	}
+
+	@Override
+	public double m22() {
+		return m22;
+	}
+
+	@Override
+	public void m00(double m00) {
+		this.m00 = m00;
+	}
+
+	@Override
+	public void m01(double m01) {
+		this.m01 = m01;
+	}
+
+	@Override
+	public void m02(double m02) {
+		this.m02 = m02;
+	}
+
+	@Override
+	public void m10(double m10) {
+		this.m10 = m10;
+	}
+
+	@Override
+	public void m11(double m11) {
+		this.m11 = m11;
+	}
+
+	@Override
+	public void m12(double m12) {
+		this.m12 = m12;
+	}
+
+	@Override
+	public void m20(double m20) {
+		this.m20 = m20;
+	}
+
+	@Override
+	public void m21(double m21) {
+		this.m21 = m21;
+	}
+
+	@Override
+	public void m22(double m22) {
+		this.m22 = m22;
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(asMatrix());
+	}
+}
@@ -0,0 +1,208 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.MMat4;
+import brownshome.vecmath.matrix.Mat4;
+import brownshome.vecmath.matrix.Matrix;
+
+public final class BasicMat4 implements MMat4 {
+	private double m00, m01, m02, m03;
+	private double m10, m11, m12, m13;
+	private double m20, m21, m22, m23;
+	private double m30, m31, m32, m33;
+
+	public BasicMat4(Mat4 copy) {
+		this(
+				copy.m00(), copy.m01(), copy.m02(), copy.m03(),
+				copy.m10(), copy.m11(), copy.m12(), copy.m13(),
+				copy.m20(), copy.m21(), copy.m22(), copy.m23(),
+				copy.m30(), copy.m31(), copy.m32(), copy.m33()
+		);
+	}
+
+	public BasicMat4(double m00, double m01, double m02, double m03,
+	                 double m10, double m11, double m12, double m13,
+	                 double m20, double m21, double m22, double m23,
+	                 double m30, double m31, double m32, double m33) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m03 = m03;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+		this.m13 = m13;
+		this.m20 = m20;
+		this.m21 = m21;
+		this.m22 = m22;
+		this.m23 = m23;
+		this.m30 = m30;
+		this.m31 = m31;
+		this.m32 = m32;
+		this.m33 = m33;
+	}
+
+	@Override
+	public double m00() {
+		return m00;
+	}
+
+	@Override
+	public double m01() {
+		return m01;
+	}
+
+	@Override
+	public double m02() {
+		return m02;
+	}
+
+	@Override
+	public double m03() {
+		return m03;
+	}
+
+	@Override
+	public double m10() {
+		return m10;
+	}
+
+	@Override
+	public double m11() {
+		return m11;
+	}
+
+	@Override
+	public double m12() {
+		return m12;
+	}
+
+	@Override
+	public double m13() {
+		return m13;
+	}
+
+	@Override
+	public double m20() {
+		return m20;
+	}
+
+	@Override
+	public double m21() {
+		return m21;
+	}
+
+	@Override
+	public double m22() {
+		return m22;
+	}
+
+	@Override
+	public double m23() {
+		return m23;
+	}
+
+	@Override
+	public double m30() {
+		return m30;
+	}
+
+	@Override
+	public double m31() {
+		return m31;
+	}
+
+	@Override
+	public double m32() {
+		return m32;
+	}
+
+	@Override
+	public double m33() {
+		return m33;
+	}
+
+	@Override
+	public void m00(double m00) {
+		this.m00 = m00;
+	}
+
+	@Override
+	public void m01(double m01) {
+		this.m01 = m01;
+	}
+
+	@Override
+	public void m02(double m02) {
+		this.m02 = m02;
+	}
+
+	@Override
+	public void m03(double m03) {
+		this.m03 = m03;
+	}
+
+	@Override
+	public void m10(double m10) {
+		this.m10 = m10;
+	}
+
+	@Override
+	public void m11(double m11) {
+		this.m11 = m11;
+	}
+
+	@Override
+	public void m12(double m12) {
+		this.m12 = m12;
+	}
+
+	@Override
+	public void m13(double m13) {
+		this.m13 = m13;
+	}
+
+	@Override
+	public void m20(double m20) {
+		this.m20 = m20;
+	}
+
+	@Override
+	public void m21(double m21) {
+		this.m21 = m21;
+	}
+
+	@Override
+	public void m22(double m22) {
+		this.m22 = m22;
+	}
+
+	@Override
+	public void m23(double m23) {
+		this.m23 = m23;
+	}
+
+	@Override
+	public void m30(double m30) {
+		this.m30 = m30;
+	}
+
+	@Override
+	public void m31(double m31) {
+		this.m31 = m31;
+	}
+
+	@Override
+	public void m32(double m32) {
+		this.m32 = m32;
+	}
+
+	@Override
+	public void m33(double m33) {
+		this.m33 = m33;
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(asMatrix());
+	}
+}
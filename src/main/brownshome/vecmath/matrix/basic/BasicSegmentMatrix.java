@@ -0,0 +1,18 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
+import brownshome.vecmath.memory.DoubleSegment;
+
+public record BasicSegmentMatrix(DoubleSegment backingSegment, MatrixLayout layout) implements SegmentMatrix {
+	public BasicSegmentMatrix {
+		assert layout.rows() == 0 || layout.columns() == 0 || layout.longStart() >= 0;
+		assert layout.rows() == 0 || layout.columns() == 0 || layout.longEnd() <= backingSegment.elements();
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
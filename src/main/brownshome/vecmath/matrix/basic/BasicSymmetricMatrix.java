@@ -6,6 +6,12 @@ import brownshome.vecmath.generic.GenericArrayElement;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.BandedMatrixLayout;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.factorisation.basic.BandedCholeskyFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.BandedLowerUpperFactorisation;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 
 public record BasicSymmetricMatrix(double[] backingArray, MatrixLayout layout) implements ArrayMatrix, SymmetricMMatrix {
@@ -50,6 +56,11 @@ public record BasicSymmetricMatrix(double[] backingArray, MatrixLayout layout) i
 			return;
 		}
 
+		if (layout instanceof BandedMatrixLayout band && !band.inBand(row, column)) {
+			assert value == 0.0 : "(%d, %d) is outside the band".formatted(row, column);
+			return;
+		}
+
 		ArrayMatrix.super.set(value, row, column);
 	}
 
@@ -126,6 +137,24 @@ public record BasicSymmetricMatrix(double[] backingArray, MatrixLayout layout) i
 		return SymmetricMMatrix.super.exactEquals(other);
 	}
 
+	/**
+	 * Matrices with a banded layout use a banded Cholesky factorisation, reading only the lower band. If the matrix is not
+	 * positive definite a banded LU factorisation is used instead.
+	 */
+	@Override
+	public Factorisation factorisation(FactorisationOptions options) {
+		if (layout instanceof BandedMatrixLayout band) {
+			try {
+				return new BandedCholeskyFactorisation(this, band.lower(), options);
+			} catch (SingularMatrixException e) {
+				// A non-positive pivot only shows that the matrix is indefinite, it may still be invertible
+				return new BandedLowerUpperFactorisation(this, band.lower(), band.lower(), options);
+			}
+		}
+
+		return SymmetricMMatrix.super.factorisation(options);
+	}
+
 	@Override
 	public ArrayMatrix asSymmetric() {
 		return (ArrayMatrix) SymmetricMMatrix.super.asSymmetric();
@@ -5,10 +5,15 @@ import java.util.Arrays;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.basic.DiagonalFactorisation;
 import brownshome.vecmath.matrix.factorisation.basic.SingularFactorisation;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.sparse.SparseMatrix;
+import brownshome.vecmath.vector.VecN;
 
 public class ConstantMatrix implements MatrixWithFastMultiply {
 	private final double value;
@@ -23,6 +28,14 @@ public class ConstantMatrix implements MatrixWithFastMultiply {
 		this.columns = columns;
 	}
 
+	/**
+	 * The value of every entry of this matrix
+	 * @return the value
+	 */
+	public double value() {
+		return value;
+	}
+
 	@Override
 	public int rows() {
 		return rows;
@@ -147,14 +160,19 @@ public class ConstantMatrix implements MatrixWithFastMultiply {
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
+	public Factorisation factorisation(FactorisationOptions options) {
 		assert rows == columns;
 
+		// Every row is the same, so only a non-zero matrix with a single row is invertible
+		if (rows == 1 && value != 0.0) {
+			return new DiagonalFactorisation(VecN.of(value));
+		}
+
 		return new SingularFactorisation(rows());
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		assert columns == other.rows();
 
 		if (other instanceof ConstantMatrix c) {
@@ -173,17 +191,67 @@ public class ConstantMatrix implements MatrixWithFastMultiply {
 			return d.multiplyLeft(this);
 		}
 
-		var result = Matrix.of(MatrixLayout.ofColumnMajor(rows, other.columns()));
-		for (int c = 0; c < other.columns(); c++) {
+		if (other instanceof SparseMatrix sparse) {
+			return sparse.multiplyLeft(this);
+		}
+
+		// Every row of the result is the sum of the rows of the other matrix, which are read in row-major order
+		int otherColumns = other.columns();
+		double[] sums = new double[otherColumns];
+		for (int r = 0; r < other.rows(); r++) {
+			for (int c = 0; c < otherColumns; c++) {
+				sums[c] += other.get(r, c);
+			}
+		}
+
+		for (int c = 0; c < otherColumns; c++) {
+			sums[c] *= value;
+		}
+
+		var result = Matrix.of(MatrixLayout.ofRowMajor(rows, otherColumns));
+		double[] array = result.backingArray();
+		for (int r = 0; r < rows; r++) {
+			System.arraycopy(sums, 0, array, r * otherColumns, otherColumns);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Multiplies another matrix by this one. Each row of the result is the sum of the same row of the other matrix,
+	 * scaled by the value of this matrix.
+	 */
+	@Override
+	public Matrix multiplyLeft(Matrix other) {
+		assert other.columns() == rows;
+
+		if (other instanceof ConstantMatrix c) {
+			return c.multiply(this);
+		}
+
+		if (other instanceof PermutationMatrix) {
+			return this;
+		}
+
+		if (other instanceof DiagonalMatrix d) {
+			return d.multiply(this);
+		}
+
+		if (other instanceof SparseMatrix sparse) {
+			return sparse.multiply(this);
+		}
+
+		var result = Matrix.of(MatrixLayout.ofRowMajor(other.rows(), columns));
+		for (int r = 0; r < other.rows(); r++) {
 			double sum = 0.0;
 
-			for (int r = 0; r < other.rows(); r++) {
+			for (int c = 0; c < other.columns(); c++) {
 				sum += other.get(r, c);
 			}
 
 			sum *= value;
 
-			for (int r = 0; r < rows(); r++) {
+			for (int c = 0; c < columns; c++) {
 				result.set(sum, r, c);
 			}
 		}
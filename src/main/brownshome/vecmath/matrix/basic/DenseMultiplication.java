@@ -0,0 +1,426 @@
+package brownshome.vecmath.matrix.basic;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * A cache-blocked matrix multiplication kernel that works directly on the backing arrays of strided matrices.
+ * <p>
+ * Panels of both operands are packed into contiguous scratch arrays so that the register-tiled inner kernel reads
+ * memory sequentially, regardless of the strides of the source layouts.
+ * <p>
+ * Large products are split into disjoint blocks of C which are computed as fork-join tasks, each with its own packing
+ * buffers.
+ * <p>
+ * Algorithm lifted from Goto &amp; van de Geijn, "Anatomy of High-Performance Matrix Multiplication"
+ */
+public record DenseMultiplication() {
+	/**
+	 * The number of rows and columns in the register tile
+	 */
+	private static final int MR = ArrayKernels.TILE_SIZE, NR = ArrayKernels.TILE_SIZE;
+
+	/**
+	 * The block sizes. A packed KC x NR panel of B should stay in L1, and a packed MC x KC block of A should stay in L2.
+	 */
+	private static final int MC = 64, KC = 256, NC = 4096;
+
+	/**
+	 * Products with fewer multiply-adds than this are not worth packing
+	 */
+	private static final int SMALL_PRODUCT = 24 * 24 * 24;
+
+	/**
+	 * Returns true if this matrix can be used as an operand or destination of this kernel. This requires an array-backed
+	 * matrix with a strided layout where every element is stored in the backing array.
+	 * @param matrix the matrix to check
+	 * @return a boolean
+	 */
+	public static boolean isSupported(Matrix matrix) {
+		return matrix instanceof ArrayMatrix a
+				&& !(matrix instanceof SymmetricMatrix)
+				&& a.layout() instanceof BasicMatrixLayout;
+	}
+
+	/**
+	 * Tasks are split until they are this many times more numerous than the threads in the pool, to balance the load
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	/**
+	 * Computes C = alpha * A * B + beta * C using the global parallelism. C must not share any elements with A or B.
+	 * @param alpha the scale of the product
+	 * @param a the left operand
+	 * @param b the right operand
+	 * @param beta the scale of the existing values of C. If this is zero then the existing values are ignored
+	 * @param c the destination
+	 */
+	public static void multiply(double alpha, ArrayMatrix a, ArrayMatrix b, double beta, ArrayMatrix c) {
+		multiply(alpha, a, b, beta, c, Parallelism.global());
+	}
+
+	/**
+	 * Computes C = alpha * A * B + beta * C. C must not share any elements with A or B.
+	 * @param alpha the scale of the product
+	 * @param a the left operand
+	 * @param b the right operand
+	 * @param beta the scale of the existing values of C. If this is zero then the existing values are ignored
+	 * @param c the destination
+	 * @param parallelism controls whether the product is split into tasks
+	 */
+	public static void multiply(double alpha, ArrayMatrix a, ArrayMatrix b, double beta, ArrayMatrix c, Parallelism parallelism) {
+		assert isSupported(a);
+		assert isSupported(b);
+		assert isSupported(c);
+		assert a.columns() == b.rows();
+		assert a.rows() == c.rows();
+		assert b.columns() == c.columns();
+
+		var aLayout = (BasicMatrixLayout) a.layout();
+		var bLayout = (BasicMatrixLayout) b.layout();
+		var cLayout = (BasicMatrixLayout) c.layout();
+
+		var product = new Product(alpha,
+				a.backingArray(), aLayout.offset(), aLayout.rowStride(), aLayout.columnStride(),
+				b.backingArray(), bLayout.offset(), bLayout.rowStride(), bLayout.columnStride(),
+				beta,
+				c.backingArray(), cLayout.offset(), cLayout.rowStride(), cLayout.columnStride(),
+				a.columns());
+
+		long operations = (long) c.rows() * c.columns() * a.columns();
+		if (!parallelism.isParallel(operations)) {
+			product.compute(0, 0, c.rows(), c.columns());
+			return;
+		}
+
+		long grain = Math.max(parallelism.threshold(), operations / ((long) TASKS_PER_THREAD * parallelism.pool().getParallelism()));
+		parallelism.pool().invoke(new BlockTask(product, grain, 0, 0, c.rows(), c.columns()));
+	}
+
+	/**
+	 * Multiplies two matrices of any type. Operands that cannot be read directly are copied one slab at a time, KC
+	 * columns of A and KC rows of B, so at most (m + n) * KC values are copied into scratch space at once. Each slab is
+	 * multiplied into the result using the given parallelism.
+	 * @param a the left operand
+	 * @param b the right operand
+	 * @param parallelism controls whether the product of each slab is split into tasks
+	 * @return a row-major array-backed matrix
+	 */
+	public static ArrayMatrix multiplyStreamed(Matrix a, Matrix b, Parallelism parallelism) {
+		assert a.columns() == b.rows();
+
+		int m = a.rows(), n = b.columns(), k = a.columns();
+		var c = Matrix.of(MatrixLayout.ofRowMajor(m, n));
+
+		if (m == 0 || n == 0 || k == 0) {
+			return c;
+		}
+
+		int kcMax = Math.min(KC, k);
+		var aScratch = isSupported(a) ? null : Matrix.of(MatrixLayout.ofRowMajor(m, kcMax));
+		var bScratch = isSupported(b) ? null : Matrix.of(MatrixLayout.ofRowMajor(kcMax, n));
+
+		for (int pc = 0; pc < k; pc += KC) {
+			int kc = Math.min(KC, k - pc);
+
+			multiply(1.0,
+					slab(a, 0, pc, m, kc, aScratch),
+					slab(b, pc, 0, kc, n, bScratch),
+					pc == 0 ? 0.0 : 1.0, c, parallelism);
+		}
+
+		return c;
+	}
+
+	/**
+	 * Returns a block of a matrix that can be read directly, copying it into the scratch matrix if there is one
+	 */
+	private static ArrayMatrix slab(Matrix matrix, int row, int column, int rows, int columns, ArrayMatrix scratch) {
+		if (scratch == null) {
+			return ((ArrayMatrix) matrix).subMatrix(row, column, rows, columns);
+		}
+
+		var block = scratch.subMatrix(0, 0, rows, columns);
+		block.set(matrix.subMatrix(row, column, rows, columns));
+		return block;
+	}
+
+	/**
+	 * The raw arrays and strides of a product
+	 */
+	private record Product(double alpha,
+	                       double[] a, int aOffset, int aRowStride, int aColumnStride,
+	                       double[] b, int bOffset, int bRowStride, int bColumnStride,
+	                       double beta,
+	                       double[] c, int cOffset, int cRowStride, int cColumnStride,
+	                       int k) {
+		/**
+		 * Computes an m x n block of C, starting at the given row and column
+		 */
+		void compute(int row, int column, int m, int n) {
+			multiply(alpha,
+					a, aOffset + row * aRowStride, aRowStride, aColumnStride,
+					b, bOffset + column * bColumnStride, bRowStride, bColumnStride,
+					beta,
+					c, cOffset + row * cRowStride + column * cColumnStride, cRowStride, cColumnStride,
+					m, n, k);
+		}
+	}
+
+	/**
+	 * Recursively halves a block of C along its longest side until each block has few enough multiply-adds. Rows and
+	 * columns are split on MC boundaries so that packing is not wasted on small edge blocks.
+	 */
+	private static final class BlockTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		// ForkJoinTask is Serializable, but these tasks are never serialised
+		private final transient Product product;
+		private final long grain;
+		private final int row, column, m, n;
+
+		BlockTask(Product product, long grain, int row, int column, int m, int n) {
+			this.product = product;
+			this.grain = grain;
+			this.row = row;
+			this.column = column;
+			this.m = m;
+			this.n = n;
+		}
+
+		@Override
+		protected void compute() {
+			if ((long) m * n * product.k() <= grain || m <= MC && n <= MC) {
+				product.compute(row, column, m, n);
+				return;
+			}
+
+			if (m >= n) {
+				int split = roundUp(m / 2, MC);
+
+				invokeAll(new BlockTask(product, grain, row, column, split, n),
+						new BlockTask(product, grain, row + split, column, m - split, n));
+			} else {
+				int split = roundUp(n / 2, MC);
+
+				invokeAll(new BlockTask(product, grain, row, column, m, split),
+						new BlockTask(product, grain, row, column + split, m, n - split));
+			}
+		}
+	}
+
+	/**
+	 * Computes C = alpha * A * B + beta * C on raw strided arrays
+	 */
+	private static void multiply(double alpha,
+	                             double[] a, int aOffset, int aRowStride, int aColumnStride,
+	                             double[] b, int bOffset, int bRowStride, int bColumnStride,
+	                             double beta,
+	                             double[] c, int cOffset, int cRowStride, int cColumnStride,
+	                             int m, int n, int k) {
+		scale(beta, c, cOffset, cRowStride, cColumnStride, m, n);
+
+		if (alpha == 0.0 || k == 0) {
+			return;
+		}
+
+		if ((long) m * n * k < SMALL_PRODUCT) {
+			multiplySmall(alpha,
+					a, aOffset, aRowStride, aColumnStride,
+					b, bOffset, bRowStride, bColumnStride,
+					c, cOffset, cRowStride, cColumnStride,
+					m, n, k);
+			return;
+		}
+
+		int kcMax = Math.min(KC, k);
+		int ncMax = Math.min(NC, n);
+		int mcMax = Math.min(MC, m);
+
+		double[] packedA = new double[roundUp(mcMax, MR) * kcMax];
+		double[] packedB = new double[roundUp(ncMax, NR) * kcMax];
+		double[] tile = new double[MR * NR];
+
+		for (int jc = 0; jc < n; jc += NC) {
+			int nc = Math.min(NC, n - jc);
+
+			for (int pc = 0; pc < k; pc += KC) {
+				int kc = Math.min(KC, k - pc);
+
+				packB(b, bOffset + pc * bRowStride + jc * bColumnStride, bRowStride, bColumnStride, kc, nc, packedB);
+
+				for (int ic = 0; ic < m; ic += MC) {
+					int mc = Math.min(MC, m - ic);
+
+					packA(alpha, a, aOffset + ic * aRowStride + pc * aColumnStride, aRowStride, aColumnStride, mc, kc, packedA);
+
+					int cBlock = cOffset + ic * cRowStride + jc * cColumnStride;
+					for (int jr = 0; jr < nc; jr += NR) {
+						int nr = Math.min(NR, nc - jr);
+
+						for (int ir = 0; ir < mc; ir += MR) {
+							int mr = Math.min(MR, mc - ir);
+
+							kernel(kc, packedA, ir * kc, packedB, jr * kc,
+									c, cBlock + ir * cRowStride + jr * cColumnStride, cRowStride, cColumnStride,
+									mr, nr, tile);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scales C in-place, treating a scale of zero as an assignment so that NaN values are discarded
+	 */
+	private static void scale(double beta, double[] c, int offset, int rowStride, int columnStride, int m, int n) {
+		if (beta == 1.0) {
+			return;
+		}
+
+		if (columnStride == 1 && rowStride == n || rowStride == 1 && columnStride == m) {
+			int end = offset + m * n;
+
+			if (beta == 0.0) {
+				Arrays.fill(c, offset, end, 0.0);
+			} else {
+				ArrayKernels.INSTANCE.scale(beta, c, offset, m * n);
+			}
+
+			return;
+		}
+
+		for (int r = 0; r < m; r++) {
+			int index = offset + r * rowStride;
+
+			for (int col = 0; col < n; col++, index += columnStride) {
+				c[index] = beta == 0.0 ? 0.0 : c[index] * beta;
+			}
+		}
+	}
+
+	/**
+	 * A direct loop for products that are too small to benefit from packing
+	 */
+	private static void multiplySmall(double alpha,
+	                                  double[] a, int aOffset, int aRowStride, int aColumnStride,
+	                                  double[] b, int bOffset, int bRowStride, int bColumnStride,
+	                                  double[] c, int cOffset, int cRowStride, int cColumnStride,
+	                                  int m, int n, int k) {
+		for (int r = 0; r < m; r++) {
+			int cRow = cOffset + r * cRowStride;
+			int aRow = aOffset + r * aRowStride;
+
+			for (int p = 0; p < k; p++) {
+				double value = alpha * a[aRow + p * aColumnStride];
+				int bIndex = bOffset + p * bRowStride;
+
+				if (bColumnStride == 1 && cColumnStride == 1) {
+					ArrayKernels.INSTANCE.scaleAdd(value, b, bIndex, c, cRow, n);
+					continue;
+				}
+
+				int cIndex = cRow;
+				for (int col = 0; col < n; col++, bIndex += bColumnStride, cIndex += cColumnStride) {
+					c[cIndex] += value * b[bIndex];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Packs an mc x kc block of A, scaled by alpha, into panels of MR rows. Within a panel the MR values of each column
+	 * are adjacent. Panels are padded with zeros.
+	 */
+	private static void packA(double alpha, double[] a, int offset, int rowStride, int columnStride, int mc, int kc, double[] packed) {
+		int index = 0;
+
+		for (int ir = 0; ir < mc; ir += MR) {
+			int mr = Math.min(MR, mc - ir);
+			int panel = offset + ir * rowStride;
+
+			for (int p = 0; p < kc; p++) {
+				int source = panel + p * columnStride;
+				int i = 0;
+
+				for (; i < mr; i++, source += rowStride) {
+					packed[index++] = alpha * a[source];
+				}
+
+				for (; i < MR; i++) {
+					packed[index++] = 0.0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Packs a kc x nc block of B into panels of NR columns. Within a panel the NR values of each row are adjacent.
+	 * Panels are padded with zeros.
+	 */
+	private static void packB(double[] b, int offset, int rowStride, int columnStride, int kc, int nc, double[] packed) {
+		int index = 0;
+
+		for (int jr = 0; jr < nc; jr += NR) {
+			int nr = Math.min(NR, nc - jr);
+			int panel = offset + jr * columnStride;
+
+			for (int p = 0; p < kc; p++) {
+				int source = panel + p * rowStride;
+				int j = 0;
+
+				for (; j < nr; j++, source += columnStride) {
+					packed[index++] = b[source];
+				}
+
+				for (; j < NR; j++) {
+					packed[index++] = 0.0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the product of a packed MR x kc panel of A and a packed kc x NR panel of B to an mr x nr tile of C
+	 */
+	private static void kernel(int kc,
+	                           double[] a, int aIndex,
+	                           double[] b, int bIndex,
+	                           double[] c, int cIndex, int cRowStride, int cColumnStride,
+	                           int mr, int nr, double[] tile) {
+		ArrayKernels.INSTANCE.multiplyPanels(kc, a, aIndex, b, bIndex, tile);
+
+		if (mr == MR && nr == NR) {
+			int r0 = cIndex, r1 = r0 + cRowStride, r2 = r1 + cRowStride, r3 = r2 + cRowStride;
+			int s1 = cColumnStride, s2 = 2 * cColumnStride, s3 = 3 * cColumnStride;
+
+			c[r0] += tile[0]; c[r0 + s1] += tile[1]; c[r0 + s2] += tile[2]; c[r0 + s3] += tile[3];
+			c[r1] += tile[4]; c[r1 + s1] += tile[5]; c[r1 + s2] += tile[6]; c[r1 + s3] += tile[7];
+			c[r2] += tile[8]; c[r2 + s1] += tile[9]; c[r2 + s2] += tile[10]; c[r2 + s3] += tile[11];
+			c[r3] += tile[12]; c[r3 + s1] += tile[13]; c[r3 + s2] += tile[14]; c[r3 + s3] += tile[15];
+
+			return;
+		}
+
+		// Partial tiles on the edges of C
+		for (int i = 0; i < mr; i++) {
+			int index = cIndex + i * cRowStride;
+
+			for (int j = 0; j < nr; j++, index += cColumnStride) {
+				c[index] += tile[i * NR + j];
+			}
+		}
+	}
+
+	private static int roundUp(int value, int multiple) {
+		return (value + multiple - 1) / multiple * multiple;
+	}
+}
@@ -1,20 +1,94 @@
 package brownshome.vecmath.matrix.basic;
 
+import java.util.Collections;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.basic.DiagonalFactorisation;
 import brownshome.vecmath.matrix.factorisation.basic.SingularFactorisation;
-
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.matrix.sparse.SparseMatrix;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A square matrix that is zero off the leading diagonal. The diagonal is a view of the vector it was created from, or a
+ * single value repeated along the diagonal.
+ * <p>
+ * Structure is kept where the result allows it: sums, element-wise products and matrix products of diagonal matrices are
+ * diagonal, and a product with a zero matrix is zero. A product with any other matrix scales its rows or columns, which
+ * takes time proportional to the size of the result rather than performing a full matrix product.
+ */
 public class DiagonalMatrix implements SymmetricMatrix, MatrixWithFastMultiply {
-	private final double value;
-	private final int size;
+	private final VecN diagonal;
+
+	/**
+	 * A diagonal with the same value in every entry, which is stored without an array
+	 */
+	private record ConstantDiagonal(double value, int size) implements VecN {
+		ConstantDiagonal {
+			assert size >= 0;
+		}
+
+		@Override
+		public double get(int i) {
+			assert i >= 0;
+			assert i < size;
+
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return "(" + String.join(", ", Collections.nCopies(size, "%.3f".formatted(value))) + ")";
+		}
+	}
+
+	public DiagonalMatrix(VecN diagonal) {
+		this.diagonal = diagonal;
+	}
 
 	public DiagonalMatrix(double value, int size) {
-		assert size >= 0;
+		this(new ConstantDiagonal(value, size));
+	}
+
+	/**
+	 * Applies an operation to the diagonal, keeping a constant diagonal constant
+	 */
+	private DiagonalMatrix map(DoubleUnaryOperator constant, UnaryOperator<VecN> operation) {
+		if (diagonal instanceof ConstantDiagonal c) {
+			return new DiagonalMatrix(constant.applyAsDouble(c.value()), c.size());
+		}
+
+		return new DiagonalMatrix(operation.apply(diagonal));
+	}
+
+	/**
+	 * Combines the diagonals of two matrices, keeping the result constant if both diagonals are constant
+	 */
+	private DiagonalMatrix combine(DiagonalMatrix other, DoubleBinaryOperator constant, BinaryOperator<VecN> operation) {
+		if (diagonal instanceof ConstantDiagonal a && other.diagonal instanceof ConstantDiagonal b) {
+			return new DiagonalMatrix(constant.applyAsDouble(a.value(), b.value()), a.size());
+		}
 
-		this.value = value;
-		this.size = size;
+		return new DiagonalMatrix(operation.apply(diagonal, other.diagonal));
+	}
+
+	/**
+	 * The entries on the leading diagonal of this matrix
+	 * @return a vector
+	 */
+	public VecN diagonal() {
+		return diagonal;
 	}
 
 	@Override
@@ -29,17 +103,17 @@ public class DiagonalMatrix implements SymmetricMatrix, MatrixWithFastMultiply {
 
 	@Override
 	public double get(int row, int column) {
-		assert row < size;
+		assert row < size();
 		assert row >= 0;
-		assert column < size;
+		assert column < size();
 		assert column >= 0;
 
-		return row == column ? value : 0.0;
+		return row == column ? diagonal.get(row) : 0.0;
 	}
 
 	@Override
 	public int size() {
-		return size;
+		return diagonal.size();
 	}
 
 	@Override
@@ -50,125 +124,248 @@ public class DiagonalMatrix implements SymmetricMatrix, MatrixWithFastMultiply {
 		assert c + columns <= columns();
 
 		if (r == c && rows == columns) {
-			return new DiagonalMatrix(value, rows);
+			if (diagonal instanceof ConstantDiagonal constant) {
+				return new DiagonalMatrix(constant.value(), rows);
+			}
+
+			double[] values = new double[rows];
+			for (int i = 0; i < rows; i++) {
+				values[i] = diagonal.get(r + i);
+			}
+
+			return new DiagonalMatrix(VecN.of(values));
 		}
 
 		return SymmetricMatrix.super.subMatrix(r, c, rows, columns);
 	}
 
+	/**
+	 * Adds this matrix to a copy of a matrix that is scaled, touching only the diagonal of the copy
+	 */
+	private Matrix addToCopy(Matrix e, double scale) {
+		MMatrix result = e.copy();
+
+		if (scale != 1.0) {
+			result.scaleSelf(scale);
+		}
+
+		for (int i = 0; i < size(); i++) {
+			result.set(result.get(i, i) + diagonal.get(i), i, i);
+		}
+
+		return e instanceof SymmetricMatrix ? result.asSymmetric() : result;
+	}
+
 	@Override
 	public Matrix add(Matrix e) {
-		assert e.rows() == size;
-		assert e.columns() == size;
+		assert e.rows() == size();
+		assert e.columns() == size();
 
 		if (e instanceof ZeroMatrix) {
 			return this;
 		}
 
 		if (e instanceof DiagonalMatrix other) {
-			return new DiagonalMatrix(value + other.value, size);
+			return combine(other, Double::sum, VecN::add);
 		}
 
-		return SymmetricMatrix.super.add(e);
+		return addToCopy(e, 1.0);
 	}
 
 	@Override
 	public Matrix subtract(Matrix e) {
-		assert e.rows() == size;
-		assert e.columns() == size;
+		assert e.rows() == size();
+		assert e.columns() == size();
 
 		if (e instanceof ZeroMatrix) {
 			return this;
 		}
 
 		if (e instanceof DiagonalMatrix other) {
-			return new DiagonalMatrix(value - other.value, size);
+			return combine(other, (a, b) -> a - b, VecN::subtract);
 		}
 
-		return SymmetricMatrix.super.subtract(e);
+		return addToCopy(e, -1.0);
 	}
 
 	@Override
 	public Matrix scale(double scale) {
-		return new DiagonalMatrix(value * scale, size);
+		return map(value -> value * scale, d -> d.scale(scale));
 	}
 
+	/**
+	 * The element-wise product with any matrix is diagonal
+	 */
 	@Override
 	public Matrix scale(Matrix scale) {
-		assert scale.rows() == size;
-		assert scale.columns() == size;
+		assert scale.rows() == size();
+		assert scale.columns() == size();
 
 		if (scale instanceof ZeroMatrix zero) {
 			return zero;
 		}
 
 		if (scale instanceof DiagonalMatrix other) {
-			return new DiagonalMatrix(value * other.value, size);
+			return combine(other, (a, b) -> a * b, VecN::scale);
+		}
+
+		double[] values = new double[size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = diagonal.get(i) * scale.get(i, i);
 		}
 
-		return SymmetricMatrix.super.scale(scale);
+		return new DiagonalMatrix(VecN.of(values));
 	}
 
 	@Override
 	public Matrix scaleAdd(Matrix e, double scale) {
-		assert e.rows() == size;
-		assert e.columns() == size;
+		assert e.rows() == size();
+		assert e.columns() == size();
 
 		if (e instanceof ZeroMatrix) {
 			return this;
 		}
 
 		if (e instanceof DiagonalMatrix other) {
-			return new DiagonalMatrix(value + scale * other.value, size);
+			return combine(other, (a, b) -> a + b * scale, (a, b) -> a.scaleAdd(b, scale));
 		}
 
-		return SymmetricMatrix.super.scaleAdd(e, scale);
+		return addToCopy(e, scale);
 	}
 
 	@Override
 	public Matrix negated() {
-		return new DiagonalMatrix(-value, size);
+		return map(value -> -value, VecN::negated);
 	}
 
 	@Override
 	public Matrix interpolated(Matrix other, double t) {
-		assert other.rows() == size;
-		assert other.columns() == size;
+		assert other.rows() == size();
+		assert other.columns() == size();
 
 		if (other instanceof ZeroMatrix) {
 			return scale(1.0 - t);
 		}
 
 		if (other instanceof DiagonalMatrix d) {
-			return new DiagonalMatrix(value * (1.0 - t) + d.value * t, size);
+			return combine(d, (a, b) -> a + (b - a) * t, (a, b) -> a.interpolated(b, t));
 		}
 
 		return SymmetricMatrix.super.interpolated(other, t);
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
-		return value == 0.0 ? new SingularFactorisation(size) : new DiagonalFactorisation(value, size);
+	public Factorisation factorisation(FactorisationOptions options) {
+		for (int i = 0; i < size(); i++) {
+			if (diagonal.get(i) == 0.0) {
+				return new SingularFactorisation(size());
+			}
+		}
+
+		return new DiagonalFactorisation(diagonal);
 	}
 
+	/**
+	 * Multiplies this matrix by another, which scales the rows of the other matrix
+	 */
 	@Override
-	public Matrix multiply(Matrix other) {
-		return other.scale(value);
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert other.rows() == size();
+
+		int columns = other.columns();
+
+		if (other instanceof ZeroMatrix) {
+			return new ZeroMatrix(size(), columns);
+		}
+
+		if (other instanceof IdentityMatrix) {
+			return this;
+		}
+
+		if (other instanceof DiagonalMatrix d) {
+			return combine(d, (a, b) -> a * b, VecN::scale);
+		}
+
+		if (other instanceof SparseMatrix sparse) {
+			var csr = sparse.toCsr();
+			double[] values = new double[csr.nonZeros()];
+
+			for (int r = 0; r < size(); r++) {
+				double scale = diagonal.get(r);
+
+				for (int p = csr.rowStarts()[r]; p < csr.rowStarts()[r + 1]; p++) {
+					values[p] = csr.values()[p] * scale;
+				}
+			}
+
+			return new CsrMatrix(size(), columns, csr.rowStarts(), csr.columnIndices(), values);
+		}
+
+		// The other matrix is copied element-wise, as arrayBackedCopy keeps the packing of symmetric matrices
+		var result = Matrix.of(MatrixLayout.ofRowMajor(size(), columns));
+		result.set(other);
+		double[] array = result.backingArray();
+
+		for (int r = 0; r < size() && columns != 0; r++) {
+			ArrayKernels.INSTANCE.scale(diagonal.get(r), array, r * columns, columns);
+		}
+
+		return result;
 	}
 
+	/**
+	 * Multiplies another matrix by this one, which scales the columns of the other matrix
+	 */
 	@Override
-	public Matrix multiplyLeft(Matrix matrix) {
-		return matrix.scale(value);
+	public Matrix multiplyLeft(Matrix other) {
+		assert other.columns() == size();
+
+		int rows = other.rows();
+
+		if (other instanceof ZeroMatrix) {
+			return new ZeroMatrix(rows, size());
+		}
+
+		if (other instanceof DiagonalMatrix d) {
+			return d.multiply(this);
+		}
+
+		if (other instanceof SparseMatrix sparse) {
+			var csr = sparse.toCsr();
+			double[] values = new double[csr.nonZeros()];
+
+			for (int p = 0; p < values.length; p++) {
+				values[p] = csr.values()[p] * diagonal.get(csr.columnIndices()[p]);
+			}
+
+			return new CsrMatrix(rows, size(), csr.rowStarts(), csr.columnIndices(), values);
+		}
+
+		var result = Matrix.of(MatrixLayout.ofColumnMajor(rows, size()));
+		result.set(other);
+		double[] array = result.backingArray();
+
+		for (int c = 0; c < size() && rows != 0; c++) {
+			ArrayKernels.INSTANCE.scale(diagonal.get(c), array, c * rows, rows);
+		}
+
+		return result;
 	}
 
 	@Override
 	public boolean exactEquals(Matrix other) {
 		if (other instanceof ZeroMatrix) {
-			return value == 0.0;
+			for (int i = 0; i < size(); i++) {
+				if (diagonal.get(i) != 0.0) {
+					return false;
+				}
+			}
+
+			return true;
 		}
 
-		if (other instanceof DiagonalMatrix diag) {
-			return value == diag.value;
+		if (other instanceof DiagonalMatrix d) {
+			return size() == d.size() && diagonal.exactEquals(d.diagonal);
 		}
 
 		return SymmetricMatrix.super.exactEquals(other);
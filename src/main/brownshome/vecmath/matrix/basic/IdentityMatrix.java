@@ -1,7 +1,9 @@
 package brownshome.vecmath.matrix.basic;
 
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.basic.IdentityFactorisation;
 import brownshome.vecmath.vector.VecN;
 
@@ -57,12 +59,12 @@ public final class IdentityMatrix extends DiagonalMatrix {
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
+	public Factorisation factorisation(FactorisationOptions options) {
 		return new IdentityFactorisation(size());
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		assert other.rows() == size();
 
 		return other;
@@ -3,6 +3,7 @@ package brownshome.vecmath.matrix.basic;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.vector.VecN;
 
 public class JoinedMatrix implements MatrixWithFastMultiply {
@@ -136,10 +137,10 @@ public class JoinedMatrix implements MatrixWithFastMultiply {
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		return new JoinedMatrix(
-				top.multiply(other),
-				bottom.multiply(other)
+				top.multiply(other, parallelism),
+				bottom.multiply(other, parallelism)
 		);
 	}
 
@@ -0,0 +1,256 @@
+package brownshome.vecmath.matrix.basic;
+
+import java.util.Arrays;
+
+/**
+ * Computes a fill-reducing ordering of a sparse symmetric matrix using approximate minimum degree.
+ * <p>
+ * The elimination is simulated on a quotient graph. Each eliminated variable becomes an element standing for the clique
+ * formed by its neighbours, and elements adjacent to the eliminated variable are absorbed into it, so the graph never
+ * grows beyond the size of the original matrix. The degree of each variable is the approximate external degree used by
+ * AMD, which is an upper bound on the true degree that is cheap to update. Supervariables are not detected.
+ * <p>
+ * Algorithm from Amestoy, Davis &amp; Duff, "An Approximate Minimum Degree Ordering Algorithm"
+ */
+public record MinimumDegreeOrdering() {
+	/**
+	 * Orders the rows and columns of a symmetric matrix
+	 * @param size the number of rows and columns in the matrix
+	 * @param starts the index of the first entry of each row in the indices, followed by the number of entries
+	 * @param indices the column of each entry. Only the pattern is used, and it is made symmetric if it is not already.
+	 * @return the order of elimination, entry k is the row and column of the original matrix that is eliminated kth
+	 */
+	public static int[] order(int size, int[] starts, int[] indices) {
+		assert starts.length == size + 1;
+
+		int[][] variables = adjacency(size, starts, indices);
+		int[] variableCount = new int[size];
+		int[] degree = new int[size];
+		for (int i = 0; i < size; i++) {
+			variableCount[i] = variables[i].length;
+			degree[i] = variables[i].length;
+		}
+
+		int[][] elements = new int[size][];
+		int[] elementCount = new int[size];
+		Arrays.fill(elements, new int[0]);
+
+		// The variables in each element, only present while the element is not absorbed
+		int[][] members = new int[size][];
+		boolean[] eliminated = new boolean[size];
+		boolean[] absorbed = new boolean[size];
+
+		// Variables are kept in doubly linked lists by degree
+		int[] head = new int[size];
+		int[] next = new int[size];
+		int[] previous = new int[size];
+		Arrays.fill(head, -1);
+		for (int i = 0; i < size; i++) {
+			insert(head, next, previous, i, degree[i]);
+		}
+
+		int[] order = new int[size];
+		int[] pivotVariables = new int[size];
+		int[] mark = new int[size];
+		int[] external = new int[size];
+		int[] externalMark = new int[size];
+		Arrays.fill(mark, -1);
+		Arrays.fill(externalMark, -1);
+		int minDegree = 0;
+
+		for (int k = 0; k < size; k++) {
+			while (head[minDegree] == -1) {
+				minDegree++;
+			}
+
+			int pivot = head[minDegree];
+			remove(head, next, previous, pivot, minDegree);
+			order[k] = pivot;
+			eliminated[pivot] = true;
+			mark[pivot] = k;
+
+			// The new element contains the neighbours of the pivot, and the variables of every element it absorbs
+			int length = 0;
+			for (int q = 0; q < variableCount[pivot]; q++) {
+				int v = variables[pivot][q];
+
+				if (!eliminated[v] && mark[v] != k) {
+					mark[v] = k;
+					pivotVariables[length++] = v;
+				}
+			}
+
+			for (int q = 0; q < elementCount[pivot]; q++) {
+				int e = elements[pivot][q];
+
+				if (absorbed[e]) {
+					continue;
+				}
+
+				for (int v : members[e]) {
+					if (mark[v] != k) {
+						mark[v] = k;
+						pivotVariables[length++] = v;
+					}
+				}
+
+				absorbed[e] = true;
+				members[e] = null;
+			}
+
+			members[pivot] = Arrays.copyOf(pivotVariables, length);
+			variables[pivot] = null;
+			elements[pivot] = null;
+
+			// Count the variables of each neighbouring element that are outside the new element
+			for (int j = 0; j < length; j++) {
+				int i = pivotVariables[j];
+
+				for (int q = 0; q < elementCount[i]; q++) {
+					int e = elements[i][q];
+
+					if (absorbed[e]) {
+						continue;
+					}
+
+					if (externalMark[e] != k) {
+						externalMark[e] = k;
+						external[e] = members[e].length;
+					}
+
+					external[e]--;
+				}
+			}
+
+			for (int j = 0; j < length; j++) {
+				int i = pivotVariables[j];
+				long degreeBound = 0;
+
+				// Drop absorbed elements, and absorb elements that are contained in the new element
+				int count = 0;
+				for (int q = 0; q < elementCount[i]; q++) {
+					int e = elements[i][q];
+
+					if (absorbed[e]) {
+						continue;
+					}
+
+					if (external[e] == 0) {
+						absorbed[e] = true;
+						members[e] = null;
+						continue;
+					}
+
+					elements[i][count++] = e;
+					degreeBound += external[e];
+				}
+
+				if (count == elements[i].length) {
+					elements[i] = Arrays.copyOf(elements[i], Math.max(4, count * 2));
+				}
+
+				elements[i][count++] = pivot;
+				elementCount[i] = count;
+
+				// Drop variables that are now reached through the new element
+				count = 0;
+				for (int q = 0; q < variableCount[i]; q++) {
+					int v = variables[i][q];
+
+					if (!eliminated[v] && mark[v] != k) {
+						variables[i][count++] = v;
+					}
+				}
+
+				variableCount[i] = count;
+				degreeBound += count + length - 1;
+
+				int newDegree = (int) Math.min(degreeBound, Math.min(degree[i] + length - 1L, size - k - 1L));
+
+				remove(head, next, previous, i, degree[i]);
+				degree[i] = newDegree;
+				insert(head, next, previous, i, newDegree);
+				minDegree = Math.min(minDegree, newDegree);
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * The neighbours of each variable, without duplicates or self-loops
+	 */
+	private static int[][] adjacency(int size, int[] starts, int[] indices) {
+		int[] counts = new int[size];
+		for (int r = 0; r < size; r++) {
+			for (int p = starts[r]; p < starts[r + 1]; p++) {
+				int c = indices[p];
+
+				if (c != r) {
+					counts[r]++;
+					counts[c]++;
+				}
+			}
+		}
+
+		int[][] adjacency = new int[size][];
+		for (int i = 0; i < size; i++) {
+			adjacency[i] = new int[counts[i]];
+			counts[i] = 0;
+		}
+
+		for (int r = 0; r < size; r++) {
+			for (int p = starts[r]; p < starts[r + 1]; p++) {
+				int c = indices[p];
+
+				if (c != r) {
+					adjacency[r][counts[r]++] = c;
+					adjacency[c][counts[c]++] = r;
+				}
+			}
+		}
+
+		int[] mark = new int[size];
+		Arrays.fill(mark, -1);
+
+		for (int i = 0; i < size; i++) {
+			int count = 0;
+
+			for (int v : adjacency[i]) {
+				if (mark[v] != i) {
+					mark[v] = i;
+					adjacency[i][count++] = v;
+				}
+			}
+
+			if (count != adjacency[i].length) {
+				adjacency[i] = Arrays.copyOf(adjacency[i], count);
+			}
+		}
+
+		return adjacency;
+	}
+
+	private static void insert(int[] head, int[] next, int[] previous, int i, int degree) {
+		next[i] = head[degree];
+		previous[i] = -1;
+
+		if (head[degree] != -1) {
+			previous[head[degree]] = i;
+		}
+
+		head[degree] = i;
+	}
+
+	private static void remove(int[] head, int[] next, int[] previous, int i, int degree) {
+		if (previous[i] == -1) {
+			head[degree] = next[i];
+		} else {
+			next[previous[i]] = next[i];
+		}
+
+		if (next[i] != -1) {
+			previous[next[i]] = previous[i];
+		}
+	}
+}
@@ -5,7 +5,9 @@ import java.util.Arrays;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.basic.PermutationFactorisation;
 
 public record PermutationMatrix(int[] rowPermutation) implements MatrixWithFastMultiply {
@@ -34,7 +36,7 @@ public record PermutationMatrix(int[] rowPermutation) implements MatrixWithFastM
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		return other.permuteByRow(rowPermutation);
 	}
 
@@ -93,7 +95,7 @@ public record PermutationMatrix(int[] rowPermutation) implements MatrixWithFastM
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
+	public Factorisation factorisation(FactorisationOptions options) {
 		return new PermutationFactorisation(rowPermutation);
 	}
 
@@ -5,7 +5,9 @@ import java.util.Arrays;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.basic.PermutedFactorisation;
 import brownshome.vecmath.vector.VecN;
 
@@ -132,34 +134,34 @@ public class PermutedMatrix implements MatrixWithFastMultiply {
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
-		return new PermutedFactorisation(delegate.factorisation(tolerance), rowPermutation, columnPermutation);
+	public Factorisation factorisation(FactorisationOptions options) {
+		return new PermutedFactorisation(delegate.factorisation(options), rowPermutation, columnPermutation);
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		if (other instanceof ConstantMatrix constant) {
-			return rows(delegate.multiply(constant), rowPermutation);
+			return rows(delegate.multiply(constant, parallelism), rowPermutation);
 		}
 
-		if (other instanceof DiagonalMatrix) {
-			return delegate.multiply(other).permuteByRow(rowPermutation).permuteByColumn(columnPermutation);
+		if (other instanceof DiagonalMatrix diagonal) {
+			return diagonal.multiplyLeft(this);
 		}
 
 		if (delegate instanceof MatrixWithFastMultiply) {
-			return rows(delegate.multiply(other.permuteByRow(PermutationUtil.invertPermutation(columnPermutation))), rowPermutation);
+			return rows(delegate.multiply(other.permuteByRow(PermutationUtil.invertPermutation(columnPermutation)), parallelism), rowPermutation);
 		}
 
 		if (other instanceof PermutedMatrix otherPermuted) {
 			var inner = delegate
 					.permuteByColumn(columnPermutation)
 					.permuteByColumn(PermutationUtil.invertPermutation(otherPermuted.rowPermutation))
-					.multiply(otherPermuted.delegate);
+					.multiply(otherPermuted.delegate, parallelism);
 
 			return of(inner, rowPermutation, otherPermuted.columnPermutation);
 		}
 
-		return MatrixWithFastMultiply.super.multiply(other);
+		return MatrixWithFastMultiply.super.multiply(other, parallelism);
 	}
 
 	@Override
@@ -0,0 +1,121 @@
+package brownshome.vecmath.matrix.basic;
+
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.array.FloatArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
+
+/**
+ * Multiplies strided matrices whose elements are not in double arrays, such as segment-backed or float-backed matrices,
+ * by copying blocks of those operands into double arrays and multiplying those with {@link DenseMultiplication}.
+ * <p>
+ * The inner dimension is split into slabs, so a product of two operands that are each too large for an array, such as
+ * the normal matrix X'X of a tall design matrix, only ever copies a slab of each operand at once. Copying is linear in
+ * the size of the operands, so it is cheap compared to the multiplication. Each block of the destination is accumulated
+ * in double precision over every slab before it is stored, so float-backed products are only rounded once.
+ */
+public record StagedMultiplication() {
+	/**
+	 * The number of elements of each operand, and of the result, that are staged at once
+	 */
+	private static final int STAGE_SIZE = 1 << 20;
+
+	/**
+	 * Returns true if this matrix can be used as an operand or destination of this kernel. This requires an array,
+	 * segment or float-backed matrix with a strided layout.
+	 * @param matrix the matrix to check
+	 * @return a boolean
+	 */
+	public static boolean isSupported(Matrix matrix) {
+		return matrix instanceof SegmentMatrix s && s.layout() instanceof BasicMatrixLayout
+				|| matrix instanceof FloatArrayMatrix f && f.layout() instanceof BasicMatrixLayout
+				|| DenseMultiplication.isSupported(matrix);
+	}
+
+	/**
+	 * Computes C = alpha * A * B + beta * C. C must not share any elements with A or B.
+	 * @param alpha the scale of the product
+	 * @param a the left operand
+	 * @param b the right operand
+	 * @param beta the scale of the existing values of C. If this is zero then the existing values are ignored.
+	 * @param c the destination
+	 * @param parallelism the parallelism to use for each staged block
+	 */
+	public static void multiply(double alpha, Matrix a, Matrix b, double beta, MMatrix c, Parallelism parallelism) {
+		assert isSupported(a) && isSupported(b) && isSupported(c);
+		assert a.columns() == b.rows();
+		assert c.rows() == a.rows();
+		assert c.columns() == b.columns();
+
+		int m = a.rows();
+		int k = a.columns();
+		int n = b.columns();
+
+		if (m == 0 || n == 0) {
+			return;
+		}
+
+		if (k == 0) {
+			if (beta == 0.0) {
+				c.set(Matrix.zero(m, n));
+			} else {
+				c.scaleSelf(beta);
+			}
+
+			return;
+		}
+
+		// Each slab of B, block of A and block of C fits within the stage size, unless a single row is larger
+		int slab = Math.max(1, Math.min(k, STAGE_SIZE / n));
+		int block = Math.max(1, Math.min(m, STAGE_SIZE / Math.max(slab, n)));
+
+		for (int r = 0; r < m; r += block) {
+			int rows = Math.min(block, m - r);
+			var target = c.subMatrix(r, 0, rows, n);
+
+			ArrayMatrix destination;
+			if (DenseMultiplication.isSupported(target)) {
+				destination = (ArrayMatrix) target;
+			} else if (beta == 0.0) {
+				destination = Matrix.of(MatrixLayout.ofRowMajor(rows, n));
+			} else {
+				destination = stage(target);
+			}
+
+			for (int i = 0; i < k; i += slab) {
+				int inner = Math.min(slab, k - i);
+
+				DenseMultiplication.multiply(alpha,
+						stage(a.subMatrix(r, i, rows, inner)),
+						stage(b.subMatrix(i, 0, inner, n)),
+						i == 0 ? beta : 1.0,
+						destination,
+						parallelism);
+			}
+
+			if (destination != target) {
+				target.set(destination);
+			}
+		}
+	}
+
+	/**
+	 * Array-backed operands are used in place, and other operands are copied into an array with the same orientation,
+	 * so that they are copied in runs
+	 */
+	private static ArrayMatrix stage(Matrix matrix) {
+		if (DenseMultiplication.isSupported(matrix)) {
+			return (ArrayMatrix) matrix;
+		}
+
+		var layout = matrix instanceof SegmentMatrix s ? s.layout() : ((FloatArrayMatrix) matrix).layout();
+
+		return matrix.arrayBackedCopy(layout.isColumnPacked() && !layout.isRowPacked()
+				? MatrixLayout.ofColumnMajor(matrix.rows(), matrix.columns())
+				: MatrixLayout.ofRowMajor(matrix.rows(), matrix.columns()));
+	}
+}
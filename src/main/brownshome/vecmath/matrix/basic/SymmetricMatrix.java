@@ -5,6 +5,7 @@ import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.basic.CholeskyFactorisation;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 
@@ -90,8 +91,8 @@ public interface SymmetricMatrix extends Matrix {
 	}
 
 	@Override
-	default Factorisation factorisation(double tolerance) {
-		return new CholeskyFactorisation((BasicSymmetricMatrix) asSymmetricCopy(), tolerance);
+	default Factorisation factorisation(FactorisationOptions options) {
+		return new CholeskyFactorisation((BasicSymmetricMatrix) asSymmetricCopy(), options);
 	}
 
 	@Override
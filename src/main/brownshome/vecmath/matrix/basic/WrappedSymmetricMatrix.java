@@ -3,8 +3,10 @@ package brownshome.vecmath.matrix.basic;
 import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.vector.VecN;
 
@@ -162,18 +164,18 @@ public class WrappedSymmetricMatrix implements SymmetricMatrix, MatrixWithFastMu
 	}
 
 	@Override
-	public Factorisation factorisation(double tolerance) {
+	public Factorisation factorisation(FactorisationOptions options) {
 		if (delegate instanceof MatrixWithFastMultiply) {
 			// Probably more efficient than the Cholesky
-			return delegate.factorisation(tolerance);
+			return delegate.factorisation(options);
 		}
 
-		return SymmetricMatrix.super.factorisation(tolerance);
+		return SymmetricMatrix.super.factorisation(options);
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
-		return delegate.multiply(other);
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
+		return delegate.multiply(other, parallelism);
 	}
 
 	@Override
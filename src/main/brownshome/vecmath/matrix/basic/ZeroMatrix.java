@@ -1,6 +1,7 @@
 package brownshome.vecmath.matrix.basic;
 
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 
@@ -60,7 +61,7 @@ public final class ZeroMatrix extends ConstantMatrix {
 	}
 
 	@Override
-	public Matrix multiply(Matrix other) {
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
 		return new ZeroMatrix(rows(), other.columns());
 	}
 
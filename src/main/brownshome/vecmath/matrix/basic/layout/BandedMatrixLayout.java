@@ -0,0 +1,81 @@
+package brownshome.vecmath.matrix.basic.layout;
+
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * The LAPACK band storage of a matrix. Each column stores the entries from {@code upper} rows above the diagonal to
+ * {@code lower} rows below it, and entry (r, c) is stored at {@code offset + c * (lower + upper + 1) + upper + r - c}.
+ * The slots of the columns that fall outside the matrix are unused.
+ * <p>
+ * Every entry outside the band maps to a single slot after the last column, which must always be zero. Matrices using
+ * this layout must not set entries outside the band to non-zero values.
+ */
+public record BandedMatrixLayout(int rows, int columns, int lower, int upper, int offset) implements MatrixLayout {
+	public BandedMatrixLayout {
+		assert rows >= 0 && columns >= 0;
+		assert lower >= 0 && upper >= 0;
+		assert offset >= 0;
+	}
+
+	/**
+	 * The number of slots stored for each column
+	 * @return the leading dimension of the band storage
+	 */
+	public int leadingDimension() {
+		return lower + upper + 1;
+	}
+
+	/**
+	 * Whether an entry is inside the band, and so is stored
+	 * @param row the row
+	 * @param column the column
+	 * @return a boolean
+	 */
+	public boolean inBand(int row, int column) {
+		return row - column <= lower && column - row <= upper;
+	}
+
+	@Override
+	public int start() {
+		return offset;
+	}
+
+	@Override
+	public int size() {
+		return columns * leadingDimension() + 1;
+	}
+
+	@Override
+	public boolean isContinuous() {
+		return true;
+	}
+
+	@Override
+	public boolean isPacked() {
+		return offset == 0;
+	}
+
+	@Override
+	public int arrayIndex(int row, int column) {
+		if (!inBand(row, column)) {
+			return offset + columns * leadingDimension();
+		}
+
+		return offset + column * leadingDimension() + upper + row - column;
+	}
+
+	@Override
+	public boolean isRowPacked() {
+		return columns <= 1;
+	}
+
+	@Override
+	public boolean isColumnPacked() {
+		return rows <= 1 || lower >= rows - 1 && upper >= columns - 1;
+	}
+
+	@Override
+	public boolean isColumnOptimal() {
+		return true;
+	}
+}
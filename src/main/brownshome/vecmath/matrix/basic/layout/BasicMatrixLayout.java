@@ -22,6 +22,21 @@ public record BasicMatrixLayout(int rows, int columns, int offset, int rowStride
 	}
 
 	private static boolean noIndexesOverlap(int rows, int columns, int rowStride, int columnStride, int offset) {
+		long rowSpan = Math.abs((long) rowStride) * (rows - 1);
+		long columnSpan = Math.abs((long) columnStride) * (columns - 1);
+
+		if (offset - (rowStride < 0 ? rowSpan : 0) - (columnStride < 0 ? columnSpan : 0) < 0) {
+			return false;
+		}
+
+		// If whole rows fit between adjacent columns, or the other way around, then no two items can share an index. This
+		// avoids enumerating the items of layouts that are too large to fit in an array.
+		boolean rowsDistinct = columns == 1 || columnStride != 0;
+		boolean columnsDistinct = rows == 1 || rowStride != 0;
+		if (rowsDistinct && columnsDistinct && (Math.abs((long) rowStride) > columnSpan || Math.abs((long) columnStride) > rowSpan)) {
+			return true;
+		}
+
 		int r = rowStride < 0 ? 0 : (rows - 1);
 		int c = columnStride < 0 ? 0 : (columns - 1);
 
@@ -56,6 +71,16 @@ public record BasicMatrixLayout(int rows, int columns, int offset, int rowStride
 		return Math.abs(rowStride()) * (rows() - 1) + Math.abs(columnStride()) * (columns() - 1) + 1;
 	}
 
+	@Override
+	public long longStart() {
+		return offset() + Math.min(0L, rowStride()) * (rows() - 1) + Math.min(0L, columnStride()) * (columns() - 1);
+	}
+
+	@Override
+	public long longEnd() {
+		return offset() + Math.max(0L, rowStride()) * (rows() - 1) + Math.max(0L, columnStride()) * (columns() - 1) + 1;
+	}
+
 	@Override
 	public int arrayIndex(int row, int column) {
 		assert row < rows;
@@ -66,14 +91,24 @@ public record BasicMatrixLayout(int rows, int columns, int offset, int rowStride
 		return offset + row * rowStride + column * columnStride;
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		assert row < rows;
+		assert column < columns;
+		assert row >= 0;
+		assert column >= 0;
+
+		return offset + (long) row * rowStride + (long) column * columnStride;
+	}
+
 	@Override
 	public boolean isContinuous() {
-		return size() == rows() * columns();
+		return longEnd() - longStart() == (long) rows() * columns();
 	}
 
 	@Override
 	public boolean isPacked() {
-		return end() == rows() * columns();
+		return longEnd() == (long) rows() * columns();
 	}
 
 	@Override
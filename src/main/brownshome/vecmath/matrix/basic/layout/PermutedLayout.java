@@ -50,6 +50,16 @@ public record PermutedLayout(MatrixLayout delegate, int[] rowPermutation, int[]
 		return delegate.end();
 	}
 
+	@Override
+	public long longStart() {
+		return delegate.longStart();
+	}
+
+	@Override
+	public long longEnd() {
+		return delegate.longEnd();
+	}
+
 	@Override
 	public int size() {
 		return delegate.size();
@@ -78,6 +88,19 @@ public record PermutedLayout(MatrixLayout delegate, int[] rowPermutation, int[]
 		return delegate.arrayIndex(row, column);
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		if (rowPermutation != PermutationUtil.IDENTITY_PERMUTATION) {
+			row = rowPermutation[row];
+		}
+
+		if (columnPermutation != PermutationUtil.IDENTITY_PERMUTATION) {
+			column = columnPermutation[column];
+		}
+
+		return delegate.longIndex(row, column);
+	}
+
 	@Override
 	public int rows() {
 		return delegate.rows();
@@ -0,0 +1,76 @@
+package brownshome.vecmath.matrix.basic.layout;
+
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * Splits a pair of strided layouts with the same shape into runs of items that are adjacent in both backing stores, so
+ * that element-wise operations between them can use bulk copies and kernels.
+ */
+public record StridedRuns() {
+	/**
+	 * An operation on a run of adjacent items
+	 */
+	@FunctionalInterface
+	public interface Run {
+		/**
+		 * Operates on a run
+		 * @param first the index of the start of the run in the store of the first layout
+		 * @param second the index of the start of the run in the store of the second layout
+		 * @param length the number of items in the run
+		 */
+		void apply(long first, long second, long length);
+	}
+
+	/**
+	 * Calls the run operation for every run of items that are adjacent in both layouts. If the layouts are not both
+	 * strided, or do not share an axis along which items are adjacent, then nothing is done.
+	 * @param first the first layout
+	 * @param second the second layout, which must have the same shape as the first
+	 * @param run the operation
+	 * @return true if the runs covered every item, or false if the layouts could not be split into runs
+	 */
+	public static boolean forEach(MatrixLayout first, MatrixLayout second, Run run) {
+		assert first.rows() == second.rows();
+		assert first.columns() == second.columns();
+
+		if (!(first instanceof BasicMatrixLayout a) || !(second instanceof BasicMatrixLayout b)) {
+			return false;
+		}
+
+		int rows = a.rows();
+		int columns = a.columns();
+
+		if (isUnit(columns, a.columnStride()) && isUnit(columns, b.columnStride())) {
+			if (isUnit(rows, a.rowStride() - columns + 1) && isUnit(rows, b.rowStride() - columns + 1)) {
+				run.apply(a.longIndex(0, 0), b.longIndex(0, 0), (long) rows * columns);
+			} else {
+				for (int r = 0; r < rows; r++) {
+					run.apply(a.longIndex(r, 0), b.longIndex(r, 0), columns);
+				}
+			}
+
+			return true;
+		}
+
+		if (isUnit(rows, a.rowStride()) && isUnit(rows, b.rowStride())) {
+			if (isUnit(columns, a.columnStride() - rows + 1) && isUnit(columns, b.columnStride() - rows + 1)) {
+				run.apply(a.longIndex(0, 0), b.longIndex(0, 0), (long) rows * columns);
+			} else {
+				for (int c = 0; c < columns; c++) {
+					run.apply(a.longIndex(0, c), b.longIndex(0, c), rows);
+				}
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Whether moving along a dimension of this length steps forward by one item, or the dimension has a single item
+	 */
+	private static boolean isUnit(int length, int stride) {
+		return length == 1 || stride == 1;
+	}
+}
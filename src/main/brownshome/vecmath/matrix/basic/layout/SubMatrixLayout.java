@@ -11,6 +11,28 @@ import brownshome.vecmath.matrix.layout.MatrixLayout;
  * @param columns the number of columns
  */
 public record SubMatrixLayout(MatrixLayout delegate, int r, int c, int rows, int columns) implements MatrixLayout {
+	/**
+	 * Creates a sub-layout of a delegate, collapsing it into a single strided layout if the delegate is one, and into a
+	 * single sub-layout if the delegate is another sub-layout
+	 * @param delegate the delegate
+	 * @param r the starting row
+	 * @param c the starting column
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a layout
+	 */
+	public static MatrixLayout of(MatrixLayout delegate, int r, int c, int rows, int columns) {
+		if (delegate instanceof BasicMatrixLayout basic) {
+			return basic.subLayout(r, c, rows, columns);
+		}
+
+		if (delegate instanceof SubMatrixLayout sub) {
+			return of(sub.delegate(), r + sub.r(), c + sub.c(), rows, columns);
+		}
+
+		return new SubMatrixLayout(delegate, r, c, rows, columns);
+	}
+
 	public SubMatrixLayout {
 		assert r >= 0;
 		assert r + rows <= delegate.rows();
@@ -30,6 +52,22 @@ public record SubMatrixLayout(MatrixLayout delegate, int r, int c, int rows, int
 		return Math.max(delegate.arrayIndex(r, c), delegate.arrayIndex(r + rows - 1, c + columns - 1)) + 1;
 	}
 
+	@Override
+	public int size() {
+		// Only look up each corner once, rather than twice in each of start() and end()
+		return Math.abs(delegate.arrayIndex(r, c) - delegate.arrayIndex(r + rows - 1, c + columns - 1)) + 1;
+	}
+
+	@Override
+	public long longStart() {
+		return Math.min(delegate.longIndex(r, c), delegate.longIndex(r + rows - 1, c + columns - 1));
+	}
+
+	@Override
+	public long longEnd() {
+		return Math.max(delegate.longIndex(r, c), delegate.longIndex(r + rows - 1, c + columns - 1)) + 1;
+	}
+
 	@Override
 	public boolean isContinuous() {
 		return size() == rows * columns;
@@ -45,6 +83,11 @@ public record SubMatrixLayout(MatrixLayout delegate, int r, int c, int rows, int
 		return delegate.arrayIndex(row + r, column + c);
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		return delegate.longIndex(row + r, column + c);
+	}
+
 	@Override
 	public boolean isRowOptimal() {
 		return columns == 1 || delegate.isRowOptimal();
@@ -67,14 +110,14 @@ public record SubMatrixLayout(MatrixLayout delegate, int r, int c, int rows, int
 
 	@Override
 	public MatrixLayout subLayout(int r, int c, int rows, int columns) {
-		return delegate.subLayout(r + r(), c + c(), rows, columns);
+		return of(delegate, r + r(), c + c(), rows, columns);
 	}
 
 	@Override
 	public MatrixLayout transpose() {
 		// If we are the best sub-matrix for this delegate, then the same will
 		// be true for the transpose
-		return new SubMatrixLayout(delegate.transpose(), c, r, rows, columns);
+		return of(delegate.transpose(), c, r, columns, rows);
 	}
 
 	@Override
@@ -19,6 +19,16 @@ public record SymmetricMatrixLayout(int matrixSize, int offset, int rowPadding)
 		return arrayIndex(matrixSize - 1, matrixSize - 1) + 1;
 	}
 
+	@Override
+	public long longStart() {
+		return offset;
+	}
+
+	@Override
+	public long longEnd() {
+		return longIndex(matrixSize - 1, matrixSize - 1) + 1;
+	}
+
 	@Override
 	public boolean isContinuous() {
 		return rowPadding == 0 || matrixSize == 1;
@@ -38,6 +48,15 @@ public record SymmetricMatrixLayout(int matrixSize, int offset, int rowPadding)
 		return start() + row * (row + 1 + rowPadding * 2) / 2 + column;
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		if (column > row) {
+			return longIndex(column, row);
+		}
+
+		return offset + (long) row * (row + 1 + rowPadding * 2L) / 2 + column;
+	}
+
 	@Override
 	public int rows() {
 		return matrixSize;
@@ -68,6 +87,15 @@ public record SymmetricMatrixLayout(int matrixSize, int offset, int rowPadding)
 			return new SymmetricMatrixLayout(rows, arrayIndex(r, c), matrixSize - rows + rowPadding);
 		}
 
+		// Part of a row on or left of the diagonal, or part of a column on or above it, is adjacent in the array
+		if (rows == 1 && columns != 0 && c + columns - 1 <= r) {
+			return new BasicMatrixLayout(1, columns, arrayIndex(r, c), columns, 1);
+		}
+
+		if (columns == 1 && rows != 0 && r + rows - 1 <= c) {
+			return new BasicMatrixLayout(rows, 1, arrayIndex(r, c), 1, rows);
+		}
+
 		return MatrixLayout.super.subLayout(r, c, rows, columns);
 	}
 
@@ -4,6 +4,23 @@ import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.vector.layout.VecNLayout;
 
 public record TransposedMatrixLayout(MatrixLayout delegate) implements MatrixLayout {
+	/**
+	 * Creates a transposed view of a delegate, swapping the strides of a strided layout instead of wrapping it
+	 * @param delegate the delegate
+	 * @return a layout
+	 */
+	public static MatrixLayout of(MatrixLayout delegate) {
+		if (delegate instanceof BasicMatrixLayout basic) {
+			return basic.transpose();
+		}
+
+		if (delegate instanceof TransposedMatrixLayout transposed) {
+			return transposed.delegate();
+		}
+
+		return new TransposedMatrixLayout(delegate);
+	}
+
 	@Override
 	public int start() {
 		return delegate.start();
@@ -14,6 +31,16 @@ public record TransposedMatrixLayout(MatrixLayout delegate) implements MatrixLay
 		return delegate.end();
 	}
 
+	@Override
+	public long longStart() {
+		return delegate.longStart();
+	}
+
+	@Override
+	public long longEnd() {
+		return delegate.longEnd();
+	}
+
 	@Override
 	public int size() {
 		return delegate.size();
@@ -34,6 +61,11 @@ public record TransposedMatrixLayout(MatrixLayout delegate) implements MatrixLay
 		return delegate.arrayIndex(column, row);
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		return delegate.longIndex(column, row);
+	}
+
 	@Override
 	public int rows() {
 		return delegate.columns();
@@ -66,7 +98,7 @@ public record TransposedMatrixLayout(MatrixLayout delegate) implements MatrixLay
 
 	@Override
 	public MatrixLayout subLayout(int r, int c, int rows, int columns) {
-		return delegate.subLayout(c, r, columns, rows).transpose();
+		return of(delegate.subLayout(c, r, columns, rows));
 	}
 
 	@Override
@@ -76,12 +108,12 @@ public record TransposedMatrixLayout(MatrixLayout delegate) implements MatrixLay
 
 	@Override
 	public MatrixLayout permuteByRow(int... rows) {
-		return delegate.permuteByColumn(rows).transpose();
+		return of(delegate.permuteByColumn(rows));
 	}
 
 	@Override
 	public MatrixLayout permuteByColumn(int... columns) {
-		return delegate.permuteByRow(columns).transpose();
+		return of(delegate.permuteByRow(columns));
 	}
 
 	@Override
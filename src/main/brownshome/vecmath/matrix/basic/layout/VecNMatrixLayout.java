@@ -1,9 +1,25 @@
 package brownshome.vecmath.matrix.basic.layout;
 
 import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.basic.layout.BasicVecNLayout;
+import brownshome.vecmath.vector.basic.layout.MatrixVecNLayout;
 import brownshome.vecmath.vector.layout.VecNLayout;
 
 public record VecNMatrixLayout(VecNLayout delegate) implements MatrixLayout {
+	/**
+	 * Creates a single-column layout from a vector layout, unwrapping the vector layout if it was created from a matrix
+	 * layout
+	 * @param delegate the vector layout
+	 * @return a layout
+	 */
+	public static MatrixLayout of(VecNLayout delegate) {
+		if (delegate instanceof BasicVecNLayout || delegate instanceof MatrixVecNLayout) {
+			return delegate.asColumnMatrix();
+		}
+
+		return new VecNMatrixLayout(delegate);
+	}
+
 	@Override
 	public int start() {
 		return delegate.start();
@@ -14,6 +30,16 @@ public record VecNMatrixLayout(VecNLayout delegate) implements MatrixLayout {
 		return delegate.end();
 	}
 
+	@Override
+	public long longStart() {
+		return delegate.longStart();
+	}
+
+	@Override
+	public long longEnd() {
+		return delegate.longEnd();
+	}
+
 	@Override
 	public int size() {
 		return delegate.size();
@@ -38,6 +64,13 @@ public record VecNMatrixLayout(VecNLayout delegate) implements MatrixLayout {
 		return delegate.arrayIndex(row);
 	}
 
+	@Override
+	public long longIndex(int row, int column) {
+		assert column == 0;
+
+		return delegate.longIndex(row);
+	}
+
 	@Override
 	public int rows() {
 		return delegate.elements();
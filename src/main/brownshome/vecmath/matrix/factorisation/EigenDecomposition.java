@@ -0,0 +1,42 @@
+package brownshome.vecmath.matrix.factorisation;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * The decomposition of a symmetric matrix A = VΛV', where V is orthogonal and Λ is diagonal.
+ * <p>
+ * The decomposition may only hold some of the eigenvalues, in which case it holds the largest ones.
+ */
+public interface EigenDecomposition {
+	/**
+	 * The number of rows and columns of A
+	 * @return the size of A
+	 */
+	int size();
+
+	/**
+	 * The number of eigenvalues that were computed
+	 * @return the number of eigenvalues
+	 */
+	int count();
+
+	/**
+	 * The eigenvalues of A, from largest to smallest
+	 * @return a vector of {@link #count()} eigenvalues
+	 */
+	VecN eigenvalues();
+
+	/**
+	 * Returns true if the eigenvectors were computed
+	 * @return a boolean
+	 */
+	boolean hasEigenvectors();
+
+	/**
+	 * The unit eigenvectors of A, as the columns of a matrix. The ith column is the eigenvector of the ith eigenvalue.
+	 * @return a {@link #size()} x {@link #count()} matrix
+	 * @throws IllegalStateException if the eigenvectors were not computed
+	 */
+	Matrix eigenvectors();
+}
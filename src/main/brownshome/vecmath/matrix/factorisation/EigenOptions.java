@@ -0,0 +1,50 @@
+package brownshome.vecmath.matrix.factorisation;
+
+/**
+ * Options controlling which parts of an eigen-decomposition are computed
+ *
+ * @param count the number of eigenvalues to find, starting from the largest. Counts larger than the size of the matrix
+ *              find every eigenvalue.
+ * @param vectors whether the eigenvectors are computed along with the eigenvalues
+ */
+public record EigenOptions(int count, boolean vectors) {
+	private static final EigenOptions ALL = new EigenOptions(Integer.MAX_VALUE, true);
+
+	public EigenOptions {
+		assert count > 0;
+	}
+
+	/**
+	 * Finds every eigenvalue, and its eigenvector
+	 * @return a set of options
+	 */
+	public static EigenOptions all() {
+		return ALL;
+	}
+
+	/**
+	 * Finds every eigenvalue, but no eigenvectors
+	 * @return a set of options
+	 */
+	public static EigenOptions valuesOnly() {
+		return ALL.withVectors(false);
+	}
+
+	/**
+	 * Finds the largest eigenvalues, and their eigenvectors
+	 * @param count the number of eigenvalues to find
+	 * @return a set of options
+	 */
+	public static EigenOptions largest(int count) {
+		return new EigenOptions(count, true);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not compute the eigenvectors
+	 * @param vectors whether the eigenvectors are computed
+	 * @return a set of options
+	 */
+	public EigenOptions withVectors(boolean vectors) {
+		return new EigenOptions(count, vectors);
+	}
+}
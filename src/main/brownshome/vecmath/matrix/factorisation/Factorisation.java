@@ -1,6 +1,7 @@
 package brownshome.vecmath.matrix.factorisation;
 
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.vector.VecN;
 
 /**
  * A factorisation of a matrix that allows the swift computation of the solutions to AX = B, XA = B, AX = I, |A| = x
@@ -15,6 +16,15 @@ public interface Factorisation {
 	 */
 	Matrix leftSolve(Matrix other);
 
+	/**
+	 * Computes the solution to Ax = b for a single vector
+	 * @param other b
+	 * @return the solution x to Ax = b
+	 */
+	default VecN leftSolve(VecN other) {
+		return leftSolve(other.asColumn()).asColumnVec();
+	}
+
 	/**
 	 * Computes the solution to XA = B, or in other words finds B / A
 	 * @param other B
@@ -0,0 +1,56 @@
+package brownshome.vecmath.matrix.factorisation;
+
+import brownshome.vecmath.matrix.Parallelism;
+
+/**
+ * Options controlling how a matrix is factorised
+ *
+ * @param tolerance pivots smaller than this are treated as zero, and the matrix as singular
+ * @param parallelism controls whether the updates of large factorisations are split into tasks
+ */
+public record FactorisationOptions(double tolerance, Parallelism parallelism) {
+	/**
+	 * The tolerance used when none is given
+	 */
+	public static final double DEFAULT_TOLERANCE = 1e-10;
+
+	public FactorisationOptions {
+		assert tolerance >= 0.0;
+		assert parallelism != null;
+	}
+
+	/**
+	 * The default options, using the global parallelism
+	 * @return a set of options
+	 */
+	public static FactorisationOptions defaults() {
+		return of(DEFAULT_TOLERANCE);
+	}
+
+	/**
+	 * Options with the given tolerance, using the global parallelism
+	 * @param tolerance the tolerance to use
+	 * @return a set of options
+	 */
+	public static FactorisationOptions of(double tolerance) {
+		return new FactorisationOptions(tolerance, Parallelism.global());
+	}
+
+	/**
+	 * Returns a copy of these options with a different tolerance
+	 * @param tolerance the tolerance to use
+	 * @return a set of options
+	 */
+	public FactorisationOptions withTolerance(double tolerance) {
+		return new FactorisationOptions(tolerance, parallelism);
+	}
+
+	/**
+	 * Returns a copy of these options with a different parallelism
+	 * @param parallelism the parallelism to use
+	 * @return a set of options
+	 */
+	public FactorisationOptions withParallelism(Parallelism parallelism) {
+		return new FactorisationOptions(tolerance, parallelism);
+	}
+}
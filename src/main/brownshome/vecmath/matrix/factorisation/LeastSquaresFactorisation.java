@@ -0,0 +1,54 @@
+package brownshome.vecmath.matrix.factorisation;
+
+import brownshome.vecmath.matrix.Matrix;
+
+/**
+ * An orthogonal factorisation A = QR of a matrix with at least as many rows as columns, which allows the solution of
+ * overdetermined systems in the least-squares sense.
+ * <p>
+ * The {@link #size()} of this factorisation is the number of columns of A. Methods inherited from {@link Factorisation}
+ * that require a square matrix may only be used if A is square, with the exception of {@link #leftSolve(Matrix)}, which
+ * finds the least-squares solution.
+ */
+public interface LeastSquaresFactorisation extends Factorisation {
+	/**
+	 * The number of rows in A
+	 * @return the number of rows
+	 */
+	int rows();
+
+	/**
+	 * The numerical rank of A. The tolerance is relative to the largest diagonal value of R, and if any diagonal value is
+	 * smaller than this the rank is found using column pivoting. This is equal to the number of columns if and only if A
+	 * has full column rank.
+	 * @return the rank
+	 */
+	int rank();
+
+	/**
+	 * Finds the X that minimises the two-norm of each column of AX - B
+	 * @param other B
+	 * @return the least-squares solution X
+	 * @throws SingularMatrixException if A does not have full column rank
+	 */
+	Matrix leastSquaresSolve(Matrix other);
+
+	/**
+	 * Computes QB without forming Q
+	 * @param other B, which must have as many rows as A
+	 * @return QB
+	 */
+	Matrix applyQ(Matrix other);
+
+	/**
+	 * Computes Q'B without forming Q
+	 * @param other B, which must have as many rows as A
+	 * @return Q'B
+	 */
+	Matrix applyQTranspose(Matrix other);
+
+	@Override
+	default Matrix leftSolve(Matrix other) {
+		return leastSquaresSolve(other);
+	}
+}
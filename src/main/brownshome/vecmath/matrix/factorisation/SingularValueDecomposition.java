@@ -0,0 +1,76 @@
+package brownshome.vecmath.matrix.factorisation;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * The singular value decomposition A = UΣV' of a matrix of any shape, where U and V have orthonormal columns and Σ is
+ * diagonal.
+ * <p>
+ * The {@link #size()} of this factorisation is the number of columns of A. The solve methods use the pseudo-inverse of
+ * A, ignoring singular values that are smaller than the tolerance relative to the largest singular value. A truncated
+ * decomposition only holds the largest singular values, and solves using them alone.
+ */
+public interface SingularValueDecomposition extends Factorisation {
+	/**
+	 * The number of rows in A
+	 * @return the number of rows
+	 */
+	int rows();
+
+	/**
+	 * Finds the determinant of A, which must be square
+	 * @return det(A)
+	 * @throws IllegalStateException if this is a truncated decomposition
+	 */
+	@Override
+	double determinant();
+
+	/**
+	 * The number of singular values held by this decomposition
+	 * @return the number of singular values
+	 */
+	int count();
+
+	/**
+	 * The singular values of A, from largest to smallest
+	 * @return a vector of {@link #count()} values
+	 */
+	VecN singularValues();
+
+	/**
+	 * The left singular vectors of A
+	 * @return a {@link #rows()} x {@link #count()} matrix
+	 */
+	Matrix u();
+
+	/**
+	 * The right singular vectors of A
+	 * @return a {@link #size()} x {@link #count()} matrix
+	 */
+	Matrix v();
+
+	/**
+	 * The number of singular values that are larger than the tolerance relative to the largest singular value
+	 * @return the numerical rank of A
+	 */
+	int rank();
+
+	/**
+	 * The ratio of the largest singular value to the smallest one
+	 * @return the two-norm condition number, which is infinite if A is singular
+	 * @throws IllegalStateException if this is a truncated decomposition
+	 */
+	double conditionNumber();
+
+	/**
+	 * Finds the Moore-Penrose pseudo-inverse of A
+	 * @return a {@link #size()} x {@link #rows()} matrix
+	 */
+	Matrix pseudoInverse();
+
+	@Override
+	default Matrix inverse() {
+		return pseudoInverse();
+	}
+}
@@ -0,0 +1,48 @@
+package brownshome.vecmath.matrix.factorisation;
+
+import brownshome.vecmath.matrix.Matrix;
+
+/**
+ * The analysis of the sparsity pattern of a matrix, which is computed once and then used to factorise any number of
+ * matrices with the same pattern. This allows the numeric factorisation to be repeated cheaply when only the values of
+ * a matrix change.
+ */
+public interface SymbolicFactorisation {
+	/**
+	 * The number of rows and columns in the analysed matrix
+	 * @return the size
+	 */
+	int size();
+
+	/**
+	 * The fill-reducing order in which the rows and columns are eliminated. Entry k is the row and column of the
+	 * original matrix that is eliminated kth.
+	 * @return the permutation, which must not be modified
+	 */
+	int[] permutation();
+
+	/**
+	 * The number of entries in the strictly lower triangular factor, including fill-in
+	 * @return the number of entries
+	 */
+	int factorNonZeros();
+
+	/**
+	 * Factorises a matrix with the analysed sparsity pattern
+	 * @param matrix the matrix, which must have the same pattern as the analysed matrix
+	 * @return a factorisation
+	 * @throws SingularMatrixException if the matrix is singular
+	 */
+	default Factorisation factorise(Matrix matrix) {
+		return factorise(matrix, FactorisationOptions.defaults());
+	}
+
+	/**
+	 * Factorises a matrix with the analysed sparsity pattern
+	 * @param matrix the matrix, which must have the same pattern as the analysed matrix
+	 * @param options the options to use
+	 * @return a factorisation
+	 * @throws SingularMatrixException if the matrix is singular
+	 */
+	Factorisation factorise(Matrix matrix, FactorisationOptions options);
+}
@@ -0,0 +1,160 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * A Cholesky factorisation LL' of a symmetric positive definite banded matrix. The factor has the same bandwidth as the
+ * matrix, so no fill-in is stored. The factorisation takes O(n·b²) time, and each solve O(n·b).
+ * <p>
+ * Algorithm lifted from LAPACK's DPBTF2
+ */
+public final class BandedCholeskyFactorisation implements Factorisation {
+	private final int size, bandwidth;
+
+	/**
+	 * The lower band of L, with entry (r, c) at {@code c * (bandwidth + 1) + r - c}
+	 */
+	private final double[] band;
+
+	private final double determinant;
+
+	/**
+	 * Factorises a symmetric banded matrix
+	 * @param matrix the matrix to factorise, only the lower band of which is read
+	 * @param bandwidth the number of non-zero diagonals on each side of the main diagonal
+	 * @param options the options to use
+	 */
+	public BandedCholeskyFactorisation(Matrix matrix, int bandwidth, FactorisationOptions options) {
+		assert matrix.rows() == matrix.columns();
+		assert bandwidth >= 0;
+
+		this.size = matrix.rows();
+		this.bandwidth = bandwidth;
+
+		int stride = bandwidth + 1;
+		band = new double[size * stride];
+
+		for (int c = 0; c < size; c++) {
+			for (int r = c; r <= Math.min(size - 1, c + bandwidth); r++) {
+				band[c * stride + r - c] = matrix.get(r, c);
+			}
+		}
+
+		double determinant = 1.0;
+
+		for (int j = 0; j < size; j++) {
+			int column = j * stride;
+			double pivot = band[column];
+
+			if (pivot < options.tolerance()) {
+				throw new SingularMatrixException();
+			}
+
+			determinant *= pivot;
+			double diagonal = Math.sqrt(pivot);
+			band[column] = diagonal;
+
+			int below = Math.min(bandwidth, size - 1 - j);
+			for (int k = 1; k <= below; k++) {
+				band[column + k] /= diagonal;
+			}
+
+			// Subtract the outer product of the scaled column from the trailing lower band
+			for (int c = 1; c <= below; c++) {
+				double factor = band[column + c];
+				int target = (j + c) * stride;
+
+				for (int r = c; r <= below; r++) {
+					band[target + r - c] -= band[column + r] * factor;
+				}
+			}
+		}
+
+		this.determinant = determinant;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Solves LL'x = b in-place
+	 */
+	private void solve(double[] x) {
+		int stride = bandwidth + 1;
+
+		for (int j = 0; j < size; j++) {
+			int column = j * stride;
+			double xj = x[j] / band[column];
+			x[j] = xj;
+
+			for (int k = 1; k <= Math.min(bandwidth, size - 1 - j); k++) {
+				x[j + k] -= band[column + k] * xj;
+			}
+		}
+
+		for (int j = size - 1; j >= 0; j--) {
+			int column = j * stride;
+			double sum = x[j];
+
+			for (int k = 1; k <= Math.min(bandwidth, size - 1 - j); k++) {
+				sum -= band[column + k] * x[j + k];
+			}
+
+			x[j] = sum / band[column];
+		}
+	}
+
+	@Override
+	public Matrix leftSolve(Matrix other) {
+		assert size == other.rows();
+
+		int columns = other.columns();
+		double[] answer = new double[size * columns];
+		double[] x = new double[size];
+
+		for (int c = 0; c < columns; c++) {
+			for (int i = 0; i < size; i++) {
+				x[i] = other.get(i, c);
+			}
+
+			solve(x);
+			System.arraycopy(x, 0, answer, c * size, size);
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofColumnMajor(size, columns));
+	}
+
+	@Override
+	public ArrayVecN leftSolve(VecN other) {
+		assert size == other.size();
+
+		double[] x = new double[size];
+		for (int i = 0; i < size; i++) {
+			x[i] = other.get(i);
+		}
+
+		solve(x);
+		return VecN.of(x);
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert size == other.columns();
+
+		// A is symmetric, so XA = B is equivalent to AX' = B'
+		return leftSolve(other.transpose()).transpose();
+	}
+
+	@Override
+	public double determinant() {
+		return determinant;
+	}
+}
@@ -0,0 +1,246 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * An LU factorisation of a square banded matrix with partial pivoting. Row interchanges widen the upper band of U by
+ * the lower bandwidth, so the factor is stored in band storage with l + u + 1 diagonals above the main diagonal. The
+ * factorisation takes O(n·l·(l + u)) time, and each solve O(n·(2l + u)).
+ * <p>
+ * Algorithm lifted from LAPACK's DGBTF2 and DGBTRS
+ */
+public final class BandedLowerUpperFactorisation implements Factorisation {
+	private final int size, lower, upper;
+
+	/**
+	 * The leading dimension of the band storage
+	 */
+	private final int stride;
+
+	/**
+	 * U is stored in the upper + lower + 1 rows of each column from the main diagonal upwards, and the multipliers of
+	 * L in the lower rows below it. Entry (r, c) is at {@code c * stride + upper + r - c}.
+	 */
+	private final double[] band;
+
+	/**
+	 * Row i was interchanged with row pivots[i] while factorising column i
+	 */
+	private final int[] pivots;
+
+	private final double determinant;
+
+	/**
+	 * Factorises a banded matrix
+	 * @param matrix the matrix to factorise, which must be zero outside the band
+	 * @param lower the number of non-zero diagonals below the main diagonal
+	 * @param upper the number of non-zero diagonals above the main diagonal
+	 * @param options the options to use
+	 */
+	public BandedLowerUpperFactorisation(Matrix matrix, int lower, int upper, FactorisationOptions options) {
+		assert matrix.rows() == matrix.columns();
+		assert lower >= 0 && upper >= 0;
+
+		this.size = matrix.rows();
+		this.lower = lower;
+		this.upper = upper + lower;
+		this.stride = lower + this.upper + 1;
+
+		band = new double[size * stride];
+		pivots = new int[size];
+
+		for (int c = 0; c < size; c++) {
+			for (int r = Math.max(0, c - upper); r <= Math.min(size - 1, c + lower); r++) {
+				band[index(r, c)] = matrix.get(r, c);
+			}
+		}
+
+		double determinant = 1.0;
+
+		// The last column of U that has been filled in by the row interchanges so far
+		int filled = 0;
+
+		for (int j = 0; j < size; j++) {
+			int below = Math.min(lower, size - 1 - j);
+
+			int pivot = 0;
+			double max = Math.abs(band[index(j, j)]);
+			for (int k = 1; k <= below; k++) {
+				double value = Math.abs(band[index(j + k, j)]);
+
+				if (value > max) {
+					max = value;
+					pivot = k;
+				}
+			}
+
+			if (max < options.tolerance()) {
+				throw new SingularMatrixException();
+			}
+
+			pivots[j] = j + pivot;
+			filled = Math.max(filled, Math.min(j + upper + pivot, size - 1));
+
+			if (pivot != 0) {
+				determinant = -determinant;
+
+				for (int c = j; c <= filled; c++) {
+					int a = index(j, c);
+					int b = index(j + pivot, c);
+					double swap = band[a];
+					band[a] = band[b];
+					band[b] = swap;
+				}
+			}
+
+			double diagonal = band[index(j, j)];
+			determinant *= diagonal;
+
+			int column = index(j, j);
+			for (int k = 1; k <= below; k++) {
+				band[column + k] /= diagonal;
+			}
+
+			for (int c = j + 1; c <= filled; c++) {
+				double factor = band[index(j, c)];
+
+				if (factor != 0.0) {
+					int target = index(j, c);
+					for (int k = 1; k <= below; k++) {
+						band[target + k] -= band[column + k] * factor;
+					}
+				}
+			}
+		}
+
+		this.determinant = determinant;
+	}
+
+	private int index(int row, int column) {
+		return column * stride + upper + row - column;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Solves Ax = b in-place
+	 */
+	private void solve(double[] x) {
+		for (int j = 0; j < size; j++) {
+			int p = pivots[j];
+			double xj = x[p];
+			x[p] = x[j];
+			x[j] = xj;
+
+			int column = index(j, j);
+			for (int k = 1; k <= Math.min(lower, size - 1 - j); k++) {
+				x[j + k] -= band[column + k] * xj;
+			}
+		}
+
+		for (int j = size - 1; j >= 0; j--) {
+			double xj = x[j] / band[index(j, j)];
+			x[j] = xj;
+
+			for (int i = Math.max(0, j - upper); i < j; i++) {
+				x[i] -= band[index(i, j)] * xj;
+			}
+		}
+	}
+
+	/**
+	 * Solves A'x = b in-place
+	 */
+	private void solveTransposed(double[] x) {
+		for (int j = 0; j < size; j++) {
+			double sum = x[j];
+
+			for (int i = Math.max(0, j - upper); i < j; i++) {
+				sum -= band[index(i, j)] * x[i];
+			}
+
+			x[j] = sum / band[index(j, j)];
+		}
+
+		for (int j = size - 1; j >= 0; j--) {
+			double sum = x[j];
+			int column = index(j, j);
+
+			for (int k = 1; k <= Math.min(lower, size - 1 - j); k++) {
+				sum -= band[column + k] * x[j + k];
+			}
+
+			int p = pivots[j];
+			x[j] = x[p];
+			x[p] = sum;
+		}
+	}
+
+	@Override
+	public Matrix leftSolve(Matrix other) {
+		assert size == other.rows();
+
+		int columns = other.columns();
+		double[] answer = new double[size * columns];
+		double[] x = new double[size];
+
+		for (int c = 0; c < columns; c++) {
+			for (int i = 0; i < size; i++) {
+				x[i] = other.get(i, c);
+			}
+
+			solve(x);
+			System.arraycopy(x, 0, answer, c * size, size);
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofColumnMajor(size, columns));
+	}
+
+	@Override
+	public ArrayVecN leftSolve(VecN other) {
+		assert size == other.size();
+
+		double[] x = new double[size];
+		for (int i = 0; i < size; i++) {
+			x[i] = other.get(i);
+		}
+
+		solve(x);
+		return VecN.of(x);
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert size == other.columns();
+
+		// XA = B is solved one row at a time as A'x' = b'
+		int rows = other.rows();
+		double[] answer = new double[rows * size];
+		double[] x = new double[size];
+
+		for (int r = 0; r < rows; r++) {
+			for (int i = 0; i < size; i++) {
+				x[i] = other.get(r, i);
+			}
+
+			solveTransposed(x);
+			System.arraycopy(x, 0, answer, r * size, size);
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofRowMajor(rows, size));
+	}
+
+	@Override
+	public double determinant() {
+		return determinant;
+	}
+}
@@ -1,34 +1,101 @@
 package brownshome.vecmath.matrix.factorisation.basic;
 
+import java.util.concurrent.RecursiveAction;
+
+import brownshome.vecmath.generic.ArrayKernels;
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
 import brownshome.vecmath.matrix.basic.BasicSymmetricMatrix;
-import brownshome.vecmath.matrix.basic.PermutationMatrix;
-import brownshome.vecmath.matrix.basic.SymmetricMatrix;
+import brownshome.vecmath.matrix.basic.PermutationUtil;
+import brownshome.vecmath.matrix.basic.layout.SymmetricMatrixLayout;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
 
 /**
  * An Cholesky factorisation of a square symmetric matrix.
  * <p>
- * Algorithms lifted from https://en.wikipedia.org/wiki/Cholesky_decomposition
+ * The factorisation works on packed symmetric storage, where the lower triangle of each row is adjacent in the backing
+ * array. Columns are factorised in blocks: within a block each column is computed from the earlier columns of the block,
+ * and once the block is complete the trailing lower triangle is updated using the register-tiled array kernel. For
+ * large matrices the trailing update is split into fork-join tasks.
+ * <p>
+ * Algorithms lifted from https://en.wikipedia.org/wiki/Cholesky_decomposition and Hammarling, Higham &amp; Lucas,
+ * "LAPACK-style codes for pivoted Cholesky and QR updating"
  */
 public final class CholeskyFactorisation implements Factorisation {
 	/**
-	 * Stores the decomposition of A as L + L' + D - 2I
+	 * The number of columns in each block
+	 */
+	private static final int BLOCK_SIZE = 32;
+
+	/**
+	 * Matrices up to this size are factorised as a single block, as the long dot products of the unblocked algorithm
+	 * are faster while the matrix fits in cache
+	 */
+	private static final int UNBLOCKED_SIZE = 128;
+
+	/**
+	 * The number of right hand sides that are solved together, sharing each pass over the decomposition
+	 */
+	private static final int SOLVE_BLOCK_SIZE = 8;
+
+	/**
+	 * Trailing updates are split until there are this many tasks for each thread in the pool
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	private static final int TILE = ArrayKernels.TILE_SIZE;
+
+	/**
+	 * Stores the decomposition of PAP' as L + L' + D - 2I
 	 */
 	private final BasicSymmetricMatrix decomposition;
-	private final Matrix permutation;
+
+	/**
+	 * The index of the first element of each row in the backing array
+	 */
+	private final int[] rows;
+	private final int[] permutation;
 	private final double determinant;
 
 	public CholeskyFactorisation(BasicSymmetricMatrix matrix, double tolerance) {
-		int[] permutation = new int[matrix.rows()];
-		for (int i = 0; i < matrix.rows(); i++) {
+		this(matrix, FactorisationOptions.of(tolerance));
+	}
+
+	/**
+	 * Factorises a matrix, overwriting it with the decomposition if it has a packed symmetric layout
+	 * @param matrix the matrix to factorise
+	 * @param options the options to use
+	 */
+	public CholeskyFactorisation(BasicSymmetricMatrix matrix, FactorisationOptions options) {
+		int size = matrix.rows();
+
+		if (size != 0 && !(matrix.layout() instanceof SymmetricMatrixLayout)) {
+			var copy = new BasicSymmetricMatrix(new double[size * (size + 1) / 2], MatrixLayout.ofSymmetricRowMajor(size));
+			copy.set(matrix);
+			matrix = copy;
+		}
+
+		permutation = new int[size];
+		for (int i = 0; i < size; i++) {
 			permutation[i] = i;
 		}
 
-		determinant = performFactorisation(matrix, permutation, tolerance);
+		rows = new int[size];
+		if (size != 0) {
+			var layout = (SymmetricMatrixLayout) matrix.layout();
+			rows[0] = layout.start();
+
+			// Row r + 1 starts after the r + 1 elements of row r, and its padding
+			for (int r = 0; r + 1 < size; r++) {
+				rows[r + 1] = rows[r] + r + 1 + layout.rowPadding();
+			}
+		}
+
 		decomposition = matrix;
-		this.permutation = new PermutationMatrix(permutation);
+		determinant = performFactorisation(matrix.backingArray(), rows, permutation, options);
 	}
 
 	/**
@@ -36,105 +103,213 @@ public final class CholeskyFactorisation implements Factorisation {
 	 * <p>
 	 * https://en.wikipedia.org/wiki/Cholesky_decomposition#LDL_decomposition_2
 	 *
-	 * @param s the matrix to factorise
-	 * @param permutation a permutation that is used to pivot the rows and columns of s.
-	 * @param tolerance a value to detect singular matrices
+	 * @param m the backing array of the matrix
+	 * @param rows the index of the first element of each row
+	 * @param permutation a permutation that is used to pivot the rows and columns of m.
+	 * @param options the tolerance used to detect singular matrices, and the parallelism of the trailing updates
 	 * @return the determinant of the matrix
 	 */
-	private static double performFactorisation(BasicSymmetricMatrix s, int[] permutation, double tolerance) {
+	private static double performFactorisation(double[] m, int[] rows, int[] permutation, FactorisationOptions options) {
+		int size = rows.length;
 		double determinant = 1.0;
-		double[] m = s.backingArray();
-
-		for (int r = 0; r < s.size(); r++) {
-			// Find the largest diagonal element remaining to pivot
-			int maxIndex = r;
-			double max = Math.abs(m[s.layout().arrayIndex(r, r)]);
-			for (int i = r + 1; i < s.size(); i++) {
-				double x = Math.abs(m[s.layout().arrayIndex(i, i)]);
-				if (x > max) {
-					max = x;
-					maxIndex = i;
+		int blockSize = size <= UNBLOCKED_SIZE ? size : BLOCK_SIZE;
+		double[] scaledRow = new double[blockSize];
+
+		for (int start = 0; start < size; start += blockSize) {
+			int end = Math.min(start + blockSize, size);
+
+			for (int r = start; r < end; r++) {
+				// Find the largest diagonal element remaining to pivot. The diagonal is kept up-to-date at each step.
+				int maxIndex = r;
+				double max = Math.abs(m[rows[r] + r]);
+				for (int i = r + 1; i < size; i++) {
+					double x = Math.abs(m[rows[i] + i]);
+					if (x > max) {
+						max = x;
+						maxIndex = i;
+					}
 				}
-			}
 
-			// Pivot
-			pivot(s, r, maxIndex);
+				// Pivot
+				pivot(m, rows, r, maxIndex);
 
-			double diag = m[s.layout().arrayIndex(r, r)];
+				double diag = m[rows[r] + r];
+
+				if (Math.abs(diag) < options.tolerance()) {
+					throw new SingularMatrixException();
+				}
+
+				determinant *= diag;
+				{
+					int swap = permutation[r];
+					permutation[r] = permutation[maxIndex];
+					permutation[maxIndex] = swap;
+				}
+
+				// Only the earlier columns of this block have not yet been applied to the rows below
+				int width = r - start;
+				for (int c = 0; c < width; c++) {
+					scaledRow[c] = m[rows[r] + start + c] * m[rows[start + c] + start + c];
+				}
 
-			if (Math.abs(diag) < tolerance) {
-				throw new SingularMatrixException();
+				// Compute all L values in this column, and adjust the diagonal values using them
+				for (int k = r + 1; k < size; k++) {
+					int row = rows[k];
+					double l = m[row + r];
+
+					if (width != 0) {
+						l -= ArrayKernels.INSTANCE.dot(scaledRow, 0, m, row + start, width);
+					}
+
+					l /= diag;
+					m[row + r] = l;
+					m[row + k] -= diag * l * l;
+				}
 			}
 
-			determinant *= diag;
-			{
-				int swap = permutation[r];
-				permutation[r] = permutation[maxIndex];
-				permutation[maxIndex] = swap;
+			if (end < size) {
+				updateTrailing(m, rows, start, end, options.parallelism());
+			}
+		}
+
+		return determinant;
+	}
+
+	/**
+	 * Subtracts the contribution of the columns from start to end from the strictly lower triangle of the trailing
+	 * matrix. The diagonal has already been updated.
+	 */
+	private static void updateTrailing(double[] m, int[] rows, int start, int end, Parallelism parallelism) {
+		int size = rows.length;
+		int width = end - start;
+		int panels = (size - end + TILE - 1) / TILE;
+
+		// Pack L and LD into panels of TILE rows, matching the layout expected by the array kernel
+		double[] l = new double[panels * TILE * width];
+		double[] ld = new double[panels * TILE * width];
+
+		for (int k = end; k < size; k++) {
+			int panel = (k - end) / TILE * TILE * width + (k - end) % TILE;
+
+			for (int p = 0; p < width; p++) {
+				double value = m[rows[k] + start + p];
+				l[panel + p * TILE] = value;
+				ld[panel + p * TILE] = value * m[rows[start + p] + start + p];
 			}
+		}
+
+		long operations = (long) (size - end) * (size - end) * width / 2;
+
+		if (parallelism.isParallel(operations)) {
+			long grain = operations / ((long) TASKS_PER_THREAD * parallelism.pool().getParallelism());
+			parallelism.pool().invoke(new TrailingUpdate(m, rows, end, width, l, ld, 0, panels, grain));
+		} else {
+			new TrailingUpdate(m, rows, end, width, l, ld, 0, panels, Long.MAX_VALUE).compute();
+		}
+	}
+
+	/**
+	 * Updates a range of row panels of the trailing matrix. Row panels are independent of each other.
+	 */
+	private static final class TrailingUpdate extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] m, l, ld;
+		private final int[] rows;
+		private final int end, width, from, to;
+		private final long grain;
+
+		TrailingUpdate(double[] m, int[] rows, int end, int width, double[] l, double[] ld, int from, int to, long grain) {
+			this.m = m;
+			this.rows = rows;
+			this.end = end;
+			this.width = width;
+			this.l = l;
+			this.ld = ld;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+		}
 
-			// Compute all L values in this column
-			for (int k = r + 1; k < s.size(); k++) {
-				double l = m[s.layout().arrayIndex(k, r)];
+		@Override
+		protected void compute() {
+			// The work in each panel is proportional to its index
+			long operations = ((long) to * to - (long) from * from) / 2 * TILE * TILE * width;
 
-				for (int c = 0; c < r; c++) {
-					l -= m[s.layout().arrayIndex(r, c)] * m[s.layout().arrayIndex(k, c)] * m[s.layout().arrayIndex(c, c)];
+			if (operations <= grain || to - from < 2) {
+				double[] tile = new double[TILE * TILE];
+
+				for (int i = from; i < to; i++) {
+					updatePanel(i, tile);
 				}
 
-				m[s.layout().arrayIndex(k, r)] = l / diag;
+				return;
 			}
 
-			// Adjust other diagonal values using the new diagonal value
-			for (int i = r + 1; i < s.rows(); i++) {
-				double lVal = m[s.layout().arrayIndex(i, r)];
-				m[s.layout().arrayIndex(i, i)] -= diag * lVal * lVal;
-			}
+			// Split so that both halves have the same amount of work
+			int split = Math.max(from + 1, Math.min(to - 1, (int) Math.sqrt(((double) from * from + (double) to * to) / 2.0)));
+			invokeAll(new TrailingUpdate(m, rows, end, width, l, ld, from, split, grain),
+					new TrailingUpdate(m, rows, end, width, l, ld, split, to, grain));
 		}
 
-		return determinant;
+		private void updatePanel(int i, double[] tile) {
+			int size = rows.length;
+
+			for (int j = 0; j <= i; j++) {
+				ArrayKernels.INSTANCE.multiplyPanels(width, l, i * TILE * width, ld, j * TILE * width, tile);
+
+				for (int a = 0; a < TILE; a++) {
+					int k = end + i * TILE + a;
+
+					if (k >= size) {
+						break;
+					}
+
+					int row = rows[k];
+					int columnEnd = Math.min(k, end + j * TILE + TILE);
+					for (int c = end + j * TILE, b = 0; c < columnEnd; c++, b++) {
+						m[row + c] -= tile[a * TILE + b];
+					}
+				}
+			}
+		}
 	}
 
 	/**
 	 * Pivot a and b, a <= b
 	 */
-	private static void pivot(BasicSymmetricMatrix s, int a, int b) {
+	private static void pivot(double[] m, int[] rows, int a, int b) {
 		assert a <= b;
 
-		double[] m = s.backingArray();
-
 		if (a == b) {
 			return;
 		}
 
 		// (a, a) <-> (b, b)
-		{
-			double tmp = m[s.layout().arrayIndex(a, a)];
-			m[s.layout().arrayIndex(a, a)] = m[s.layout().arrayIndex(b, b)];
-			m[s.layout().arrayIndex(b, b)] = tmp;
-		}
+		swap(m, rows[a] + a, rows[b] + b);
 
 		// (a, i) <-> (b, i) [i < a]
 		for (int i = 0; i < a; i++) {
-			double tmp = m[s.layout().arrayIndex(a, i)];
-			m[s.layout().arrayIndex(a, i)] = m[s.layout().arrayIndex(b, i)];
-			m[s.layout().arrayIndex(b, i)] = tmp;
+			swap(m, rows[a] + i, rows[b] + i);
 		}
 
 		// (i, a) <-> (b, i) [a < i < b]
 		for (int i = a + 1; i < b; i++) {
-			double tmp = m[s.layout().arrayIndex(i, a)];
-			m[s.layout().arrayIndex(i, a)] = m[s.layout().arrayIndex(b, i)];
-			m[s.layout().arrayIndex(b, i)] = tmp;
+			swap(m, rows[i] + a, rows[b] + i);
 		}
 
 		// (i, b) <-> (i, a) [b < i]
-		for (int i = b + 1; i < s.rows(); i++) {
-			double tmp = m[s.layout().arrayIndex(i, a)];
-			m[s.layout().arrayIndex(i, a)] = m[s.layout().arrayIndex(i, b)];
-			m[s.layout().arrayIndex(i, b)] = tmp;
+		for (int i = b + 1; i < rows.length; i++) {
+			swap(m, rows[i] + a, rows[i] + b);
 		}
 	}
 
+	private static void swap(double[] m, int a, int b) {
+		double tmp = m[a];
+		m[a] = m[b];
+		m[b] = tmp;
+	}
+
 	@Override
 	public int size() {
 		return decomposition.rows();
@@ -144,78 +319,61 @@ public final class CholeskyFactorisation implements Factorisation {
 	public Matrix leftSolve(Matrix other) {
 		assert size() == other.rows();
 
-		var s = decomposition;
-		double[] m = s.backingArray();
-		var answer = permutation.multiply(other).copy();
+		int size = size();
+		int columns = other.columns();
 
-		// Columns of PB
-		for (int c = 0; c < answer.columns(); c++) {
+		// Columns of PB, stored column-major so that each right hand side is adjacent in the array
+		double[] answer = new double[size * columns];
+		for (int c = 0; c < columns; c++) for (int r = 0; r < size; r++) {
+			answer[c * size + r] = other.get(permutation[r], c);
+		}
 
-			// Solve Ly = PB
-			for (int r = 0; r < size(); r++) {
-				double value = answer.get(r, c);
+		for (int c = 0; c < columns; c += SOLVE_BLOCK_SIZE) {
+			solve(answer, c, Math.min(c + SOLVE_BLOCK_SIZE, columns));
+		}
 
-				// Columns of L
-				for (int k = 0; k < r; k++) {
-					value -= m[s.layout().arrayIndex(r, k)] * answer.get(k, c);
-				}
+		return Matrix.of(answer, MatrixLayout.ofColumnMajor(size, columns))
+				.permuteByRow(PermutationUtil.invertPermutation(permutation));
+	}
 
-				answer.set(value, r, c);
+	/**
+	 * Solves LDL'x = y for the columns of the answer from start to end, in-place. Each row of the decomposition is used
+	 * for all of the columns before moving on to the next.
+	 */
+	private void solve(double[] answer, int start, int end) {
+		int size = size();
+		double[] m = decomposition.backingArray();
+		var kernels = ArrayKernels.INSTANCE;
+
+		// Solve Ly = PB
+		for (int r = 1; r < size; r++) {
+			for (int c = start; c < end; c++) {
+				answer[c * size + r] -= kernels.dot(m, rows[r], answer, c * size, r);
 			}
+		}
 
-			// Solve L'x = D⁻¹y
-			for (int r = size() - 1; r >= 0; r--) {
-				double value = answer.get(r, c) / m[s.layout().arrayIndex(r, r)];
-
-				// Column of L'
-				for (int k = r + 1; k < size(); k++) {
-					value -= m[s.layout().arrayIndex(k, r)] * answer.get(k, c);
-				}
+		for (int r = 0; r < size; r++) {
+			double diag = m[rows[r] + r];
 
-				answer.set(value, r, c);
+			for (int c = start; c < end; c++) {
+				answer[c * size + r] /= diag;
 			}
 		}
 
-		return permutation.transpose().multiply(answer);
+		// Solve L'x = D⁻¹y, subtracting each row of L from the values above it once that value of x is known
+		for (int r = size - 1; r > 0; r--) {
+			for (int c = start; c < end; c++) {
+				kernels.scaleAdd(-answer[c * size + r], m, rows[r], answer, c * size, r);
+			}
+		}
 	}
 
 	@Override
 	public Matrix rightSolve(Matrix other) {
 		assert size() == other.columns();
 
-		var s = decomposition;
-		double[] m = s.backingArray();
-		var answer = other.multiply(permutation.transpose()).copy();
-
-		// Rows of BP'
-		for (int r = 0; r < answer.rows(); r++) {
-
-			// Solve yL' = BP'
-			for (int c = 0; c < size(); c++) {
-				double value = answer.get(r, c);
-
-				// Rows of L
-				for (int k = 0; k < c; k++) {
-					value -= m[s.layout().arrayIndex(c, k)] * answer.get(r, k);
-				}
-
-				answer.set(value, r, c);
-			}
-
-			// Solve xL = yD⁻¹
-			for (int c = size() - 1; c >= 0; c--) {
-				double value = answer.get(r, c) / m[s.layout().arrayIndex(c, c)];
-
-				// Row of L
-				for (int k = c + 1; k < size(); k++) {
-					value -= m[s.layout().arrayIndex(k, c)] * answer.get(r, k);
-				}
-
-				answer.set(value, r, c);
-			}
-		}
-
-		return answer.multiply(permutation);
+		// A is symmetric, so XA = B is equivalent to AX' = B'
+		return leftSolve(other.transpose()).transpose();
 	}
 
 	@Override
@@ -3,30 +3,59 @@ package brownshome.vecmath.matrix.factorisation.basic;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.basic.DiagonalMatrix;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.vector.VecN;
 
-public record DiagonalFactorisation(double value, int size) implements Factorisation {
+public record DiagonalFactorisation(VecN diagonal) implements Factorisation {
 	public DiagonalFactorisation {
-		assert size >= 0;
-		assert value != 0.0;
+		for (int i = 0; i < diagonal.size(); i++) {
+			assert diagonal.get(i) != 0.0;
+		}
+	}
+
+	@Override
+	public int size() {
+		return diagonal.size();
 	}
 
 	@Override
 	public Matrix leftSolve(Matrix other) {
-		return other.scale(1.0 / value);
+		return inverse().multiply(other);
+	}
+
+	@Override
+	public VecN leftSolve(VecN other) {
+		assert other.size() == size();
+
+		double[] values = new double[size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = other.get(i) / diagonal.get(i);
+		}
+
+		return VecN.of(values);
 	}
 
 	@Override
 	public Matrix rightSolve(Matrix other) {
-		return other.scale(1.0 / value);
+		return other.multiply(inverse());
 	}
 
 	@Override
-	public Matrix inverse() {
-		return new DiagonalMatrix(1.0 / value, size);
+	public DiagonalMatrix inverse() {
+		double[] values = new double[size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = 1.0 / diagonal.get(i);
+		}
+
+		return new DiagonalMatrix(VecN.of(values));
 	}
 
 	@Override
 	public double determinant() {
-		return Math.pow(value, size);
+		double determinant = 1.0;
+		for (int i = 0; i < size(); i++) {
+			determinant *= diagonal.get(i);
+		}
+
+		return determinant;
 	}
 }
@@ -1,27 +1,75 @@
 package brownshome.vecmath.matrix.factorisation.basic;
 
-import brownshome.vecmath.matrix.MMatrix;
+import java.util.concurrent.RecursiveAction;
+
+import brownshome.vecmath.generic.ArrayKernels;
 import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.DenseMultiplication;
+import brownshome.vecmath.matrix.basic.PermutationUtil;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
 import brownshome.vecmath.matrix.factorisation.Factorisation;
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
 
 /**
  * An LU factorisation of a square matrix.
  * <p>
- * Algorithms lifted from https://en.wikipedia.org/wiki/LU_decomposition
+ * The factorisation is blocked and right-looking: each panel of columns is factorised with partial pivoting, swapping
+ * rows in place, and the trailing matrix is then updated with a single matrix product. Large trailing updates are split
+ * into tiles of columns, which are updated as fork-join tasks.
+ * <p>
+ * Algorithms lifted from https://en.wikipedia.org/wiki/LU_decomposition and Golub &amp; Van Loan, "Matrix Computations"
  */
 public final class LowerUpperFactorisation implements Factorisation {
 	/**
-	 * Stores the decomposition of A as L + U - I
+	 * The number of columns in each panel
+	 */
+	private static final int BLOCK_SIZE = 32;
+
+	/**
+	 * The narrowest tile of columns that the trailing update is split into
+	 */
+	private static final int MIN_TILE_WIDTH = 64;
+
+	/**
+	 * Trailing updates are split until there are this many tasks for each thread in the pool
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	/**
+	 * Stores the decomposition of PA as L + U - I
 	 */
 	private final ArrayMatrix decomposition;
 	private final int[] permutation;
 	private final double determinant;
 
+	/**
+	 * Factorises a matrix, overwriting it with the decomposition if it has a strided layout
+	 * @param matrix the matrix to factorise
+	 * @param tolerance the smallest pivot that is not considered singular
+	 */
 	public LowerUpperFactorisation(ArrayMatrix matrix, double tolerance) {
+		this(matrix, FactorisationOptions.of(tolerance));
+	}
+
+	/**
+	 * Factorises a matrix, overwriting it with the decomposition if it has a strided layout
+	 * @param matrix the matrix to factorise
+	 * @param options the options to use
+	 */
+	public LowerUpperFactorisation(ArrayMatrix matrix, FactorisationOptions options) {
 		assert matrix.columns() == matrix.rows();
 
+		// Rows are swapped in the backing array, which requires every element to be stored separately
+		if (!DenseMultiplication.isSupported(matrix)) {
+			var copy = Matrix.of(MatrixLayout.ofRowMajor(matrix.rows(), matrix.columns()));
+			copy.set(matrix);
+			matrix = copy;
+		}
+
 		this.decomposition = matrix;
 
 		permutation = new int[decomposition.columns()];
@@ -29,23 +77,114 @@ public final class LowerUpperFactorisation implements Factorisation {
 			permutation[i] = i;
 		}
 
-		determinant = performFactorisation(decomposition, permutation, tolerance);
-		decomposition.permuteSelfByRow(permutation);
+		determinant = performFactorisation(decomposition, permutation, options);
 	}
 
-	private static double performFactorisation(MMatrix decomposition, int[] permutations, double tolerance) {
-		int size = permutations.length;
+	private static double performFactorisation(ArrayMatrix decomposition, int[] permutation, FactorisationOptions options) {
+		if (permutation.length == 0) {
+			return 1.0;
+		}
+
+		var layout = (BasicMatrixLayout) decomposition.layout();
+		double[] array = decomposition.backingArray();
+		int size = permutation.length;
 		double determinant = 1.0;
 
-		// Eliminate the values below the diagonal
-		for (int c = 0; c < size; c++) {
-			int columnIndex = permutations[c];
+		for (int j = 0; j < size; j += BLOCK_SIZE) {
+			int width = Math.min(BLOCK_SIZE, size - j);
+			int trailing = size - j - width;
 
+			determinant *= factorisePanel(array, layout, permutation, j, width, options.tolerance());
+
+			if (trailing == 0) {
+				break;
+			}
+
+			var parallelism = options.parallelism();
+			long operations = (long) trailing * trailing * width;
+
+			if (parallelism.isParallel(operations)) {
+				long grain = operations / ((long) TASKS_PER_THREAD * parallelism.pool().getParallelism());
+				parallelism.pool().invoke(new TrailingUpdate(decomposition, j, width, j + width, trailing, grain));
+			} else {
+				updateTrailing(decomposition, j, width, j + width, trailing);
+			}
+		}
+
+		return determinant;
+	}
+
+	/**
+	 * Updates the columns from column to column + count to the right of a factorised panel. Each column only depends
+	 * on the panel, so disjoint ranges of columns may be updated concurrently.
+	 */
+	private static void updateTrailing(ArrayMatrix decomposition, int start, int width, int column, int count) {
+		var layout = (BasicMatrixLayout) decomposition.layout();
+		int end = start + width;
+		int trailing = decomposition.rows() - end;
+
+		solveUpperBlock(decomposition.backingArray(), layout, start, width, column, count);
+
+		// A22 -= L21 * U12. These blocks do not overlap, even though they share a backing array.
+		DenseMultiplication.multiply(-1.0,
+				decomposition.subMatrix(end, start, trailing, width),
+				decomposition.subMatrix(start, column, width, count),
+				1.0,
+				decomposition.subMatrix(end, column, trailing, count),
+				Parallelism.SEQUENTIAL);
+	}
+
+	/**
+	 * Splits the trailing update into tiles of columns
+	 */
+	private static final class TrailingUpdate extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		// ForkJoinTask is Serializable, but these tasks are never serialised
+		private final transient ArrayMatrix decomposition;
+		private final int start, width, column, count;
+		private final long grain;
+
+		TrailingUpdate(ArrayMatrix decomposition, int start, int width, int column, int count, long grain) {
+			this.decomposition = decomposition;
+			this.start = start;
+			this.width = width;
+			this.column = column;
+			this.count = count;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			long operations = (long) (decomposition.rows() - start - width) * count * width;
+
+			if (operations <= grain || count < 2 * MIN_TILE_WIDTH) {
+				updateTrailing(decomposition, start, width, column, count);
+				return;
+			}
+
+			int split = count / 2;
+			invokeAll(new TrailingUpdate(decomposition, start, width, column, split, grain),
+					new TrailingUpdate(decomposition, start, width, column + split, count - split, grain));
+		}
+	}
+
+	/**
+	 * Factorises the columns from start to start + width with partial pivoting. Pivoting swaps the entire row, but only
+	 * the columns in the panel are updated.
+	 * @return the product of the pivots, negated for each swap
+	 */
+	private static double factorisePanel(double[] array, BasicMatrixLayout layout, int[] permutation, int start, int width, double tolerance) {
+		int size = permutation.length;
+		int end = start + width;
+		double determinant = 1.0;
+
+		for (int c = start; c < end; c++) {
 			// Find the max element
-			double max = decomposition.get(columnIndex, c);
+			double max = array[layout.arrayIndex(c, c)];
 			int maxRow = c;
 			for (int r = c + 1; r < size; r++) {
-				double value = decomposition.get(permutations[r], c);
+				double value = array[layout.arrayIndex(r, c)];
 
 				if (Math.abs(value) > Math.abs(max)) {
 					max = value;
@@ -61,31 +200,72 @@ public final class LowerUpperFactorisation implements Factorisation {
 
 			// Pivot the rows
 			if (maxRow != c) {
-				permutations[c] = permutations[maxRow];
-				permutations[maxRow] = columnIndex;
-				determinant = -determinant;
+				swapRows(array, layout, c, maxRow, size);
+
+				int swap = permutation[c];
+				permutation[c] = permutation[maxRow];
+				permutation[maxRow] = swap;
 
-				columnIndex = permutations[c];
+				determinant = -determinant;
 			}
 
-			// Subtract the greatest row for each row under it
+			// Subtract the pivot row from each row under it
+			int pivotIndex = layout.arrayIndex(c, c);
 			for (int r = c + 1; r < size; r++) {
-				int rowIndex = permutations[r];
+				int rowIndex = layout.arrayIndex(r, c);
 
-				double valueAtColumn = decomposition.get(rowIndex, c) / max;
-				decomposition.set(valueAtColumn, rowIndex, c);
+				double valueAtColumn = array[rowIndex] / max;
+				array[rowIndex] = valueAtColumn;
 
-				for (int k = c + 1; k < size; k++) {
-					double value = decomposition.get(rowIndex, k);
-					double maxRowValue = decomposition.get(columnIndex, k);
-					decomposition.set(value - valueAtColumn * maxRowValue, rowIndex, k);
-				}
+				scaleAddRow(-valueAtColumn, array, layout, pivotIndex, rowIndex, end - c - 1);
 			}
 		}
 
 		return determinant;
 	}
 
+	/**
+	 * Sets U12 = inverse(L11) * A12 for the columns from column to column + count, where L11 is the unit lower triangle
+	 * of the panel
+	 */
+	private static void solveUpperBlock(double[] array, BasicMatrixLayout layout, int start, int width, int column, int count) {
+		int end = start + width;
+
+		for (int r = start + 1; r < end; r++) {
+			int rowIndex = layout.arrayIndex(r, column - 1);
+
+			for (int k = start; k < r; k++) {
+				scaleAddRow(-array[layout.arrayIndex(r, k)], array, layout, layout.arrayIndex(k, column - 1), rowIndex, count);
+			}
+		}
+	}
+
+	/**
+	 * Adds scale times the length elements following sourceIndex in a row to the elements following destinationIndex
+	 */
+	private static void scaleAddRow(double scale, double[] array, BasicMatrixLayout layout, int sourceIndex, int destinationIndex, int length) {
+		int stride = layout.columnStride();
+
+		if (stride == 1) {
+			ArrayKernels.INSTANCE.scaleAdd(scale, array, sourceIndex + 1, array, destinationIndex + 1, length);
+			return;
+		}
+
+		for (int i = 1; i <= length; i++) {
+			array[destinationIndex + i * stride] += scale * array[sourceIndex + i * stride];
+		}
+	}
+
+	private static void swapRows(double[] array, BasicMatrixLayout layout, int a, int b, int size) {
+		int stride = layout.columnStride();
+
+		for (int i = layout.arrayIndex(a, 0), j = layout.arrayIndex(b, 0), c = 0; c < size; c++, i += stride, j += stride) {
+			double swap = array[i];
+			array[i] = array[j];
+			array[j] = swap;
+		}
+	}
+
 	@Override
 	public int size() {
 		return decomposition.rows();
@@ -95,31 +275,36 @@ public final class LowerUpperFactorisation implements Factorisation {
 	public Matrix leftSolve(Matrix other) {
 		assert size() == other.rows();
 
-		var m = other.permuteByRow(permutation).arrayBackedCopy();
+		// Permuted views reject the identity permutation, which is left when no rows were interchanged
+		var permuted = PermutationUtil.invertPermutation(permutation) == PermutationUtil.IDENTITY_PERMUTATION
+				? other
+				: other.permuteByRow(permutation);
+
+		var m = permuted.arrayBackedCopy();
 		double[] array = m.backingArray();
 
-			// Solve Ly = PB
-			for (int r = 0; r < size(); r++) {
-				for (int k = 0; k < r; k++) {
-					for (int c = 0; c < m.columns(); c++) {
-						array[m.layout().arrayIndex(r, c)] -= decomposition.get(r, k) * m.get(k, c);
-					}
+		// Solve Ly = PB
+		for (int r = 0; r < size(); r++) {
+			for (int k = 0; k < r; k++) {
+				for (int c = 0; c < m.columns(); c++) {
+					array[m.layout().arrayIndex(r, c)] -= decomposition.get(r, k) * m.get(k, c);
 				}
 			}
+		}
 
-			// Solve Ux = y
-			for (int r = size() - 1; r >= 0; r--) {
-				for (int k = r + 1; k < size(); k++) {
-					for (int c = 0; c < m.columns(); c++) {
-						array[m.layout().arrayIndex(r, c)] -= decomposition.get(r, k) * m.get(k, c);
-					}
-				}
-
+		// Solve Ux = y
+		for (int r = size() - 1; r >= 0; r--) {
+			for (int k = r + 1; k < size(); k++) {
 				for (int c = 0; c < m.columns(); c++) {
-					array[m.layout().arrayIndex(r, c)] /= decomposition.get(r, r);
+					array[m.layout().arrayIndex(r, c)] -= decomposition.get(r, k) * m.get(k, c);
 				}
 			}
 
+			for (int c = 0; c < m.columns(); c++) {
+				array[m.layout().arrayIndex(r, c)] /= decomposition.get(r, r);
+			}
+		}
+
 		return m;
 	}
 
@@ -153,7 +338,7 @@ public final class LowerUpperFactorisation implements Factorisation {
 		}
 
 		// Solve y / P = x
-		return m.permuteByColumn(permutation);
+		return m.permuteByColumn(PermutationUtil.invertPermutation(permutation));
 	}
 
 	@Override
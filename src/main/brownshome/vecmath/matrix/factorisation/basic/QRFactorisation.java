@@ -0,0 +1,415 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.DenseMultiplication;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.LeastSquaresFactorisation;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+
+/**
+ * A Householder QR factorisation of a matrix with at least as many rows as columns.
+ * <p>
+ * Columns are factorised in panels. The reflectors of each panel are combined into the compact WY form
+ * H = I - VTV', where V is unit lower trapezoidal and T is upper triangular, so that they can be applied to the rest of
+ * the matrix, and to right hand sides, using matrix products.
+ * <p>
+ * Algorithms lifted from Golub &amp; Van Loan, "Matrix Computations" and Schreiber &amp; Van Loan, "A storage-efficient
+ * WY representation for products of Householder transformations"
+ */
+public final class QRFactorisation implements LeastSquaresFactorisation {
+	/**
+	 * The number of columns in each panel
+	 */
+	private static final int BLOCK_SIZE = 32;
+
+	private final int rows, columns;
+
+	/**
+	 * Stores R on and above the diagonal, and the reflectors below it, column-major
+	 */
+	private final double[] decomposition;
+	private final double[] tau;
+	private final List<Block> blocks = new ArrayList<>();
+	private final Parallelism parallelism;
+	private final int rank;
+
+	/**
+	 * The reflectors of a single panel in compact WY form
+	 * @param start the first column of the panel
+	 * @param v the (rows - start) x width unit lower trapezoidal matrix of reflectors
+	 * @param t the width x width upper triangular matrix
+	 */
+	private record Block(int start, ArrayMatrix v, double[] t) {
+		int width() {
+			return v.columns();
+		}
+	}
+
+	public QRFactorisation(Matrix matrix, double tolerance) {
+		this(matrix, FactorisationOptions.of(tolerance));
+	}
+
+	/**
+	 * Factorises a copy of the given matrix
+	 * @param matrix the matrix to factorise, which must have at least as many rows as columns
+	 * @param options the options to use
+	 */
+	public QRFactorisation(Matrix matrix, FactorisationOptions options) {
+		assert matrix.rows() >= matrix.columns();
+
+		rows = matrix.rows();
+		columns = matrix.columns();
+		parallelism = options.parallelism();
+		decomposition = new double[rows * columns];
+		tau = new double[columns];
+
+		var copy = Matrix.of(decomposition, MatrixLayout.ofColumnMajor(rows, columns));
+		copy.set(matrix);
+
+		for (int start = 0; start < columns; start += BLOCK_SIZE) {
+			int end = Math.min(start + BLOCK_SIZE, columns);
+
+			factorisePanel(start, end);
+
+			var block = createBlock(start, end);
+			blocks.add(block);
+
+			if (end < columns) {
+				apply(block, copy.subMatrix(start, end, rows - start, columns - end), true);
+			}
+		}
+
+		double largest = 0.0;
+		for (int i = 0; i < columns; i++) {
+			largest = Math.max(largest, Math.abs(decomposition[i * rows + i]));
+		}
+
+		double cutoff = largest * options.tolerance();
+		int rank = 0;
+		for (int i = 0; i < columns; i++) {
+			if (Math.abs(decomposition[i * rows + i]) > cutoff) {
+				rank++;
+			}
+		}
+
+		// Without pivoting a small value on the diagonal does not show how many columns are independent
+		this.rank = rank == columns ? rank : pivotedRank(matrix, options.tolerance());
+	}
+
+	/**
+	 * Computes the reflectors of the columns from start to end, applying each one to the remaining columns of the panel
+	 */
+	private void factorisePanel(int start, int end) {
+		for (int i = start; i < end; i++) {
+			tau[i] = reflect(decomposition, rows, i, end);
+		}
+	}
+
+	/**
+	 * Finds the reflector that maps column i of a column-major array onto beta * e_i and applies it to the columns from
+	 * i + 1 to end. Beta and the reflector are stored in place of column i.
+	 * @return the scale of the reflector, tau
+	 */
+	private static double reflect(double[] a, int rows, int i, int end) {
+		var kernels = ArrayKernels.INSTANCE;
+		int column = i * rows;
+		int below = rows - i - 1;
+
+		double alpha = a[column + i];
+		double norm = below == 0 ? 0.0 : kernels.dot(a, column + i + 1, a, column + i + 1, below);
+
+		if (norm == 0.0) {
+			return 0.0;
+		}
+
+		double beta = -Math.copySign(Math.sqrt(alpha * alpha + norm), alpha);
+		double tau = (beta - alpha) / beta;
+		kernels.scale(1.0 / (alpha - beta), a, column + i + 1, below);
+		a[column + i] = beta;
+
+		// Apply H = I - tau * vv' to the other columns, where v[0] = 1
+		for (int c = i + 1; c < end; c++) {
+			int other = c * rows;
+			double w = tau * (a[other + i] + kernels.dot(a, column + i + 1, a, other + i + 1, below));
+
+			a[other + i] -= w;
+			kernels.scaleAdd(-w, a, column + i + 1, a, other + i + 1, below);
+		}
+
+		return tau;
+	}
+
+	/**
+	 * Finds the rank of a matrix with an unblocked QR factorisation with column pivoting. The remaining column with the
+	 * largest norm is reduced at each step, so the rank is the number of steps taken before that norm falls to the
+	 * tolerance relative to the norm of the first column chosen.
+	 */
+	private static int pivotedRank(Matrix matrix, double tolerance) {
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+		var kernels = ArrayKernels.INSTANCE;
+
+		var copy = Matrix.of(MatrixLayout.ofColumnMajor(rows, columns));
+		copy.set(matrix);
+		double[] a = copy.backingArray();
+		double[] swap = new double[rows];
+		double cutoff = 0.0;
+
+		for (int i = 0; i < columns; i++) {
+			int pivot = i;
+			double largest = -1.0;
+
+			for (int c = i; c < columns; c++) {
+				double norm = kernels.dot(a, c * rows + i, a, c * rows + i, rows - i);
+
+				if (norm > largest) {
+					largest = norm;
+					pivot = c;
+				}
+			}
+
+			largest = Math.sqrt(largest);
+
+			if (i == 0) {
+				cutoff = largest * tolerance;
+			}
+
+			if (largest <= cutoff) {
+				return i;
+			}
+
+			System.arraycopy(a, i * rows, swap, 0, rows);
+			System.arraycopy(a, pivot * rows, a, i * rows, rows);
+			System.arraycopy(swap, 0, a, pivot * rows, rows);
+
+			reflect(a, rows, i, columns);
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Forms V and T for the reflectors of the columns from start to end
+	 */
+	private Block createBlock(int start, int end) {
+		int width = end - start;
+		int height = rows - start;
+		var kernels = ArrayKernels.INSTANCE;
+
+		double[] v = new double[height * width];
+		for (int i = 0; i < width; i++) {
+			v[i * height + i] = 1.0;
+			System.arraycopy(decomposition, (start + i) * rows + start + i + 1, v, i * height + i + 1, height - i - 1);
+		}
+
+		// T[i, i] = tau[i], T[0:i, i] = -tau[i] * T[0:i, 0:i] * V[:, 0:i]' * v[i]
+		double[] t = new double[width * width];
+		double[] z = new double[width];
+		for (int i = 0; i < width; i++) {
+			double tauI = tau[start + i];
+			t[i * width + i] = tauI;
+
+			// v[i] is zero above row i
+			for (int p = 0; p < i; p++) {
+				z[p] = kernels.dot(v, p * height + i, v, i * height + i, height - i);
+			}
+
+			for (int p = 0; p < i; p++) {
+				double sum = 0.0;
+
+				for (int q = p; q < i; q++) {
+					sum += t[q * width + p] * z[q];
+				}
+
+				t[i * width + p] = -tauI * sum;
+			}
+		}
+
+		return new Block(start, Matrix.of(v, MatrixLayout.ofColumnMajor(height, width)), t);
+	}
+
+	/**
+	 * Applies H' = I - VT'V' or H = I - VTV' to C in-place, where C holds the rows of the matrix from the start of the
+	 * block downwards
+	 */
+	private void apply(Block block, ArrayMatrix c, boolean transpose) {
+		int width = block.width();
+		var w = Matrix.of(MatrixLayout.ofColumnMajor(width, c.columns()));
+		double[] t = block.t();
+		double[] wArray = w.backingArray();
+
+		// W = V'C
+		DenseMultiplication.multiply(1.0, block.v().transpose(), c, 0.0, w, parallelism);
+
+		// W = T'W or W = TW, in-place, using the triangular structure of T
+		for (int column = 0; column < c.columns(); column++) {
+			int offset = column * width;
+
+			if (transpose) {
+				for (int p = width - 1; p >= 0; p--) {
+					double sum = 0.0;
+
+					for (int q = 0; q <= p; q++) {
+						sum += t[p * width + q] * wArray[offset + q];
+					}
+
+					wArray[offset + p] = sum;
+				}
+			} else {
+				for (int p = 0; p < width; p++) {
+					double sum = 0.0;
+
+					for (int q = p; q < width; q++) {
+						sum += t[q * width + p] * wArray[offset + q];
+					}
+
+					wArray[offset + p] = sum;
+				}
+			}
+		}
+
+		// C = C - VW
+		DenseMultiplication.multiply(-1.0, block.v(), w, 1.0, c, parallelism);
+	}
+
+	private ArrayMatrix columnMajorCopy(Matrix other) {
+		var copy = Matrix.of(MatrixLayout.ofColumnMajor(other.rows(), other.columns()));
+		copy.set(other);
+		return copy;
+	}
+
+	/**
+	 * Copies R out of the decomposition
+	 * @return a new column-major columns x columns matrix
+	 */
+	ArrayMatrix r() {
+		double[] r = new double[columns * columns];
+
+		for (int c = 0; c < columns; c++) {
+			System.arraycopy(decomposition, c * rows, r, c * columns, c + 1);
+		}
+
+		return Matrix.of(r, MatrixLayout.ofColumnMajor(columns, columns));
+	}
+
+	@Override
+	public int size() {
+		return columns;
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public int rank() {
+		return rank;
+	}
+
+	@Override
+	public Matrix applyQ(Matrix other) {
+		assert other.rows() == rows;
+
+		var result = columnMajorCopy(other);
+
+		// Q = H1 H2 ... Hn, so the last block is applied first
+		for (int i = blocks.size() - 1; i >= 0; i--) {
+			var block = blocks.get(i);
+			apply(block, result.subMatrix(block.start(), 0, rows - block.start(), result.columns()), false);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Matrix applyQTranspose(Matrix other) {
+		assert other.rows() == rows;
+
+		var result = columnMajorCopy(other);
+
+		for (var block : blocks) {
+			apply(block, result.subMatrix(block.start(), 0, rows - block.start(), result.columns()), true);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Matrix leastSquaresSolve(Matrix other) {
+		assert other.rows() == rows;
+
+		if (rank < columns) {
+			throw new SingularMatrixException();
+		}
+
+		var result = (ArrayMatrix) applyQTranspose(other);
+		double[] array = result.backingArray();
+
+		// Solve Rx = Q'b, subtracting each column of R from the values above it once that value of x is known
+		for (int column = 0; column < result.columns(); column++) {
+			int offset = column * rows;
+
+			for (int r = columns - 1; r >= 0; r--) {
+				double x = array[offset + r] / decomposition[r * rows + r];
+				array[offset + r] = x;
+
+				if (r != 0) {
+					ArrayKernels.INSTANCE.scaleAdd(-x, decomposition, r * rows, array, offset, r);
+				}
+			}
+		}
+
+		return result.subMatrix(0, 0, columns, result.columns());
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert rows == columns;
+		assert other.columns() == columns;
+
+		if (rank < columns) {
+			throw new SingularMatrixException();
+		}
+
+		// XA = B is equivalent to R'(Q'X') = B'
+		var z = columnMajorCopy(other.transpose());
+		double[] array = z.backingArray();
+
+		for (int column = 0; column < z.columns(); column++) {
+			int offset = column * rows;
+
+			for (int r = 0; r < columns; r++) {
+				double value = array[offset + r] - ArrayKernels.INSTANCE.dot(decomposition, r * rows, array, offset, r);
+				array[offset + r] = value / decomposition[r * rows + r];
+			}
+		}
+
+		return applyQ(z).transpose();
+	}
+
+	@Override
+	public double determinant() {
+		assert rows == columns;
+
+		double determinant = 1.0;
+
+		for (int i = 0; i < columns; i++) {
+			determinant *= decomposition[i * rows + i];
+
+			// Each non-trivial reflector has a determinant of -1
+			if (tau[i] != 0.0) {
+				determinant = -determinant;
+			}
+		}
+
+		return determinant;
+	}
+}
@@ -0,0 +1,356 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularValueDecomposition;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A singular value decomposition.
+ * <p>
+ * The full decomposition first factorises the matrix A = QR, and then finds the singular values of R using one-sided
+ * Jacobi rotations, which orthogonalise the columns of R. The left singular vectors are those of R multiplied by Q. Wide
+ * matrices are decomposed by decomposing their transpose.
+ * <p>
+ * The truncated decomposition finds the largest singular values using a randomised range finder. Only products of A
+ * and A' with thin matrices are needed, so matrices with their own products, such as sparse matrices, are never made
+ * dense. Large products of other views copy one slab of the view at a time into the dense kernel, so A is never copied
+ * whole.
+ * <p>
+ * Algorithms lifted from Demmel &amp; Veselić, "Jacobi's method is more accurate than QR" and Halko, Martinsson &amp;
+ * Tropp, "Finding structure with randomness: probabilistic algorithms for constructing approximate matrix
+ * decompositions"
+ */
+public final class SVDFactorisation implements SingularValueDecomposition {
+	private static final double EPSILON = Math.ulp(1.0);
+
+	/**
+	 * The maximum number of sweeps of Jacobi rotations. Convergence is quadratic, so this is never reached in practice.
+	 */
+	private static final int MAX_SWEEPS = 60;
+
+	/**
+	 * The number of extra samples taken by the randomised range finder
+	 */
+	private static final int OVERSAMPLING = 10;
+
+	/**
+	 * The number of power iterations run by the randomised range finder, which sharpen the decay of the singular values
+	 */
+	private static final int POWER_ITERATIONS = 2;
+
+	/**
+	 * The seed of the random test matrix, fixed so that the results are repeatable
+	 */
+	private static final long SEED = 0x5eed;
+
+	private final int rows, columns;
+	private final double[] values;
+	private final Matrix u, v;
+	private final double determinant;
+	private final double cutoff;
+	private final boolean truncated;
+
+	private record Parts(double[] values, Matrix u, Matrix v, double determinant) {
+		Parts transpose() {
+			return new Parts(values, v, u, determinant);
+		}
+	}
+
+	public SVDFactorisation(Matrix matrix, double tolerance) {
+		this(matrix, FactorisationOptions.of(tolerance));
+	}
+
+	/**
+	 * Computes the full singular value decomposition of a matrix
+	 * @param matrix the matrix to decompose
+	 * @param options the options to use. The tolerance is relative to the largest singular value.
+	 */
+	public SVDFactorisation(Matrix matrix, FactorisationOptions options) {
+		this(matrix.rows(), matrix.columns(), matrix.rows() >= matrix.columns()
+				? decomposeTall(matrix, options)
+				: decomposeTall(matrix.transpose(), options).transpose(), options, false);
+	}
+
+	private SVDFactorisation(int rows, int columns, Parts parts, FactorisationOptions options, boolean truncated) {
+		this.rows = rows;
+		this.columns = columns;
+		this.values = parts.values();
+		this.u = parts.u();
+		this.v = parts.v();
+		this.determinant = parts.determinant();
+		this.cutoff = values.length == 0 ? 0.0 : values[0] * options.tolerance();
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Computes the largest singular values of a matrix, and their singular vectors, using a randomised algorithm
+	 * @param matrix the matrix to decompose
+	 * @param count the number of singular values to find
+	 * @param options the options to use. The tolerance is relative to the largest singular value.
+	 * @return a truncated decomposition
+	 */
+	public static SVDFactorisation truncated(Matrix matrix, int count, FactorisationOptions options) {
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+		int samples = Math.min(count + OVERSAMPLING, Math.min(rows, columns));
+		count = Math.min(count, samples);
+
+		var parallelism = options.parallelism();
+		var random = new Random(SEED);
+		var test = Matrix.of(MatrixLayout.ofColumnMajor(columns, samples));
+		for (int r = 0; r < columns; r++) for (int c = 0; c < samples; c++) {
+			test.set(random.nextGaussian(), r, c);
+		}
+
+		// Find an orthonormal basis Q for the range of A
+		var basis = orthonormalBasis(matrix.multiply(test, parallelism), options);
+		for (int i = 0; i < POWER_ITERATIONS; i++) {
+			var transposed = orthonormalBasis(matrix.transpose().multiply(basis, parallelism), options);
+			basis = orthonormalBasis(matrix.multiply(transposed, parallelism), options);
+		}
+
+		// Decompose B' = A'Q, which is tall as there are fewer samples than columns
+		var parts = decomposeTall(matrix.transpose().multiply(basis, parallelism), options).transpose();
+
+		return new SVDFactorisation(rows, columns, new Parts(
+				Arrays.copyOf(parts.values(), count),
+				basis.multiply(parts.u().subMatrix(0, 0, samples, count), parallelism).arrayBackedCopy(MatrixLayout.ofColumnMajor(rows, count)),
+				parts.v().subMatrix(0, 0, columns, count).arrayBackedCopy(MatrixLayout.ofColumnMajor(columns, count)),
+				Double.NaN
+		), options, true);
+	}
+
+	/**
+	 * Finds an orthonormal basis for the columns of a tall matrix
+	 */
+	private static Matrix orthonormalBasis(Matrix matrix, FactorisationOptions options) {
+		var qr = new QRFactorisation(matrix, options);
+
+		return qr.applyQ(Matrix.identity(matrix.rows()).subMatrix(0, 0, matrix.rows(), matrix.columns()));
+	}
+
+	/**
+	 * Decomposes a matrix with at least as many rows as columns
+	 */
+	private static Parts decomposeTall(Matrix matrix, FactorisationOptions options) {
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+		var kernels = ArrayKernels.INSTANCE;
+
+		var qr = new QRFactorisation(matrix, options);
+		double[] w = qr.r().backingArray();
+		double[] v = new double[columns * columns];
+		for (int i = 0; i < columns; i++) {
+			v[i * columns + i] = 1.0;
+		}
+
+		jacobi(w, v, columns);
+
+		// The singular values are the norms of the orthogonalised columns of R
+		double[] norms = new double[columns];
+		Integer[] order = new Integer[columns];
+		for (int i = 0; i < columns; i++) {
+			norms[i] = Math.sqrt(kernels.dot(w, i * columns, w, i * columns, columns));
+			order[i] = i;
+		}
+
+		Arrays.sort(order, (a, b) -> Double.compare(norms[b], norms[a]));
+
+		double[] values = new double[columns];
+		double[] leftVectors = new double[rows * columns];
+		double[] rightVectors = new double[columns * columns];
+		for (int i = 0; i < columns; i++) {
+			int source = order[i];
+			values[i] = norms[source];
+
+			System.arraycopy(v, source * columns, rightVectors, i * columns, columns);
+
+			// Singular vectors of zero singular values are left as zero
+			if (values[i] != 0.0) {
+				System.arraycopy(w, source * columns, leftVectors, i * rows, columns);
+				kernels.scale(1.0 / values[i], leftVectors, i * rows, columns);
+			}
+		}
+
+		return new Parts(
+				values,
+				qr.applyQ(Matrix.of(leftVectors, MatrixLayout.ofColumnMajor(rows, columns))),
+				Matrix.of(rightVectors, MatrixLayout.ofColumnMajor(columns, columns)),
+				rows == columns ? qr.determinant() : Double.NaN
+		);
+	}
+
+	/**
+	 * Applies rotations to the columns of the square column-major matrix w until they are orthogonal, applying the same
+	 * rotations to v
+	 */
+	private static void jacobi(double[] w, double[] v, int size) {
+		var kernels = ArrayKernels.INSTANCE;
+		double[] norms = new double[size];
+
+		for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+			boolean rotated = false;
+
+			// The squared norms are updated by each rotation, and recomputed each sweep to limit drift
+			for (int i = 0; i < size; i++) {
+				norms[i] = kernels.dot(w, i * size, w, i * size, size);
+			}
+
+			for (int p = 0; p < size - 1; p++) for (int q = p + 1; q < size; q++) {
+				double alpha = norms[p];
+				double beta = norms[q];
+				double gamma = kernels.dot(w, p * size, w, q * size, size);
+
+				if (Math.abs(gamma) <= EPSILON * Math.sqrt(alpha * beta)) {
+					continue;
+				}
+
+				rotated = true;
+
+				// The rotation that zeroes the off-diagonal of the 2x2 Gram matrix of columns p and q
+				double zeta = (beta - alpha) / (2.0 * gamma);
+				double t = Math.copySign(1.0, zeta) / (Math.abs(zeta) + Math.hypot(1.0, zeta));
+				double c = 1.0 / Math.hypot(1.0, t);
+				double s = c * t;
+
+				rotate(w, p * size, q * size, size, c, s);
+				rotate(v, p * size, q * size, size, c, s);
+
+				norms[p] = alpha - t * gamma;
+				norms[q] = beta + t * gamma;
+			}
+
+			if (!rotated) {
+				return;
+			}
+		}
+	}
+
+	private static void rotate(double[] array, int p, int q, int length, double c, double s) {
+		for (int i = 0; i < length; i++) {
+			double x = array[p + i];
+			double y = array[q + i];
+
+			array[p + i] = c * x - s * y;
+			array[q + i] = s * x + c * y;
+		}
+	}
+
+	/**
+	 * The reciprocal of a singular value, or zero if it is below the cutoff
+	 */
+	private double inverseValue(int i) {
+		return values[i] > cutoff ? 1.0 / values[i] : 0.0;
+	}
+
+	@Override
+	public int size() {
+		return columns;
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public int count() {
+		return values.length;
+	}
+
+	@Override
+	public VecN singularValues() {
+		return VecN.of(values.clone());
+	}
+
+	@Override
+	public Matrix u() {
+		return u;
+	}
+
+	@Override
+	public Matrix v() {
+		return v;
+	}
+
+	@Override
+	public int rank() {
+		int rank = 0;
+
+		while (rank < values.length && values[rank] > cutoff) {
+			rank++;
+		}
+
+		return rank;
+	}
+
+	@Override
+	public double conditionNumber() {
+		if (truncated) {
+			throw new IllegalStateException("A truncated decomposition has no condition number");
+		}
+
+		if (values.length == 0 || values[values.length - 1] == 0.0) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		return values[0] / values[values.length - 1];
+	}
+
+	@Override
+	public Matrix pseudoInverse() {
+		MMatrix scaled = v.copy();
+
+		for (int r = 0; r < scaled.rows(); r++) for (int c = 0; c < scaled.columns(); c++) {
+			scaled.set(scaled.get(r, c) * inverseValue(c), r, c);
+		}
+
+		return scaled.multiply(u.transpose());
+	}
+
+	@Override
+	public Matrix leftSolve(Matrix other) {
+		assert other.rows() == rows;
+
+		// X = VΣ⁺U'B
+		MMatrix projected = u.transpose().multiply(other).copy();
+
+		for (int r = 0; r < projected.rows(); r++) for (int c = 0; c < projected.columns(); c++) {
+			projected.set(projected.get(r, c) * inverseValue(r), r, c);
+		}
+
+		return v.multiply(projected);
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert other.columns() == columns;
+
+		// X = BVΣ⁺U'
+		MMatrix projected = other.multiply(v).copy();
+
+		for (int r = 0; r < projected.rows(); r++) for (int c = 0; c < projected.columns(); c++) {
+			projected.set(projected.get(r, c) * inverseValue(c), r, c);
+		}
+
+		return projected.multiply(u.transpose());
+	}
+
+	@Override
+	public double determinant() {
+		assert rows == columns;
+
+		if (truncated) {
+			throw new IllegalStateException("A truncated decomposition has no determinant");
+		}
+
+		return determinant;
+	}
+}
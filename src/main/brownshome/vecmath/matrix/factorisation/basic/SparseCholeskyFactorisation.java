@@ -0,0 +1,207 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * The numeric phase of a sparse LDL' factorisation of a symmetric matrix, computed from a {@link SymbolicCholesky}.
+ * Only the values of the factor are stored here, the pattern is shared with the symbolic factorisation.
+ * <p>
+ * Each row of the factor is computed by a sparse triangular solve with the rows above it, the pattern of which is found
+ * by walking the elimination tree. The matrix is not pivoted beyond the fill-reducing ordering, so it must be positive
+ * definite, or at least have no zero pivots in that ordering.
+ */
+public final class SparseCholeskyFactorisation implements Factorisation {
+	private final SymbolicCholesky symbolic;
+
+	/**
+	 * The values of the strictly lower factor, in the same order as the row indices of the symbolic factorisation
+	 */
+	private final double[] values;
+	private final double[] diagonal;
+	private final double determinant;
+
+	SparseCholeskyFactorisation(SymbolicCholesky symbolic, CsrMatrix matrix, FactorisationOptions options) {
+		int size = symbolic.size();
+		int[] permutation = symbolic.permutation();
+		int[] inverse = symbolic.inverse();
+		int[] parent = symbolic.parent();
+		int[] columnStarts = symbolic.columnStarts();
+		int[] rowIndices = symbolic.rowIndices();
+
+		int[] starts = matrix.rowStarts();
+		int[] indices = matrix.columnIndices();
+		double[] entries = matrix.values();
+
+		this.symbolic = symbolic;
+		values = new double[symbolic.factorNonZeros()];
+		diagonal = new double[size];
+
+		double[] y = new double[size];
+		int[] pattern = new int[size];
+		int[] flag = new int[size];
+		int[] counts = new int[size];
+		Arrays.fill(flag, -1);
+
+		double determinant = 1.0;
+
+		for (int k = 0; k < size; k++) {
+			int top = size;
+			flag[k] = k;
+
+			// Scatter row k of PAP' into y, and find the rows of L that contribute to row k in topological order
+			for (int p = starts[permutation[k]]; p < starts[permutation[k] + 1]; p++) {
+				int i = inverse[indices[p]];
+
+				if (i > k) {
+					continue;
+				}
+
+				y[i] += entries[p];
+
+				int length = 0;
+				for (; flag[i] != k; i = parent[i]) {
+					pattern[length++] = i;
+					flag[i] = k;
+				}
+
+				while (length > 0) {
+					pattern[--top] = pattern[--length];
+				}
+			}
+
+			double d = y[k];
+			y[k] = 0.0;
+
+			for (; top < size; top++) {
+				int i = pattern[top];
+				double yi = y[i];
+				y[i] = 0.0;
+
+				int end = columnStarts[i] + counts[i];
+				for (int p = columnStarts[i]; p < end; p++) {
+					y[rowIndices[p]] -= values[p] * yi;
+				}
+
+				double l = yi / diagonal[i];
+				d -= l * yi;
+				values[end] = l;
+				counts[i]++;
+			}
+
+			if (Math.abs(d) < options.tolerance()) {
+				throw new SingularMatrixException();
+			}
+
+			diagonal[k] = d;
+			determinant *= d;
+		}
+
+		this.determinant = determinant;
+	}
+
+	@Override
+	public int size() {
+		return symbolic.size();
+	}
+
+	/**
+	 * Solves LDL'x = y in-place
+	 */
+	private void solve(double[] x) {
+		int size = size();
+		int[] columnStarts = symbolic.columnStarts();
+		int[] rowIndices = symbolic.rowIndices();
+
+		for (int j = 0; j < size; j++) {
+			double xj = x[j];
+
+			for (int p = columnStarts[j]; p < columnStarts[j + 1]; p++) {
+				x[rowIndices[p]] -= values[p] * xj;
+			}
+		}
+
+		for (int j = 0; j < size; j++) {
+			x[j] /= diagonal[j];
+		}
+
+		for (int j = size - 1; j >= 0; j--) {
+			double xj = x[j];
+
+			for (int p = columnStarts[j]; p < columnStarts[j + 1]; p++) {
+				xj -= values[p] * x[rowIndices[p]];
+			}
+
+			x[j] = xj;
+		}
+	}
+
+	@Override
+	public Matrix leftSolve(Matrix other) {
+		assert size() == other.rows();
+
+		int size = size();
+		int columns = other.columns();
+		int[] permutation = symbolic.permutation();
+
+		double[] x = new double[size];
+		double[] answer = new double[size * columns];
+
+		for (int c = 0; c < columns; c++) {
+			for (int k = 0; k < size; k++) {
+				x[k] = other.get(permutation[k], c);
+			}
+
+			solve(x);
+
+			for (int k = 0; k < size; k++) {
+				answer[c * size + permutation[k]] = x[k];
+			}
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofColumnMajor(size, columns));
+	}
+
+	@Override
+	public ArrayVecN leftSolve(VecN other) {
+		assert size() == other.size();
+
+		int size = size();
+		int[] permutation = symbolic.permutation();
+
+		double[] x = new double[size];
+		for (int k = 0; k < size; k++) {
+			x[k] = other.get(permutation[k]);
+		}
+
+		solve(x);
+
+		var result = VecN.zero(size);
+		for (int k = 0; k < size; k++) {
+			result.set(x[k], permutation[k]);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert size() == other.columns();
+
+		// A is symmetric, so XA = B is equivalent to AX' = B'
+		return leftSolve(other.transpose()).transpose();
+	}
+
+	@Override
+	public double determinant() {
+		return determinant;
+	}
+}
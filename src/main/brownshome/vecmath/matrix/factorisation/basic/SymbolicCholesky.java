@@ -0,0 +1,151 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.basic.MinimumDegreeOrdering;
+import brownshome.vecmath.matrix.basic.PermutationUtil;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SymbolicFactorisation;
+import brownshome.vecmath.matrix.sparse.CscMatrix;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+
+/**
+ * The symbolic phase of a sparse LDL' factorisation of a symmetric matrix. This computes a fill-reducing ordering, the
+ * elimination tree of the reordered matrix and the pattern of its factor. These only depend on the pattern of the
+ * matrix, and are shared by every {@link SparseCholeskyFactorisation} computed from them.
+ * <p>
+ * Algorithms lifted from Davis, "Algorithm 849: A Concise Sparse Cholesky Factorization Package"
+ */
+public final class SymbolicCholesky implements SymbolicFactorisation {
+	private final int size;
+
+	/**
+	 * The kth row of PAP' is row permutation[k] of A, and row k of A is row inverse[k] of PAP'
+	 */
+	private final int[] permutation, inverse;
+
+	/**
+	 * The parent of each column in the elimination tree, or -1 for a root
+	 */
+	private final int[] parent;
+
+	/**
+	 * The strictly lower factor in compressed column form, the rows in each column are sorted
+	 */
+	private final int[] columnStarts, rowIndices;
+
+	/**
+	 * The analysed pattern, which is only kept to check that factorised matrices match it
+	 */
+	private final int[] patternStarts, patternIndices;
+
+	/**
+	 * Analyses the pattern of a symmetric matrix
+	 * @param matrix the matrix, both triangles of which must be stored
+	 */
+	public SymbolicCholesky(CsrMatrix matrix) {
+		assert matrix.rows() == matrix.columns();
+
+		size = matrix.rows();
+		patternStarts = matrix.rowStarts();
+		patternIndices = matrix.columnIndices();
+
+		permutation = MinimumDegreeOrdering.order(size, patternStarts, patternIndices);
+		var inverted = PermutationUtil.invertPermutation(permutation);
+		inverse = inverted == PermutationUtil.IDENTITY_PERMUTATION ? permutation : inverted;
+
+		// Each entry (k, i) of PAP' with i < k adds k to the path from i to the root of the elimination tree
+		parent = new int[size];
+		int[] counts = new int[size];
+		int[] flag = new int[size];
+
+		for (int k = 0; k < size; k++) {
+			parent[k] = -1;
+			flag[k] = k;
+
+			for (int p = patternStarts[permutation[k]]; p < patternStarts[permutation[k] + 1]; p++) {
+				for (int i = inverse[patternIndices[p]]; i < k && flag[i] != k; i = parent[i]) {
+					if (parent[i] == -1) {
+						parent[i] = k;
+					}
+
+					counts[i]++;
+					flag[i] = k;
+				}
+			}
+		}
+
+		columnStarts = new int[size + 1];
+		for (int k = 0; k < size; k++) {
+			columnStarts[k + 1] = columnStarts[k] + counts[k];
+		}
+
+		// Visit the same paths again to fill in the rows, which are added to each column in order
+		rowIndices = new int[columnStarts[size]];
+		int[] next = Arrays.copyOf(columnStarts, size);
+		Arrays.fill(flag, -1);
+
+		for (int k = 0; k < size; k++) {
+			flag[k] = k;
+
+			for (int p = patternStarts[permutation[k]]; p < patternStarts[permutation[k] + 1]; p++) {
+				for (int i = inverse[patternIndices[p]]; i < k && flag[i] != k; i = parent[i]) {
+					rowIndices[next[i]++] = k;
+					flag[i] = k;
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int[] permutation() {
+		return permutation;
+	}
+
+	int[] inverse() {
+		return inverse;
+	}
+
+	int[] parent() {
+		return parent;
+	}
+
+	int[] columnStarts() {
+		return columnStarts;
+	}
+
+	int[] rowIndices() {
+		return rowIndices;
+	}
+
+	@Override
+	public int factorNonZeros() {
+		return columnStarts[size];
+	}
+
+	@Override
+	public Factorisation factorise(Matrix matrix, FactorisationOptions options) {
+		assert matrix.rows() == size && matrix.columns() == size;
+
+		// The matrix is symmetric, so the transposed view of a compressed column matrix is the same matrix
+		var csr = matrix instanceof CscMatrix csc ? csc.transpose() : CsrMatrix.of(matrix);
+
+		assert hasAnalysedPattern(csr);
+
+		return new SparseCholeskyFactorisation(this, csr, options);
+	}
+
+	private boolean hasAnalysedPattern(CsrMatrix matrix) {
+		int nonZeros = patternStarts[size];
+
+		return Arrays.equals(patternStarts, matrix.rowStarts())
+				&& Arrays.equals(patternIndices, 0, nonZeros, matrix.columnIndices(), 0, nonZeros);
+	}
+}
@@ -0,0 +1,523 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.SymmetricMatrixLayout;
+import brownshome.vecmath.matrix.factorisation.EigenDecomposition;
+import brownshome.vecmath.matrix.factorisation.EigenOptions;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * The eigen-decomposition of a symmetric matrix.
+ * <p>
+ * The matrix is first reduced to a tridiagonal matrix T = Q'AQ using Householder reflections, which work on the rows of
+ * packed symmetric storage. The eigenvalues of T are found using the implicit QL algorithm. If every eigenvector is
+ * needed the rotations of the QL algorithm are accumulated, otherwise the eigenvectors of T are found by inverse
+ * iteration. Finally, the eigenvectors of T are multiplied by Q.
+ * <p>
+ * Algorithms lifted from Golub &amp; Van Loan, "Matrix Computations", the EISPACK routine tql2 and the LAPACK routines
+ * dsytd2 and dstein
+ */
+public final class SymmetricEigenDecomposition implements EigenDecomposition {
+	private static final double EPSILON = Math.ulp(1.0);
+
+	/**
+	 * The number of QL iterations allowed for each eigenvalue, on average. Convergence is cubic, so this is only reached
+	 * if the matrix holds non-finite values.
+	 */
+	private static final int QL_ITERATIONS = 30;
+
+	/**
+	 * The number of steps of inverse iteration run for each eigenvector
+	 */
+	private static final int INVERSE_ITERATIONS = 3;
+
+	/**
+	 * Eigenvectors with eigenvalues closer than this, relative to the norm of the matrix, are re-orthogonalised against
+	 * each other during inverse iteration
+	 */
+	private static final double CLUSTER_TOLERANCE = 1e-3;
+
+	/**
+	 * The seed of the starting vectors of inverse iteration, fixed so that the results are repeatable
+	 */
+	private static final long SEED = 0x5eed;
+
+	private final int size;
+	private final double[] eigenvalues;
+	private final ArrayMatrix eigenvectors;
+
+	public SymmetricEigenDecomposition(Matrix matrix) {
+		this(matrix, EigenOptions.all());
+	}
+
+	/**
+	 * Decomposes a symmetric matrix. Only the lower triangle of the matrix is read.
+	 * @param matrix the matrix to decompose
+	 * @param options the options to use
+	 */
+	public SymmetricEigenDecomposition(Matrix matrix, EigenOptions options) {
+		assert matrix.rows() == matrix.columns();
+
+		size = matrix.rows();
+		int count = Math.min(options.count(), size);
+
+		double[] a = packedCopy(matrix);
+		double[] d = new double[size];
+		double[] e = new double[size];
+		double[] tau = new double[size];
+
+		tridiagonalise(a, d, e, tau);
+
+		if (options.vectors() && count == size) {
+			double[] z = new double[size * size];
+			for (int i = 0; i < size; i++) {
+				z[i * size + i] = 1.0;
+			}
+
+			solveTridiagonal(d, e, z);
+			sortDescending(d, z);
+			backTransform(a, tau, z, count);
+
+			eigenvalues = d;
+			eigenvectors = Matrix.of(z, MatrixLayout.ofColumnMajor(size, count));
+		} else {
+			double[] values = d.clone();
+			solveTridiagonal(values, e.clone(), null);
+			sortDescending(values, null);
+
+			eigenvalues = Arrays.copyOf(values, count);
+
+			if (options.vectors()) {
+				double[] z = inverseIteration(d, e, eigenvalues);
+				backTransform(a, tau, z, count);
+
+				eigenvectors = Matrix.of(z, MatrixLayout.ofColumnMajor(size, count));
+			} else {
+				eigenvectors = null;
+			}
+		}
+	}
+
+	private static int rowStart(int row) {
+		return row * (row + 1) / 2;
+	}
+
+	/**
+	 * Copies the lower triangle of the matrix into packed row-major storage without padding
+	 */
+	private static double[] packedCopy(Matrix matrix) {
+		int size = matrix.rows();
+		double[] a = new double[rowStart(size)];
+
+		if (matrix instanceof ArrayMatrix array && array.layout() instanceof SymmetricMatrixLayout layout) {
+			for (int r = 0; r < size; r++) {
+				System.arraycopy(array.backingArray(), layout.arrayIndex(r, 0), a, rowStart(r), r + 1);
+			}
+		} else {
+			for (int r = 0; r < size; r++) for (int c = 0; c <= r; c++) {
+				a[rowStart(r) + c] = matrix.get(r, c);
+			}
+		}
+
+		return a;
+	}
+
+	/**
+	 * Reduces the matrix to tridiagonal form, working from the last row upwards. The reflector H(i) = I - tau[i] * vv'
+	 * annihilates the first i elements of row i + 1, and v is stored in those elements, with v[i] = 1.
+	 *
+	 * @param a the packed lower triangle of the matrix
+	 * @param d the diagonal of T
+	 * @param e the off-diagonal of T, where e[i] is T[i, i + 1]
+	 * @param tau the scale of each reflector
+	 */
+	private static void tridiagonalise(double[] a, double[] d, double[] e, double[] tau) {
+		int size = d.length;
+		var kernels = ArrayKernels.INSTANCE;
+		double[] w = new double[size];
+
+		for (int i = size - 2; i >= 0; i--) {
+			int row = rowStart(i + 1);
+			double alpha = a[row + i];
+			double norm = i == 0 ? 0.0 : kernels.dot(a, row, a, row, i);
+			double t = 0.0;
+
+			if (norm != 0.0) {
+				double beta = -Math.copySign(Math.sqrt(alpha * alpha + norm), alpha);
+				t = (beta - alpha) / beta;
+				kernels.scale(1.0 / (alpha - beta), a, row, i);
+				alpha = beta;
+				a[row + i] = 1.0;
+
+				// w = t * Av, using both halves of each packed row
+				Arrays.fill(w, 0, i + 1, 0.0);
+				for (int r = 0; r <= i; r++) {
+					int start = rowStart(r);
+					double v = a[row + r];
+
+					w[r] += kernels.dot(a, start, a, row, r) + a[start + r] * v;
+					kernels.scaleAdd(v, a, start, w, 0, r);
+				}
+
+				kernels.scale(t, w, 0, i + 1);
+
+				// w = w - (t / 2)(w'v)v
+				kernels.scaleAdd(-0.5 * t * kernels.dot(w, 0, a, row, i + 1), a, row, w, 0, i + 1);
+
+				// A = A - vw' - wv'
+				for (int r = 0; r <= i; r++) {
+					int start = rowStart(r);
+
+					kernels.scaleAdd(-a[row + r], w, 0, a, start, r + 1);
+					kernels.scaleAdd(-w[r], a, row, a, start, r + 1);
+				}
+
+				a[row + i] = alpha;
+			}
+
+			e[i] = alpha;
+			d[i + 1] = a[row + i + 1];
+			tau[i] = t;
+		}
+
+		if (size != 0) {
+			d[0] = a[0];
+		}
+	}
+
+	/**
+	 * Finds the eigenvalues of a tridiagonal matrix using the implicit QL algorithm
+	 *
+	 * @param d the diagonal, which is replaced by the eigenvalues
+	 * @param e the off-diagonal, which is destroyed
+	 * @param z if not null, the rotations are applied to the columns of this column-major matrix
+	 * @throws ArithmeticException if the algorithm does not converge
+	 */
+	private static void solveTridiagonal(double[] d, double[] e, double[] z) {
+		int size = d.length;
+		int iterations = QL_ITERATIONS * size;
+		double shift = 0.0;
+		double norm = 0.0;
+
+		for (int l = 0; l < size; l++) {
+			// Find a small off-diagonal element to split the matrix at. The comparisons are negated so that NaN is never
+			// small, and runs into the iteration limit rather than being returned as an eigenvalue.
+			norm = Math.max(norm, Math.abs(d[l]) + Math.abs(e[l]));
+
+			int m = l;
+			while (m < size - 1 && !(Math.abs(e[m]) <= EPSILON * norm)) {
+				m++;
+			}
+
+			if (m > l) {
+				do {
+					if (iterations-- == 0) {
+						throw new ArithmeticException("The QL algorithm did not converge");
+					}
+
+					// Compute the Wilkinson shift
+					double g = d[l];
+					double p = (d[l + 1] - g) / (2.0 * e[l]);
+					double r = Math.copySign(Math.hypot(p, 1.0), p);
+
+					d[l] = e[l] / (p + r);
+					d[l + 1] = e[l] * (p + r);
+					double dl1 = d[l + 1];
+					double h = g - d[l];
+
+					for (int i = l + 2; i < size; i++) {
+						d[i] -= h;
+					}
+
+					shift += h;
+
+					// Chase the bulge from m up to l
+					p = d[m];
+					double c = 1.0, c2 = 1.0, c3 = 1.0;
+					double el1 = e[l + 1];
+					double s = 0.0, s2 = 0.0;
+
+					for (int i = m - 1; i >= l; i--) {
+						c3 = c2;
+						c2 = c;
+						s2 = s;
+						g = c * e[i];
+						h = c * p;
+						r = Math.hypot(p, e[i]);
+						e[i + 1] = s * r;
+						s = e[i] / r;
+						c = p / r;
+						p = c * d[i] - s * g;
+						d[i + 1] = h + s * (c * g + s * d[i]);
+
+						if (z != null) {
+							int left = i * size;
+							int right = left + size;
+
+							for (int k = 0; k < size; k++) {
+								double x = z[right + k];
+								z[right + k] = s * z[left + k] + c * x;
+								z[left + k] = c * z[left + k] - s * x;
+							}
+						}
+					}
+
+					p = -s * s2 * c3 * el1 * e[l] / dl1;
+					e[l] = s * p;
+					d[l] = c * p;
+				} while (!(Math.abs(e[l]) <= EPSILON * norm));
+			}
+
+			d[l] += shift;
+			e[l] = 0.0;
+		}
+	}
+
+	/**
+	 * Sorts the eigenvalues from largest to smallest, moving the columns of z with them
+	 */
+	private static void sortDescending(double[] d, double[] z) {
+		int size = d.length;
+
+		if (z == null) {
+			Arrays.sort(d);
+
+			for (int i = 0; i < size / 2; i++) {
+				double x = d[i];
+				d[i] = d[size - 1 - i];
+				d[size - 1 - i] = x;
+			}
+
+			return;
+		}
+
+		double[] column = new double[size];
+
+		for (int i = 0; i < size - 1; i++) {
+			int max = i;
+			for (int j = i + 1; j < size; j++) {
+				if (d[j] > d[max]) {
+					max = j;
+				}
+			}
+
+			if (max != i) {
+				double x = d[i];
+				d[i] = d[max];
+				d[max] = x;
+
+				System.arraycopy(z, i * size, column, 0, size);
+				System.arraycopy(z, max * size, z, i * size, size);
+				System.arraycopy(column, 0, z, max * size, size);
+			}
+		}
+	}
+
+	/**
+	 * Finds the eigenvectors of a tridiagonal matrix with the given eigenvalues by inverse iteration
+	 *
+	 * @param d the diagonal of the matrix
+	 * @param e the off-diagonal of the matrix
+	 * @param values the eigenvalues, from largest to smallest
+	 * @return a column-major matrix of eigenvectors
+	 */
+	private static double[] inverseIteration(double[] d, double[] e, double[] values) {
+		int size = d.length;
+		var kernels = ArrayKernels.INSTANCE;
+		var random = new Random(SEED);
+
+		double norm = 0.0;
+		for (int i = 0; i < size; i++) {
+			norm = Math.max(norm, Math.abs(d[i]) + Math.abs(e[i]) + (i == 0 ? 0.0 : Math.abs(e[i - 1])));
+		}
+
+		if (norm == 0.0) {
+			norm = 1.0;
+		}
+
+		// Equal eigenvalues are moved apart by this much so that inverse iteration finds different vectors
+		double perturbation = 10.0 * EPSILON * norm;
+
+		double[] z = new double[size * values.length];
+		double[] x = new double[size];
+		var lu = new TridiagonalLU(size);
+		double lambda = Double.NaN;
+
+		for (int j = 0; j < values.length; j++) {
+			lambda = j > 0 && lambda - values[j] < perturbation ? lambda - perturbation : values[j];
+
+			lu.factorise(d, e, lambda, EPSILON * norm);
+
+			for (int i = 0; i < size; i++) {
+				x[i] = random.nextDouble() - 0.5;
+			}
+
+			for (int iteration = 0; iteration < INVERSE_ITERATIONS; iteration++) {
+				lu.solve(x);
+
+				// Remove the components of the eigenvectors of nearby eigenvalues
+				for (int p = j - 1; p >= 0 && values[p] - values[j] <= CLUSTER_TOLERANCE * norm; p--) {
+					kernels.scaleAdd(-kernels.dot(z, p * size, x, 0, size), z, p * size, x, 0, size);
+				}
+
+				kernels.scale(1.0 / Math.sqrt(kernels.dot(x, 0, x, 0, size)), x, 0, size);
+			}
+
+			System.arraycopy(x, 0, z, j * size, size);
+		}
+
+		return z;
+	}
+
+	/**
+	 * The LU factorisation of a shifted tridiagonal matrix, T - λI, with partial pivoting. Pivoting introduces a second
+	 * super-diagonal into U.
+	 */
+	private static final class TridiagonalLU {
+		private final double[] diagonal, upper, upper2, multipliers;
+		private final boolean[] swapped;
+
+		TridiagonalLU(int size) {
+			diagonal = new double[size];
+			upper = new double[size];
+			upper2 = new double[size];
+			multipliers = new double[size];
+			swapped = new boolean[size];
+		}
+
+		/**
+		 * Factorises T - λI, replacing any pivots smaller than minimumPivot
+		 */
+		void factorise(double[] d, double[] e, double lambda, double minimumPivot) {
+			int size = d.length;
+
+			// The row awaiting elimination holds diagonal[i] and upper[i]
+			diagonal[0] = d[0] - lambda;
+			upper[0] = size > 1 ? e[0] : 0.0;
+
+			for (int i = 0; i + 1 < size; i++) {
+				double below = e[i];
+				double nextDiagonal = d[i + 1] - lambda;
+				double nextUpper = i + 2 < size ? e[i + 1] : 0.0;
+
+				if (Math.abs(diagonal[i]) >= Math.abs(below)) {
+					if (Math.abs(diagonal[i]) < minimumPivot) {
+						diagonal[i] = minimumPivot;
+					}
+
+					double m = below / diagonal[i];
+					multipliers[i] = m;
+					swapped[i] = false;
+					upper2[i] = 0.0;
+					diagonal[i + 1] = nextDiagonal - m * upper[i];
+					upper[i + 1] = nextUpper;
+				} else {
+					double m = diagonal[i] / below;
+					double previousUpper = upper[i];
+
+					multipliers[i] = m;
+					swapped[i] = true;
+					diagonal[i] = below;
+					upper[i] = nextDiagonal;
+					upper2[i] = nextUpper;
+					diagonal[i + 1] = previousUpper - m * nextDiagonal;
+					upper[i + 1] = -m * nextUpper;
+				}
+			}
+
+			if (size != 0 && Math.abs(diagonal[size - 1]) < minimumPivot) {
+				diagonal[size - 1] = minimumPivot;
+			}
+		}
+
+		/**
+		 * Solves (T - λI)x = b in-place
+		 */
+		void solve(double[] x) {
+			int size = x.length;
+
+			for (int i = 0; i + 1 < size; i++) {
+				if (swapped[i]) {
+					double t = x[i];
+					x[i] = x[i + 1];
+					x[i + 1] = t;
+				}
+
+				x[i + 1] -= multipliers[i] * x[i];
+			}
+
+			for (int i = size - 1; i >= 0; i--) {
+				double value = x[i];
+
+				if (i + 1 < size) {
+					value -= upper[i] * x[i + 1];
+				}
+
+				if (i + 2 < size) {
+					value -= upper2[i] * x[i + 2];
+				}
+
+				x[i] = value / diagonal[i];
+			}
+		}
+	}
+
+	/**
+	 * Multiplies the column-major matrix z by Q = H(size - 2) ... H(0)
+	 */
+	private static void backTransform(double[] a, double[] tau, double[] z, int columns) {
+		int size = tau.length;
+		var kernels = ArrayKernels.INSTANCE;
+
+		for (int column = 0; column < columns; column++) {
+			int offset = column * size;
+
+			for (int i = 0; i < size - 1; i++) {
+				if (tau[i] == 0.0) {
+					continue;
+				}
+
+				int row = rowStart(i + 1);
+				double s = tau[i] * (kernels.dot(a, row, z, offset, i) + z[offset + i]);
+
+				z[offset + i] -= s;
+				kernels.scaleAdd(-s, a, row, z, offset, i);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int count() {
+		return eigenvalues.length;
+	}
+
+	@Override
+	public VecN eigenvalues() {
+		return VecN.of(eigenvalues.clone());
+	}
+
+	@Override
+	public boolean hasEigenvectors() {
+		return eigenvectors != null;
+	}
+
+	@Override
+	public Matrix eigenvectors() {
+		if (eigenvectors == null) {
+			throw new IllegalStateException("The eigenvectors were not computed");
+		}
+
+		return eigenvectors;
+	}
+}
@@ -0,0 +1,177 @@
+package brownshome.vecmath.matrix.factorisation.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.Factorisation;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * An LU factorisation of a tridiagonal matrix without pivoting, using the Thomas algorithm. Both the factorisation and
+ * each solve take O(n) time.
+ * <p>
+ * Without pivoting the factorisation is only stable for matrices that are diagonally dominant, or symmetric positive
+ * definite. Entries of the matrix outside the three central diagonals are ignored.
+ */
+public final class TridiagonalFactorisation implements Factorisation {
+	/**
+	 * The multipliers of L, where multipliers[i] is L(i, i - 1). The first entry is unused.
+	 */
+	private final double[] multipliers;
+
+	/**
+	 * The diagonal of U
+	 */
+	private final double[] diagonal;
+
+	/**
+	 * The superdiagonal of U, which is the superdiagonal of A. The last entry is unused.
+	 */
+	private final double[] upper;
+
+	private final double determinant;
+
+	/**
+	 * Factorises a tridiagonal matrix
+	 * @param matrix the matrix to factorise
+	 * @param options the options to use
+	 */
+	public TridiagonalFactorisation(Matrix matrix, FactorisationOptions options) {
+		assert matrix.rows() == matrix.columns();
+
+		int size = matrix.rows();
+		multipliers = new double[size];
+		diagonal = new double[size];
+		upper = new double[size];
+
+		double determinant = 1.0;
+
+		for (int i = 0; i < size; i++) {
+			double d = matrix.get(i, i);
+
+			if (i > 0) {
+				multipliers[i] = matrix.get(i, i - 1) / diagonal[i - 1];
+				d -= multipliers[i] * upper[i - 1];
+			}
+
+			if (Math.abs(d) < options.tolerance()) {
+				throw new SingularMatrixException();
+			}
+
+			diagonal[i] = d;
+			determinant *= d;
+
+			if (i + 1 < size) {
+				upper[i] = matrix.get(i, i + 1);
+			}
+		}
+
+		this.determinant = determinant;
+	}
+
+	@Override
+	public int size() {
+		return diagonal.length;
+	}
+
+	/**
+	 * Solves LUx = b in-place
+	 */
+	private void solve(double[] x) {
+		int size = size();
+
+		for (int i = 1; i < size; i++) {
+			x[i] -= multipliers[i] * x[i - 1];
+		}
+
+		for (int i = size - 1; i >= 0; i--) {
+			if (i + 1 < size) {
+				x[i] -= upper[i] * x[i + 1];
+			}
+
+			x[i] /= diagonal[i];
+		}
+	}
+
+	/**
+	 * Solves U'L'x = b in-place
+	 */
+	private void solveTransposed(double[] x) {
+		int size = size();
+
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				x[i] -= upper[i - 1] * x[i - 1];
+			}
+
+			x[i] /= diagonal[i];
+		}
+
+		for (int i = size - 2; i >= 0; i--) {
+			x[i] -= multipliers[i + 1] * x[i + 1];
+		}
+	}
+
+	@Override
+	public Matrix leftSolve(Matrix other) {
+		assert size() == other.rows();
+
+		int size = size();
+		int columns = other.columns();
+		double[] answer = new double[size * columns];
+		double[] x = new double[size];
+
+		for (int c = 0; c < columns; c++) {
+			for (int i = 0; i < size; i++) {
+				x[i] = other.get(i, c);
+			}
+
+			solve(x);
+			System.arraycopy(x, 0, answer, c * size, size);
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofColumnMajor(size, columns));
+	}
+
+	@Override
+	public ArrayVecN leftSolve(VecN other) {
+		assert size() == other.size();
+
+		double[] x = new double[size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = other.get(i);
+		}
+
+		solve(x);
+		return VecN.of(x);
+	}
+
+	@Override
+	public Matrix rightSolve(Matrix other) {
+		assert size() == other.columns();
+
+		// XA = B is solved one row at a time as A'x' = b'
+		int size = size();
+		int rows = other.rows();
+		double[] answer = new double[rows * size];
+		double[] x = new double[size];
+
+		for (int r = 0; r < rows; r++) {
+			for (int i = 0; i < size; i++) {
+				x[i] = other.get(r, i);
+			}
+
+			solveTransposed(x);
+			System.arraycopy(x, 0, answer, r * size, size);
+		}
+
+		return Matrix.of(answer, MatrixLayout.ofRowMajor(rows, size));
+	}
+
+	@Override
+	public double determinant() {
+		return determinant;
+	}
+}
@@ -94,6 +94,31 @@ public interface MatrixLayout extends ElementLayout {
 		return new SymmetricMatrixLayout(size, offset, rowPadding);
 	}
 
+	/**
+	 * A LAPACK-style band layout, storing only the entries near the diagonal
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param lower the number of diagonals stored below the main diagonal
+	 * @param upper the number of diagonals stored above the main diagonal
+	 * @return a banded layout
+	 */
+	static MatrixLayout ofBanded(int rows, int columns, int lower, int upper) {
+		return ofBanded(rows, columns, lower, upper, 0);
+	}
+
+	/**
+	 * A LAPACK-style band layout, storing only the entries near the diagonal
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param lower the number of diagonals stored below the main diagonal
+	 * @param upper the number of diagonals stored above the main diagonal
+	 * @param offset the offset of the data in the backing array
+	 * @return a banded layout
+	 */
+	static MatrixLayout ofBanded(int rows, int columns, int lower, int upper, int offset) {
+		return new BandedMatrixLayout(rows, columns, lower, upper, offset);
+	}
+
 	/**
 	 * Gets a layout
 	 * @param rows the number of rows
@@ -119,6 +144,17 @@ public interface MatrixLayout extends ElementLayout {
 	 */
 	int arrayIndex(int row, int column);
 
+	/**
+	 * The index of a particular item of this matrix in the backing storage. Unlike {@link #arrayIndex(int, int)} this
+	 * does not overflow for layouts of storage that is larger than an array.
+	 * @param row the row
+	 * @param column the column
+	 * @return the index
+	 */
+	default long longIndex(int row, int column) {
+		return arrayIndex(row, column);
+	}
+
 	/**
 	 * The number of rows
 	 * @return the number of rows
@@ -177,7 +213,7 @@ public interface MatrixLayout extends ElementLayout {
 			return new EmptyMatrixLayout(rows, columns);
 		}
 
-		return new SubMatrixLayout(this, r, c, rows, columns);
+		return SubMatrixLayout.of(this, r, c, rows, columns);
 	}
 
 	/**
@@ -185,7 +221,7 @@ public interface MatrixLayout extends ElementLayout {
 	 * @return a layout
 	 */
 	default MatrixLayout transpose() {
-		return new TransposedMatrixLayout(this);
+		return TransposedMatrixLayout.of(this);
 	}
 
 	/**
@@ -228,7 +264,7 @@ public interface MatrixLayout extends ElementLayout {
 	 * @return a vector layout
 	 */
 	default VecNLayout row(int r) {
-		return new MatrixVecNLayout(subLayout(r, 0, 1, columns()).transpose());
+		return MatrixVecNLayout.of(subLayout(r, 0, 1, columns()).transpose());
 	}
 
 	/**
@@ -237,6 +273,6 @@ public interface MatrixLayout extends ElementLayout {
 	 * @return a vector layout
 	 */
 	default VecNLayout column(int c) {
-		return new MatrixVecNLayout(subLayout(0, c, rows(), 1));
+		return MatrixVecNLayout.of(subLayout(0, c, rows(), 1));
 	}
 }
@@ -0,0 +1,256 @@
+package brownshome.vecmath.matrix.segment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.basic.SymmetricMatrix;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.basic.layout.SymmetricMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.memory.MemoryScope;
+
+/**
+ * Reads and writes matrices as files that are memory-mapped when opened, so that opening a matrix does not read or
+ * convert its elements, however large it is.
+ * <p>
+ * A file is a 64 byte header followed by the elements of the matrix. The header holds the layout of the elements, and
+ * the byte order that they were written in, so they can be mapped as they are.
+ * <pre>
+ * offset  size  field
+ *  0      8     the magic bytes "VECMATRX"
+ *  8      4     the version of the format, which is 1
+ * 12      4     the kind of layout: 0 for a strided layout, and 1 for a packed symmetric layout
+ * 16      4     the byte order of the elements: 0 for big-endian, and 1 for little-endian
+ * 20      4     the number of rows
+ * 24      4     the number of columns
+ * 28      4     the row stride of a strided layout
+ * 32      4     the column stride of a strided layout
+ * 40      8     the index of element (0, 0) of a strided layout
+ * 48      8     the number of elements
+ * </pre>
+ * The fields of the header are big-endian, and unused fields are zero.
+ */
+public record MatrixFile() {
+	private static final byte[] MAGIC = "VECMATRX".getBytes(StandardCharsets.US_ASCII);
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 64;
+
+	private static final int STRIDED = 0;
+	private static final int SYMMETRIC = 1;
+
+	private static final int BIG_ENDIAN = 0;
+	private static final int LITTLE_ENDIAN = 1;
+
+	/**
+	 * Writes a matrix to a file, replacing the file if it exists. Strided and symmetric layouts with no gaps between
+	 * their elements are kept, so the matrix is written with a single copy, and other matrices are written packed.
+	 * @param path the file to write
+	 * @param matrix the matrix
+	 * @throws IOException if the file could not be written
+	 */
+	public static void write(Path path, Matrix matrix) throws IOException {
+		var source = SegmentViews.Dense.of(matrix);
+		var layout = source == null ? null : source.layout();
+
+		try (var scope = MemoryScope.open()) {
+			if (layout instanceof BasicMatrixLayout basic && basic.isContinuous()) {
+				long start = basic.longStart();
+				var file = create(path, basic.rows(), basic.columns(), basic.longIndex(0, 0) - start, basic.rowStride(), basic.columnStride(), scope);
+
+				file.backingSegment().copyFrom(source.segment(), start, 0, file.backingSegment().elements());
+				file.backingSegment().force();
+			} else if (layout instanceof SymmetricMatrixLayout symmetric && symmetric.isContinuous()) {
+				var file = createSymmetric(path, symmetric.matrixSize(), scope);
+
+				file.backingSegment().copyFrom(source.segment(), symmetric.longStart(), 0, file.backingSegment().elements());
+				file.backingSegment().force();
+			} else {
+				var file = matrix instanceof SymmetricMatrix
+						? createSymmetric(path, matrix.rows(), scope)
+						: create(path, matrix.rows(), matrix.columns(), matrix.isColumnOptimal() && !matrix.isRowOptimal(), scope);
+
+				file.set(matrix);
+				file.backingSegment().force();
+			}
+		}
+	}
+
+	/**
+	 * Creates a file holding a zeroed matrix, replacing the file if it exists, and maps it. Edits to the matrix are
+	 * written to the file. This allows a matrix that is too large for memory to be computed directly into a file.
+	 * @param path the file to create
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param columnMajor whether the matrix is stored column-major rather than row-major
+	 * @param scope the scope that owns the mapping
+	 * @return a file-backed matrix
+	 * @throws IOException if the file could not be created
+	 */
+	public static SegmentMatrix create(Path path, int rows, int columns, boolean columnMajor, MemoryScope scope) throws IOException {
+		return columnMajor
+				? create(path, rows, columns, 0, 1, rows, scope)
+				: create(path, rows, columns, 0, columns, 1, scope);
+	}
+
+	/**
+	 * Creates a file holding a zeroed symmetric matrix in a packed layout, replacing the file if it exists, and maps it.
+	 * Edits to the matrix are written to the file.
+	 * @param path the file to create
+	 * @param size the number of rows and columns
+	 * @param scope the scope that owns the mapping
+	 * @return a file-backed matrix
+	 * @throws IOException if the file could not be created
+	 */
+	public static SegmentMatrix createSymmetric(Path path, int size, MemoryScope scope) throws IOException {
+		var header = header(SYMMETRIC, size, size, 0, 0, 0, (long) size * (size + 1) / 2);
+
+		return create(path, header, scope);
+	}
+
+	private static SegmentMatrix create(Path path, int rows, int columns, long origin, int rowStride, int columnStride, MemoryScope scope) throws IOException {
+		var header = header(STRIDED, rows, columns, origin, rowStride, columnStride, (long) rows * columns);
+
+		return create(path, header, scope);
+	}
+
+	private static SegmentMatrix create(Path path, ByteBuffer header, MemoryScope scope) throws IOException {
+		try (var channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.write(header, 0);
+
+			// Writing the last byte sizes the file, and leaves the elements as a zeroed sparse region on most filesystems
+			long elements = header.getLong(48);
+			if (elements > 0) {
+				channel.write(ByteBuffer.allocate(1), HEADER_SIZE + elements * Double.BYTES - 1);
+			}
+
+			return map(channel, header, FileChannel.MapMode.READ_WRITE, scope);
+		}
+	}
+
+	/**
+	 * Opens a matrix file for reading and writing. Edits to the matrix are written to the file.
+	 * @param path the file to open
+	 * @param scope the scope that owns the mapping
+	 * @return a file-backed matrix
+	 * @throws IOException if the file could not be read, or is not a matrix file
+	 */
+	public static SegmentMatrix open(Path path, MemoryScope scope) throws IOException {
+		return open(path, FileChannel.MapMode.READ_WRITE, scope);
+	}
+
+	/**
+	 * Opens a matrix file. None of the elements are read until they are used.
+	 * @param path the file to open
+	 * @param mode the mapping mode. If this is {@link FileChannel.MapMode#READ_ONLY} then editing the matrix throws
+	 *             {@link java.nio.ReadOnlyBufferException}, and if this is {@link FileChannel.MapMode#PRIVATE} then
+	 *             edits are not written to the file.
+	 * @param scope the scope that owns the mapping
+	 * @return a file-backed matrix
+	 * @throws IOException if the file could not be read, or is not a matrix file
+	 */
+	public static SegmentMatrix open(Path path, FileChannel.MapMode mode, MemoryScope scope) throws IOException {
+		var options = mode == FileChannel.MapMode.READ_WRITE
+				? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+				: new StandardOpenOption[] { StandardOpenOption.READ };
+
+		try (var channel = FileChannel.open(path, options)) {
+			var header = ByteBuffer.allocate(HEADER_SIZE);
+
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("%s is too short to be a matrix file".formatted(path));
+				}
+			}
+
+			return map(channel, header, mode, scope);
+		}
+	}
+
+	private static ByteBuffer header(int kind, int rows, int columns, long origin, int rowStride, int columnStride, long elements) {
+		return ByteBuffer.allocate(HEADER_SIZE)
+				.put(0, MAGIC)
+				.putInt(8, VERSION)
+				.putInt(12, kind)
+				.putInt(16, ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? LITTLE_ENDIAN : BIG_ENDIAN)
+				.putInt(20, rows)
+				.putInt(24, columns)
+				.putInt(28, rowStride)
+				.putInt(32, columnStride)
+				.putLong(40, origin)
+				.putLong(48, elements);
+	}
+
+	private static SegmentMatrix map(FileChannel channel, ByteBuffer header, FileChannel.MapMode mode, MemoryScope scope) throws IOException {
+		var magic = new byte[MAGIC.length];
+		header.get(0, magic);
+
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Not a matrix file");
+		}
+
+		if (header.getInt(8) != VERSION) {
+			throw new IOException("Unsupported matrix file version %d".formatted(header.getInt(8)));
+		}
+
+		int kind = header.getInt(12);
+		var order = switch (header.getInt(16)) {
+			case BIG_ENDIAN -> ByteOrder.BIG_ENDIAN;
+			case LITTLE_ENDIAN -> ByteOrder.LITTLE_ENDIAN;
+			default -> throw new IOException("Invalid byte order %d".formatted(header.getInt(16)));
+		};
+
+		int rows = header.getInt(20);
+		int columns = header.getInt(24);
+		int rowStride = header.getInt(28);
+		int columnStride = header.getInt(32);
+		long origin = header.getLong(40);
+		long elements = header.getLong(48);
+
+		if (rows < 0 || columns < 0 || elements < 0) {
+			throw new IOException("Invalid matrix size");
+		}
+
+		// Divided rather than multiplied, so that a corrupt element count cannot overflow past the check
+		if (elements > (channel.size() - HEADER_SIZE) / Double.BYTES) {
+			throw new IOException("The matrix file is truncated");
+		}
+
+		var segment = DoubleSegment.map(channel, mode, HEADER_SIZE, elements, order, scope);
+
+		if (rows == 0 || columns == 0) {
+			return SegmentMatrix.of(segment, MatrixLayout.of(rows, columns, 0, rowStride, columnStride));
+		}
+
+		switch (kind) {
+			case STRIDED -> {
+				long start = origin + Math.min(0L, rowStride) * (rows - 1) + Math.min(0L, columnStride) * (columns - 1);
+				long end = origin + Math.max(0L, rowStride) * (rows - 1) + Math.max(0L, columnStride) * (columns - 1) + 1;
+
+				if (start < 0 || end > elements) {
+					throw new IOException("The layout of the matrix does not fit in the file");
+				}
+
+				return SegmentViews.strided(segment, origin, rows, columns, rowStride, columnStride);
+			}
+
+			case SYMMETRIC -> {
+				if (rows != columns || elements != (long) rows * (rows + 1) / 2) {
+					throw new IOException("The layout of the matrix does not fit in the file");
+				}
+
+				return SegmentMatrix.of(segment, MatrixLayout.ofSymmetricRowMajor(rows));
+			}
+
+			default -> throw new IOException("Invalid layout kind %d".formatted(kind));
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package brownshome.vecmath.matrix.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.generic.SegmentKernels;
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.array.FloatArrayMatrix;
+import brownshome.vecmath.matrix.basic.BasicSegmentMatrix;
+import brownshome.vecmath.matrix.basic.StagedMultiplication;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.basic.layout.StridedRuns;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.memory.MemoryScope;
+import brownshome.vecmath.vector.segment.SegmentVecN;
+
+/**
+ * A segment-backed matrix. The segment may be stored off-heap, and may have more elements than fit in an array.
+ */
+public interface SegmentMatrix extends GenericSegmentElement<MatrixLayout, Matrix>, MMatrix {
+	/**
+	 * Allocates a zeroed row-major matrix in the global scope
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a matrix
+	 */
+	static SegmentMatrix allocate(int rows, int columns) {
+		return allocate(rows, columns, MemoryScope.global());
+	}
+
+	/**
+	 * Allocates a zeroed row-major matrix
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param scope the scope that owns the matrix
+	 * @return a matrix
+	 */
+	static SegmentMatrix allocate(int rows, int columns, MemoryScope scope) {
+		return of(DoubleSegment.allocate((long) rows * columns, scope), MatrixLayout.ofRowMajor(rows, columns));
+	}
+
+	/**
+	 * Creates a matrix from the values in a segment. Edits to the segment will change this matrix and vice-versa.
+	 * @param segment the segment
+	 * @param layout the layout of the segment
+	 * @return a matrix
+	 */
+	static SegmentMatrix of(DoubleSegment segment, MatrixLayout layout) {
+		return new BasicSegmentMatrix(segment, layout);
+	}
+
+	@Override
+	default int rows() {
+		return layout().rows();
+	}
+
+	@Override
+	default int columns() {
+		return layout().columns();
+	}
+
+	@Override
+	default boolean isRowOptimal() {
+		return layout().isRowOptimal();
+	}
+
+	@Override
+	default boolean isColumnOptimal() {
+		return layout().isColumnOptimal();
+	}
+
+	@Override
+	default double get(int row, int column) {
+		return backingSegment().get(layout().longIndex(row, column));
+	}
+
+	@Override
+	default void set(double value, int row, int column) {
+		backingSegment().set(value, layout().longIndex(row, column));
+	}
+
+	@Override
+	default SegmentMatrix subMatrix(int r, int c, int rows, int columns) {
+		if (rows != 0 && columns != 0 && layout() instanceof BasicMatrixLayout basic) {
+			assert r + rows <= rows();
+			assert c + columns <= columns();
+
+			return SegmentViews.strided(backingSegment(), basic.longIndex(r, c), rows, columns, basic.rowStride(), basic.columnStride());
+		}
+
+		return of(backingSegment(), layout().subLayout(r, c, rows, columns));
+	}
+
+	@Override
+	default SegmentVecN row(int r) {
+		if (layout() instanceof BasicMatrixLayout basic) {
+			return SegmentViews.strided(backingSegment(), basic.longIndex(r, 0), columns(), basic.columnStride());
+		}
+
+		return SegmentVecN.of(backingSegment(), layout().row(r));
+	}
+
+	@Override
+	default SegmentVecN column(int c) {
+		if (layout() instanceof BasicMatrixLayout basic) {
+			return SegmentViews.strided(backingSegment(), basic.longIndex(0, c), rows(), basic.rowStride());
+		}
+
+		return SegmentVecN.of(backingSegment(), layout().column(c));
+	}
+
+	@Override
+	default SegmentMatrix transpose() {
+		return of(backingSegment(), layout().transpose());
+	}
+
+	@Override
+	default SegmentMatrix permuteByRow(int... rows) {
+		return of(backingSegment(), layout().permuteByRow(rows));
+	}
+
+	@Override
+	default SegmentMatrix permuteByColumn(int... columns) {
+		return of(backingSegment(), layout().permuteByColumn(columns));
+	}
+
+	@Override
+	default void set(Matrix e) {
+		assert e != null;
+
+		var source = SegmentViews.Dense.of(e);
+		var segment = backingSegment();
+
+		if (source != null && StridedRuns.forEach(layout(), source.layout(),
+				(to, from, length) -> segment.copyFrom(source.segment(), from, to, length))) {
+			return;
+		}
+
+		MMatrix.super.set(e);
+	}
+
+	@Override
+	default void addToSelf(Matrix e) {
+		assert e != null;
+
+		var source = SegmentViews.Dense.of(e);
+		var segment = backingSegment();
+
+		if (source != null && StridedRuns.forEach(layout(), source.layout(),
+				(to, from, length) -> SegmentKernels.add(source.segment(), from, segment, to, length))) {
+			return;
+		}
+
+		MMatrix.super.addToSelf(e);
+	}
+
+	@Override
+	default void scaleAddToSelf(Matrix e, double scale) {
+		assert e != null;
+
+		var source = SegmentViews.Dense.of(e);
+		var segment = backingSegment();
+
+		if (source != null && StridedRuns.forEach(layout(), source.layout(),
+				(to, from, length) -> SegmentKernels.scaleAdd(scale, source.segment(), from, segment, to, length))) {
+			return;
+		}
+
+		MMatrix.super.scaleAddToSelf(e, scale);
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		var segment = backingSegment();
+
+		if (StridedRuns.forEach(layout(), layout(), (index, ignored, length) -> SegmentKernels.scale(scale, segment, index, length))) {
+			return;
+		}
+
+		MMatrix.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(Matrix scale) {
+		assert scale != null;
+
+		var source = SegmentViews.Dense.of(scale);
+		var segment = backingSegment();
+
+		if (source != null && StridedRuns.forEach(layout(), source.layout(),
+				(to, from, length) -> SegmentKernels.multiply(source.segment(), from, segment, to, length))) {
+			return;
+		}
+
+		MMatrix.super.scaleSelf(scale);
+	}
+
+	@Override
+	default Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns() == other.rows();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& StagedMultiplication.isSupported(this)
+				&& StagedMultiplication.isSupported(other)) {
+			var result = SegmentViews.allocate(rows(), other.columns());
+			StagedMultiplication.multiply(1.0, this, other, 0.0, result, parallelism);
+			return result;
+		}
+
+		return MMatrix.super.multiply(other, parallelism);
+	}
+
+	@Override
+	default void multiplyAddInto(double alpha, Matrix other, double beta, MMatrix destination) {
+		assert columns() == other.rows();
+		assert destination.rows() == rows();
+		assert destination.columns() == other.columns();
+
+		if (!(other instanceof MatrixWithFastMultiply)
+				&& StagedMultiplication.isSupported(this)
+				&& StagedMultiplication.isSupported(other)
+				&& StagedMultiplication.isSupported(destination)
+				&& !destination.sharesStorage(this)
+				&& !destination.sharesStorage(other)) {
+			StagedMultiplication.multiply(alpha, this, other, beta, destination, Parallelism.global());
+			return;
+		}
+
+		MMatrix.super.multiplyAddInto(alpha, other, beta, destination);
+	}
+
+	@Override
+	default boolean sharesStorage(Matrix other) {
+		if (other instanceof SegmentMatrix s) {
+			return backingSegment().sharesStorage(s.backingSegment());
+		}
+
+		if (other instanceof ArrayMatrix a) {
+			return backingSegment().isBackedBy(a.backingArray());
+		}
+
+		return !(other instanceof FloatArrayMatrix) && MMatrix.super.sharesStorage(other);
+	}
+
+	@Override
+	default boolean exactEquals(Matrix other) {
+		assert other != null;
+
+		var source = SegmentViews.Dense.of(other);
+		var segment = backingSegment();
+		var equal = new boolean[] { true };
+
+		if (source != null && StridedRuns.forEach(layout(), source.layout(),
+				(a, b, length) -> equal[0] = equal[0] && SegmentKernels.equals(segment, a, source.segment(), b, length))) {
+			return equal[0];
+		}
+
+		return MMatrix.super.exactEquals(other);
+	}
+
+	@Override
+	default ArrayMatrix arrayBackedCopy(MatrixLayout layout) {
+		assert layout != null;
+
+		var result = Matrix.of(layout);
+		var array = result.backingArray();
+		var segment = backingSegment();
+
+		if (!StridedRuns.forEach(layout(), layout, (from, to, length) -> segment.copyTo(from, array, (int) to, (int) length))) {
+			result.set(this);
+		}
+
+		return result;
+	}
+
+	/**
+	 * A copy of this matrix, which is array-backed if it fits in an array, and is otherwise backed by a new segment in
+	 * the global scope
+	 * @return a copy
+	 */
+	@Override
+	default MMatrix copy() {
+		// Keep column-major matrices column-major so that the copy is made in long runs
+		var layout = layout().isColumnPacked() && !layout().isRowPacked()
+				? MatrixLayout.ofColumnMajor(rows(), columns())
+				: MatrixLayout.ofRowMajor(rows(), columns());
+
+		long elements = (long) rows() * columns();
+		if (elements <= SegmentViews.MAX_ARRAY_LENGTH) {
+			return arrayBackedCopy(layout);
+		}
+
+		var result = of(DoubleSegment.allocate(elements), layout);
+		result.set(this);
+		return result;
+	}
+}
@@ -0,0 +1,71 @@
+package brownshome.vecmath.matrix.segment;
+
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import brownshome.vecmath.vector.segment.SegmentVecN;
+
+/**
+ * Storage helpers shared by segment-backed matrices and matrix files
+ */
+record SegmentViews() {
+	/**
+	 * Results with more elements than this are stored in segments rather than arrays
+	 */
+	static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The storage of a matrix that element-wise operations can split into runs
+	 */
+	record Dense(DoubleSegment segment, MatrixLayout layout) {
+		static Dense of(Matrix matrix) {
+			if (matrix instanceof SegmentMatrix s) {
+				return new Dense(s.backingSegment(), s.layout());
+			}
+
+			if (matrix instanceof ArrayMatrix a) {
+				return new Dense(DoubleSegment.ofArray(a.backingArray()), a.layout());
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * A new matrix, which is array-backed if it fits in an array
+	 */
+	static MMatrix allocate(int rows, int columns) {
+		return (long) rows * columns <= MAX_ARRAY_LENGTH
+				? Matrix.of(MatrixLayout.ofRowMajor(rows, columns))
+				: SegmentMatrix.allocate(rows, columns);
+	}
+
+	/**
+	 * A strided view of a segment. The segment is sliced so that the offset of the layout is small, even if the origin
+	 * is beyond the range of an int.
+	 */
+	static SegmentMatrix strided(DoubleSegment segment, long origin, int rows, int columns, int rowStride, int columnStride) {
+		long start = origin + Math.min(0L, rowStride) * (rows - 1) + Math.min(0L, columnStride) * (columns - 1);
+		long end = origin + Math.max(0L, rowStride) * (rows - 1) + Math.max(0L, columnStride) * (columns - 1) + 1;
+
+		return SegmentMatrix.of(segment.slice(start, end - start),
+				MatrixLayout.of(rows, columns, Math.toIntExact(origin - start), rowStride, columnStride));
+	}
+
+	/**
+	 * A strided vector view of a segment, sliced in the same way as the matrix views
+	 */
+	static SegmentVecN strided(DoubleSegment segment, long origin, int size, int stride) {
+		if (size == 1) {
+			stride = 1;
+		}
+
+		long start = origin + Math.min(0L, stride) * (size - 1);
+		long end = origin + Math.max(0L, stride) * (size - 1) + 1;
+
+		return SegmentVecN.of(segment.slice(start, end - start), VecNLayout.of(size, Math.toIntExact(origin - start), stride));
+	}
+}
@@ -0,0 +1,19 @@
+package brownshome.vecmath.matrix.solver;
+
+/**
+ * Receives the progress of an iterative solver
+ */
+@FunctionalInterface
+public interface ConvergenceListener {
+	/**
+	 * A listener that ignores the progress
+	 */
+	ConvergenceListener NONE = (iteration, residualNorm) -> { };
+
+	/**
+	 * Called after each iteration
+	 * @param iteration the number of iterations that have been completed
+	 * @param residualNorm the norm of the residual b - Ax after this iteration. Some solvers report an estimate of this.
+	 */
+	void iteration(int iteration, double residualNorm);
+}
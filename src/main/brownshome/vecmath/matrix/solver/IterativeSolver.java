@@ -0,0 +1,86 @@
+package brownshome.vecmath.matrix.solver;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.solver.basic.ConjugateGradientSolver;
+import brownshome.vecmath.matrix.solver.basic.GmresSolver;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * A solver for Ax = b that only uses products of A with vectors. A solver allocates its working vectors when it is
+ * created and reuses them for every solve, so iterations do not allocate. Solvers must not be used by more than one
+ * thread at a time.
+ */
+public interface IterativeSolver {
+	/**
+	 * A preconditioned conjugate gradient solver, for symmetric positive definite matrices
+	 * @param matrix the matrix
+	 * @param preconditioner the preconditioner, which must also be symmetric positive definite
+	 * @return a solver
+	 */
+	static IterativeSolver conjugateGradient(Matrix matrix, Preconditioner preconditioner) {
+		return conjugateGradient(LinearOperator.of(matrix), matrix.rows(), preconditioner, SolverOptions.defaults());
+	}
+
+	/**
+	 * A preconditioned conjugate gradient solver, for symmetric positive definite operators
+	 * @param operator the operator
+	 * @param size the number of rows and columns of the operator
+	 * @param preconditioner the preconditioner, which must also be symmetric positive definite
+	 * @param options the options to use
+	 * @return a solver
+	 */
+	static IterativeSolver conjugateGradient(LinearOperator operator, int size, Preconditioner preconditioner, SolverOptions options) {
+		return new ConjugateGradientSolver(operator, size, preconditioner, options);
+	}
+
+	/**
+	 * A restarted GMRES solver, for any non-singular matrix
+	 * @param matrix the matrix
+	 * @param preconditioner the preconditioner, which is applied on the right so that the residual is not scaled
+	 * @param restart the number of iterations between restarts, which is the number of basis vectors that are stored
+	 * @return a solver
+	 */
+	static IterativeSolver gmres(Matrix matrix, Preconditioner preconditioner, int restart) {
+		return gmres(LinearOperator.of(matrix), matrix.rows(), preconditioner, restart, SolverOptions.defaults());
+	}
+
+	/**
+	 * A restarted GMRES solver, for any non-singular operator
+	 * @param operator the operator
+	 * @param size the number of rows and columns of the operator
+	 * @param preconditioner the preconditioner, which is applied on the right so that the residual is not scaled
+	 * @param restart the number of iterations between restarts, which is the number of basis vectors that are stored
+	 * @param options the options to use
+	 * @return a solver
+	 */
+	static IterativeSolver gmres(LinearOperator operator, int size, Preconditioner preconditioner, int restart, SolverOptions options) {
+		return new GmresSolver(operator, size, preconditioner, restart, options);
+	}
+
+	/**
+	 * The number of rows and columns of the operator
+	 * @return the size
+	 */
+	int size();
+
+	/**
+	 * Solves Ax = b, starting from the current value of x
+	 * @param b the right hand side
+	 * @param x the initial guess, which is overwritten with the solution
+	 * @return the outcome of the solve
+	 */
+	SolverResult solve(VecN b, MVecN x);
+
+	/**
+	 * Solves Ax = b, starting from zero
+	 * @param b the right hand side
+	 * @return the solution, which may not have converged
+	 */
+	default ArrayVecN solve(VecN b) {
+		var x = VecN.zero(size());
+		solve(b, x);
+		return x;
+	}
+}
@@ -0,0 +1,34 @@
+package brownshome.vecmath.matrix.solver;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.solver.basic.MatrixOperator;
+import brownshome.vecmath.matrix.sparse.SparseMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A square linear map, which is all that an iterative solver needs to know about a matrix. This allows matrices that
+ * are never formed explicitly to be solved.
+ */
+@FunctionalInterface
+public interface LinearOperator {
+	/**
+	 * An operator multiplying vectors by a matrix
+	 * @param matrix the matrix
+	 * @return an operator
+	 */
+	static LinearOperator of(Matrix matrix) {
+		if (matrix instanceof SparseMatrix sparse) {
+			return sparse::multiplyInto;
+		}
+
+		return new MatrixOperator(matrix);
+	}
+
+	/**
+	 * Applies this operator to a vector
+	 * @param vector the vector
+	 * @param destination the vector to write the result into, which must not share storage with the vector
+	 */
+	void multiplyInto(VecN vector, MVecN destination);
+}
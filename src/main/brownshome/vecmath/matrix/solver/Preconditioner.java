@@ -0,0 +1,57 @@
+package brownshome.vecmath.matrix.solver;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.solver.basic.IncompleteCholeskyPreconditioner;
+import brownshome.vecmath.matrix.solver.basic.JacobiPreconditioner;
+import brownshome.vecmath.matrix.solver.basic.SsorPreconditioner;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * An approximation to the inverse of a matrix, which is applied to the residuals of an iterative solver to speed up
+ * convergence
+ */
+@FunctionalInterface
+public interface Preconditioner {
+	/**
+	 * A preconditioner that leaves the residual unchanged
+	 */
+	Preconditioner IDENTITY = (residual, destination) -> destination.set(residual);
+
+	/**
+	 * The Jacobi preconditioner, which divides by the diagonal of the matrix. Zero diagonal entries are left unscaled.
+	 * @param matrix the matrix
+	 * @return a preconditioner
+	 */
+	static Preconditioner jacobi(Matrix matrix) {
+		return JacobiPreconditioner.of(matrix);
+	}
+
+	/**
+	 * The symmetric successive over-relaxation preconditioner of a symmetric matrix with no zero diagonal entries
+	 * @param matrix the matrix
+	 * @param omega the relaxation factor, between zero and two exclusive
+	 * @return a preconditioner
+	 */
+	static Preconditioner ssor(Matrix matrix, double omega) {
+		return new SsorPreconditioner(CsrMatrix.of(matrix), omega);
+	}
+
+	/**
+	 * The zero fill-in incomplete Cholesky preconditioner of a symmetric positive definite matrix. This is a Cholesky
+	 * factor that is only allowed entries where the matrix has them.
+	 * @param matrix the matrix
+	 * @return a preconditioner
+	 */
+	static Preconditioner incompleteCholesky(Matrix matrix) {
+		return new IncompleteCholeskyPreconditioner(CsrMatrix.of(matrix));
+	}
+
+	/**
+	 * Applies this preconditioner to a residual
+	 * @param residual the residual
+	 * @param destination the vector to write the result into, which must not share storage with the residual
+	 */
+	void applyInto(VecN residual, MVecN destination);
+}
@@ -0,0 +1,61 @@
+package brownshome.vecmath.matrix.solver;
+
+/**
+ * Options controlling when an iterative solver stops
+ *
+ * @param tolerance the solver stops once the norm of the residual b - Ax is at most this multiple of the norm of b
+ * @param maxIterations the solver stops after this many iterations, even if it has not converged
+ * @param listener a listener that is told the residual after each iteration
+ */
+public record SolverOptions(double tolerance, int maxIterations, ConvergenceListener listener) {
+	/**
+	 * The tolerance used when none is given
+	 */
+	public static final double DEFAULT_TOLERANCE = 1e-10;
+
+	/**
+	 * The iteration limit used when none is given
+	 */
+	public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+	public SolverOptions {
+		assert tolerance >= 0.0;
+		assert maxIterations >= 0;
+		assert listener != null;
+	}
+
+	/**
+	 * The default options
+	 * @return a set of options
+	 */
+	public static SolverOptions defaults() {
+		return new SolverOptions(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, ConvergenceListener.NONE);
+	}
+
+	/**
+	 * Returns a copy of these options with a different tolerance
+	 * @param tolerance the tolerance to use
+	 * @return a set of options
+	 */
+	public SolverOptions withTolerance(double tolerance) {
+		return new SolverOptions(tolerance, maxIterations, listener);
+	}
+
+	/**
+	 * Returns a copy of these options with a different iteration limit
+	 * @param maxIterations the iteration limit to use
+	 * @return a set of options
+	 */
+	public SolverOptions withMaxIterations(int maxIterations) {
+		return new SolverOptions(tolerance, maxIterations, listener);
+	}
+
+	/**
+	 * Returns a copy of these options with a different listener
+	 * @param listener the listener to use
+	 * @return a set of options
+	 */
+	public SolverOptions withListener(ConvergenceListener listener) {
+		return new SolverOptions(tolerance, maxIterations, listener);
+	}
+}
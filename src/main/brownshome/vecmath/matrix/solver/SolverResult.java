@@ -0,0 +1,10 @@
+package brownshome.vecmath.matrix.solver;
+
+/**
+ * The outcome of an iterative solve
+ *
+ * @param converged true if the residual reached the tolerance
+ * @param iterations the number of iterations performed
+ * @param residualNorm the norm of the final residual b - Ax
+ */
+public record SolverResult(boolean converged, int iterations, double residualNorm) { }
@@ -0,0 +1,93 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import brownshome.vecmath.matrix.solver.IterativeSolver;
+import brownshome.vecmath.matrix.solver.LinearOperator;
+import brownshome.vecmath.matrix.solver.Preconditioner;
+import brownshome.vecmath.matrix.solver.SolverOptions;
+import brownshome.vecmath.matrix.solver.SolverResult;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * The preconditioned conjugate gradient method for symmetric positive definite operators.
+ * <p>
+ * The solution is iterated in an array-backed copy of the initial guess, so that the vector updates use the array
+ * kernels whatever the type of the caller's vector.
+ */
+public final class ConjugateGradientSolver implements IterativeSolver {
+	private final LinearOperator operator;
+	private final int size;
+	private final Preconditioner preconditioner;
+	private final SolverOptions options;
+
+	private final ArrayVecN solution, residual, preconditioned, direction, product;
+
+	public ConjugateGradientSolver(LinearOperator operator, int size, Preconditioner preconditioner, SolverOptions options) {
+		assert size >= 0;
+
+		this.operator = operator;
+		this.size = size;
+		this.preconditioner = preconditioner;
+		this.options = options;
+
+		solution = VecN.zero(size);
+		residual = VecN.zero(size);
+		preconditioned = VecN.zero(size);
+		direction = VecN.zero(size);
+		product = VecN.zero(size);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SolverResult solve(VecN b, MVecN x) {
+		assert b.size() == size;
+		assert x.size() == size;
+
+		double threshold = options.tolerance() * b.length();
+
+		solution.set(x);
+		operator.multiplyInto(solution, product);
+		residual.set(b);
+		residual.scaleAddToSelf(product, -1.0);
+
+		double residualNorm = residual.length();
+		int iterations = 0;
+
+		preconditioner.applyInto(residual, preconditioned);
+		direction.set(preconditioned);
+		double rz = residual.dot(preconditioned);
+
+		while (residualNorm > threshold && iterations < options.maxIterations()) {
+			operator.multiplyInto(direction, product);
+
+			double curvature = direction.dot(product);
+			if (curvature <= 0.0) {
+				// The operator or preconditioner is not positive definite, so no further progress can be made
+				break;
+			}
+
+			double alpha = rz / curvature;
+			solution.scaleAddToSelf(direction, alpha);
+			residual.scaleAddToSelf(product, -alpha);
+
+			residualNorm = residual.length();
+			iterations++;
+			options.listener().iteration(iterations, residualNorm);
+
+			preconditioner.applyInto(residual, preconditioned);
+			double nextRz = residual.dot(preconditioned);
+			direction.scaleSelf(nextRz / rz);
+			direction.addToSelf(preconditioned);
+			rz = nextRz;
+		}
+
+		x.set(solution);
+
+		return new SolverResult(residualNorm <= threshold, iterations, residualNorm);
+	}
+}
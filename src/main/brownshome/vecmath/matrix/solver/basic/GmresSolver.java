@@ -0,0 +1,194 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.solver.IterativeSolver;
+import brownshome.vecmath.matrix.solver.LinearOperator;
+import brownshome.vecmath.matrix.solver.Preconditioner;
+import brownshome.vecmath.matrix.solver.SolverOptions;
+import brownshome.vecmath.matrix.solver.SolverResult;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * The restarted GMRES method for non-singular operators, with right preconditioning.
+ * <p>
+ * Each cycle builds an orthonormal basis of the Krylov space of AM⁻¹ using modified Gram-Schmidt, and reduces the
+ * Hessenberg matrix to triangular form with Givens rotations as it grows, which gives the residual norm of the least
+ * squares solution without computing it. This estimate is what is passed to the listener. The true residual is computed
+ * at the end of each cycle.
+ * <p>
+ * Algorithm from Saad &amp; Schultz, "GMRES: A Generalized Minimal Residual Algorithm for Solving Nonsymmetric Linear
+ * Systems"
+ */
+public final class GmresSolver implements IterativeSolver {
+	private final LinearOperator operator;
+	private final int size;
+	private final Preconditioner preconditioner;
+	private final int restart;
+	private final SolverOptions options;
+
+	private final ArrayVecN solution, residual, work;
+	private final ArrayVecN[] basis;
+
+	/**
+	 * The upper Hessenberg matrix, stored by row, which is rotated into upper triangular form
+	 */
+	private final double[][] hessenberg;
+	private final double[] cosines, sines, rotatedResidual, coefficients;
+
+	public GmresSolver(LinearOperator operator, int size, Preconditioner preconditioner, int restart, SolverOptions options) {
+		assert size >= 0;
+		assert restart > 0;
+
+		this.operator = operator;
+		this.size = size;
+		this.preconditioner = preconditioner;
+		this.restart = restart;
+		this.options = options;
+
+		solution = VecN.zero(size);
+		residual = VecN.zero(size);
+		work = VecN.zero(size);
+
+		basis = new ArrayVecN[restart + 1];
+		for (int i = 0; i < basis.length; i++) {
+			basis[i] = VecN.zero(size);
+		}
+
+		hessenberg = new double[restart + 1][restart];
+		cosines = new double[restart];
+		sines = new double[restart];
+		rotatedResidual = new double[restart + 1];
+		coefficients = new double[restart];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public SolverResult solve(VecN b, MVecN x) {
+		assert b.size() == size;
+		assert x.size() == size;
+
+		double threshold = options.tolerance() * b.length();
+		int iterations = 0;
+		double residualNorm;
+
+		solution.set(x);
+
+		while (true) {
+			operator.multiplyInto(solution, work);
+			residual.set(b);
+			residual.scaleAddToSelf(work, -1.0);
+			residualNorm = residual.length();
+
+			if (residualNorm <= threshold || iterations >= options.maxIterations()) {
+				break;
+			}
+
+			int steps = cycle(residualNorm, iterations, threshold);
+			iterations += steps;
+
+			// Form x += M⁻¹Vy, using the residual to hold Vy
+			backSubstitute(steps);
+
+			residual.set(basis[0]);
+			residual.scaleSelf(coefficients[0]);
+			for (int i = 1; i < steps; i++) {
+				residual.scaleAddToSelf(basis[i], coefficients[i]);
+			}
+
+			preconditioner.applyInto(residual, work);
+			solution.addToSelf(work);
+		}
+
+		x.set(solution);
+
+		return new SolverResult(residualNorm <= threshold, iterations, residualNorm);
+	}
+
+	/**
+	 * Runs the Arnoldi process from the current residual until the estimated residual converges, the iteration limit is
+	 * reached, or the basis is full
+	 * @return the number of basis vectors that were used
+	 */
+	private int cycle(double residualNorm, int iterations, double threshold) {
+		basis[0].set(residual);
+		basis[0].scaleSelf(1.0 / residualNorm);
+
+		Arrays.fill(rotatedResidual, 0.0);
+		rotatedResidual[0] = residualNorm;
+
+		int j = 0;
+		while (j < restart && iterations + j < options.maxIterations()) {
+			var next = basis[j + 1];
+			preconditioner.applyInto(basis[j], work);
+			operator.multiplyInto(work, next);
+
+			for (int i = 0; i <= j; i++) {
+				double h = next.dot(basis[i]);
+				hessenberg[i][j] = h;
+				next.scaleAddToSelf(basis[i], -h);
+			}
+
+			double norm = next.length();
+			hessenberg[j + 1][j] = norm;
+
+			if (norm != 0.0) {
+				next.scaleSelf(1.0 / norm);
+			}
+
+			for (int i = 0; i < j; i++) {
+				double upper = hessenberg[i][j];
+				double lower = hessenberg[i + 1][j];
+				hessenberg[i][j] = cosines[i] * upper + sines[i] * lower;
+				hessenberg[i + 1][j] = cosines[i] * lower - sines[i] * upper;
+			}
+
+			double diagonal = Math.hypot(hessenberg[j][j], norm);
+			if (diagonal == 0.0) {
+				cosines[j] = 1.0;
+				sines[j] = 0.0;
+			} else {
+				cosines[j] = hessenberg[j][j] / diagonal;
+				sines[j] = norm / diagonal;
+			}
+
+			hessenberg[j][j] = diagonal;
+			hessenberg[j + 1][j] = 0.0;
+
+			rotatedResidual[j + 1] = -sines[j] * rotatedResidual[j];
+			rotatedResidual[j] *= cosines[j];
+
+			j++;
+
+			double estimate = Math.abs(rotatedResidual[j]);
+			options.listener().iteration(iterations + j, estimate);
+
+			if (estimate <= threshold || norm == 0.0) {
+				break;
+			}
+		}
+
+		return j;
+	}
+
+	/**
+	 * Solves the rotated triangular system for the coefficients of the basis vectors
+	 */
+	private void backSubstitute(int steps) {
+		for (int i = steps - 1; i >= 0; i--) {
+			double sum = rotatedResidual[i];
+
+			for (int k = i + 1; k < steps; k++) {
+				sum -= hessenberg[i][k] * coefficients[k];
+			}
+
+			coefficients[i] = hessenberg[i][i] == 0.0 ? 0.0 : sum / hessenberg[i][i];
+		}
+	}
+}
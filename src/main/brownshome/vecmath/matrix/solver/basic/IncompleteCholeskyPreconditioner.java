@@ -0,0 +1,117 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import brownshome.vecmath.matrix.solver.Preconditioner;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * The zero fill-in incomplete Cholesky preconditioner. This computes a lower triangular L with the same pattern as the
+ * lower triangle of A, such that LL' matches A on that pattern, and applies the inverse of LL'.
+ * <p>
+ * Incomplete factorisations of positive definite matrices can break down. If a diagonal entry of L would be the square
+ * root of a non-positive value the absolute value of the diagonal entry of A is used in its place.
+ */
+public final class IncompleteCholeskyPreconditioner implements Preconditioner {
+	/**
+	 * The rows of L, with the columns in each row sorted so that the diagonal entry is last
+	 */
+	private final int[] starts, indices;
+	private final double[] values;
+
+	/**
+	 * Factorises a matrix
+	 * @param matrix a symmetric positive definite matrix with no zero diagonal entries
+	 */
+	public IncompleteCholeskyPreconditioner(CsrMatrix matrix) {
+		assert matrix.rows() == matrix.columns();
+
+		int size = matrix.rows();
+		int[] matrixStarts = matrix.rowStarts();
+		int[] matrixIndices = matrix.columnIndices();
+		double[] matrixValues = matrix.values();
+
+		starts = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			int count = 0;
+			for (int p = matrixStarts[i]; p < matrixStarts[i + 1] && matrixIndices[p] <= i; p++) {
+				count++;
+			}
+
+			starts[i + 1] = starts[i] + count;
+		}
+
+		indices = new int[starts[size]];
+		values = new double[starts[size]];
+
+		for (int i = 0; i < size; i++) {
+			int q = starts[i];
+			for (int p = matrixStarts[i]; q < starts[i + 1]; p++, q++) {
+				indices[q] = matrixIndices[p];
+				values[q] = matrixValues[p];
+			}
+
+			assert q > starts[i] && indices[q - 1] == i;
+
+			for (int p = starts[i]; p < starts[i + 1] - 1; p++) {
+				int k = indices[p];
+				values[p] = (values[p] - sparseDot(starts[i], p, starts[k], starts[k + 1] - 1)) / values[starts[k + 1] - 1];
+			}
+
+			int diagonal = starts[i + 1] - 1;
+			double pivot = values[diagonal] - sparseDot(starts[i], diagonal, starts[i], diagonal);
+			values[diagonal] = pivot > 0.0 ? Math.sqrt(pivot) : Math.sqrt(Math.abs(values[diagonal]));
+		}
+	}
+
+	/**
+	 * The dot product of two sorted runs of the factor
+	 */
+	private double sparseDot(int a, int aEnd, int b, int bEnd) {
+		double sum = 0.0;
+
+		while (a < aEnd && b < bEnd) {
+			if (indices[a] < indices[b]) {
+				a++;
+			} else if (indices[a] > indices[b]) {
+				b++;
+			} else {
+				sum += values[a++] * values[b++];
+			}
+		}
+
+		return sum;
+	}
+
+	@Override
+	public void applyInto(VecN residual, MVecN destination) {
+		int size = starts.length - 1;
+
+		assert residual.size() == size;
+		assert destination.size() == size;
+
+		// Solve Ly = r
+		for (int i = 0; i < size; i++) {
+			double sum = residual.get(i);
+			int diagonal = starts[i + 1] - 1;
+
+			for (int p = starts[i]; p < diagonal; p++) {
+				sum -= values[p] * destination.get(indices[p]);
+			}
+
+			destination.set(sum / values[diagonal], i);
+		}
+
+		// Solve L'z = y in-place, subtracting each solved value from the rows above it
+		for (int i = size - 1; i >= 0; i--) {
+			int diagonal = starts[i + 1] - 1;
+			double zi = destination.get(i) / values[diagonal];
+			destination.set(zi, i);
+
+			for (int p = starts[i]; p < diagonal; p++) {
+				int k = indices[p];
+				destination.set(destination.get(k) - values[p] * zi, k);
+			}
+		}
+	}
+}
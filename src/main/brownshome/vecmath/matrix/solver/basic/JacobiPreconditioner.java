@@ -0,0 +1,40 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.solver.Preconditioner;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A preconditioner that multiplies by the inverse of the diagonal of a matrix
+ *
+ * @param inverseDiagonal the reciprocal of each diagonal entry, or one where the diagonal entry is zero
+ */
+public record JacobiPreconditioner(double[] inverseDiagonal) implements Preconditioner {
+	/**
+	 * Creates a preconditioner from the diagonal of a matrix
+	 * @param matrix the matrix
+	 * @return a preconditioner
+	 */
+	public static JacobiPreconditioner of(Matrix matrix) {
+		assert matrix.rows() == matrix.columns();
+
+		double[] inverseDiagonal = new double[matrix.rows()];
+		for (int i = 0; i < inverseDiagonal.length; i++) {
+			double d = matrix.get(i, i);
+			inverseDiagonal[i] = d == 0.0 ? 1.0 : 1.0 / d;
+		}
+
+		return new JacobiPreconditioner(inverseDiagonal);
+	}
+
+	@Override
+	public void applyInto(VecN residual, MVecN destination) {
+		assert residual.size() == inverseDiagonal.length;
+		assert destination.size() == inverseDiagonal.length;
+
+		for (int i = 0; i < inverseDiagonal.length; i++) {
+			destination.set(residual.get(i) * inverseDiagonal[i], i);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.solver.LinearOperator;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * A linear operator that multiplies by a dense matrix without allocating
+ *
+ * @param matrix the matrix
+ */
+public record MatrixOperator(Matrix matrix) implements LinearOperator {
+	public MatrixOperator {
+		assert matrix.rows() == matrix.columns();
+	}
+
+	@Override
+	public void multiplyInto(VecN vector, MVecN destination) {
+		assert vector.size() == matrix.columns();
+		assert destination.size() == matrix.rows();
+
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+
+		// Only basic layouts with a unit column stride store each row as one contiguous run. Packed symmetric and permuted
+		// layouts can report themselves as row packed without that being true.
+		if (columns > 0
+				&& matrix instanceof ArrayMatrix array
+				&& array.layout() instanceof BasicMatrixLayout layout && layout.columnStride() == 1
+				&& vector instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			for (int r = 0; r < rows; r++) {
+				double sum = ArrayKernels.INSTANCE.dot(
+						array.backingArray(), layout.arrayIndex(r, 0),
+						a.backingArray(), a.layout().start(),
+						columns);
+
+				destination.set(sum, r);
+			}
+
+			return;
+		}
+
+		for (int r = 0; r < rows; r++) {
+			double sum = 0.0;
+			for (int c = 0; c < columns; c++) {
+				sum += matrix.get(r, c) * vector.get(c);
+			}
+
+			destination.set(sum, r);
+		}
+	}
+}
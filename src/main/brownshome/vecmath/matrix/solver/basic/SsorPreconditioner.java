@@ -0,0 +1,70 @@
+package brownshome.vecmath.matrix.solver.basic;
+
+import brownshome.vecmath.matrix.solver.Preconditioner;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * The symmetric successive over-relaxation preconditioner. With A = L + D + L', this applies the inverse of
+ * (D / ω + L) (D / ω)⁻¹ (D / ω + L)' / (2 - ω) using a forward and a backward sweep over the rows of A.
+ */
+public final class SsorPreconditioner implements Preconditioner {
+	private final CsrMatrix matrix;
+	private final double omega;
+	private final double[] diagonal;
+
+	/**
+	 * Creates a preconditioner
+	 * @param matrix a symmetric matrix with no zero diagonal entries
+	 * @param omega the relaxation factor, between zero and two exclusive
+	 */
+	public SsorPreconditioner(CsrMatrix matrix, double omega) {
+		assert matrix.rows() == matrix.columns();
+		assert omega > 0.0 && omega < 2.0;
+
+		this.matrix = matrix;
+		this.omega = omega;
+
+		diagonal = new double[matrix.rows()];
+		for (int i = 0; i < diagonal.length; i++) {
+			diagonal[i] = matrix.get(i, i);
+			assert diagonal[i] != 0.0;
+		}
+	}
+
+	@Override
+	public void applyInto(VecN residual, MVecN destination) {
+		int size = diagonal.length;
+		int[] starts = matrix.rowStarts();
+		int[] indices = matrix.columnIndices();
+		double[] values = matrix.values();
+
+		assert residual.size() == size;
+		assert destination.size() == size;
+
+		double scale = omega * (2.0 - omega);
+
+		// Solve (D + ωL)u = ω(2 - ω)r
+		for (int i = 0; i < size; i++) {
+			double sum = scale * residual.get(i);
+
+			for (int p = starts[i]; p < starts[i + 1] && indices[p] < i; p++) {
+				sum -= omega * values[p] * destination.get(indices[p]);
+			}
+
+			destination.set(sum / diagonal[i], i);
+		}
+
+		// Solve (D + ωL')z = Du in-place, as the rows of L' are the columns above the diagonal in each row of A
+		for (int i = size - 1; i >= 0; i--) {
+			double sum = 0.0;
+
+			for (int p = starts[i + 1] - 1; p >= starts[i] && indices[p] > i; p--) {
+				sum += values[p] * destination.get(indices[p]);
+			}
+
+			destination.set(destination.get(i) - omega * sum / diagonal[i], i);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package brownshome.vecmath.matrix.sparse;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.basic.ConstantMatrix;
+import brownshome.vecmath.matrix.basic.DiagonalMatrix;
+import brownshome.vecmath.matrix.basic.ZeroMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A sparse matrix in compressed sparse column form. The row indices of the entries in column c are stored in
+ * {@code rowIndices[columnStarts[c] .. columnStarts[c + 1]]}, sorted and without duplicates, and their values are
+ * stored in the same range of {@code values}. This is the same storage as the {@link CsrMatrix} of the transposed
+ * matrix.
+ * <p>
+ * The arrays are shared with any transposed views and products that keep the same sparsity pattern, so changing a value
+ * in the arrays changes the value in every matrix sharing them.
+ *
+ * @param rows the number of rows
+ * @param columns the number of columns
+ * @param columnStarts the index of the first entry of each column, followed by the number of entries
+ * @param rowIndices the row of each entry
+ * @param values the value of each entry
+ */
+public record CscMatrix(int rows, int columns, int[] columnStarts, int[] rowIndices, double[] values) implements SparseMatrix {
+	public CscMatrix {
+		assert rows >= 0 && columns >= 0;
+		assert columnStarts.length == columns + 1;
+		assert columnStarts[0] == 0;
+		assert rowIndices.length >= columnStarts[columns];
+		assert values.length >= columnStarts[columns];
+	}
+
+	/**
+	 * Creates a matrix from a list of entries, given as the row, column and value of each entry. Entries with the same
+	 * row and column are summed.
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param rowIndices the row of each entry
+	 * @param columnIndices the column of each entry
+	 * @param values the value of each entry
+	 * @return a matrix
+	 */
+	public static CscMatrix of(int rows, int columns, int[] rowIndices, int[] columnIndices, double[] values) {
+		return SparseKernels.compress(columns, rows, columnIndices, rowIndices, values).transpose();
+	}
+
+	/**
+	 * Creates a matrix holding the non-zero entries of a matrix
+	 * @param matrix the matrix to copy
+	 * @return a matrix
+	 */
+	public static CscMatrix of(Matrix matrix) {
+		if (matrix instanceof SparseMatrix sparse) {
+			return sparse.toCsc();
+		}
+
+		return SparseKernels.compress(matrix.transpose()).transpose();
+	}
+
+	@Override
+	public double get(int row, int column) {
+		assert row >= 0 && row < rows;
+		assert column >= 0 && column < columns;
+
+		int index = Arrays.binarySearch(rowIndices, columnStarts[column], columnStarts[column + 1], row);
+		return index < 0 ? 0.0 : values[index];
+	}
+
+	@Override
+	public int nonZeros() {
+		return columnStarts[columns];
+	}
+
+	@Override
+	public void forEachNonZero(Entry action) {
+		for (int c = 0; c < columns; c++) {
+			forEachInColumn(c, action);
+		}
+	}
+
+	/**
+	 * Calls the action for every stored entry in a column, in row order
+	 * @param column the column
+	 * @param action the action
+	 */
+	public void forEachInColumn(int column, Entry action) {
+		for (int p = columnStarts[column]; p < columnStarts[column + 1]; p++) {
+			action.accept(rowIndices[p], column, values[p]);
+		}
+	}
+
+	@Override
+	public boolean isColumnOptimal() {
+		return true;
+	}
+
+	@Override
+	public CsrMatrix transpose() {
+		return new CsrMatrix(columns, rows, columnStarts, rowIndices, values);
+	}
+
+	@Override
+	public CsrMatrix toCsr() {
+		return SparseKernels.transpose(transpose());
+	}
+
+	@Override
+	public CscMatrix toCsc() {
+		return this;
+	}
+
+	@Override
+	public void multiplyInto(VecN vector, MVecN destination) {
+		assert vector.size() == columns;
+		assert destination.size() == rows;
+
+		SparseKernels.multiplyColumns(rows, columnStarts, rowIndices, values, vector, destination);
+	}
+
+	/**
+	 * Multiplies this matrix by another. Products with sparse matrices are computed without densifying either operand.
+	 * Sparse products are not split into tasks.
+	 */
+	@Override
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns == other.rows();
+
+		if (other instanceof SparseMatrix sparse) {
+			// (AB) = (B^T A^T)^T, and the transposes of compressed column matrices are compressed row matrices
+			return SparseKernels.multiply(sparse.toCsc().transpose(), transpose()).transpose();
+		}
+
+		// Products with diagonal and constant matrices only scale or sum the rows of this matrix
+		if (other instanceof DiagonalMatrix diagonal) {
+			return diagonal.multiplyLeft(this);
+		}
+
+		if (other instanceof ZeroMatrix zero) {
+			return zero.multiplyLeft(this);
+		}
+
+		if (other instanceof ConstantMatrix constant) {
+			return SparseKernels.multiplyConstant(rows, false, columnStarts, rowIndices, values, constant);
+		}
+
+		return SparseKernels.multiplyDense(rows, false, columnStarts, rowIndices, values, other);
+	}
+
+	@Override
+	public CscMatrix scale(double scale) {
+		return transpose().scale(scale).transpose();
+	}
+
+	@Override
+	public CscMatrix negated() {
+		return scale(-1.0);
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
@@ -0,0 +1,170 @@
+package brownshome.vecmath.matrix.sparse;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.Parallelism;
+import brownshome.vecmath.matrix.basic.ConstantMatrix;
+import brownshome.vecmath.matrix.basic.DiagonalMatrix;
+import brownshome.vecmath.matrix.basic.ZeroMatrix;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+
+/**
+ * A sparse matrix in compressed sparse row form. The column indices of the entries in row r are stored in
+ * {@code columnIndices[rowStarts[r] .. rowStarts[r + 1]]}, sorted and without duplicates, and their values are stored in
+ * the same range of {@code values}.
+ * <p>
+ * The arrays are shared with any transposed views and products that keep the same sparsity pattern, so changing a value
+ * in the arrays changes the value in every matrix sharing them.
+ *
+ * @param rows the number of rows
+ * @param columns the number of columns
+ * @param rowStarts the index of the first entry of each row, followed by the number of entries
+ * @param columnIndices the column of each entry
+ * @param values the value of each entry
+ */
+public record CsrMatrix(int rows, int columns, int[] rowStarts, int[] columnIndices, double[] values) implements SparseMatrix {
+	public CsrMatrix {
+		assert rows >= 0 && columns >= 0;
+		assert rowStarts.length == rows + 1;
+		assert rowStarts[0] == 0;
+		assert columnIndices.length >= rowStarts[rows];
+		assert values.length >= rowStarts[rows];
+	}
+
+	/**
+	 * Creates a matrix from a list of entries, given as the row, column and value of each entry. Entries with the same
+	 * row and column are summed.
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param rowIndices the row of each entry
+	 * @param columnIndices the column of each entry
+	 * @param values the value of each entry
+	 * @return a matrix
+	 */
+	public static CsrMatrix of(int rows, int columns, int[] rowIndices, int[] columnIndices, double[] values) {
+		return SparseKernels.compress(rows, columns, rowIndices, columnIndices, values);
+	}
+
+	/**
+	 * Creates a matrix holding the non-zero entries of a matrix
+	 * @param matrix the matrix to copy
+	 * @return a matrix
+	 */
+	public static CsrMatrix of(Matrix matrix) {
+		if (matrix instanceof SparseMatrix sparse) {
+			return sparse.toCsr();
+		}
+
+		return SparseKernels.compress(matrix);
+	}
+
+	@Override
+	public double get(int row, int column) {
+		assert row >= 0 && row < rows;
+		assert column >= 0 && column < columns;
+
+		int index = Arrays.binarySearch(columnIndices, rowStarts[row], rowStarts[row + 1], column);
+		return index < 0 ? 0.0 : values[index];
+	}
+
+	@Override
+	public int nonZeros() {
+		return rowStarts[rows];
+	}
+
+	@Override
+	public void forEachNonZero(Entry action) {
+		for (int r = 0; r < rows; r++) {
+			forEachInRow(r, action);
+		}
+	}
+
+	/**
+	 * Calls the action for every stored entry in a row, in column order
+	 * @param row the row
+	 * @param action the action
+	 */
+	public void forEachInRow(int row, Entry action) {
+		for (int p = rowStarts[row]; p < rowStarts[row + 1]; p++) {
+			action.accept(row, columnIndices[p], values[p]);
+		}
+	}
+
+	@Override
+	public boolean isRowOptimal() {
+		return true;
+	}
+
+	@Override
+	public CscMatrix transpose() {
+		return new CscMatrix(columns, rows, rowStarts, columnIndices, values);
+	}
+
+	@Override
+	public CsrMatrix toCsr() {
+		return this;
+	}
+
+	@Override
+	public CscMatrix toCsc() {
+		return SparseKernels.transpose(this).transpose();
+	}
+
+	@Override
+	public void multiplyInto(VecN vector, MVecN destination) {
+		assert vector.size() == columns;
+		assert destination.size() == rows;
+
+		SparseKernels.multiplyRows(rows, rowStarts, columnIndices, values, vector, destination);
+	}
+
+	/**
+	 * Multiplies this matrix by another. Products with sparse matrices are computed without densifying either operand.
+	 * Sparse products are not split into tasks.
+	 */
+	@Override
+	public Matrix multiply(Matrix other, Parallelism parallelism) {
+		assert columns == other.rows();
+
+		if (other instanceof SparseMatrix sparse) {
+			return SparseKernels.multiply(this, sparse.toCsr());
+		}
+
+		// Products with diagonal and constant matrices only scale or sum the rows of this matrix
+		if (other instanceof DiagonalMatrix diagonal) {
+			return diagonal.multiplyLeft(this);
+		}
+
+		if (other instanceof ZeroMatrix zero) {
+			return zero.multiplyLeft(this);
+		}
+
+		if (other instanceof ConstantMatrix constant) {
+			return SparseKernels.multiplyConstant(rows, true, rowStarts, columnIndices, values, constant);
+		}
+
+		return SparseKernels.multiplyDense(rows, true, rowStarts, columnIndices, values, other);
+	}
+
+	@Override
+	public CsrMatrix scale(double scale) {
+		var scaled = Arrays.copyOf(values, nonZeros());
+		for (int p = 0; p < scaled.length; p++) {
+			scaled[p] *= scale;
+		}
+
+		return new CsrMatrix(rows, columns, rowStarts, columnIndices, scaled);
+	}
+
+	@Override
+	public CsrMatrix negated() {
+		return scale(-1.0);
+	}
+
+	@Override
+	public String toString() {
+		return Matrix.toString(this);
+	}
+}
@@ -0,0 +1,363 @@
+package brownshome.vecmath.matrix.sparse;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.ConstantMatrix;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * The loops shared by the compressed sparse matrices. These are written in terms of compressed rows, as a compressed
+ * column matrix is stored in the same way as the compressed row form of its transpose.
+ */
+record SparseKernels() {
+	/**
+	 * Compresses a list of entries into compressed row storage. Duplicate entries are summed.
+	 */
+	static CsrMatrix compress(int rows, int columns, int[] rowIndices, int[] columnIndices, double[] values) {
+		assert rowIndices.length == values.length;
+		assert columnIndices.length == values.length;
+
+		int[] starts = new int[rows + 1];
+		for (int row : rowIndices) {
+			assert row >= 0 && row < rows;
+
+			starts[row + 1]++;
+		}
+
+		for (int r = 0; r < rows; r++) {
+			starts[r + 1] += starts[r];
+		}
+
+		int[] next = Arrays.copyOf(starts, rows);
+		int[] indices = new int[values.length];
+		double[] compressed = new double[values.length];
+
+		for (int e = 0; e < values.length; e++) {
+			assert columnIndices[e] >= 0 && columnIndices[e] < columns;
+
+			int p = next[rowIndices[e]]++;
+			indices[p] = columnIndices[e];
+			compressed[p] = values[e];
+		}
+
+		// Merge duplicates in place, each row only moves towards the start of the arrays
+		int[] marker = new int[columns];
+		Arrays.fill(marker, -1);
+		double[] accumulator = new double[columns];
+		int nonZeros = 0;
+
+		for (int r = 0; r < rows; r++) {
+			int from = starts[r];
+			int to = starts[r + 1];
+			int rowStart = nonZeros;
+			starts[r] = rowStart;
+
+			for (int p = from; p < to; p++) {
+				int c = indices[p];
+
+				if (marker[c] < rowStart) {
+					marker[c] = nonZeros;
+					indices[nonZeros++] = c;
+					accumulator[c] = compressed[p];
+				} else {
+					accumulator[c] += compressed[p];
+				}
+			}
+
+			gatherRow(indices, compressed, rowStart, nonZeros, accumulator);
+		}
+
+		starts[rows] = nonZeros;
+
+		return new CsrMatrix(rows, columns, starts, Arrays.copyOf(indices, nonZeros), Arrays.copyOf(compressed, nonZeros));
+	}
+
+	/**
+	 * Compresses the non-zero entries of a matrix into compressed row storage
+	 */
+	static CsrMatrix compress(Matrix matrix) {
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+
+		int[] starts = new int[rows + 1];
+		int[] indices = new int[Math.max(rows, 1)];
+		double[] values = new double[indices.length];
+		int nonZeros = 0;
+
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				double value = matrix.get(r, c);
+
+				if (value != 0.0) {
+					if (nonZeros == indices.length) {
+						indices = Arrays.copyOf(indices, indices.length * 2);
+						values = Arrays.copyOf(values, indices.length);
+					}
+
+					indices[nonZeros] = c;
+					values[nonZeros++] = value;
+				}
+			}
+
+			starts[r + 1] = nonZeros;
+		}
+
+		return new CsrMatrix(rows, columns, starts, Arrays.copyOf(indices, nonZeros), Arrays.copyOf(values, nonZeros));
+	}
+
+	/**
+	 * Sorts a row by index, taking the values from the accumulator
+	 */
+	private static void gatherRow(int[] indices, double[] values, int from, int to, double[] accumulator) {
+		Arrays.sort(indices, from, to);
+
+		for (int p = from; p < to; p++) {
+			values[p] = accumulator[indices[p]];
+		}
+	}
+
+	/**
+	 * Converts compressed row storage into the compressed row storage of the transposed matrix
+	 */
+	static CsrMatrix transpose(CsrMatrix matrix) {
+		int rows = matrix.rows();
+		int columns = matrix.columns();
+		int[] starts = matrix.rowStarts();
+		int[] indices = matrix.columnIndices();
+		double[] values = matrix.values();
+		int nonZeros = starts[rows];
+
+		int[] transposedStarts = new int[columns + 1];
+		for (int p = 0; p < nonZeros; p++) {
+			transposedStarts[indices[p] + 1]++;
+		}
+
+		for (int c = 0; c < columns; c++) {
+			transposedStarts[c + 1] += transposedStarts[c];
+		}
+
+		int[] next = Arrays.copyOf(transposedStarts, columns);
+		int[] transposedIndices = new int[nonZeros];
+		double[] transposedValues = new double[nonZeros];
+
+		// Rows are visited in order, so each transposed row is sorted
+		for (int r = 0; r < rows; r++) {
+			for (int p = starts[r]; p < starts[r + 1]; p++) {
+				int q = next[indices[p]]++;
+				transposedIndices[q] = r;
+				transposedValues[q] = values[p];
+			}
+		}
+
+		return new CsrMatrix(columns, rows, transposedStarts, transposedIndices, transposedValues);
+	}
+
+	/**
+	 * Multiplies two matrices in compressed row storage using Gustavson's algorithm, which builds each row of the result
+	 * from the rows of the right matrix selected by the entries in the same row of the left matrix
+	 */
+	static CsrMatrix multiply(CsrMatrix left, CsrMatrix right) {
+		assert left.columns() == right.rows();
+
+		int rows = left.rows();
+		int columns = right.columns();
+		int[] leftStarts = left.rowStarts(), leftIndices = left.columnIndices();
+		int[] rightStarts = right.rowStarts(), rightIndices = right.columnIndices();
+		double[] leftValues = left.values(), rightValues = right.values();
+
+		int[] starts = new int[rows + 1];
+		int[] indices = new int[Math.max(left.nonZeros() + right.nonZeros(), 1)];
+		double[] values = new double[indices.length];
+
+		int[] marker = new int[columns];
+		Arrays.fill(marker, -1);
+		double[] accumulator = new double[columns];
+		int nonZeros = 0;
+
+		for (int r = 0; r < rows; r++) {
+			int rowStart = nonZeros;
+			starts[r] = rowStart;
+
+			long bound = 0;
+			for (int p = leftStarts[r]; p < leftStarts[r + 1]; p++) {
+				int k = leftIndices[p];
+				bound += rightStarts[k + 1] - rightStarts[k];
+			}
+
+			bound = Math.min(bound, columns);
+
+			if (nonZeros + bound > indices.length) {
+				long capacity = Math.max(2L * indices.length, nonZeros + bound);
+				assert capacity <= Integer.MAX_VALUE;
+
+				indices = Arrays.copyOf(indices, (int) capacity);
+				values = Arrays.copyOf(values, (int) capacity);
+			}
+
+			for (int p = leftStarts[r]; p < leftStarts[r + 1]; p++) {
+				int k = leftIndices[p];
+				double value = leftValues[p];
+
+				for (int q = rightStarts[k]; q < rightStarts[k + 1]; q++) {
+					int c = rightIndices[q];
+
+					if (marker[c] < rowStart) {
+						marker[c] = nonZeros;
+						indices[nonZeros++] = c;
+						accumulator[c] = value * rightValues[q];
+					} else {
+						accumulator[c] += value * rightValues[q];
+					}
+				}
+			}
+
+			gatherRow(indices, values, rowStart, nonZeros, accumulator);
+		}
+
+		starts[rows] = nonZeros;
+
+		return new CsrMatrix(rows, columns, starts, Arrays.copyOf(indices, nonZeros), Arrays.copyOf(values, nonZeros));
+	}
+
+	/**
+	 * Multiplies a dense matrix by a sparse one. Each stored entry (i, k) adds a multiple of row k of the dense matrix to
+	 * row i of the result, which is a contiguous run in both matrices.
+	 * @param rows the number of rows in the sparse matrix
+	 * @param compressedRows true if the sparse storage is in compressed row form, false if it is in compressed column form
+	 */
+	static ArrayMatrix multiplyDense(int rows, boolean compressedRows, int[] starts, int[] indices, double[] values, Matrix dense) {
+		int columns = dense.columns();
+		var result = Matrix.of(MatrixLayout.ofRowMajor(rows, columns));
+
+		if (columns == 0) {
+			return result;
+		}
+
+		ArrayMatrix right;
+		if (dense instanceof ArrayMatrix a && a.layout() instanceof BasicMatrixLayout layout && layout.columnStride() == 1) {
+			right = a;
+		} else {
+			// Symmetric and permuted layouts do not store rows contiguously, even if they are row packed
+			right = Matrix.of(MatrixLayout.ofRowMajor(dense.rows(), columns));
+			right.set(dense);
+		}
+
+		double[] rightArray = right.backingArray();
+		double[] resultArray = result.backingArray();
+		var rightLayout = right.layout();
+		var resultLayout = result.layout();
+
+		for (int outer = 0; outer < starts.length - 1; outer++) {
+			for (int p = starts[outer]; p < starts[outer + 1]; p++) {
+				int i = compressedRows ? outer : indices[p];
+				int k = compressedRows ? indices[p] : outer;
+
+				ArrayKernels.INSTANCE.scaleAdd(values[p],
+						rightArray, rightLayout.arrayIndex(k, 0),
+						resultArray, resultLayout.arrayIndex(i, 0),
+						columns);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Multiplies a sparse matrix by a constant one. Every row of the result is the sum of the stored values in the same row
+	 * of the sparse matrix, scaled by the constant, so only the stored values are visited.
+	 * @param rows the number of rows in the sparse matrix
+	 * @param compressedRows true if the sparse storage is in compressed row form, false if it is in compressed column form
+	 */
+	static ArrayMatrix multiplyConstant(int rows, boolean compressedRows, int[] starts, int[] indices, double[] values, ConstantMatrix constant) {
+		double[] sums = new double[rows];
+
+		for (int outer = 0; outer < starts.length - 1; outer++) {
+			for (int p = starts[outer]; p < starts[outer + 1]; p++) {
+				sums[compressedRows ? outer : indices[p]] += values[p];
+			}
+		}
+
+		int columns = constant.columns();
+		var result = Matrix.of(MatrixLayout.ofRowMajor(rows, columns));
+		double[] array = result.backingArray();
+
+		for (int r = 0; r < rows; r++) {
+			Arrays.fill(array, r * columns, (r + 1) * columns, sums[r] * constant.value());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Multiplies a vector by a matrix in compressed row form, computing each element of the result as a sparse dot
+	 * product
+	 */
+	static void multiplyRows(int rows, int[] starts, int[] indices, double[] values, VecN vector, MVecN destination) {
+		if (vector instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			double[] array = a.backingArray();
+			int offset = a.layout().start();
+
+			for (int r = 0; r < rows; r++) {
+				double sum = 0.0;
+				for (int p = starts[r]; p < starts[r + 1]; p++) {
+					sum += values[p] * array[offset + indices[p]];
+				}
+
+				destination.set(sum, r);
+			}
+
+			return;
+		}
+
+		for (int r = 0; r < rows; r++) {
+			double sum = 0.0;
+			for (int p = starts[r]; p < starts[r + 1]; p++) {
+				sum += values[p] * vector.get(indices[p]);
+			}
+
+			destination.set(sum, r);
+		}
+	}
+
+	/**
+	 * Multiplies a vector by a matrix in compressed column form, scattering a multiple of each column into the result
+	 */
+	static void multiplyColumns(int rows, int[] starts, int[] indices, double[] values, VecN vector, MVecN destination) {
+		double[] result;
+		int offset;
+
+		if (destination instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			result = a.backingArray();
+			offset = a.layout().start();
+			Arrays.fill(result, offset, offset + rows, 0.0);
+		} else {
+			result = new double[rows];
+			offset = 0;
+		}
+
+		for (int c = 0; c < starts.length - 1; c++) {
+			double x = vector.get(c);
+
+			if (x == 0.0) {
+				continue;
+			}
+
+			for (int p = starts[c]; p < starts[c + 1]; p++) {
+				result[offset + indices[p]] += values[p] * x;
+			}
+		}
+
+		if (!(destination instanceof ArrayVecN a && a.backingArray() == result)) {
+			for (int r = 0; r < rows; r++) {
+				destination.set(result[r], r);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package brownshome.vecmath.matrix.sparse;
+
+import brownshome.vecmath.matrix.MatrixWithFastMultiply;
+import brownshome.vecmath.matrix.factorisation.SymbolicFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.SymbolicCholesky;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+
+/**
+ * A matrix that only stores its non-zero entries. Entries that are set to zero explicitly are still stored, so that the
+ * sparsity pattern of a matrix does not depend on its values.
+ * <p>
+ * Products with other sparse matrices are sparse, and products with dense matrices are dense. Element-wise operations
+ * other than scaling produce dense results, and should be avoided for large matrices.
+ */
+public interface SparseMatrix extends MatrixWithFastMultiply {
+	/**
+	 * An operation on a stored entry of a sparse matrix
+	 */
+	@FunctionalInterface
+	interface Entry {
+		/**
+		 * Operates on an entry
+		 * @param row the row of the entry
+		 * @param column the column of the entry
+		 * @param value the value of the entry
+		 */
+		void accept(int row, int column, double value);
+	}
+
+	/**
+	 * The number of stored entries in this matrix
+	 * @return the number of entries
+	 */
+	int nonZeros();
+
+	/**
+	 * Calls the action for every stored entry in this matrix, in storage order
+	 * @param action the action
+	 */
+	void forEachNonZero(Entry action);
+
+	/**
+	 * Multiplies a column vector by this matrix
+	 * @param vector the vector, which must have as many elements as this matrix has columns
+	 * @param destination the vector to write the result into, which must not share storage with the vector
+	 */
+	void multiplyInto(VecN vector, MVecN destination);
+
+	/**
+	 * Multiplies a column vector by this matrix
+	 * @param vector the vector, which must have as many elements as this matrix has columns
+	 * @return the result
+	 */
+	default ArrayVecN multiply(VecN vector) {
+		var result = VecN.zero(rows());
+		multiplyInto(vector, result);
+		return result;
+	}
+
+	/**
+	 * Analyses the sparsity pattern of this symmetric matrix for a sparse LDL' factorisation. This computes a
+	 * fill-reducing ordering and the pattern of the factor, which can then be used to factorise this matrix, or any other
+	 * matrix with the same pattern, without repeating the analysis.
+	 * @return the analysis
+	 */
+	default SymbolicFactorisation symbolicCholesky() {
+		assert rows() == columns();
+
+		return new SymbolicCholesky(toCsr());
+	}
+
+	/**
+	 * This matrix in compressed sparse row form. The result might be this matrix if it is already in that form.
+	 * @return a matrix
+	 */
+	CsrMatrix toCsr();
+
+	/**
+	 * This matrix in compressed sparse column form. The result might be this matrix if it is already in that form.
+	 * @return a matrix
+	 */
+	CscMatrix toCsc();
+}
@@ -0,0 +1,421 @@
+package brownshome.vecmath.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A fixed-length sequence of doubles indexed by long, which may be stored off-heap, and may be longer than an array.
+ * <p>
+ * The doubles are stored in a series of buffers which each hold the same power-of-two number of doubles, apart from the
+ * last which may be shorter. Slices of a segment share its storage, and are invalidated along with it when the scope
+ * that owns it is closed.
+ */
+public final class DoubleSegment {
+	/**
+	 * The number of doubles in each allocated buffer is 2^CHUNK_SHIFT, which is the largest power of two that fits in
+	 * a direct buffer
+	 */
+	private static final int CHUNK_SHIFT = 27;
+	private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+	/**
+	 * Storage made from one buffer is indexed as if its chunks were larger than any buffer
+	 */
+	private static final int SINGLE_CHUNK_SHIFT = 31;
+
+	/**
+	 * The size of the scratch array used to copy between overlapping parts of the same storage
+	 */
+	private static final int BLOCK_SIZE = 4096;
+
+	/**
+	 * The buffers shared by a segment and all of its slices
+	 */
+	static final class Storage {
+		private final int shift;
+		private final int mask;
+		private DoubleBuffer[] chunks;
+
+		/**
+		 * The mapped buffers that the chunks view, or null if this storage is not memory-mapped
+		 */
+		private MappedByteBuffer[] mappings;
+
+		private Storage(DoubleBuffer[] chunks, int shift) {
+			this(chunks, shift, null);
+		}
+
+		private Storage(DoubleBuffer[] chunks, int shift, MappedByteBuffer[] mappings) {
+			this.chunks = chunks;
+			this.shift = shift;
+			this.mask = (int) ((1L << shift) - 1);
+			this.mappings = mappings;
+		}
+
+		private DoubleBuffer[] chunks() {
+			var result = chunks;
+
+			if (result == null) {
+				throw new IllegalStateException("The scope of this segment has been closed");
+			}
+
+			return result;
+		}
+
+		/**
+		 * The object that owns the memory of this storage, which is shared by all storage wrapping the same array
+		 */
+		private Object base() {
+			var result = chunks();
+
+			return result.length == 1 && result[0].hasArray() ? result[0].array() : this;
+		}
+
+		/**
+		 * The position of an index of this storage in its base, so that indices of storage sharing a base can be compared
+		 */
+		private long basePosition(long index) {
+			var result = chunks();
+
+			return result.length == 1 && result[0].hasArray() ? result[0].arrayOffset() + index : index;
+		}
+
+		void release() {
+			chunks = null;
+			mappings = null;
+		}
+	}
+
+	private final Storage storage;
+	private final long offset;
+	private final long elements;
+
+	private DoubleSegment(Storage storage, long offset, long elements) {
+		this.storage = storage;
+		this.offset = offset;
+		this.elements = elements;
+	}
+
+	/**
+	 * Allocates a zeroed off-heap segment in the global scope
+	 * @param elements the number of doubles in the segment
+	 * @return a segment
+	 */
+	public static DoubleSegment allocate(long elements) {
+		return allocate(elements, MemoryScope.global());
+	}
+
+	/**
+	 * Allocates a zeroed off-heap segment
+	 * @param elements the number of doubles in the segment
+	 * @param scope the scope that owns the segment
+	 * @return a segment
+	 */
+	public static DoubleSegment allocate(long elements, MemoryScope scope) {
+		assert elements >= 0;
+
+		var chunks = new DoubleBuffer[Math.toIntExact((elements + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+		for (int i = 0; i < chunks.length; i++) {
+			int length = (int) Math.min(CHUNK_SIZE, elements - i * CHUNK_SIZE);
+
+			chunks[i] = ByteBuffer.allocateDirect(length * Double.BYTES)
+					.order(ByteOrder.nativeOrder())
+					.asDoubleBuffer();
+		}
+
+		var storage = new Storage(chunks, CHUNK_SHIFT);
+		scope.register(storage);
+		return new DoubleSegment(storage, 0, elements);
+	}
+
+	/**
+	 * Maps part of a file as a segment. If the mode is {@link FileChannel.MapMode#READ_WRITE} then edits to the segment
+	 * are written to the file, and the file is extended if it is too short.
+	 * @param channel the channel of the file, which may be closed once the segment has been mapped
+	 * @param mode the mapping mode
+	 * @param position the position in the file of the first double, in bytes
+	 * @param elements the number of doubles in the segment
+	 * @param order the byte order of the doubles in the file
+	 * @param scope the scope that owns the segment
+	 * @return a segment
+	 * @throws IOException if the file could not be mapped
+	 */
+	public static DoubleSegment map(FileChannel channel, FileChannel.MapMode mode, long position, long elements, ByteOrder order, MemoryScope scope) throws IOException {
+		assert position >= 0;
+		assert elements >= 0;
+
+		var mappings = new MappedByteBuffer[Math.toIntExact((elements + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+		var chunks = new DoubleBuffer[mappings.length];
+		for (int i = 0; i < chunks.length; i++) {
+			long length = Math.min(CHUNK_SIZE, elements - i * CHUNK_SIZE);
+
+			mappings[i] = channel.map(mode, position + i * CHUNK_SIZE * Double.BYTES, length * Double.BYTES);
+			chunks[i] = mappings[i].order(order).asDoubleBuffer();
+		}
+
+		var storage = new Storage(chunks, CHUNK_SHIFT, mappings);
+		scope.register(storage);
+		return new DoubleSegment(storage, 0, elements);
+	}
+
+	/**
+	 * Creates a segment viewing an array. Edits to the array will change this segment and vice-versa.
+	 * @param array the array
+	 * @return a segment
+	 */
+	public static DoubleSegment ofArray(double[] array) {
+		return new DoubleSegment(new Storage(new DoubleBuffer[] { DoubleBuffer.wrap(array) }, SINGLE_CHUNK_SHIFT), 0, array.length);
+	}
+
+	/**
+	 * Creates a segment viewing the remaining elements of a series of buffers, such as buffers of native or memory-mapped
+	 * memory. Edits to the buffers will change this segment and vice-versa.
+	 * @param buffers the buffers. Every buffer but the last must have the same power-of-two number of remaining elements,
+	 *                and the last must not have more than that.
+	 * @return a segment
+	 * @throws IllegalArgumentException if the buffers are not sized as described
+	 */
+	public static DoubleSegment ofBuffers(DoubleBuffer... buffers) {
+		var chunks = new DoubleBuffer[buffers.length];
+		long elements = 0;
+
+		for (int i = 0; i < buffers.length; i++) {
+			chunks[i] = buffers[i].slice();
+			elements += chunks[i].capacity();
+		}
+
+		if (chunks.length <= 1) {
+			return new DoubleSegment(new Storage(chunks, SINGLE_CHUNK_SHIFT), 0, elements);
+		}
+
+		int chunkSize = chunks[0].capacity();
+		if (Integer.bitCount(chunkSize) != 1) {
+			throw new IllegalArgumentException("The buffers must hold a power of two number of doubles");
+		}
+
+		for (int i = 1; i < chunks.length; i++) {
+			int capacity = chunks[i].capacity();
+
+			if (i == chunks.length - 1 ? capacity > chunkSize : capacity != chunkSize) {
+				throw new IllegalArgumentException("Only the last buffer may have a different size");
+			}
+		}
+
+		return new DoubleSegment(new Storage(chunks, Integer.numberOfTrailingZeros(chunkSize)), 0, elements);
+	}
+
+	/**
+	 * The number of doubles in this segment
+	 * @return the number of doubles
+	 */
+	public long elements() {
+		return elements;
+	}
+
+	/**
+	 * Whether the scope that owns this segment is still open
+	 * @return a boolean
+	 */
+	public boolean isAlive() {
+		return storage.chunks != null;
+	}
+
+	/**
+	 * Gets a double from this segment
+	 * @param index the index
+	 * @return the double
+	 * @throws IllegalStateException if the scope of this segment has been closed
+	 */
+	public double get(long index) {
+		assert index >= 0;
+		assert index < elements;
+
+		long i = offset + index;
+		return storage.chunks()[(int) (i >>> storage.shift)].get((int) i & storage.mask);
+	}
+
+	/**
+	 * Sets a double in this segment
+	 * @param value the value to set
+	 * @param index the index
+	 * @throws IllegalStateException if the scope of this segment has been closed
+	 */
+	public void set(double value, long index) {
+		assert index >= 0;
+		assert index < elements;
+
+		long i = offset + index;
+		storage.chunks()[(int) (i >>> storage.shift)].put((int) i & storage.mask, value);
+	}
+
+	/**
+	 * A segment viewing part of this segment
+	 * @param offset the index in this segment of the first double of the slice
+	 * @param elements the number of doubles in the slice
+	 * @return a segment
+	 */
+	public DoubleSegment slice(long offset, long elements) {
+		assert offset >= 0;
+		assert elements >= 0;
+		assert offset + elements <= this.elements;
+
+		return new DoubleSegment(storage, this.offset + offset, elements);
+	}
+
+	/**
+	 * Copies doubles from this segment into an array
+	 * @param index the index in this segment to copy from
+	 * @param array the array
+	 * @param arrayOffset the index in the array to copy to
+	 * @param length the number of doubles to copy
+	 */
+	public void copyTo(long index, double[] array, int arrayOffset, int length) {
+		assert index >= 0;
+		assert index + length <= elements;
+
+		var chunks = storage.chunks();
+		long i = offset + index;
+
+		while (length > 0) {
+			int position = (int) i & storage.mask;
+			int count = (int) Math.min(length, storage.mask + 1L - position);
+
+			chunks[(int) (i >>> storage.shift)].get(position, array, arrayOffset, count);
+
+			i += count;
+			arrayOffset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Copies doubles from an array into this segment
+	 * @param array the array
+	 * @param arrayOffset the index in the array to copy from
+	 * @param index the index in this segment to copy to
+	 * @param length the number of doubles to copy
+	 */
+	public void copyFrom(double[] array, int arrayOffset, long index, int length) {
+		assert index >= 0;
+		assert index + length <= elements;
+
+		var chunks = storage.chunks();
+		long i = offset + index;
+
+		while (length > 0) {
+			int position = (int) i & storage.mask;
+			int count = (int) Math.min(length, storage.mask + 1L - position);
+
+			chunks[(int) (i >>> storage.shift)].put(position, array, arrayOffset, count);
+
+			i += count;
+			arrayOffset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Copies doubles from another segment into this one. The two ranges may overlap.
+	 * @param source the segment to copy from
+	 * @param sourceIndex the index in the source to copy from
+	 * @param index the index in this segment to copy to
+	 * @param length the number of doubles to copy
+	 */
+	public void copyFrom(DoubleSegment source, long sourceIndex, long index, long length) {
+		assert sourceIndex >= 0;
+		assert sourceIndex + length <= source.elements;
+		assert index >= 0;
+		assert index + length <= elements;
+
+		if (sharesStorage(source)) {
+			copyOverlapping(source, sourceIndex, index, length);
+			return;
+		}
+
+		var from = source.storage;
+		var to = storage;
+		var fromChunks = from.chunks();
+		var toChunks = to.chunks();
+		long s = source.offset + sourceIndex;
+		long d = offset + index;
+
+		while (length > 0) {
+			int sourcePosition = (int) s & from.mask;
+			int position = (int) d & to.mask;
+			int count = (int) Math.min(length, Math.min(from.mask + 1L - sourcePosition, to.mask + 1L - position));
+
+			toChunks[(int) (d >>> to.shift)].put(position, fromChunks[(int) (s >>> from.shift)], sourcePosition, count);
+
+			s += count;
+			d += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Copies through a scratch array, starting from the end of the range if the destination is after the source so that
+	 * nothing is overwritten before it is read. The segments may wrap the same array at different offsets, so their
+	 * positions are compared in the array rather than in their storage.
+	 */
+	private void copyOverlapping(DoubleSegment source, long sourceIndex, long index, long length) {
+		var scratch = new double[(int) Math.min(length, BLOCK_SIZE)];
+
+		if (storage.basePosition(offset + index) > source.storage.basePosition(source.offset + sourceIndex)) {
+			for (long end = length; end > 0; ) {
+				int count = (int) Math.min(scratch.length, end);
+				end -= count;
+
+				source.copyTo(sourceIndex + end, scratch, 0, count);
+				copyFrom(scratch, 0, index + end, count);
+			}
+		} else {
+			for (long start = 0; start < length; ) {
+				int count = (int) Math.min(scratch.length, length - start);
+
+				source.copyTo(sourceIndex + start, scratch, 0, count);
+				copyFrom(scratch, 0, index + start, count);
+
+				start += count;
+			}
+		}
+	}
+
+	/**
+	 * Writes any changes to a memory-mapped segment to the storage device that holds the file. This does nothing if this
+	 * segment is not memory-mapped.
+	 * @throws IllegalStateException if the scope of this segment has been closed
+	 */
+	public void force() {
+		storage.chunks();
+
+		var mappings = storage.mappings;
+		if (mappings != null) {
+			for (var mapping : mappings) {
+				mapping.force();
+			}
+		}
+	}
+
+	/**
+	 * Returns true if writing to one of these segments may change the values of the other. This is conservative, and may
+	 * return true for segments that do not overlap.
+	 * @param other the other segment
+	 * @return a boolean
+	 */
+	public boolean sharesStorage(DoubleSegment other) {
+		return storage == other.storage || storage.base() == other.storage.base();
+	}
+
+	/**
+	 * Returns true if this segment views the given array
+	 * @param array the array
+	 * @return a boolean
+	 */
+	public boolean isBackedBy(double[] array) {
+		return storage.base() == array;
+	}
+}
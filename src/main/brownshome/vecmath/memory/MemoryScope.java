@@ -0,0 +1,81 @@
+package brownshome.vecmath.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The lifetime of a group of segments. Closing a scope invalidates every segment allocated in it, along with any slices
+ * of those segments, so that later accesses throw {@link IllegalStateException} instead of reading released memory.
+ * <p>
+ * Direct buffers cannot be freed explicitly, so the memory of a closed scope is returned to the system when its buffers
+ * are next garbage collected. A scope must not be closed while other threads are accessing its segments.
+ */
+public final class MemoryScope implements AutoCloseable {
+	private static final MemoryScope GLOBAL = new MemoryScope(false);
+
+	private final boolean closeable;
+	private final List<DoubleSegment.Storage> storage = new ArrayList<>();
+	private boolean alive = true;
+
+	private MemoryScope(boolean closeable) {
+		this.closeable = closeable;
+	}
+
+	/**
+	 * The scope that is never closed. Segments in this scope live until they are garbage collected.
+	 * @return the global scope
+	 */
+	public static MemoryScope global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Opens a new scope, which should be closed once its segments are no longer needed
+	 * @return a scope
+	 */
+	public static MemoryScope open() {
+		return new MemoryScope(true);
+	}
+
+	/**
+	 * Whether this scope has not yet been closed
+	 * @return a boolean
+	 */
+	public synchronized boolean isAlive() {
+		return alive;
+	}
+
+	synchronized void register(DoubleSegment.Storage segment) {
+		if (!alive) {
+			throw new IllegalStateException("This scope has been closed");
+		}
+
+		// The global scope must not keep its segments reachable
+		if (closeable) {
+			storage.add(segment);
+		}
+	}
+
+	/**
+	 * Closes this scope, invalidating all of the segments allocated in it
+	 * @throws UnsupportedOperationException if this is the global scope
+	 */
+	@Override
+	public synchronized void close() {
+		if (!closeable) {
+			throw new UnsupportedOperationException("The global scope cannot be closed");
+		}
+
+		if (!alive) {
+			return;
+		}
+
+		alive = false;
+
+		for (var s : storage) {
+			s.release();
+		}
+
+		storage.clear();
+	}
+}
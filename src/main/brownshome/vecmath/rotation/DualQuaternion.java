@@ -0,0 +1,328 @@
+package brownshome.vecmath.rotation;
+
+import brownshome.vecmath.rotation.array.ArrayDualQuaternion;
+import brownshome.vecmath.rotation.basic.BasicArrayDualQuaternion;
+import brownshome.vecmath.rotation.basic.BasicDualQuaternion;
+import brownshome.vecmath.transform.AffineTransform3;
+import brownshome.vecmath.transform.RigidTransform3;
+import brownshome.vecmath.transform.basic.AffineKernels;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+import brownshome.vecmath.vector.Vec4;
+
+/**
+ * A unit dual quaternion, r + εd, representing a rigid-body transform. The real part r is the rotation, and the dual part
+ * d is (t, 0) r / 2 where t is the translation that is applied after the rotation.
+ * <p>
+ * Unlike a {@link RigidTransform3}, weighted sums of dual quaternions can be normalised to give a sensible blend of the
+ * transforms, which makes them suitable for skinning.
+ * <p>
+ * The array-backed form stores the real part followed by the dual part, as eight consecutive elements in the order
+ * rx, ry, rz, rw, dx, dy, dz, dw.
+ */
+public interface DualQuaternion {
+	/**
+	 * The number of array elements used by an array-backed dual quaternion
+	 */
+	int ELEMENTS = 8;
+
+	/**
+	 * A dual quaternion that leaves every point where it is
+	 */
+	DualQuaternion IDENTITY = new BasicDualQuaternion(0, 0, 0, 1, 0, 0, 0, 0);
+
+	/**
+	 * Creates a dual quaternion from its parts
+	 * @param real the real part
+	 * @param dual the dual part
+	 * @return a newly created dual quaternion
+	 */
+	static MDualQuaternion of(Vec4 real, Vec4 dual) {
+		return new BasicDualQuaternion(real.x(), real.y(), real.z(), real.w(), dual.x(), dual.y(), dual.z(), dual.w());
+	}
+
+	/**
+	 * Creates a dual quaternion that rotates and then translates
+	 * @param rotation the rotation, which must be normalised
+	 * @param translation the translation
+	 * @return a newly created dual quaternion
+	 */
+	static MDualQuaternion of(Rot3 rotation, Vec3 translation) {
+		var result = new BasicDualQuaternion(0, 0, 0, 1, 0, 0, 0, 0);
+		result.set(rotation, translation);
+		return result;
+	}
+
+	/**
+	 * Creates a dual quaternion with the same effect as a rigid-body transform
+	 * @param transform the transform
+	 * @return a newly created dual quaternion
+	 */
+	static MDualQuaternion of(RigidTransform3 transform) {
+		return of(transform.rotation(), transform.translation());
+	}
+
+	/**
+	 * Creates an array-backed identity dual quaternion
+	 * @return a dual quaternion
+	 */
+	static ArrayDualQuaternion ofArrayBacked() {
+		var result = of(new double[ELEMENTS], 0);
+		result.setToIdentity();
+		return result;
+	}
+
+	/**
+	 * Creates a dual quaternion from eight consecutive elements of an array. Edits to the array will change this dual
+	 * quaternion and vice-versa.
+	 * @param array the array
+	 * @param offset the index of the first element
+	 * @return a dual quaternion
+	 */
+	static ArrayDualQuaternion of(double[] array, int offset) {
+		return new BasicArrayDualQuaternion(array, offset);
+	}
+
+	/**
+	 * Transforms a series of points by blends of dual quaternions, which is dual quaternion skinning. Each point is
+	 * transformed by the normalised weighted sum of a fixed number of dual quaternions. No objects are allocated.
+	 * @param joints an array holding the dual quaternions in the array-backed form, one after another
+	 * @param jointsOffset the index of the first dual quaternion
+	 * @param influenceJoints for each point, the indices of the dual quaternions that influence it
+	 * @param influenceWeights for each point, the weight of each influence
+	 * @param influenceOffset the index in the influence arrays of the influences of the first point
+	 * @param influencesPerPoint the number of influences of each point
+	 * @param source the array holding the points to transform, as interleaved x, y, z components
+	 * @param sourceOffset the index of the x component of the first point in the source array
+	 * @param destination the array to write the transformed points to. This may be the source array if the offsets are
+	 *                    the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first point in the destination array
+	 * @param count the number of points
+	 */
+	static void skinPoints(double[] joints, int jointsOffset,
+	                       int[] influenceJoints, double[] influenceWeights, int influenceOffset, int influencesPerPoint,
+	                       double[] source, int sourceOffset,
+	                       double[] destination, int destinationOffset,
+	                       int count) {
+		assert influencesPerPoint > 0;
+		assert source != destination || sourceOffset == destinationOffset
+				|| Math.abs(sourceOffset - destinationOffset) >= count * 3L;
+
+		for (int i = 0; i < count; i++) {
+			int influence = influenceOffset + i * influencesPerPoint;
+
+			// The first influence decides which hemisphere the blend is done in
+			int pivot = jointsOffset + influenceJoints[influence] * ELEMENTS;
+			double px = joints[pivot], py = joints[pivot + 1], pz = joints[pivot + 2], pw = joints[pivot + 3];
+
+			double rx = 0, ry = 0, rz = 0, rw = 0;
+			double dx = 0, dy = 0, dz = 0, dw = 0;
+
+			for (int k = 0; k < influencesPerPoint; k++) {
+				int j = jointsOffset + influenceJoints[influence + k] * ELEMENTS;
+				double weight = influenceWeights[influence + k];
+
+				if (joints[j] * px + joints[j + 1] * py + joints[j + 2] * pz + joints[j + 3] * pw < 0.0) {
+					weight = -weight;
+				}
+
+				rx += joints[j] * weight;
+				ry += joints[j + 1] * weight;
+				rz += joints[j + 2] * weight;
+				rw += joints[j + 3] * weight;
+				dx += joints[j + 4] * weight;
+				dy += joints[j + 5] * weight;
+				dz += joints[j + 6] * weight;
+				dw += joints[j + 7] * weight;
+			}
+
+			// Normalising the real part normalises the rotation, so only the translation needs the norm
+			double inverseNormSquared = 1.0 / (rx * rx + ry * ry + rz * rz + rw * rw);
+			double s = 2.0 * inverseNormSquared;
+
+			// 2 d r* / |r|^2, the component of d parallel to r does not contribute to the vector part
+			double tx = s * (-dw * rx + dx * rw - dy * rz + dz * ry);
+			double ty = s * (-dw * ry + dx * rz + dy * rw - dz * rx);
+			double tz = s * (-dw * rz - dx * ry + dy * rx + dz * rw);
+
+			int a = sourceOffset + i * 3, b = destinationOffset + i * 3;
+			double x = source[a], y = source[a + 1], z = source[a + 2];
+
+			destination[b] = (1 - s * (ry * ry + rz * rz)) * x + s * (rx * ry - rz * rw) * y + s * (rx * rz + ry * rw) * z + tx;
+			destination[b + 1] = s * (rx * ry + rz * rw) * x + (1 - s * (rx * rx + rz * rz)) * y + s * (ry * rz - rx * rw) * z + ty;
+			destination[b + 2] = s * (rx * rz - ry * rw) * x + s * (ry * rz + rx * rw) * y + (1 - s * (rx * rx + ry * ry)) * z + tz;
+		}
+	}
+
+	/**
+	 * The real part of this dual quaternion, which is the rotation
+	 * @return the real part
+	 */
+	Rot3 real();
+
+	/**
+	 * The dual part of this dual quaternion
+	 * @return the dual part
+	 */
+	Vec4 dual();
+
+	/**
+	 * The translation applied by this dual quaternion after the rotation
+	 * @return a newly created vector
+	 */
+	default Vec3 translation() {
+		var r = real();
+		var d = dual();
+
+		// The vector part of 2 d r*
+		return Vec3.of(
+				2 * (-d.w() * r.x() + d.x() * r.w() - d.y() * r.z() + d.z() * r.y()),
+				2 * (-d.w() * r.y() + d.x() * r.z() + d.y() * r.w() - d.z() * r.x()),
+				2 * (-d.w() * r.z() - d.x() * r.y() + d.y() * r.x() + d.z() * r.w())
+		);
+	}
+
+	/**
+	 * Transforms a point, which is rotated and then translated
+	 * @param point the point
+	 * @return the transformed point
+	 */
+	default Vec3 transformedPoint(Vec3 point) {
+		var result = point.copy();
+		setToTransformedPoint(result);
+		return result;
+	}
+
+	/**
+	 * Transforms a point, replacing its value
+	 * @param point the point
+	 */
+	default void setToTransformedPoint(MVec3 point) {
+		var r = real();
+		var d = dual();
+
+		real().setToRotated(point);
+		point.addToSelf(
+				2 * (-d.w() * r.x() + d.x() * r.w() - d.y() * r.z() + d.z() * r.y()),
+				2 * (-d.w() * r.y() + d.x() * r.z() + d.y() * r.w() - d.z() * r.x()),
+				2 * (-d.w() * r.z() - d.x() * r.y() + d.y() * r.x() + d.z() * r.w())
+		);
+	}
+
+	/**
+	 * Transforms a direction, which is rotated but not translated
+	 * @param direction the direction
+	 * @return the transformed direction
+	 */
+	default Vec3 transformedDirection(Vec3 direction) {
+		return real().rotated(direction);
+	}
+
+	/**
+	 * Transforms a direction, replacing its value
+	 * @param direction the direction
+	 */
+	default void setToTransformedDirection(MVec3 direction) {
+		real().setToRotated(direction);
+	}
+
+	/**
+	 * Transforms a series of points stored as interleaved x, y, z components
+	 * @param source the array holding the points
+	 * @param sourceOffset the index of the x component of the first point in the source array
+	 * @param destination the array to write the transformed points to. This may be the source array if the offsets are
+	 *                    the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first point in the destination array
+	 * @param count the number of points
+	 */
+	default void transformPoints(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		var r = real();
+		var d = dual();
+		double x = r.x(), y = r.y(), z = r.z(), w = r.w();
+
+		AffineKernels.transform(
+				1 - 2 * (y * y + z * z), 2 * (x * y - z * w),     2 * (x * z + y * w),
+				2 * (x * y + z * w),     1 - 2 * (x * x + z * z), 2 * (y * z - x * w),
+				2 * (x * z - y * w),     2 * (y * z + x * w),     1 - 2 * (x * x + y * y),
+				2 * (-d.w() * x + d.x() * w - d.y() * z + d.z() * y),
+				2 * (-d.w() * y + d.x() * z + d.y() * w - d.z() * x),
+				2 * (-d.w() * z - d.x() * y + d.y() * x + d.z() * w),
+				source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * Transforms a range of the vectors in a buffer as points
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void transformPoints(Vec3Buffer buffer, int from, int to) {
+		buffer.transform(asAffine(), from, to);
+	}
+
+	/**
+	 * The product of this dual quaternion and the given one, which transforms by the right dual quaternion and then this
+	 * one
+	 * @param right the dual quaternion to apply first
+	 * @return the product
+	 */
+	default DualQuaternion multiply(DualQuaternion right) {
+		var result = copy();
+		result.multiplyRightSelf(right);
+		return result;
+	}
+
+	/**
+	 * The dual quaternion that undoes this one
+	 * @return the inverse
+	 */
+	default DualQuaternion inverted() {
+		var result = copy();
+		result.setToInverted();
+		return result;
+	}
+
+	/**
+	 * This dual quaternion scaled to unit length, with the dual part made orthogonal to the real part
+	 * @return a normalised dual quaternion
+	 */
+	default DualQuaternion normalised() {
+		var result = copy();
+		result.setToNormalised();
+		return result;
+	}
+
+	/**
+	 * This dual quaternion as a rigid-body transform
+	 * @return a newly created transform
+	 */
+	default RigidTransform3 asRigidTransform() {
+		return RigidTransform3.of(real(), translation());
+	}
+
+	/**
+	 * This dual quaternion as an affine transform
+	 * @return a newly created transform
+	 */
+	default AffineTransform3 asAffine() {
+		return AffineTransform3.of(real().asMat3(), translation());
+	}
+
+	/**
+	 * Returns true if this dual quaternion is exactly equal to the given one
+	 * @param other the other dual quaternion
+	 * @return a boolean
+	 */
+	default boolean exactEquals(DualQuaternion other) {
+		return real().exactEquals(other.real()) && dual().exactEquals(other.dual());
+	}
+
+	/**
+	 * Returns a mutable copy of this dual quaternion
+	 * @return a copy
+	 */
+	default MDualQuaternion copy() {
+		return of(real(), dual());
+	}
+}
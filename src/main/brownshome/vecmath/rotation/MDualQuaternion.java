@@ -0,0 +1,193 @@
+package brownshome.vecmath.rotation;
+
+import brownshome.vecmath.transform.RigidTransform3;
+import brownshome.vecmath.vector.MVec4;
+import brownshome.vecmath.vector.Vec3;
+
+/**
+ * A mutable dual quaternion. None of the mutating operations allocate.
+ */
+public interface MDualQuaternion extends DualQuaternion {
+	@Override
+	MRot3 real();
+
+	@Override
+	MVec4 dual();
+
+	/**
+	 * Sets both parts of this dual quaternion
+	 */
+	default void set(double rx, double ry, double rz, double rw, double dx, double dy, double dz, double dw) {
+		real().set(rx, ry, rz, rw);
+		dual().set(dx, dy, dz, dw);
+	}
+
+	/**
+	 * Sets this dual quaternion
+	 * @param q the value to set this dual quaternion to
+	 */
+	default void set(DualQuaternion q) {
+		real().set(q.real());
+		dual().set(q.dual());
+	}
+
+	/**
+	 * Sets this dual quaternion to rotate and then translate
+	 * @param rotation the rotation, which must be normalised
+	 * @param translation the translation
+	 */
+	default void set(Rot3 rotation, Vec3 translation) {
+		double rx = rotation.x(), ry = rotation.y(), rz = rotation.z(), rw = rotation.w();
+		double tx = translation.x(), ty = translation.y(), tz = translation.z();
+
+		// (t, 0) r / 2
+		set(
+				rx, ry, rz, rw,
+				0.5 * (tx * rw + ty * rz - tz * ry),
+				0.5 * (-tx * rz + ty * rw + tz * rx),
+				0.5 * (tx * ry - ty * rx + tz * rw),
+				-0.5 * (tx * rx + ty * ry + tz * rz)
+		);
+	}
+
+	/**
+	 * Sets this dual quaternion to have the same effect as a rigid-body transform
+	 * @param transform the transform
+	 */
+	default void set(RigidTransform3 transform) {
+		set(transform.rotation(), transform.translation());
+	}
+
+	/**
+	 * Sets this dual quaternion to the identity
+	 */
+	default void setToIdentity() {
+		set(0, 0, 0, 1, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Sets this dual quaternion to this * right, which transforms by the right dual quaternion and then this one
+	 * @param right the dual quaternion to apply first
+	 */
+	default void multiplyRightSelf(DualQuaternion right) {
+		var r = real();
+		var d = dual();
+		var rr = right.real();
+		var rd = right.dual();
+
+		double ax = r.x(), ay = r.y(), az = r.z(), aw = r.w();
+		double bx = d.x(), by = d.y(), bz = d.z(), bw = d.w();
+		double cx = rr.x(), cy = rr.y(), cz = rr.z(), cw = rr.w();
+		double ex = rd.x(), ey = rd.y(), ez = rd.z(), ew = rd.w();
+
+		// (a + εb)(c + εe) = ac + ε(ae + bc)
+		set(
+				aw * cx + ax * cw + ay * cz - az * cy,
+				aw * cy - ax * cz + ay * cw + az * cx,
+				aw * cz + ax * cy - ay * cx + az * cw,
+				aw * cw - ax * cx - ay * cy - az * cz,
+
+				aw * ex + ax * ew + ay * ez - az * ey + bw * cx + bx * cw + by * cz - bz * cy,
+				aw * ey - ax * ez + ay * ew + az * ex + bw * cy - bx * cz + by * cw + bz * cx,
+				aw * ez + ax * ey - ay * ex + az * ew + bw * cz + bx * cy - by * cx + bz * cw,
+				aw * ew - ax * ex - ay * ey - az * ez + bw * cw - bx * cx - by * cy - bz * cz
+		);
+	}
+
+	/**
+	 * Sets this dual quaternion to left * this, which transforms by this dual quaternion and then the left one
+	 * @param left the dual quaternion to apply last
+	 */
+	default void multiplyLeftSelf(DualQuaternion left) {
+		var lr = left.real();
+		var ld = left.dual();
+		var r = real();
+		var d = dual();
+
+		double ax = lr.x(), ay = lr.y(), az = lr.z(), aw = lr.w();
+		double bx = ld.x(), by = ld.y(), bz = ld.z(), bw = ld.w();
+		double cx = r.x(), cy = r.y(), cz = r.z(), cw = r.w();
+		double ex = d.x(), ey = d.y(), ez = d.z(), ew = d.w();
+
+		// (a + εb)(c + εe) = ac + ε(ae + bc)
+		set(
+				aw * cx + ax * cw + ay * cz - az * cy,
+				aw * cy - ax * cz + ay * cw + az * cx,
+				aw * cz + ax * cy - ay * cx + az * cw,
+				aw * cw - ax * cx - ay * cy - az * cz,
+
+				aw * ex + ax * ew + ay * ez - az * ey + bw * cx + bx * cw + by * cz - bz * cy,
+				aw * ey - ax * ez + ay * ew + az * ex + bw * cy - bx * cz + by * cw + bz * cx,
+				aw * ez + ax * ey - ay * ex + az * ew + bw * cz + bx * cy - by * cx + bz * cw,
+				aw * ew - ax * ex - ay * ey - az * ez + bw * cw - bx * cx - by * cy - bz * cz
+		);
+	}
+
+	/**
+	 * Sets this dual quaternion to the one that undoes it. This dual quaternion must be normalised.
+	 */
+	default void setToInverted() {
+		var r = real();
+		var d = dual();
+
+		set(-r.x(), -r.y(), -r.z(), r.w(), -d.x(), -d.y(), -d.z(), d.w());
+	}
+
+	/**
+	 * Scales this dual quaternion to unit length and makes the dual part orthogonal to the real part. The results are
+	 * undefined if the real part is zero.
+	 */
+	default void setToNormalised() {
+		var r = real();
+		var d = dual();
+
+		double inverseNorm = 1.0 / r.length();
+		double rx = r.x() * inverseNorm, ry = r.y() * inverseNorm, rz = r.z() * inverseNorm, rw = r.w() * inverseNorm;
+		double dx = d.x() * inverseNorm, dy = d.y() * inverseNorm, dz = d.z() * inverseNorm, dw = d.w() * inverseNorm;
+
+		double parallel = rx * dx + ry * dy + rz * dz + rw * dw;
+
+		set(
+				rx, ry, rz, rw,
+				dx - rx * parallel, dy - ry * parallel, dz - rz * parallel, dw - rw * parallel
+		);
+	}
+
+	/**
+	 * Sets this dual quaternion to the normalised weighted sum of some dual quaternions, which is dual quaternion linear
+	 * blending. Dual quaternions are negated where needed so that all of them lie in the same hemisphere as the first.
+	 * @param quaternions the dual quaternions to blend
+	 * @param weights the weight of each dual quaternion
+	 */
+	default void setToBlend(DualQuaternion[] quaternions, double[] weights) {
+		assert quaternions.length == weights.length && quaternions.length > 0;
+
+		var pivot = quaternions[0].real();
+		double px = pivot.x(), py = pivot.y(), pz = pivot.z(), pw = pivot.w();
+
+		double rx = 0, ry = 0, rz = 0, rw = 0;
+		double dx = 0, dy = 0, dz = 0, dw = 0;
+
+		for (int i = 0; i < quaternions.length; i++) {
+			var r = quaternions[i].real();
+			var d = quaternions[i].dual();
+			double weight = weights[i];
+
+			if (r.x() * px + r.y() * py + r.z() * pz + r.w() * pw < 0.0) {
+				weight = -weight;
+			}
+
+			rx += r.x() * weight;
+			ry += r.y() * weight;
+			rz += r.z() * weight;
+			rw += r.w() * weight;
+			dx += d.x() * weight;
+			dy += d.y() * weight;
+			dz += d.z() * weight;
+			dw += d.w() * weight;
+		}
+
+		set(rx, ry, rz, rw, dx, dy, dz, dw);
+		setToNormalised();
+	}
+}
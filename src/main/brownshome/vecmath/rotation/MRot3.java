@@ -22,6 +22,17 @@ public interface MRot3 extends GenericMRot<Vec3, MVec3, Vec4, Rot3>, Rot3, MVec4
 		);
 	}
 
+	@Override
+	default void multiplyLeftSelf(Rot3 left) {
+		set(
+				w() * left.x() + left.w() * x() + left.y() * z() - left.z() * y(),
+				w() * left.y() + left.w() * y() + left.z() * x() - left.x() * z(),
+				w() * left.z() + left.w() * z() + left.x() * y() - left.y() * x(),
+
+				w() * left.w() - left.x() * x() - left.y() * y() - left.z() * z()
+		);
+	}
+
 	@Override
 	default MRot3 asRot() {
 		return (MRot3) Rot3.super.asRot();
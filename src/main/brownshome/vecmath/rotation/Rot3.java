@@ -1,5 +1,7 @@
 package brownshome.vecmath.rotation;
 
+import brownshome.vecmath.matrix.MMat3;
+import brownshome.vecmath.matrix.Mat3;
 import brownshome.vecmath.matrix.Matrix;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.rotation.array.ArrayRot3;
@@ -72,10 +74,68 @@ public interface Rot3 extends GenericRot<Vec3, MVec3, Vec4, Rot3>, Vec4 {
 		return Math.acos(Math.abs(w())) * 2;
 	}
 
+	/**
+	 * Rotates the given vector. This rotation must be normalised.
+	 * @param v the vector to rotate
+	 */
 	@Override
 	default void setToRotated(MVec3 v) {
-		var result = multiply(Rot3.of(v.x(), v.y(), v.z(), 0.0)).multiply(inverted());
-		v.set(result.x(), result.y(), result.z());
+		double x = x(), y = y(), z = z(), w = w();
+		double vx = v.x(), vy = v.y(), vz = v.z();
+
+		// v + 2w(q x v) + 2q x (q x v), which is q v q^-1 expanded for a unit quaternion, with t = 2(q x v)
+		double tx = 2 * (y * vz - z * vy);
+		double ty = 2 * (z * vx - x * vz);
+		double tz = 2 * (x * vy - y * vx);
+
+		v.set(
+				vx + w * tx + y * tz - z * ty,
+				vy + w * ty + z * tx - x * tz,
+				vz + w * tz + x * ty - y * tx
+		);
+	}
+
+	/**
+	 * Rotates a series of vectors stored as interleaved x, y, z components. The rotation is converted to a matrix once,
+	 * so this is much faster than rotating each vector separately. This rotation need not be normalised.
+	 * @param source the array holding the vectors to rotate
+	 * @param sourceOffset the index of the x component of the first vector in the source array
+	 * @param destination the array to write the rotated vectors to. This may be the source array if the offsets are the
+	 *                    same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first vector in the destination array
+	 * @param count the number of vectors
+	 */
+	default void rotateAll(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		assert source != destination || sourceOffset == destinationOffset
+				|| Math.abs(sourceOffset - destinationOffset) >= count * 3L;
+
+		double x = x(), y = y(), z = z(), w = w();
+
+		// Dividing by the squared norm gives the rotation matrix of the normalised quaternion
+		double s = 2.0 / (x * x + y * y + z * z + w * w);
+
+		double m00 = 1 - s * (y * y + z * z), m01 = s * (x * y - z * w),     m02 = s * (x * z + y * w);
+		double m10 = s * (x * y + z * w),     m11 = 1 - s * (x * x + z * z), m12 = s * (y * z - x * w);
+		double m20 = s * (x * z - y * w),     m21 = s * (y * z + x * w),     m22 = 1 - s * (x * x + y * y);
+
+		for (int i = 0; i < count; i++) {
+			int a = sourceOffset + i * 3, b = destinationOffset + i * 3;
+			double vx = source[a], vy = source[a + 1], vz = source[a + 2];
+
+			destination[b] = m00 * vx + m01 * vy + m02 * vz;
+			destination[b + 1] = m10 * vx + m11 * vy + m12 * vz;
+			destination[b + 2] = m20 * vx + m21 * vy + m22 * vz;
+		}
+	}
+
+	/**
+	 * Rotates a range of the vectors in a buffer. This rotation need not be normalised.
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void rotateAll(Vec3Buffer buffer, int from, int to) {
+		buffer.rotate(this, from, to);
 	}
 
 	@Override
@@ -90,6 +150,16 @@ public interface Rot3 extends GenericRot<Vec3, MVec3, Vec4, Rot3>, Vec4 {
 		}, MatrixLayout.ofRowMajor(3, 3));
 	}
 
+	/**
+	 * This rotation as a 3x3 rotation matrix. This rotation must be normalised.
+	 * @return a matrix
+	 */
+	default MMat3 asMat3() {
+		var result = Mat3.IDENTITY.copy();
+		result.setToRotation(this);
+		return result;
+	}
+
 	@Override
 	default ArrayRot3 asArrayBacked() {
 		return (ArrayRot3) Vec4.super.asArrayBacked();
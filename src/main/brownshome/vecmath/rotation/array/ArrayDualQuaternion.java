@@ -0,0 +1,42 @@
+package brownshome.vecmath.rotation.array;
+
+import brownshome.vecmath.rotation.MDualQuaternion;
+import brownshome.vecmath.vector.array.ArrayVec4;
+
+/**
+ * An array-backed dual quaternion, stored as eight consecutive elements in the order rx, ry, rz, rw, dx, dy, dz, dw
+ */
+public interface ArrayDualQuaternion extends MDualQuaternion {
+	/**
+	 * The backing array for this dual quaternion
+	 * @return the backing array
+	 */
+	double[] backingArray();
+
+	/**
+	 * The index of the first element of this dual quaternion in the backing array
+	 * @return the index
+	 */
+	int offset();
+
+	@Override
+	ArrayRot3 real();
+
+	@Override
+	ArrayVec4 dual();
+
+	@Override
+	default void set(double rx, double ry, double rz, double rw, double dx, double dy, double dz, double dw) {
+		var array = backingArray();
+		int offset = offset();
+
+		array[offset] = rx;
+		array[offset + 1] = ry;
+		array[offset + 2] = rz;
+		array[offset + 3] = rw;
+		array[offset + 4] = dx;
+		array[offset + 5] = dy;
+		array[offset + 6] = dz;
+		array[offset + 7] = dw;
+	}
+}
@@ -0,0 +1,50 @@
+package brownshome.vecmath.rotation.basic;
+
+import brownshome.vecmath.rotation.DualQuaternion;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.rotation.array.ArrayDualQuaternion;
+import brownshome.vecmath.rotation.array.ArrayRot3;
+import brownshome.vecmath.vector.Vec4;
+import brownshome.vecmath.vector.array.ArrayVec4;
+import brownshome.vecmath.vector.layout.Vec4Layout;
+
+public final class BasicArrayDualQuaternion implements ArrayDualQuaternion {
+	private final double[] array;
+	private final int offset;
+	private final ArrayRot3 real;
+	private final ArrayVec4 dual;
+
+	public BasicArrayDualQuaternion(double[] array, int offset) {
+		assert offset >= 0 && offset + DualQuaternion.ELEMENTS <= array.length;
+
+		this.array = array;
+		this.offset = offset;
+		this.real = Rot3.of(array, Vec4Layout.of(offset));
+		this.dual = Vec4.of(array, Vec4Layout.of(offset + 4));
+	}
+
+	@Override
+	public double[] backingArray() {
+		return array;
+	}
+
+	@Override
+	public int offset() {
+		return offset;
+	}
+
+	@Override
+	public ArrayRot3 real() {
+		return real;
+	}
+
+	@Override
+	public ArrayVec4 dual() {
+		return dual;
+	}
+
+	@Override
+	public String toString() {
+		return "[real: %s, dual: %s]".formatted(real, dual);
+	}
+}
@@ -0,0 +1,31 @@
+package brownshome.vecmath.rotation.basic;
+
+import brownshome.vecmath.rotation.MDualQuaternion;
+import brownshome.vecmath.rotation.MRot3;
+import brownshome.vecmath.vector.MVec4;
+import brownshome.vecmath.vector.basic.BasicVec4;
+
+public final class BasicDualQuaternion implements MDualQuaternion {
+	private final BasicVec4 real;
+	private final BasicVec4 dual;
+
+	public BasicDualQuaternion(double rx, double ry, double rz, double rw, double dx, double dy, double dz, double dw) {
+		this.real = new BasicVec4(rx, ry, rz, rw);
+		this.dual = new BasicVec4(dx, dy, dz, dw);
+	}
+
+	@Override
+	public MRot3 real() {
+		return real;
+	}
+
+	@Override
+	public MVec4 dual() {
+		return dual;
+	}
+
+	@Override
+	public String toString() {
+		return "[real: %s, dual: %s]".formatted(real, dual);
+	}
+}
@@ -0,0 +1,228 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.matrix.MMat4;
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.matrix.Mat4;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.transform.basic.AffineKernels;
+import brownshome.vecmath.transform.basic.BasicAffineTransform3;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+
+/**
+ * A 3 dimensional affine transform, made up of a linear transform followed by a translation. A point p is transformed
+ * to linear * p + translation, which is the same as multiplying by the 3x4 matrix [linear | translation].
+ */
+public interface AffineTransform3 {
+	/**
+	 * A transform that leaves every point where it is
+	 */
+	AffineTransform3 IDENTITY = new BasicAffineTransform3(Mat3.IDENTITY, Vec3.ZERO);
+
+	/**
+	 * Creates a transform. The matrix and translation are copied into the new transform.
+	 * @param linear the linear part of the transform
+	 * @param translation the translation, which is applied after the linear transform
+	 * @return a newly created transform
+	 */
+	static MAffineTransform3 of(Mat3 linear, Vec3 translation) {
+		return new BasicAffineTransform3(linear, translation);
+	}
+
+	/**
+	 * Creates a transform from a general matrix
+	 * @param matrix a 3x4 matrix, or a 4x4 matrix the last row of which is ignored
+	 * @return a newly created transform
+	 */
+	static MAffineTransform3 of(Matrix matrix) {
+		assert matrix.columns() == 4 && (matrix.rows() == 3 || matrix.rows() == 4);
+
+		return of(
+				Mat3.of(matrix.subMatrix(0, 0, 3, 3)),
+				Vec3.of(matrix.get(0, 3), matrix.get(1, 3), matrix.get(2, 3))
+		);
+	}
+
+	/**
+	 * The linear part of this transform
+	 * @return a matrix
+	 */
+	Mat3 linear();
+
+	/**
+	 * The translation of this transform, which is applied after the linear transform
+	 * @return the translation
+	 */
+	Vec3 translation();
+
+	/**
+	 * Transforms a point, which is multiplied by the linear part and then translated
+	 * @param point the point
+	 * @return the transformed point
+	 */
+	default Vec3 transformedPoint(Vec3 point) {
+		var result = point.copy();
+		setToTransformedPoint(result);
+		return result;
+	}
+
+	/**
+	 * Transforms a point, replacing its value
+	 * @param point the point
+	 */
+	default void setToTransformedPoint(MVec3 point) {
+		linear().setToTransformed(point);
+		point.addToSelf(translation());
+	}
+
+	/**
+	 * Transforms a direction, which is multiplied by the linear part but not translated
+	 * @param direction the direction
+	 * @return the transformed direction
+	 */
+	default Vec3 transformedDirection(Vec3 direction) {
+		return linear().transformed(direction);
+	}
+
+	/**
+	 * Transforms a direction, replacing its value
+	 * @param direction the direction
+	 */
+	default void setToTransformedDirection(MVec3 direction) {
+		linear().setToTransformed(direction);
+	}
+
+	/**
+	 * Transforms a series of points stored as interleaved x, y, z components
+	 * @param source the array holding the points
+	 * @param sourceOffset the index of the x component of the first point in the source array
+	 * @param destination the array to write the transformed points to. This may be the source array if the offsets are
+	 *                    the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first point in the destination array
+	 * @param count the number of points
+	 */
+	default void transformPoints(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		var t = translation();
+
+		transformAll(t.x(), t.y(), t.z(), source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * Transforms a range of the vectors in a buffer as points
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void transformPoints(Vec3Buffer buffer, int from, int to) {
+		buffer.transform(this, from, to);
+	}
+
+	/**
+	 * Transforms a series of directions stored as interleaved x, y, z components
+	 * @param source the array holding the directions
+	 * @param sourceOffset the index of the x component of the first direction in the source array
+	 * @param destination the array to write the transformed directions to. This may be the source array if the offsets
+	 *                    are the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first direction in the destination array
+	 * @param count the number of directions
+	 */
+	default void transformDirections(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		transformAll(0.0, 0.0, 0.0, source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * Transforms a range of the vectors in a buffer as directions
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void transformDirections(Vec3Buffer buffer, int from, int to) {
+		buffer.transform(linear(), from, to);
+	}
+
+	private void transformAll(double tx, double ty, double tz,
+	                          double[] source, int sourceOffset,
+	                          double[] destination, int destinationOffset,
+	                          int count) {
+		var m = linear();
+
+		AffineKernels.transform(
+				m.m00(), m.m01(), m.m02(),
+				m.m10(), m.m11(), m.m12(),
+				m.m20(), m.m21(), m.m22(),
+				tx, ty, tz,
+				source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * The composition of this transform and the given one, which transforms by the right transform and then this one
+	 * @param right the transform to apply first
+	 * @return the composed transform
+	 */
+	default AffineTransform3 multiply(AffineTransform3 right) {
+		var result = copy();
+		result.multiplyRightSelf(right);
+		return result;
+	}
+
+	/**
+	 * The transform that undoes this one. The behaviour of this method is undefined if the linear part is singular.
+	 * @return the inverse
+	 */
+	default AffineTransform3 inverted() {
+		var result = copy();
+		result.setToInverted();
+		return result;
+	}
+
+	/**
+	 * This transform as a 4x4 matrix acting on homogeneous coordinates
+	 * @return a newly created matrix
+	 */
+	default MMat4 asMat4() {
+		var m = linear();
+		var t = translation();
+
+		return Mat4.of(
+				m.m00(), m.m01(), m.m02(), t.x(),
+				m.m10(), m.m11(), m.m12(), t.y(),
+				m.m20(), m.m21(), m.m22(), t.z(),
+				0.0, 0.0, 0.0, 1.0
+		);
+	}
+
+	/**
+	 * This transform as a 3x4 matrix
+	 * @return a newly created matrix
+	 */
+	default ArrayMatrix asMatrix() {
+		var m = linear();
+		var t = translation();
+
+		return Matrix.of(new double[] {
+				m.m00(), m.m01(), m.m02(), t.x(),
+				m.m10(), m.m11(), m.m12(), t.y(),
+				m.m20(), m.m21(), m.m22(), t.z()
+		}, MatrixLayout.ofRowMajor(3, 4));
+	}
+
+	/**
+	 * Returns true if this transform is exactly equal to the given transform
+	 * @param other the other transform
+	 * @return a boolean
+	 */
+	default boolean exactEquals(AffineTransform3 other) {
+		return linear().exactEquals(other.linear()) && translation().exactEquals(other.translation());
+	}
+
+	/**
+	 * Returns a mutable copy of this transform
+	 * @return a copy
+	 */
+	default MAffineTransform3 copy() {
+		return new BasicAffineTransform3(linear(), translation());
+	}
+}
@@ -0,0 +1,86 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.matrix.MMat3;
+import brownshome.vecmath.vector.MVec3;
+
+/**
+ * A mutable 3 dimensional affine transform. None of the mutating operations allocate.
+ */
+public interface MAffineTransform3 extends AffineTransform3 {
+	@Override
+	MMat3 linear();
+
+	@Override
+	MVec3 translation();
+
+	/**
+	 * Sets this transform
+	 * @param transform the value to set this transform to
+	 */
+	default void set(AffineTransform3 transform) {
+		linear().set(transform.linear());
+		translation().set(transform.translation());
+	}
+
+	/**
+	 * Sets this transform to a rigid-body transform
+	 * @param transform the value to set this transform to, the rotation of which must be normalised
+	 */
+	default void set(RigidTransform3 transform) {
+		linear().setToRotation(transform.rotation());
+		translation().set(transform.translation());
+	}
+
+	/**
+	 * Sets this transform to the identity transform
+	 */
+	default void setToIdentity() {
+		linear().setToIdentity();
+		translation().set(0.0, 0.0, 0.0);
+	}
+
+	/**
+	 * Sets this transform to the composition of this transform and the given one, which transforms by the right
+	 * transform and then this one
+	 * @param right the transform to apply first
+	 */
+	default void multiplyRightSelf(AffineTransform3 right) {
+		var translation = translation();
+		double tx = translation.x(), ty = translation.y(), tz = translation.z();
+
+		// linear * right.translation + translation
+		translation.set(right.translation());
+		linear().setToTransformed(translation);
+		translation.addToSelf(tx, ty, tz);
+
+		linear().multiplyRightSelf(right.linear());
+	}
+
+	/**
+	 * Sets this transform to the composition of the given transform and this one, which transforms by this transform
+	 * and then the left one
+	 * @param left the transform to apply last
+	 */
+	default void multiplyLeftSelf(AffineTransform3 left) {
+		var leftTranslation = left.translation();
+		double tx = leftTranslation.x(), ty = leftTranslation.y(), tz = leftTranslation.z();
+
+		// left.linear * translation + left.translation
+		left.linear().setToTransformed(translation());
+		translation().addToSelf(tx, ty, tz);
+
+		linear().multiplyLeftSelf(left.linear());
+	}
+
+	/**
+	 * Sets this transform to the transform that undoes it. The behaviour of this method is undefined if the linear part
+	 * is singular.
+	 */
+	default void setToInverted() {
+		var translation = translation();
+
+		linear().setToInverted();
+		linear().setToTransformed(translation);
+		translation.set(-translation.x(), -translation.y(), -translation.z());
+	}
+}
@@ -0,0 +1,77 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.rotation.MRot3;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.vector.MVec3;
+
+/**
+ * A mutable 3 dimensional rigid-body transform. None of the mutating operations allocate.
+ */
+public interface MRigidTransform3 extends RigidTransform3 {
+	@Override
+	MRot3 rotation();
+
+	@Override
+	MVec3 translation();
+
+	/**
+	 * Sets this transform
+	 * @param transform the value to set this transform to
+	 */
+	default void set(RigidTransform3 transform) {
+		rotation().set(transform.rotation());
+		translation().set(transform.translation());
+	}
+
+	/**
+	 * Sets this transform to the identity transform
+	 */
+	default void setToIdentity() {
+		rotation().set(Rot3.IDENTITY);
+		translation().set(0.0, 0.0, 0.0);
+	}
+
+	/**
+	 * Sets this transform to the composition of this transform and the given one, which transforms by the right
+	 * transform and then this one
+	 * @param right the transform to apply first
+	 */
+	default void multiplyRightSelf(RigidTransform3 right) {
+		var translation = translation();
+		double tx = translation.x(), ty = translation.y(), tz = translation.z();
+
+		// rotation * right.translation + translation
+		translation.set(right.translation());
+		rotation().setToRotated(translation);
+		translation.addToSelf(tx, ty, tz);
+
+		rotation().multiplyRightSelf(right.rotation());
+	}
+
+	/**
+	 * Sets this transform to the composition of the given transform and this one, which transforms by this transform
+	 * and then the left one
+	 * @param left the transform to apply last
+	 */
+	default void multiplyLeftSelf(RigidTransform3 left) {
+		var leftTranslation = left.translation();
+		double tx = leftTranslation.x(), ty = leftTranslation.y(), tz = leftTranslation.z();
+
+		// left.rotation * translation + left.translation
+		left.rotation().setToRotated(translation());
+		translation().addToSelf(tx, ty, tz);
+
+		rotation().multiplyLeftSelf(left.rotation());
+	}
+
+	/**
+	 * Sets this transform to the transform that undoes it
+	 */
+	default void setToInverted() {
+		var translation = translation();
+
+		rotation().setToInverted();
+		rotation().setToRotated(translation);
+		translation.set(-translation.x(), -translation.y(), -translation.z());
+	}
+}
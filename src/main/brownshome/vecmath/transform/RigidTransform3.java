@@ -0,0 +1,200 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.transform.basic.AffineKernels;
+import brownshome.vecmath.transform.basic.BasicRigidTransform3;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+
+/**
+ * A 3 dimensional rigid-body transform, made up of a rotation followed by a translation. A point p is transformed to
+ * rotation * p + translation. The rotation of this transform must be normalised.
+ */
+public interface RigidTransform3 {
+	/**
+	 * A transform that leaves every point where it is
+	 */
+	RigidTransform3 IDENTITY = new BasicRigidTransform3(Rot3.IDENTITY, Vec3.ZERO);
+
+	/**
+	 * Creates a transform. The rotation and translation are copied into the new transform.
+	 * @param rotation the rotation
+	 * @param translation the translation, which is applied after the rotation
+	 * @return a newly created transform
+	 */
+	static MRigidTransform3 of(Rot3 rotation, Vec3 translation) {
+		return new BasicRigidTransform3(rotation, translation);
+	}
+
+	/**
+	 * Creates a transform that only rotates
+	 * @param rotation the rotation
+	 * @return a newly created transform
+	 */
+	static MRigidTransform3 ofRotation(Rot3 rotation) {
+		return of(rotation, Vec3.ZERO);
+	}
+
+	/**
+	 * Creates a transform that only translates
+	 * @param translation the translation
+	 * @return a newly created transform
+	 */
+	static MRigidTransform3 ofTranslation(Vec3 translation) {
+		return of(Rot3.IDENTITY, translation);
+	}
+
+	/**
+	 * The rotation of this transform
+	 * @return the rotation
+	 */
+	Rot3 rotation();
+
+	/**
+	 * The translation of this transform, which is applied after the rotation
+	 * @return the translation
+	 */
+	Vec3 translation();
+
+	/**
+	 * Transforms a point, which is rotated and then translated
+	 * @param point the point
+	 * @return the transformed point
+	 */
+	default Vec3 transformedPoint(Vec3 point) {
+		var result = point.copy();
+		setToTransformedPoint(result);
+		return result;
+	}
+
+	/**
+	 * Transforms a point, replacing its value
+	 * @param point the point
+	 */
+	default void setToTransformedPoint(MVec3 point) {
+		rotation().setToRotated(point);
+		point.addToSelf(translation());
+	}
+
+	/**
+	 * Transforms a direction, which is rotated but not translated
+	 * @param direction the direction
+	 * @return the transformed direction
+	 */
+	default Vec3 transformedDirection(Vec3 direction) {
+		return rotation().rotated(direction);
+	}
+
+	/**
+	 * Transforms a direction, replacing its value
+	 * @param direction the direction
+	 */
+	default void setToTransformedDirection(MVec3 direction) {
+		rotation().setToRotated(direction);
+	}
+
+	/**
+	 * Transforms a series of points stored as interleaved x, y, z components
+	 * @param source the array holding the points
+	 * @param sourceOffset the index of the x component of the first point in the source array
+	 * @param destination the array to write the transformed points to. This may be the source array if the offsets are
+	 *                    the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first point in the destination array
+	 * @param count the number of points
+	 */
+	default void transformPoints(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		var r = rotation();
+		var t = translation();
+		double x = r.x(), y = r.y(), z = r.z(), w = r.w();
+
+		// Dividing by the squared norm gives the rotation matrix of the normalised quaternion
+		double s = 2.0 / (x * x + y * y + z * z + w * w);
+
+		AffineKernels.transform(
+				1 - s * (y * y + z * z), s * (x * y - z * w),     s * (x * z + y * w),
+				s * (x * y + z * w),     1 - s * (x * x + z * z), s * (y * z - x * w),
+				s * (x * z - y * w),     s * (y * z + x * w),     1 - s * (x * x + y * y),
+				t.x(), t.y(), t.z(),
+				source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * Transforms a range of the vectors in a buffer as points
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void transformPoints(Vec3Buffer buffer, int from, int to) {
+		buffer.transform(this, from, to);
+	}
+
+	/**
+	 * Transforms a series of directions stored as interleaved x, y, z components
+	 * @param source the array holding the directions
+	 * @param sourceOffset the index of the x component of the first direction in the source array
+	 * @param destination the array to write the transformed directions to. This may be the source array if the offsets
+	 *                    are the same, but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first direction in the destination array
+	 * @param count the number of directions
+	 */
+	default void transformDirections(double[] source, int sourceOffset, double[] destination, int destinationOffset, int count) {
+		rotation().rotateAll(source, sourceOffset, destination, destinationOffset, count);
+	}
+
+	/**
+	 * Transforms a range of the vectors in a buffer as directions
+	 * @param buffer the buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	default void transformDirections(Vec3Buffer buffer, int from, int to) {
+		buffer.rotate(rotation(), from, to);
+	}
+
+	/**
+	 * The composition of this transform and the given one, which transforms by the right transform and then this one
+	 * @param right the transform to apply first
+	 * @return the composed transform
+	 */
+	default RigidTransform3 multiply(RigidTransform3 right) {
+		var result = copy();
+		result.multiplyRightSelf(right);
+		return result;
+	}
+
+	/**
+	 * The transform that undoes this one
+	 * @return the inverse
+	 */
+	default RigidTransform3 inverted() {
+		var result = copy();
+		result.setToInverted();
+		return result;
+	}
+
+	/**
+	 * This transform as an affine transform
+	 * @return a newly created affine transform
+	 */
+	default MAffineTransform3 asAffine() {
+		return AffineTransform3.of(rotation().asMat3(), translation());
+	}
+
+	/**
+	 * Returns true if this transform is exactly equal to the given transform
+	 * @param other the other transform
+	 * @return a boolean
+	 */
+	default boolean exactEquals(RigidTransform3 other) {
+		return rotation().exactEquals(other.rotation()) && translation().exactEquals(other.translation());
+	}
+
+	/**
+	 * Returns a mutable copy of this transform
+	 * @return a copy
+	 */
+	default MRigidTransform3 copy() {
+		return new BasicRigidTransform3(rotation(), translation());
+	}
+}
@@ -0,0 +1,35 @@
+package brownshome.vecmath.transform.basic;
+
+/**
+ * The inner loop used to transform many vectors that are stored as interleaved x, y, z components.
+ */
+public record AffineKernels() {
+	/**
+	 * Applies the transform m * v + t to each vector
+	 * @param source the array holding the vectors to transform
+	 * @param sourceOffset the index of the x component of the first vector in the source array
+	 * @param destination the array to write the results to. This may be the source array if the offsets are the same,
+	 *                    but the two ranges must not otherwise overlap.
+	 * @param destinationOffset the index of the x component of the first vector in the destination array
+	 * @param count the number of vectors
+	 */
+	public static void transform(double m00, double m01, double m02,
+	                             double m10, double m11, double m12,
+	                             double m20, double m21, double m22,
+	                             double tx, double ty, double tz,
+	                             double[] source, int sourceOffset,
+	                             double[] destination, int destinationOffset,
+	                             int count) {
+		assert source != destination || sourceOffset == destinationOffset
+				|| Math.abs(sourceOffset - destinationOffset) >= count * 3L;
+
+		for (int i = 0; i < count; i++) {
+			int a = sourceOffset + i * 3, b = destinationOffset + i * 3;
+			double x = source[a], y = source[a + 1], z = source[a + 2];
+
+			destination[b] = m00 * x + m01 * y + m02 * z + tx;
+			destination[b + 1] = m10 * x + m11 * y + m12 * z + ty;
+			destination[b + 2] = m20 * x + m21 * y + m22 * z + tz;
+		}
+	}
+}
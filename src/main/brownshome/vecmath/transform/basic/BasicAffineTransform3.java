@@ -0,0 +1,36 @@
+package brownshome.vecmath.transform.basic;
+
+import brownshome.vecmath.matrix.MMat3;
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.transform.MAffineTransform3;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+
+public final class BasicAffineTransform3 implements MAffineTransform3 {
+	private final MMat3 linear;
+	private final MVec3 translation;
+
+	public BasicAffineTransform3(Mat3 linear, Vec3 translation) {
+		this.linear = Mat3.of(
+				linear.m00(), linear.m01(), linear.m02(),
+				linear.m10(), linear.m11(), linear.m12(),
+				linear.m20(), linear.m21(), linear.m22()
+		);
+		this.translation = Vec3.of(translation.x(), translation.y(), translation.z());
+	}
+
+	@Override
+	public MMat3 linear() {
+		return linear;
+	}
+
+	@Override
+	public MVec3 translation() {
+		return translation;
+	}
+
+	@Override
+	public String toString() {
+		return "[linear: %s, translation: %s]".formatted(linear, translation);
+	}
+}
@@ -0,0 +1,32 @@
+package brownshome.vecmath.transform.basic;
+
+import brownshome.vecmath.rotation.MRot3;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.transform.MRigidTransform3;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+
+public final class BasicRigidTransform3 implements MRigidTransform3 {
+	private final MRot3 rotation;
+	private final MVec3 translation;
+
+	public BasicRigidTransform3(Rot3 rotation, Vec3 translation) {
+		this.rotation = Rot3.of(rotation.x(), rotation.y(), rotation.z(), rotation.w());
+		this.translation = Vec3.of(translation.x(), translation.y(), translation.z());
+	}
+
+	@Override
+	public MRot3 rotation() {
+		return rotation;
+	}
+
+	@Override
+	public MVec3 translation() {
+		return translation;
+	}
+
+	@Override
+	public String toString() {
+		return "[rotation: %s, translation: %s]".formatted(rotation, translation);
+	}
+}
@@ -0,0 +1,20 @@
+package brownshome.vecmath.vector;
+
+/**
+ * How the components of a vector buffer are arranged in its arrays
+ *
+ * @see Vec3Buffer
+ * @see Vec4Buffer
+ */
+public enum BufferArrangement {
+	/**
+	 * Each component is stored in its own array, which suits bulk operations
+	 */
+	SEPARATE,
+
+	/**
+	 * The components of each vector are stored together in a single array, which suits per-vector access and interop
+	 * with other libraries
+	 */
+	INTERLEAVED
+}
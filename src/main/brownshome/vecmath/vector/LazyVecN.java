@@ -0,0 +1,153 @@
+package brownshome.vecmath.vector;
+
+import brownshome.vecmath.generic.LazyExpression;
+import brownshome.vecmath.generic.LazyExpression.Kernel;
+import brownshome.vecmath.vector.array.ArrayVecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+
+/**
+ * An unevaluated chain of element-wise operations on vectors, created by {@link VecN#lazy()}. The element-wise
+ * operations on this vector return another lazy vector instead of allocating a result, and the whole chain is evaluated
+ * in a single pass when {@link #evaluate()}, {@link #copy()} or {@link MVecN#set(VecN)} is called. Unit-stride
+ * array-backed operands are read directly from their backing arrays.
+ * <p>
+ * The operands are read when the chain is evaluated, not when it is built. A vector may be set to an expression that
+ * it is an operand of, such as {@code x.set(x.lazy().scaleAdd(y, alpha))}.
+ */
+public final class LazyVecN implements VecN {
+	private final int size;
+	private final LazyExpression<VecN> expression;
+
+	LazyVecN(VecN vec) {
+		this(vec.size(), LazyExpression.of(vec));
+	}
+
+	private LazyVecN(int size, LazyExpression<VecN> expression) {
+		this.size = size;
+		this.expression = expression;
+	}
+
+	private static LazyExpression<VecN> expressionOf(VecN vec) {
+		return vec instanceof LazyVecN lazy ? lazy.expression : LazyExpression.of(vec);
+	}
+
+	private static Kernel kernelOf(VecN vec) {
+		if (vec instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			return Kernel.ofArray(a.backingArray(), a.layout().start());
+		}
+
+		return Kernel.ofElements(vec::get);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Evaluates a single element of this vector. Evaluating the whole vector using {@link #evaluate()} is much faster
+	 * than calling this method for each element.
+	 */
+	@Override
+	public double get(int i) {
+		return expression.evaluate(v -> v.get(i));
+	}
+
+	@Override
+	public LazyVecN lazy() {
+		return this;
+	}
+
+	@Override
+	public LazyVecN add(VecN e) {
+		return scaleAdd(e, 1.0);
+	}
+
+	@Override
+	public LazyVecN subtract(VecN e) {
+		return scaleAdd(e, -1.0);
+	}
+
+	@Override
+	public LazyVecN scale(double scale) {
+		return new LazyVecN(size, expression.scale(scale));
+	}
+
+	@Override
+	public LazyVecN scale(VecN scale) {
+		assert size == scale.size();
+
+		return new LazyVecN(size, expression.multiply(expressionOf(scale)));
+	}
+
+	@Override
+	public LazyVecN scaleAdd(VecN e, double scale) {
+		assert size == e.size();
+
+		return new LazyVecN(size, expression.scaleAdd(expressionOf(e), scale));
+	}
+
+	@Override
+	public LazyVecN negated() {
+		return scale(-1.0);
+	}
+
+	@Override
+	public LazyVecN interpolated(VecN other, double t) {
+		assert size == other.size();
+
+		return new LazyVecN(size, expression.scale(1.0 - t).scaleAdd(expressionOf(other), t));
+	}
+
+	/**
+	 * Evaluates this vector into a newly allocated vector
+	 * @return the result
+	 */
+	public ArrayVecN evaluate() {
+		var result = VecN.of(VecNLayout.ofOptimal(size));
+		evaluateInto(result);
+		return result;
+	}
+
+	/**
+	 * Evaluates this vector, storing the result in the destination
+	 * @param destination the destination, which may be one of the operands of this vector
+	 */
+	public void evaluateInto(MVecN destination) {
+		assert size == destination.size();
+
+		var kernel = expression.compile(LazyVecN::kernelOf);
+
+		if (destination instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			LazyExpression.evaluate(kernel, size, a.backingArray(), a.layout().start());
+		} else {
+			LazyExpression.evaluate(kernel, size, destination::set);
+		}
+	}
+
+	@Override
+	public double dot(VecN other) {
+		return evaluate().dot(other instanceof LazyVecN lazy ? lazy.evaluate() : other);
+	}
+
+	@Override
+	public double lengthSquared() {
+		var result = evaluate();
+		return result.dot(result);
+	}
+
+	@Override
+	public ArrayVecN copy() {
+		return evaluate();
+	}
+
+	@Override
+	public ArrayVecN move() {
+		return evaluate();
+	}
+
+	@Override
+	public String toString() {
+		return evaluate().toString();
+	}
+}
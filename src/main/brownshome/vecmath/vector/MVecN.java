@@ -28,6 +28,11 @@ public interface MVecN extends GenericMVec<VecN>, VecN {
 	default void set(VecN vec) {
 		assert size() == vec.size();
 
+		if (vec instanceof LazyVecN lazy) {
+			lazy.evaluateInto(this);
+			return;
+		}
+
 		for (int i = 0; i < size(); i++) {
 			set(vec.get(i), i);
 		}
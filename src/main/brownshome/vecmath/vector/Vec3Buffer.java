@@ -0,0 +1,559 @@
+package brownshome.vecmath.vector;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.transform.AffineTransform3;
+import brownshome.vecmath.transform.RigidTransform3;
+import brownshome.vecmath.vector.basic.BasicVec;
+
+/**
+ * A fixed-size buffer of 3-element vectors stored in primitive arrays, which can be operated on in bulk without
+ * allocating an object per vector.
+ * <p>
+ * The components are either stored in a separate array for each component, which suits bulk operations, or interleaved
+ * in a single array as x0, y0, z0, x1, y1, z1 and so on, which suits per-vector access and interop with other
+ * libraries. Bulk operations act on a range of vectors, from {@code from} inclusive to {@code to} exclusive.
+ * <p>
+ * Individual vectors are accessed using a {@link Cursor}, which is a mutable view of one vector that can be moved
+ * along the buffer.
+ */
+public final class Vec3Buffer {
+	private final BufferArrangement arrangement;
+	private final int size;
+
+	private final double[] xs, ys, zs;
+	private final int xOffset, yOffset, zOffset;
+	private final int stride;
+
+	private Vec3Buffer(BufferArrangement arrangement, int size, double[] xs, double[] ys, double[] zs, int xOffset, int yOffset, int zOffset, int stride) {
+		this.arrangement = arrangement;
+		this.size = size;
+		this.xs = xs;
+		this.ys = ys;
+		this.zs = zs;
+		this.xOffset = xOffset;
+		this.yOffset = yOffset;
+		this.zOffset = zOffset;
+		this.stride = stride;
+	}
+
+	/**
+	 * Creates a zeroed buffer with a separate array for each component
+	 * @param size the number of vectors
+	 * @return a buffer
+	 */
+	public static Vec3Buffer of(int size) {
+		return of(size, BufferArrangement.SEPARATE);
+	}
+
+	/**
+	 * Creates a zeroed buffer
+	 * @param size the number of vectors
+	 * @param arrangement the arrangement of the components
+	 * @return a buffer
+	 */
+	public static Vec3Buffer of(int size, BufferArrangement arrangement) {
+		return switch (arrangement) {
+			case SEPARATE -> ofSeparate(new double[size], new double[size], new double[size]);
+			case INTERLEAVED -> ofInterleaved(new double[Math.multiplyExact(size, 3)]);
+		};
+	}
+
+	/**
+	 * Creates a buffer that views an array for each component. Edits to the arrays will change this buffer and
+	 * vice-versa.
+	 * @param xs the x components
+	 * @param ys the y components
+	 * @param zs the z components, which must be the same length as the other arrays
+	 * @return a buffer
+	 */
+	public static Vec3Buffer ofSeparate(double[] xs, double[] ys, double[] zs) {
+		assert xs.length == ys.length && ys.length == zs.length;
+
+		return new Vec3Buffer(BufferArrangement.SEPARATE, xs.length, xs, ys, zs, 0, 0, 0, 1);
+	}
+
+	/**
+	 * Creates a buffer that views an array of interleaved components. Edits to the array will change this buffer and
+	 * vice-versa.
+	 * @param xyz the components, which must have a length that is a multiple of three
+	 * @return a buffer
+	 */
+	public static Vec3Buffer ofInterleaved(double[] xyz) {
+		assert xyz.length % 3 == 0;
+
+		return new Vec3Buffer(BufferArrangement.INTERLEAVED, xyz.length / 3, xyz, xyz, xyz, 0, 1, 2, 3);
+	}
+
+	/**
+	 * The number of vectors in this buffer
+	 * @return the number of vectors
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The arrangement of the components of this buffer
+	 * @return the arrangement
+	 */
+	public BufferArrangement arrangement() {
+		return arrangement;
+	}
+
+	/**
+	 * The x component of a vector
+	 * @param index the index of the vector
+	 * @return the x component
+	 */
+	public double x(int index) {
+		assert index >= 0 && index < size;
+
+		return xs[xOffset + index * stride];
+	}
+
+	/**
+	 * The y component of a vector
+	 * @param index the index of the vector
+	 * @return the y component
+	 */
+	public double y(int index) {
+		assert index >= 0 && index < size;
+
+		return ys[yOffset + index * stride];
+	}
+
+	/**
+	 * The z component of a vector
+	 * @param index the index of the vector
+	 * @return the z component
+	 */
+	public double z(int index) {
+		assert index >= 0 && index < size;
+
+		return zs[zOffset + index * stride];
+	}
+
+	/**
+	 * Sets a vector
+	 * @param x the x component
+	 * @param y the y component
+	 * @param z the z component
+	 * @param index the index of the vector
+	 */
+	public void set(double x, double y, double z, int index) {
+		assert index >= 0 && index < size;
+
+		int i = index * stride;
+		xs[xOffset + i] = x;
+		ys[yOffset + i] = y;
+		zs[zOffset + i] = z;
+	}
+
+	/**
+	 * Sets a vector
+	 * @param vec the value to set the vector to
+	 * @param index the index of the vector
+	 */
+	public void set(Vec3 vec, int index) {
+		set(vec.x(), vec.y(), vec.z(), index);
+	}
+
+	/**
+	 * A cursor positioned at the first vector of this buffer
+	 * @return a cursor
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * A cursor positioned at a vector of this buffer
+	 * @param index the index of the vector
+	 * @return a cursor
+	 */
+	public Cursor cursor(int index) {
+		var result = new Cursor();
+		result.moveTo(index);
+		return result;
+	}
+
+	/**
+	 * Adds the vectors of another buffer to the vectors of this one
+	 * @param other the buffer to add, which may be this buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void add(Vec3Buffer other, int from, int to) {
+		scaleAdd(other, 1.0, from, to);
+	}
+
+	/**
+	 * Adds the vectors of another buffer multiplied by a scale to the vectors of this one
+	 * @param other the buffer to add, which may be this buffer
+	 * @param scale the scale of the other vectors
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void scaleAdd(Vec3Buffer other, double scale, int from, int to) {
+		checkRange(from, to);
+		other.checkRange(from, to);
+
+		int length = to - from;
+
+		if (arrangement == other.arrangement) {
+			if (arrangement == BufferArrangement.SEPARATE) {
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.xs, from, xs, from, length);
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.ys, from, ys, from, length);
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.zs, from, zs, from, length);
+			} else {
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.xs, from * 3, xs, from * 3, length * 3);
+			}
+
+			return;
+		}
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride, b = i * other.stride;
+
+			xs[xOffset + a] += other.xs[other.xOffset + b] * scale;
+			ys[yOffset + a] += other.ys[other.yOffset + b] * scale;
+			zs[zOffset + a] += other.zs[other.zOffset + b] * scale;
+		}
+	}
+
+	/**
+	 * Adds a vector to each vector of this buffer
+	 * @param vec the vector to add
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void add(Vec3 vec, int from, int to) {
+		checkRange(from, to);
+
+		double x = vec.x(), y = vec.y(), z = vec.z();
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			xs[xOffset + a] += x;
+			ys[yOffset + a] += y;
+			zs[zOffset + a] += z;
+		}
+	}
+
+	/**
+	 * Scales the vectors of this buffer
+	 * @param scale the scale
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void scale(double scale, int from, int to) {
+		checkRange(from, to);
+
+		int length = to - from;
+
+		if (arrangement == BufferArrangement.SEPARATE) {
+			ArrayKernels.INSTANCE.scale(scale, xs, from, length);
+			ArrayKernels.INSTANCE.scale(scale, ys, from, length);
+			ArrayKernels.INSTANCE.scale(scale, zs, from, length);
+		} else {
+			ArrayKernels.INSTANCE.scale(scale, xs, from * 3, length * 3);
+		}
+	}
+
+	/**
+	 * Computes the dot product of each vector of this buffer with the matching vector of another buffer
+	 * @param other the other buffer
+	 * @param result the array to store the dot products in
+	 * @param resultOffset the index in the result array of the dot product of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void dot(Vec3Buffer other, double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+		other.checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride, b = i * other.stride;
+
+			result[resultOffset + i - from] = xs[xOffset + a] * other.xs[other.xOffset + b]
+					+ ys[yOffset + a] * other.ys[other.yOffset + b]
+					+ zs[zOffset + a] * other.zs[other.zOffset + b];
+		}
+	}
+
+	/**
+	 * Computes the dot product of each vector of this buffer with a vector
+	 * @param vec the vector
+	 * @param result the array to store the dot products in
+	 * @param resultOffset the index in the result array of the dot product of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void dot(Vec3 vec, double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+
+		double x = vec.x(), y = vec.y(), z = vec.z();
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			result[resultOffset + i - from] = xs[xOffset + a] * x + ys[yOffset + a] * y + zs[zOffset + a] * z;
+		}
+	}
+
+	/**
+	 * Sets each vector of this buffer to the cross product of itself and the matching vector of another buffer
+	 * @param other the other buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 * @see MVec3#setToRightCross(Vec3)
+	 */
+	public void cross(Vec3Buffer other, int from, int to) {
+		checkRange(from, to);
+		other.checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride, b = i * other.stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a];
+			double ox = other.xs[other.xOffset + b], oy = other.ys[other.yOffset + b], oz = other.zs[other.zOffset + b];
+
+			xs[xOffset + a] = y * oz - z * oy;
+			ys[yOffset + a] = z * ox - x * oz;
+			zs[zOffset + a] = x * oy - y * ox;
+		}
+	}
+
+	/**
+	 * Sets each vector of this buffer to the cross product of itself and a vector
+	 * @param vec the vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 * @see MVec3#setToRightCross(Vec3)
+	 */
+	public void cross(Vec3 vec, int from, int to) {
+		checkRange(from, to);
+
+		double ox = vec.x(), oy = vec.y(), oz = vec.z();
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a];
+
+			xs[xOffset + a] = y * oz - z * oy;
+			ys[yOffset + a] = z * ox - x * oz;
+			zs[zOffset + a] = x * oy - y * ox;
+		}
+	}
+
+	/**
+	 * Scales each vector of this buffer to have a length of one
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void normalise(int from, int to) {
+		checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a];
+			double scale = 1.0 / Math.sqrt(x * x + y * y + z * z);
+
+			xs[xOffset + a] = x * scale;
+			ys[yOffset + a] = y * scale;
+			zs[zOffset + a] = z * scale;
+		}
+	}
+
+	/**
+	 * Computes the length of each vector of this buffer
+	 * @param result the array to store the lengths in
+	 * @param resultOffset the index in the result array of the length of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void lengths(double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a];
+			result[resultOffset + i - from] = Math.sqrt(x * x + y * y + z * z);
+		}
+	}
+
+	/**
+	 * Multiplies each vector of this buffer by a matrix, treating the vectors as columns
+	 * @param matrix a 3x3 matrix
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void transform(Matrix matrix, int from, int to) {
+		assert matrix.rows() == 3 && matrix.columns() == 3;
+
+		transform(
+				matrix.get(0, 0), matrix.get(0, 1), matrix.get(0, 2),
+				matrix.get(1, 0), matrix.get(1, 1), matrix.get(1, 2),
+				matrix.get(2, 0), matrix.get(2, 1), matrix.get(2, 2),
+				0.0, 0.0, 0.0,
+				from, to);
+	}
+
+	/**
+	 * Multiplies each vector of this buffer by a matrix, treating the vectors as columns
+	 * @param matrix the matrix
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void transform(Mat3 matrix, int from, int to) {
+		transform(
+				matrix.m00(), matrix.m01(), matrix.m02(),
+				matrix.m10(), matrix.m11(), matrix.m12(),
+				matrix.m20(), matrix.m21(), matrix.m22(),
+				0.0, 0.0, 0.0,
+				from, to);
+	}
+
+	/**
+	 * Transforms each vector of this buffer as a point
+	 * @param transform the transform
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void transform(AffineTransform3 transform, int from, int to) {
+		var m = transform.linear();
+		var t = transform.translation();
+
+		transform(
+				m.m00(), m.m01(), m.m02(),
+				m.m10(), m.m11(), m.m12(),
+				m.m20(), m.m21(), m.m22(),
+				t.x(), t.y(), t.z(),
+				from, to);
+	}
+
+	/**
+	 * Transforms each vector of this buffer as a point
+	 * @param transform the transform, the rotation of which need not be normalised
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void transform(RigidTransform3 transform, int from, int to) {
+		var t = transform.translation();
+
+		rotate(transform.rotation(), t.x(), t.y(), t.z(), from, to);
+	}
+
+	/**
+	 * Rotates each vector of this buffer
+	 * @param rotation the rotation, which need not be normalised
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 * @see Rot3#rotateAll(double[], int, double[], int, int)
+	 */
+	public void rotate(Rot3 rotation, int from, int to) {
+		rotate(rotation, 0.0, 0.0, 0.0, from, to);
+	}
+
+	private void rotate(Rot3 rotation, double tx, double ty, double tz, int from, int to) {
+		double x = rotation.x(), y = rotation.y(), z = rotation.z(), w = rotation.w();
+
+		// Dividing by the squared norm gives the same result as q v q^-1 for a quaternion that is not normalised
+		double s = 2.0 / (x * x + y * y + z * z + w * w);
+
+		transform(
+				1 - s * (y * y + z * z), s * (x * y - z * w),     s * (x * z + y * w),
+				s * (x * y + z * w),     1 - s * (x * x + z * z), s * (y * z - x * w),
+				s * (x * z - y * w),     s * (y * z + x * w),     1 - s * (x * x + y * y),
+				tx, ty, tz,
+				from, to);
+	}
+
+	private void transform(double m00, double m01, double m02,
+	                       double m10, double m11, double m12,
+	                       double m20, double m21, double m22,
+	                       double tx, double ty, double tz,
+	                       int from, int to) {
+		checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a];
+
+			xs[xOffset + a] = m00 * x + m01 * y + m02 * z + tx;
+			ys[yOffset + a] = m10 * x + m11 * y + m12 * z + ty;
+			zs[zOffset + a] = m20 * x + m21 * y + m22 * z + tz;
+		}
+	}
+
+	private void checkRange(int from, int to) {
+		assert from >= 0 && from <= to && to <= size : "Invalid range [%d, %d) of a buffer of size %d".formatted(from, to, size);
+	}
+
+	/**
+	 * A mutable view of one vector of a buffer, which can be moved to view other vectors without allocating
+	 */
+	public final class Cursor extends BasicVec<Vec3> implements MVec3 {
+		private int index;
+
+		private Cursor() { }
+
+		/**
+		 * Moves this cursor to view another vector
+		 * @param index the index of the vector
+		 * @return this cursor
+		 */
+		public Cursor moveTo(int index) {
+			assert index >= 0 && index < size;
+
+			this.index = index;
+			return this;
+		}
+
+		/**
+		 * The index of the vector that this cursor views
+		 * @return the index
+		 */
+		public int index() {
+			return index;
+		}
+
+		@Override
+		public double x() {
+			return xs[xOffset + index * stride];
+		}
+
+		@Override
+		public double y() {
+			return ys[yOffset + index * stride];
+		}
+
+		@Override
+		public double z() {
+			return zs[zOffset + index * stride];
+		}
+
+		@Override
+		public void x(double x) {
+			xs[xOffset + index * stride] = x;
+		}
+
+		@Override
+		public void y(double y) {
+			ys[yOffset + index * stride] = y;
+		}
+
+		@Override
+		public void z(double z) {
+			zs[zOffset + index * stride] = z;
+		}
+	}
+}
@@ -0,0 +1,464 @@
+package brownshome.vecmath.vector;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.vector.basic.BasicVec;
+
+/**
+ * A fixed-size buffer of 4-element vectors stored in primitive arrays, which can be operated on in bulk without
+ * allocating an object per vector.
+ * <p>
+ * The components are either stored in a separate array for each component, or interleaved in a single array as x0, y0,
+ * z0, w0, x1 and so on. Bulk operations act on a range of vectors, from {@code from} inclusive to {@code to} exclusive.
+ *
+ * @see Vec3Buffer
+ */
+public final class Vec4Buffer {
+	private final BufferArrangement arrangement;
+	private final int size;
+
+	private final double[] xs, ys, zs, ws;
+	private final int xOffset, yOffset, zOffset, wOffset;
+	private final int stride;
+
+	private Vec4Buffer(BufferArrangement arrangement, int size,
+	                   double[] xs, double[] ys, double[] zs, double[] ws,
+	                   int xOffset, int yOffset, int zOffset, int wOffset, int stride) {
+		this.arrangement = arrangement;
+		this.size = size;
+		this.xs = xs;
+		this.ys = ys;
+		this.zs = zs;
+		this.ws = ws;
+		this.xOffset = xOffset;
+		this.yOffset = yOffset;
+		this.zOffset = zOffset;
+		this.wOffset = wOffset;
+		this.stride = stride;
+	}
+
+	/**
+	 * Creates a zeroed buffer with a separate array for each component
+	 * @param size the number of vectors
+	 * @return a buffer
+	 */
+	public static Vec4Buffer of(int size) {
+		return of(size, BufferArrangement.SEPARATE);
+	}
+
+	/**
+	 * Creates a zeroed buffer
+	 * @param size the number of vectors
+	 * @param arrangement the arrangement of the components
+	 * @return a buffer
+	 */
+	public static Vec4Buffer of(int size, BufferArrangement arrangement) {
+		return switch (arrangement) {
+			case SEPARATE -> ofSeparate(new double[size], new double[size], new double[size], new double[size]);
+			case INTERLEAVED -> ofInterleaved(new double[Math.multiplyExact(size, 4)]);
+		};
+	}
+
+	/**
+	 * Creates a buffer that views an array for each component. Edits to the arrays will change this buffer and
+	 * vice-versa.
+	 * @param xs the x components
+	 * @param ys the y components
+	 * @param zs the z components
+	 * @param ws the w components, which must be the same length as the other arrays
+	 * @return a buffer
+	 */
+	public static Vec4Buffer ofSeparate(double[] xs, double[] ys, double[] zs, double[] ws) {
+		assert xs.length == ys.length && ys.length == zs.length && zs.length == ws.length;
+
+		return new Vec4Buffer(BufferArrangement.SEPARATE, xs.length, xs, ys, zs, ws, 0, 0, 0, 0, 1);
+	}
+
+	/**
+	 * Creates a buffer that views an array of interleaved components. Edits to the array will change this buffer and
+	 * vice-versa.
+	 * @param xyzw the components, which must have a length that is a multiple of four
+	 * @return a buffer
+	 */
+	public static Vec4Buffer ofInterleaved(double[] xyzw) {
+		assert xyzw.length % 4 == 0;
+
+		return new Vec4Buffer(BufferArrangement.INTERLEAVED, xyzw.length / 4, xyzw, xyzw, xyzw, xyzw, 0, 1, 2, 3, 4);
+	}
+
+	/**
+	 * The number of vectors in this buffer
+	 * @return the number of vectors
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The arrangement of the components of this buffer
+	 * @return the arrangement
+	 */
+	public BufferArrangement arrangement() {
+		return arrangement;
+	}
+
+	/**
+	 * The x component of a vector
+	 * @param index the index of the vector
+	 * @return the x component
+	 */
+	public double x(int index) {
+		assert index >= 0 && index < size;
+
+		return xs[xOffset + index * stride];
+	}
+
+	/**
+	 * The y component of a vector
+	 * @param index the index of the vector
+	 * @return the y component
+	 */
+	public double y(int index) {
+		assert index >= 0 && index < size;
+
+		return ys[yOffset + index * stride];
+	}
+
+	/**
+	 * The z component of a vector
+	 * @param index the index of the vector
+	 * @return the z component
+	 */
+	public double z(int index) {
+		assert index >= 0 && index < size;
+
+		return zs[zOffset + index * stride];
+	}
+
+	/**
+	 * The w component of a vector
+	 * @param index the index of the vector
+	 * @return the w component
+	 */
+	public double w(int index) {
+		assert index >= 0 && index < size;
+
+		return ws[wOffset + index * stride];
+	}
+
+	/**
+	 * Sets a vector
+	 * @param x the x component
+	 * @param y the y component
+	 * @param z the z component
+	 * @param w the w component
+	 * @param index the index of the vector
+	 */
+	public void set(double x, double y, double z, double w, int index) {
+		assert index >= 0 && index < size;
+
+		int i = index * stride;
+		xs[xOffset + i] = x;
+		ys[yOffset + i] = y;
+		zs[zOffset + i] = z;
+		ws[wOffset + i] = w;
+	}
+
+	/**
+	 * Sets a vector
+	 * @param vec the value to set the vector to
+	 * @param index the index of the vector
+	 */
+	public void set(Vec4 vec, int index) {
+		set(vec.x(), vec.y(), vec.z(), vec.w(), index);
+	}
+
+	/**
+	 * A cursor positioned at the first vector of this buffer
+	 * @return a cursor
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * A cursor positioned at a vector of this buffer
+	 * @param index the index of the vector
+	 * @return a cursor
+	 */
+	public Cursor cursor(int index) {
+		var result = new Cursor();
+		result.moveTo(index);
+		return result;
+	}
+
+	/**
+	 * Adds the vectors of another buffer to the vectors of this one
+	 * @param other the buffer to add, which may be this buffer
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void add(Vec4Buffer other, int from, int to) {
+		scaleAdd(other, 1.0, from, to);
+	}
+
+	/**
+	 * Adds the vectors of another buffer multiplied by a scale to the vectors of this one
+	 * @param other the buffer to add, which may be this buffer
+	 * @param scale the scale of the other vectors
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void scaleAdd(Vec4Buffer other, double scale, int from, int to) {
+		checkRange(from, to);
+		other.checkRange(from, to);
+
+		int length = to - from;
+
+		if (arrangement == other.arrangement) {
+			if (arrangement == BufferArrangement.SEPARATE) {
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.xs, from, xs, from, length);
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.ys, from, ys, from, length);
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.zs, from, zs, from, length);
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.ws, from, ws, from, length);
+			} else {
+				ArrayKernels.INSTANCE.scaleAdd(scale, other.xs, from * 4, xs, from * 4, length * 4);
+			}
+
+			return;
+		}
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride, b = i * other.stride;
+
+			xs[xOffset + a] += other.xs[other.xOffset + b] * scale;
+			ys[yOffset + a] += other.ys[other.yOffset + b] * scale;
+			zs[zOffset + a] += other.zs[other.zOffset + b] * scale;
+			ws[wOffset + a] += other.ws[other.wOffset + b] * scale;
+		}
+	}
+
+	/**
+	 * Adds a vector to each vector of this buffer
+	 * @param vec the vector to add
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void add(Vec4 vec, int from, int to) {
+		checkRange(from, to);
+
+		double x = vec.x(), y = vec.y(), z = vec.z(), w = vec.w();
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			xs[xOffset + a] += x;
+			ys[yOffset + a] += y;
+			zs[zOffset + a] += z;
+			ws[wOffset + a] += w;
+		}
+	}
+
+	/**
+	 * Scales the vectors of this buffer
+	 * @param scale the scale
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void scale(double scale, int from, int to) {
+		checkRange(from, to);
+
+		int length = to - from;
+
+		if (arrangement == BufferArrangement.SEPARATE) {
+			ArrayKernels.INSTANCE.scale(scale, xs, from, length);
+			ArrayKernels.INSTANCE.scale(scale, ys, from, length);
+			ArrayKernels.INSTANCE.scale(scale, zs, from, length);
+			ArrayKernels.INSTANCE.scale(scale, ws, from, length);
+		} else {
+			ArrayKernels.INSTANCE.scale(scale, xs, from * 4, length * 4);
+		}
+	}
+
+	/**
+	 * Computes the dot product of each vector of this buffer with the matching vector of another buffer
+	 * @param other the other buffer
+	 * @param result the array to store the dot products in
+	 * @param resultOffset the index in the result array of the dot product of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void dot(Vec4Buffer other, double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+		other.checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride, b = i * other.stride;
+
+			result[resultOffset + i - from] = xs[xOffset + a] * other.xs[other.xOffset + b]
+					+ ys[yOffset + a] * other.ys[other.yOffset + b]
+					+ zs[zOffset + a] * other.zs[other.zOffset + b]
+					+ ws[wOffset + a] * other.ws[other.wOffset + b];
+		}
+	}
+
+	/**
+	 * Computes the dot product of each vector of this buffer with a vector
+	 * @param vec the vector
+	 * @param result the array to store the dot products in
+	 * @param resultOffset the index in the result array of the dot product of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void dot(Vec4 vec, double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+
+		double x = vec.x(), y = vec.y(), z = vec.z(), w = vec.w();
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			result[resultOffset + i - from] = xs[xOffset + a] * x + ys[yOffset + a] * y + zs[zOffset + a] * z + ws[wOffset + a] * w;
+		}
+	}
+
+	/**
+	 * Scales each vector of this buffer to have a length of one
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void normalise(int from, int to) {
+		checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a], w = ws[wOffset + a];
+			double scale = 1.0 / Math.sqrt(x * x + y * y + z * z + w * w);
+
+			xs[xOffset + a] = x * scale;
+			ys[yOffset + a] = y * scale;
+			zs[zOffset + a] = z * scale;
+			ws[wOffset + a] = w * scale;
+		}
+	}
+
+	/**
+	 * Computes the length of each vector of this buffer
+	 * @param result the array to store the lengths in
+	 * @param resultOffset the index in the result array of the length of the first vector
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void lengths(double[] result, int resultOffset, int from, int to) {
+		checkRange(from, to);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a], w = ws[wOffset + a];
+			result[resultOffset + i - from] = Math.sqrt(x * x + y * y + z * z + w * w);
+		}
+	}
+
+	/**
+	 * Multiplies each vector of this buffer by a matrix, treating the vectors as columns
+	 * @param matrix a 4x4 matrix
+	 * @param from the first vector
+	 * @param to the end of the range of vectors
+	 */
+	public void transform(Matrix matrix, int from, int to) {
+		assert matrix.rows() == 4 && matrix.columns() == 4;
+
+		checkRange(from, to);
+
+		double m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2), m03 = matrix.get(0, 3);
+		double m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2), m13 = matrix.get(1, 3);
+		double m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2), m23 = matrix.get(2, 3);
+		double m30 = matrix.get(3, 0), m31 = matrix.get(3, 1), m32 = matrix.get(3, 2), m33 = matrix.get(3, 3);
+
+		for (int i = from; i < to; i++) {
+			int a = i * stride;
+
+			double x = xs[xOffset + a], y = ys[yOffset + a], z = zs[zOffset + a], w = ws[wOffset + a];
+
+			xs[xOffset + a] = m00 * x + m01 * y + m02 * z + m03 * w;
+			ys[yOffset + a] = m10 * x + m11 * y + m12 * z + m13 * w;
+			zs[zOffset + a] = m20 * x + m21 * y + m22 * z + m23 * w;
+			ws[wOffset + a] = m30 * x + m31 * y + m32 * z + m33 * w;
+		}
+	}
+
+	private void checkRange(int from, int to) {
+		assert from >= 0 && from <= to && to <= size : "Invalid range [%d, %d) of a buffer of size %d".formatted(from, to, size);
+	}
+
+	/**
+	 * A mutable view of one vector of a buffer, which can be moved to view other vectors without allocating
+	 */
+	public final class Cursor extends BasicVec<Vec4> implements MVec4 {
+		private int index;
+
+		private Cursor() { }
+
+		/**
+		 * Moves this cursor to view another vector
+		 * @param index the index of the vector
+		 * @return this cursor
+		 */
+		public Cursor moveTo(int index) {
+			assert index >= 0 && index < size;
+
+			this.index = index;
+			return this;
+		}
+
+		/**
+		 * The index of the vector that this cursor views
+		 * @return the index
+		 */
+		public int index() {
+			return index;
+		}
+
+		@Override
+		public double x() {
+			return xs[xOffset + index * stride];
+		}
+
+		@Override
+		public double y() {
+			return ys[yOffset + index * stride];
+		}
+
+		@Override
+		public double z() {
+			return zs[zOffset + index * stride];
+		}
+
+		@Override
+		public double w() {
+			return ws[wOffset + index * stride];
+		}
+
+		@Override
+		public void x(double x) {
+			xs[xOffset + index * stride] = x;
+		}
+
+		@Override
+		public void y(double y) {
+			ys[yOffset + index * stride] = y;
+		}
+
+		@Override
+		public void z(double z) {
+			zs[zOffset + index * stride] = z;
+		}
+
+		@Override
+		public void w(double w) {
+			ws[wOffset + index * stride] = w;
+		}
+	}
+}
@@ -70,6 +70,16 @@ public interface VecN extends GenericVec<VecN> {
 	 */
 	double get(int i);
 
+	/**
+	 * A lazy view of this vector. Chains of element-wise operations on the view are not evaluated until the result is
+	 * needed, and are then evaluated in a single pass without creating a temporary vector for each operation.
+	 * @return a lazy vector
+	 * @see LazyVecN
+	 */
+	default LazyVecN lazy() {
+		return new LazyVecN(this);
+	}
+
 	@Override
 	default double dot(VecN other) {
 		assert size() == other.size();
@@ -2,6 +2,8 @@ package brownshome.vecmath.vector.array;
 
 import java.util.Arrays;
 
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.generic.FloatArrayKernels;
 import brownshome.vecmath.vector.*;
 import brownshome.vecmath.vector.basic.layout.WrappedVecLayout;
 import brownshome.vecmath.vector.layout.VecNLayout;
@@ -23,6 +25,18 @@ public interface ArrayVecN extends MVecN, GenericArrayVec<VecNLayout, VecN> {
 
 	@Override
 	default void set(VecN vec) {
+		if (vec instanceof LazyVecN lazy) {
+			lazy.evaluateInto(this);
+			return;
+		}
+
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			assert size() == a.size();
+
+			System.arraycopy(a.backingArray(), a.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
 		MVecN.super.set(vec);
 	}
 
@@ -33,21 +47,66 @@ public interface ArrayVecN extends MVecN, GenericArrayVec<VecNLayout, VecN> {
 
 	@Override
 	default void addToSelf(VecN vec) {
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			assert size() == a.size();
+
+			ArrayKernels.INSTANCE.add(a.backingArray(), a.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
 		MVecN.super.addToSelf(vec);
 	}
 
+	@Override
+	default void scaleAddToSelf(VecN vec, double scale) {
+		assert size() == vec.size();
+
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			ArrayKernels.INSTANCE.scaleAdd(scale, a.backingArray(), a.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		for (int i = 0; i < size(); i++) {
+			set(get(i) + vec.get(i) * scale, i);
+		}
+	}
+
 	@Override
 	default void scaleSelf(double scale) {
+		if (layout().isUnitStride()) {
+			ArrayKernels.INSTANCE.scale(scale, backingArray(), layout().start(), size());
+			return;
+		}
+
 		MVecN.super.scaleSelf(scale);
 	}
 
 	@Override
 	default void scaleSelf(VecN scale) {
+		if (scale instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			assert size() == a.size();
+
+			ArrayKernels.INSTANCE.multiply(a.backingArray(), a.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
 		MVecN.super.scaleSelf(scale);
 	}
 
 	@Override
 	default double dot(VecN vec) {
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			assert size() == a.size();
+
+			return ArrayKernels.INSTANCE.dot(backingArray(), layout().start(), a.backingArray(), a.layout().start(), size());
+		}
+
+		if (vec instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			assert size() == f.size();
+
+			return FloatArrayKernels.dot(f.backingArray(), f.layout().start(), backingArray(), layout().start(), size());
+		}
+
 		return MVecN.super.dot(vec);
 	}
 
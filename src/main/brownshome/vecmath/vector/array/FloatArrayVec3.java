@@ -0,0 +1,57 @@
+package brownshome.vecmath.vector.array;
+
+import brownshome.vecmath.generic.GenericFloatArrayElement;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.basic.array.BasicFloatArrayVec3;
+import brownshome.vecmath.vector.layout.Vec3Layout;
+
+/**
+ * A float-backed 3-element vector. Arithmetic is done in double precision.
+ */
+public interface FloatArrayVec3 extends MVec3, GenericFloatArrayElement<Vec3Layout, Vec3> {
+	/**
+	 * Creates a vector from the values in an array. Edits to the array will change this vector and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array
+	 * @return a vector
+	 */
+	static FloatArrayVec3 of(float[] array, Vec3Layout layout) {
+		return new BasicFloatArrayVec3(array, layout);
+	}
+
+	@Override
+	default double x() {
+		return backingArray()[layout().arrayIndex(0)];
+	}
+
+	@Override
+	default double y() {
+		return backingArray()[layout().arrayIndex(1)];
+	}
+
+	@Override
+	default double z() {
+		return backingArray()[layout().arrayIndex(2)];
+	}
+
+	@Override
+	default void x(double x) {
+		backingArray()[layout().arrayIndex(0)] = (float) x;
+	}
+
+	@Override
+	default void y(double y) {
+		backingArray()[layout().arrayIndex(1)] = (float) y;
+	}
+
+	@Override
+	default void z(double z) {
+		backingArray()[layout().arrayIndex(2)] = (float) z;
+	}
+
+	@Override
+	default FloatArrayVecN asUnknownSize() {
+		return FloatArrayVecN.of(backingArray(), layout().asVecNLayout());
+	}
+}
@@ -0,0 +1,67 @@
+package brownshome.vecmath.vector.array;
+
+import brownshome.vecmath.generic.GenericFloatArrayElement;
+import brownshome.vecmath.vector.MVec4;
+import brownshome.vecmath.vector.Vec4;
+import brownshome.vecmath.vector.basic.array.BasicFloatArrayVec4;
+import brownshome.vecmath.vector.layout.Vec4Layout;
+
+/**
+ * A float-backed 4-element vector. Arithmetic is done in double precision.
+ */
+public interface FloatArrayVec4 extends MVec4, GenericFloatArrayElement<Vec4Layout, Vec4> {
+	/**
+	 * Creates a vector from the values in an array. Edits to the array will change this vector and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array
+	 * @return a vector
+	 */
+	static FloatArrayVec4 of(float[] array, Vec4Layout layout) {
+		return new BasicFloatArrayVec4(array, layout);
+	}
+
+	@Override
+	default double x() {
+		return backingArray()[layout().arrayIndex(0)];
+	}
+
+	@Override
+	default double y() {
+		return backingArray()[layout().arrayIndex(1)];
+	}
+
+	@Override
+	default double z() {
+		return backingArray()[layout().arrayIndex(2)];
+	}
+
+	@Override
+	default double w() {
+		return backingArray()[layout().arrayIndex(3)];
+	}
+
+	@Override
+	default void x(double x) {
+		backingArray()[layout().arrayIndex(0)] = (float) x;
+	}
+
+	@Override
+	default void y(double y) {
+		backingArray()[layout().arrayIndex(1)] = (float) y;
+	}
+
+	@Override
+	default void z(double z) {
+		backingArray()[layout().arrayIndex(2)] = (float) z;
+	}
+
+	@Override
+	default void w(double w) {
+		backingArray()[layout().arrayIndex(3)] = (float) w;
+	}
+
+	@Override
+	default FloatArrayVecN asUnknownSize() {
+		return FloatArrayVecN.of(backingArray(), layout().asVecNLayout());
+	}
+}
@@ -0,0 +1,178 @@
+package brownshome.vecmath.vector.array;
+
+import brownshome.vecmath.generic.FloatArrayKernels;
+import brownshome.vecmath.generic.GenericFloatArrayElement;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.basic.array.BasicFloatArrayVecN;
+import brownshome.vecmath.vector.basic.layout.WrappedVecLayout;
+import brownshome.vecmath.vector.layout.VecNLayout;
+
+/**
+ * A float-backed arbitrary-element vector. Arithmetic is done in double precision, and dot products are accumulated in
+ * double precision.
+ */
+public interface FloatArrayVecN extends MVecN, GenericFloatArrayElement<VecNLayout, VecN> {
+	/**
+	 * Creates a vector containing the given elements
+	 * @param elements the elements
+	 * @return a vector
+	 */
+	static FloatArrayVecN of(float... elements) {
+		return of(elements, VecNLayout.of(elements.length));
+	}
+
+	/**
+	 * Creates a zeroed vector
+	 * @param layout the layout of the vector
+	 * @return a vector
+	 */
+	static FloatArrayVecN of(VecNLayout layout) {
+		return of(new float[layout.end()], layout);
+	}
+
+	/**
+	 * Creates a vector from the values in an array. Edits to the array will change this vector and vice-versa.
+	 * @param array the array
+	 * @param layout the layout of the array
+	 * @return a vector
+	 */
+	static FloatArrayVecN of(float[] array, VecNLayout layout) {
+		return new BasicFloatArrayVecN(array, layout);
+	}
+
+	@Override
+	default double get(int i) {
+		return backingArray()[layout().arrayIndex(i)];
+	}
+
+	@Override
+	default void set(double value, int index) {
+		backingArray()[layout().arrayIndex(index)] = (float) value;
+	}
+
+	@Override
+	default int size() {
+		return layout().elements();
+	}
+
+	@Override
+	default void set(VecN vec) {
+		assert size() == vec.size();
+
+		if (vec instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			System.arraycopy(f.backingArray(), f.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			FloatArrayKernels.narrow(a.backingArray(), a.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		MVecN.super.set(vec);
+	}
+
+	@Override
+	default void addToSelf(VecN vec) {
+		assert size() == vec.size();
+
+		if (vec instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			FloatArrayKernels.add(f.backingArray(), f.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		MVecN.super.addToSelf(vec);
+	}
+
+	@Override
+	default void scaleAddToSelf(VecN vec, double scale) {
+		assert size() == vec.size();
+
+		if (vec instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			FloatArrayKernels.scaleAdd(scale, f.backingArray(), f.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		for (int i = 0; i < size(); i++) {
+			set(get(i) + vec.get(i) * scale, i);
+		}
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		if (layout().isUnitStride()) {
+			FloatArrayKernels.scale(scale, backingArray(), layout().start(), size());
+			return;
+		}
+
+		MVecN.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(VecN scale) {
+		assert size() == scale.size();
+
+		if (scale instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			FloatArrayKernels.multiply(f.backingArray(), f.layout().start(), backingArray(), layout().start(), size());
+			return;
+		}
+
+		MVecN.super.scaleSelf(scale);
+	}
+
+	@Override
+	default double dot(VecN vec) {
+		assert size() == vec.size();
+
+		if (vec instanceof FloatArrayVecN f && layout().isUnitStride() && f.layout().isUnitStride()) {
+			return FloatArrayKernels.dot(backingArray(), layout().start(), f.backingArray(), f.layout().start(), size());
+		}
+
+		if (vec instanceof ArrayVecN a && layout().isUnitStride() && a.layout().isUnitStride()) {
+			return FloatArrayKernels.dot(backingArray(), layout().start(), a.backingArray(), a.layout().start(), size());
+		}
+
+		return MVecN.super.dot(vec);
+	}
+
+	@Override
+	default FloatArrayVecN asUnknownSize() {
+		return this;
+	}
+
+	@Override
+	default FloatArrayVec3 asVec3() {
+		assert size() == 3;
+
+		return FloatArrayVec3.of(backingArray(), new WrappedVecLayout(layout()));
+	}
+
+	@Override
+	default FloatArrayVec4 asVec4() {
+		assert size() == 4;
+
+		return FloatArrayVec4.of(backingArray(), new WrappedVecLayout(layout()));
+	}
+
+	@Override
+	default ArrayVecN arrayBackedCopy(VecNLayout layout) {
+		assert layout != null;
+		assert layout.elements() == size();
+
+		var result = VecN.of(layout);
+
+		if (this.layout().isUnitStride() && layout.isUnitStride()) {
+			FloatArrayKernels.widen(backingArray(), this.layout().start(), result.backingArray(), layout.start(), size());
+			return result;
+		}
+
+		result.set(this);
+		return result;
+	}
+
+	@Override
+	default FloatArrayVecN move() {
+		return (FloatArrayVecN) MVecN.super.move();
+	}
+}
@@ -0,0 +1,47 @@
+package brownshome.vecmath.vector.basic.array;
+
+import brownshome.vecmath.generic.GenericFloatArrayElement;
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.array.FloatArrayMatrix;
+import brownshome.vecmath.vector.basic.BasicVec;
+import brownshome.vecmath.vector.generic.GenericVec;
+import brownshome.vecmath.vector.generic.GenericVecLayout;
+
+abstract class BasicFloatArrayVec<
+		LAYOUT_TYPE extends GenericVecLayout,
+		VEC_TYPE extends GenericVec<VEC_TYPE>> extends BasicVec<VEC_TYPE> implements GenericFloatArrayElement<LAYOUT_TYPE, VEC_TYPE> {
+	private final float[] array;
+	private final LAYOUT_TYPE layout;
+
+	BasicFloatArrayVec(float[] array, LAYOUT_TYPE layout) {
+		this.array = array;
+		this.layout = layout;
+
+		assert layout.start() < array.length;
+		assert layout.end() <= array.length;
+	}
+
+	BasicFloatArrayVec(BasicFloatArrayVec<LAYOUT_TYPE, VEC_TYPE> copy) {
+		this(copy.array.clone(), copy.layout);
+	}
+
+	@Override
+	public final LAYOUT_TYPE layout() {
+		return layout;
+	}
+
+	@Override
+	public final float[] backingArray() {
+		return array;
+	}
+
+	@Override
+	public MMatrix asRow() {
+		return FloatArrayMatrix.of(array, layout.asRowMatrix());
+	}
+
+	@Override
+	public MMatrix asColumn() {
+		return FloatArrayMatrix.of(array, layout.asColumnMatrix());
+	}
+}
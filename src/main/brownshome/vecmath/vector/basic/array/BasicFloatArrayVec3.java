@@ -0,0 +1,20 @@
+package brownshome.vecmath.vector.basic.array;
+
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.array.FloatArrayVec3;
+import brownshome.vecmath.vector.layout.Vec3Layout;
+
+public final class BasicFloatArrayVec3 extends BasicFloatArrayVec<Vec3Layout, Vec3> implements FloatArrayVec3 {
+	public BasicFloatArrayVec3(float[] array, Vec3Layout layout) {
+		super(array, layout);
+	}
+
+	private BasicFloatArrayVec3(BasicFloatArrayVec3 copy) {
+		super(copy);
+	}
+
+	@Override
+	public BasicFloatArrayVec3 copy() {
+		return new BasicFloatArrayVec3(this);
+	}
+}
@@ -0,0 +1,20 @@
+package brownshome.vecmath.vector.basic.array;
+
+import brownshome.vecmath.vector.Vec4;
+import brownshome.vecmath.vector.array.FloatArrayVec4;
+import brownshome.vecmath.vector.layout.Vec4Layout;
+
+public final class BasicFloatArrayVec4 extends BasicFloatArrayVec<Vec4Layout, Vec4> implements FloatArrayVec4 {
+	public BasicFloatArrayVec4(float[] array, Vec4Layout layout) {
+		super(array, layout);
+	}
+
+	private BasicFloatArrayVec4(BasicFloatArrayVec4 copy) {
+		super(copy);
+	}
+
+	@Override
+	public BasicFloatArrayVec4 copy() {
+		return new BasicFloatArrayVec4(this);
+	}
+}
@@ -0,0 +1,23 @@
+package brownshome.vecmath.vector.basic.array;
+
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.FloatArrayVecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+
+/**
+ * A float-backed vector of unknown length
+ */
+public final class BasicFloatArrayVecN extends BasicFloatArrayVec<VecNLayout, VecN> implements FloatArrayVecN {
+	public BasicFloatArrayVecN(float[] array, VecNLayout layout) {
+		super(array, layout);
+	}
+
+	private BasicFloatArrayVecN(BasicFloatArrayVecN copy) {
+		super(copy);
+	}
+
+	@Override
+	public BasicFloatArrayVecN copy() {
+		return new BasicFloatArrayVecN(this);
+	}
+}
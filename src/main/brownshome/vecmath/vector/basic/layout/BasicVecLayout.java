@@ -32,6 +32,20 @@ public abstract class BasicVecLayout implements GenericVecLayout {
 		return Math.max(offset, offset + (elements() - 1) * stride) + 1;
 	}
 
+	@Override
+	public final long longStart() {
+		assert elements() != 0;
+
+		return Math.min(offset, offset + (elements() - 1L) * stride);
+	}
+
+	@Override
+	public final long longEnd() {
+		assert elements() != 0;
+
+		return Math.max(offset, offset + (elements() - 1L) * stride) + 1;
+	}
+
 	@Override
 	public final int size() {
 		if (elements() == 0) {
@@ -53,6 +67,11 @@ public abstract class BasicVecLayout implements GenericVecLayout {
 				|| stride == -1 && offset == elements() - 1;
 	}
 
+	@Override
+	public final boolean isUnitStride() {
+		return elements() != 0 && (stride == 1 || elements() == 1);
+	}
+
 	@Override
 	public final int arrayIndex(int index) {
 		assert elements() != 0;
@@ -62,6 +81,15 @@ public abstract class BasicVecLayout implements GenericVecLayout {
 		return offset + stride * index;
 	}
 
+	@Override
+	public final long longIndex(int index) {
+		assert elements() != 0;
+		assert index >= 0;
+		assert index < elements();
+
+		return offset + (long) stride * index;
+	}
+
 	@Override
 	public MatrixLayout asRowMatrix() {
 		return MatrixLayout.of(1, elements(), offset, 0, stride);
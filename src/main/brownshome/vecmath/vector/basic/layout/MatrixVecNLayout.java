@@ -1,5 +1,7 @@
 package brownshome.vecmath.vector.basic.layout;
 
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.basic.layout.VecNMatrixLayout;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
 import brownshome.vecmath.vector.layout.Vec2Layout;
 import brownshome.vecmath.vector.layout.Vec3Layout;
@@ -11,6 +13,25 @@ import brownshome.vecmath.vector.layout.VecNLayout;
  * @param delegate the matrix layout
  */
 public record MatrixVecNLayout(MatrixLayout delegate) implements VecNLayout {
+	/**
+	 * Creates a vector layout from a single-column matrix layout, using a strided layout if the matrix layout is strided
+	 * @param delegate the matrix layout
+	 * @return a layout
+	 */
+	public static VecNLayout of(MatrixLayout delegate) {
+		assert delegate.columns() == 1;
+
+		if (delegate instanceof BasicMatrixLayout basic) {
+			return VecNLayout.of(basic.rows(), basic.offset(), basic.rows() == 1 ? 1 : basic.rowStride());
+		}
+
+		if (delegate instanceof VecNMatrixLayout vector) {
+			return vector.delegate();
+		}
+
+		return new MatrixVecNLayout(delegate);
+	}
+
 	@Override
 	public int start() {
 		return delegate.start();
@@ -21,6 +42,16 @@ public record MatrixVecNLayout(MatrixLayout delegate) implements VecNLayout {
 		return delegate.end();
 	}
 
+	@Override
+	public long longStart() {
+		return delegate.longStart();
+	}
+
+	@Override
+	public long longEnd() {
+		return delegate.longEnd();
+	}
+
 	@Override
 	public int size() {
 		return delegate.size();
@@ -41,6 +72,16 @@ public record MatrixVecNLayout(MatrixLayout delegate) implements VecNLayout {
 		return delegate.arrayIndex(index, 0);
 	}
 
+	@Override
+	public long longIndex(int index) {
+		return delegate.longIndex(index, 0);
+	}
+
+	@Override
+	public boolean isUnitStride() {
+		return delegate instanceof BasicMatrixLayout basic && (basic.rowStride() == 1 || basic.rows() == 1);
+	}
+
 	@Override
 	public int elements() {
 		return delegate.rows();
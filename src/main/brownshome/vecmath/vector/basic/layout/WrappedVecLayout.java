@@ -17,6 +17,16 @@ public record WrappedVecLayout(VecNLayout delegate) implements Vec2Layout, Vec3L
 		return delegate.end();
 	}
 
+	@Override
+	public long longStart() {
+		return delegate.longStart();
+	}
+
+	@Override
+	public long longEnd() {
+		return delegate.longEnd();
+	}
+
 	@Override
 	public int size() {
 		return delegate.size();
@@ -37,6 +47,16 @@ public record WrappedVecLayout(VecNLayout delegate) implements Vec2Layout, Vec3L
 		return delegate.arrayIndex(index);
 	}
 
+	@Override
+	public long longIndex(int index) {
+		return delegate.longIndex(index);
+	}
+
+	@Override
+	public boolean isUnitStride() {
+		return delegate.isUnitStride();
+	}
+
 	@Override
 	public VecNLayout asVecNLayout() {
 		return delegate;
@@ -0,0 +1,45 @@
+package brownshome.vecmath.vector.basic.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.matrix.MMatrix;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.basic.BasicVec;
+import brownshome.vecmath.vector.generic.GenericVec;
+import brownshome.vecmath.vector.generic.GenericVecLayout;
+import brownshome.vecmath.vector.layout.VecNLayout;
+
+abstract class BasicSegmentVec<
+		LAYOUT_TYPE extends GenericVecLayout,
+		VEC_TYPE extends GenericVec<VEC_TYPE>> extends BasicVec<VEC_TYPE> implements GenericSegmentElement<LAYOUT_TYPE, VEC_TYPE> {
+	private final DoubleSegment segment;
+	private final LAYOUT_TYPE layout;
+
+	BasicSegmentVec(DoubleSegment segment, LAYOUT_TYPE layout) {
+		this.segment = segment;
+		this.layout = layout;
+
+		assert layout instanceof VecNLayout v && v.elements() == 0 || layout.longStart() >= 0;
+		assert layout instanceof VecNLayout v && v.elements() == 0 || layout.longEnd() <= segment.elements();
+	}
+
+	@Override
+	public final LAYOUT_TYPE layout() {
+		return layout;
+	}
+
+	@Override
+	public final DoubleSegment backingSegment() {
+		return segment;
+	}
+
+	@Override
+	public MMatrix asRow() {
+		return SegmentMatrix.of(segment, layout.asRowMatrix());
+	}
+
+	@Override
+	public MMatrix asColumn() {
+		return SegmentMatrix.of(segment, layout.asColumnMatrix());
+	}
+}
@@ -0,0 +1,12 @@
+package brownshome.vecmath.vector.basic.segment;
+
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.Vec2;
+import brownshome.vecmath.vector.layout.Vec2Layout;
+import brownshome.vecmath.vector.segment.SegmentVec2;
+
+public final class BasicSegmentVec2 extends BasicSegmentVec<Vec2Layout, Vec2> implements SegmentVec2 {
+	public BasicSegmentVec2(DoubleSegment segment, Vec2Layout layout) {
+		super(segment, layout);
+	}
+}
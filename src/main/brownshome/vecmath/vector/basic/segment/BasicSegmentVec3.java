@@ -0,0 +1,12 @@
+package brownshome.vecmath.vector.basic.segment;
+
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.layout.Vec3Layout;
+import brownshome.vecmath.vector.segment.SegmentVec3;
+
+public final class BasicSegmentVec3 extends BasicSegmentVec<Vec3Layout, Vec3> implements SegmentVec3 {
+	public BasicSegmentVec3(DoubleSegment segment, Vec3Layout layout) {
+		super(segment, layout);
+	}
+}
@@ -0,0 +1,12 @@
+package brownshome.vecmath.vector.basic.segment;
+
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.Vec4;
+import brownshome.vecmath.vector.layout.Vec4Layout;
+import brownshome.vecmath.vector.segment.SegmentVec4;
+
+public final class BasicSegmentVec4 extends BasicSegmentVec<Vec4Layout, Vec4> implements SegmentVec4 {
+	public BasicSegmentVec4(DoubleSegment segment, Vec4Layout layout) {
+		super(segment, layout);
+	}
+}
@@ -0,0 +1,15 @@
+package brownshome.vecmath.vector.basic.segment;
+
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import brownshome.vecmath.vector.segment.SegmentVecN;
+
+/**
+ * A segment based vector of unknown length
+ */
+public final class BasicSegmentVecN extends BasicSegmentVec<VecNLayout, VecN> implements SegmentVecN {
+	public BasicSegmentVecN(DoubleSegment segment, VecNLayout layout) {
+		super(segment, layout);
+	}
+}
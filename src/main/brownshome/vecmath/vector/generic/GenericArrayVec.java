@@ -1,5 +1,6 @@
 package brownshome.vecmath.vector.generic;
 
+import brownshome.vecmath.generic.ArrayKernels;
 import brownshome.vecmath.generic.GenericArrayElement;
 
 /**
@@ -18,11 +19,6 @@ public interface GenericArrayVec<
 		assert layout().isContinuous();
 		assert cast.layout().equals(layout());
 
-		double sum = 0.0;
-		for (int i = layout().start(); i < layout().end(); i++) {
-			sum += backingArray()[i] * cast.backingArray()[i];
-		}
-
-		return sum;
+		return ArrayKernels.INSTANCE.dot(backingArray(), layout().start(), cast.backingArray(), cast.layout().start(), layout().size());
 	}
 }
@@ -11,6 +11,24 @@ public interface GenericVecLayout extends ElementLayout {
 	 */
 	int arrayIndex(int index);
 
+	/**
+	 * The index of a particular item of this vector in the backing storage. Unlike {@link #arrayIndex(int)} this does
+	 * not overflow for layouts of storage that is larger than an array.
+	 * @param index the index
+	 * @return the index in the backing storage
+	 */
+	default long longIndex(int index) {
+		return arrayIndex(index);
+	}
+
+	/**
+	 * Whether the elements of this vector are adjacent, and in ascending order, in the backing array
+	 * @return a boolean
+	 */
+	default boolean isUnitStride() {
+		return false;
+	}
+
 	/**
 	 * Gets this vector layout as a row matrix
 	 * @return a layout
@@ -87,11 +87,11 @@ public interface VecNLayout extends GenericVecLayout {
 
 	@Override
 	default MatrixLayout asRowMatrix() {
-		return new VecNMatrixLayout(this).transpose();
+		return asColumnMatrix().transpose();
 	}
 
 	@Override
 	default MatrixLayout asColumnMatrix() {
-		return new VecNMatrixLayout(this);
+		return VecNMatrixLayout.of(this);
 	}
 }
@@ -0,0 +1,48 @@
+package brownshome.vecmath.vector.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.MVec2;
+import brownshome.vecmath.vector.Vec2;
+import brownshome.vecmath.vector.basic.segment.BasicSegmentVec2;
+import brownshome.vecmath.vector.layout.Vec2Layout;
+
+/**
+ * A segment-backed 2-element vector. The segment may be stored off-heap.
+ */
+public interface SegmentVec2 extends MVec2, GenericSegmentElement<Vec2Layout, Vec2> {
+	/**
+	 * Creates a vector from the values in a segment. Edits to the segment will change this vector and vice-versa.
+	 * @param segment the segment
+	 * @param layout the layout of the segment
+	 * @return a vector
+	 */
+	static SegmentVec2 of(DoubleSegment segment, Vec2Layout layout) {
+		return new BasicSegmentVec2(segment, layout);
+	}
+
+	@Override
+	default double x() {
+		return backingSegment().get(layout().longIndex(0));
+	}
+
+	@Override
+	default double y() {
+		return backingSegment().get(layout().longIndex(1));
+	}
+
+	@Override
+	default void x(double x) {
+		backingSegment().set(x, layout().longIndex(0));
+	}
+
+	@Override
+	default void y(double y) {
+		backingSegment().set(y, layout().longIndex(1));
+	}
+
+	@Override
+	default SegmentVecN asUnknownSize() {
+		return SegmentVecN.of(backingSegment(), layout().asVecNLayout());
+	}
+}
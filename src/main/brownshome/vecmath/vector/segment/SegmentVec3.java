@@ -0,0 +1,58 @@
+package brownshome.vecmath.vector.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.MVec3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.basic.segment.BasicSegmentVec3;
+import brownshome.vecmath.vector.layout.Vec3Layout;
+
+/**
+ * A segment-backed 3-element vector. The segment may be stored off-heap.
+ */
+public interface SegmentVec3 extends MVec3, GenericSegmentElement<Vec3Layout, Vec3> {
+	/**
+	 * Creates a vector from the values in a segment. Edits to the segment will change this vector and vice-versa.
+	 * @param segment the segment
+	 * @param layout the layout of the segment
+	 * @return a vector
+	 */
+	static SegmentVec3 of(DoubleSegment segment, Vec3Layout layout) {
+		return new BasicSegmentVec3(segment, layout);
+	}
+
+	@Override
+	default double x() {
+		return backingSegment().get(layout().longIndex(0));
+	}
+
+	@Override
+	default double y() {
+		return backingSegment().get(layout().longIndex(1));
+	}
+
+	@Override
+	default double z() {
+		return backingSegment().get(layout().longIndex(2));
+	}
+
+	@Override
+	default void x(double x) {
+		backingSegment().set(x, layout().longIndex(0));
+	}
+
+	@Override
+	default void y(double y) {
+		backingSegment().set(y, layout().longIndex(1));
+	}
+
+	@Override
+	default void z(double z) {
+		backingSegment().set(z, layout().longIndex(2));
+	}
+
+	@Override
+	default SegmentVecN asUnknownSize() {
+		return SegmentVecN.of(backingSegment(), layout().asVecNLayout());
+	}
+}
@@ -0,0 +1,68 @@
+package brownshome.vecmath.vector.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.MVec4;
+import brownshome.vecmath.vector.Vec4;
+import brownshome.vecmath.vector.basic.segment.BasicSegmentVec4;
+import brownshome.vecmath.vector.layout.Vec4Layout;
+
+/**
+ * A segment-backed 4-element vector. The segment may be stored off-heap.
+ */
+public interface SegmentVec4 extends MVec4, GenericSegmentElement<Vec4Layout, Vec4> {
+	/**
+	 * Creates a vector from the values in a segment. Edits to the segment will change this vector and vice-versa.
+	 * @param segment the segment
+	 * @param layout the layout of the segment
+	 * @return a vector
+	 */
+	static SegmentVec4 of(DoubleSegment segment, Vec4Layout layout) {
+		return new BasicSegmentVec4(segment, layout);
+	}
+
+	@Override
+	default double x() {
+		return backingSegment().get(layout().longIndex(0));
+	}
+
+	@Override
+	default double y() {
+		return backingSegment().get(layout().longIndex(1));
+	}
+
+	@Override
+	default double z() {
+		return backingSegment().get(layout().longIndex(2));
+	}
+
+	@Override
+	default double w() {
+		return backingSegment().get(layout().longIndex(3));
+	}
+
+	@Override
+	default void x(double x) {
+		backingSegment().set(x, layout().longIndex(0));
+	}
+
+	@Override
+	default void y(double y) {
+		backingSegment().set(y, layout().longIndex(1));
+	}
+
+	@Override
+	default void z(double z) {
+		backingSegment().set(z, layout().longIndex(2));
+	}
+
+	@Override
+	default void w(double w) {
+		backingSegment().set(w, layout().longIndex(3));
+	}
+
+	@Override
+	default SegmentVecN asUnknownSize() {
+		return SegmentVecN.of(backingSegment(), layout().asVecNLayout());
+	}
+}
@@ -0,0 +1,205 @@
+package brownshome.vecmath.vector.segment;
+
+import brownshome.vecmath.generic.GenericSegmentElement;
+import brownshome.vecmath.generic.SegmentKernels;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.memory.MemoryScope;
+import brownshome.vecmath.vector.MVecN;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+import brownshome.vecmath.vector.basic.layout.WrappedVecLayout;
+import brownshome.vecmath.vector.basic.segment.BasicSegmentVecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+
+/**
+ * The storage of a unit-stride vector, which bulk operations can work on directly
+ */
+record UnitStride(DoubleSegment segment, long start) {
+	static UnitStride of(VecN vec) {
+		if (vec instanceof SegmentVecN s && s.layout().isUnitStride()) {
+			return new UnitStride(s.backingSegment(), s.layout().longIndex(0));
+		}
+
+		if (vec instanceof ArrayVecN a && a.layout().isUnitStride()) {
+			return new UnitStride(DoubleSegment.ofArray(a.backingArray()), a.layout().arrayIndex(0));
+		}
+
+		return null;
+	}
+}
+
+/**
+ * A segment-backed arbitrary-element vector. The segment may be stored off-heap.
+ */
+public interface SegmentVecN extends MVecN, GenericSegmentElement<VecNLayout, VecN> {
+	/**
+	 * Allocates a zeroed vector in the global scope
+	 * @param size the number of elements
+	 * @return a vector
+	 */
+	static SegmentVecN allocate(int size) {
+		return allocate(size, MemoryScope.global());
+	}
+
+	/**
+	 * Allocates a zeroed vector
+	 * @param size the number of elements
+	 * @param scope the scope that owns the vector
+	 * @return a vector
+	 */
+	static SegmentVecN allocate(int size, MemoryScope scope) {
+		return of(DoubleSegment.allocate(size, scope), VecNLayout.of(size));
+	}
+
+	/**
+	 * Creates a vector from the values in a segment. Edits to the segment will change this vector and vice-versa.
+	 * @param segment the segment
+	 * @param layout the layout of the segment
+	 * @return a vector
+	 */
+	static SegmentVecN of(DoubleSegment segment, VecNLayout layout) {
+		return new BasicSegmentVecN(segment, layout);
+	}
+
+	@Override
+	default double get(int i) {
+		return backingSegment().get(layout().longIndex(i));
+	}
+
+	@Override
+	default void set(double value, int index) {
+		backingSegment().set(value, layout().longIndex(index));
+	}
+
+	@Override
+	default int size() {
+		return layout().elements();
+	}
+
+	@Override
+	default void set(VecN vec) {
+		assert size() == vec.size();
+
+		var source = UnitStride.of(vec);
+		if (source != null && layout().isUnitStride()) {
+			backingSegment().copyFrom(source.segment(), source.start(), layout().longIndex(0), size());
+			return;
+		}
+
+		MVecN.super.set(vec);
+	}
+
+	@Override
+	default void addToSelf(VecN vec) {
+		assert size() == vec.size();
+
+		var source = UnitStride.of(vec);
+		if (source != null && layout().isUnitStride()) {
+			SegmentKernels.add(source.segment(), source.start(), backingSegment(), layout().longIndex(0), size());
+			return;
+		}
+
+		MVecN.super.addToSelf(vec);
+	}
+
+	@Override
+	default void scaleAddToSelf(VecN vec, double scale) {
+		assert size() == vec.size();
+
+		var source = UnitStride.of(vec);
+		if (source != null && layout().isUnitStride()) {
+			SegmentKernels.scaleAdd(scale, source.segment(), source.start(), backingSegment(), layout().longIndex(0), size());
+			return;
+		}
+
+		for (int i = 0; i < size(); i++) {
+			set(get(i) + vec.get(i) * scale, i);
+		}
+	}
+
+	@Override
+	default void scaleSelf(double scale) {
+		if (layout().isUnitStride()) {
+			SegmentKernels.scale(scale, backingSegment(), layout().longIndex(0), size());
+			return;
+		}
+
+		MVecN.super.scaleSelf(scale);
+	}
+
+	@Override
+	default void scaleSelf(VecN scale) {
+		assert size() == scale.size();
+
+		var source = UnitStride.of(scale);
+		if (source != null && layout().isUnitStride()) {
+			SegmentKernels.multiply(source.segment(), source.start(), backingSegment(), layout().longIndex(0), size());
+			return;
+		}
+
+		MVecN.super.scaleSelf(scale);
+	}
+
+	@Override
+	default double dot(VecN vec) {
+		assert size() == vec.size();
+
+		var other = UnitStride.of(vec);
+		if (other != null && layout().isUnitStride()) {
+			return SegmentKernels.dot(backingSegment(), layout().longIndex(0), other.segment(), other.start(), size());
+		}
+
+		return MVecN.super.dot(vec);
+	}
+
+	@Override
+	default SegmentVecN asUnknownSize() {
+		return this;
+	}
+
+	@Override
+	default SegmentVec2 asVec2() {
+		assert size() == 2;
+
+		return SegmentVec2.of(backingSegment(), new WrappedVecLayout(layout()));
+	}
+
+	@Override
+	default SegmentVec3 asVec3() {
+		assert size() == 3;
+
+		return SegmentVec3.of(backingSegment(), new WrappedVecLayout(layout()));
+	}
+
+	@Override
+	default SegmentVec4 asVec4() {
+		assert size() == 4;
+
+		return SegmentVec4.of(backingSegment(), new WrappedVecLayout(layout()));
+	}
+
+	@Override
+	default ArrayVecN arrayBackedCopy(VecNLayout layout) {
+		assert layout != null;
+		assert layout.elements() == size();
+
+		var result = VecN.of(layout);
+
+		if (this.layout().isUnitStride() && layout.isUnitStride()) {
+			backingSegment().copyTo(this.layout().longIndex(0), result.backingArray(), layout.arrayIndex(0), size());
+			return result;
+		}
+
+		result.set(this);
+		return result;
+	}
+
+	/**
+	 * An array-backed copy of this vector
+	 * @return a copy
+	 */
+	@Override
+	default ArrayVecN copy() {
+		return arrayBackedCopy();
+	}
+}
@@ -9,12 +9,20 @@ module brownshome.vecmath {
 	exports brownshome.vecmath.vector;
 	exports brownshome.vecmath.vector.array;
 	exports brownshome.vecmath.vector.layout;
+	exports brownshome.vecmath.vector.segment;
 
 	exports brownshome.vecmath.rotation;
 	exports brownshome.vecmath.rotation.array;
 
+	exports brownshome.vecmath.transform;
+
 	exports brownshome.vecmath.matrix;
 	exports brownshome.vecmath.matrix.array;
 	exports brownshome.vecmath.matrix.layout;
+	exports brownshome.vecmath.matrix.segment;
+	exports brownshome.vecmath.matrix.solver;
+	exports brownshome.vecmath.matrix.sparse;
 	exports brownshome.vecmath.matrix.factorisation;
+
+	exports brownshome.vecmath.memory;
 }
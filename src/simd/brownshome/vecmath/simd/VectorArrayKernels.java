@@ -0,0 +1,131 @@
+package brownshome.vecmath.simd;
+
+import brownshome.vecmath.generic.ArrayKernels;
+import brownshome.vecmath.generic.ScalarArrayKernels;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Array kernels using the incubating vector API. This class is only loaded if the {@code jdk.incubator.vector} module
+ * is present.
+ */
+public final class VectorArrayKernels implements ArrayKernels {
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * The shape holding a single row of a tile
+	 */
+	private static final VectorSpecies<Double> TILE_SPECIES = DoubleVector.SPECIES_256;
+
+	private static final ArrayKernels SCALAR = new ScalarArrayKernels();
+
+	public VectorArrayKernels() {
+		if (SPECIES.length() < 2) {
+			throw new UnsupportedOperationException("This platform does not support vectors of doubles");
+		}
+	}
+
+	@Override
+	public void add(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		int i = 0;
+		for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			var s = DoubleVector.fromArray(SPECIES, source, sourceOffset + i);
+			var d = DoubleVector.fromArray(SPECIES, destination, destinationOffset + i);
+			d.add(s).intoArray(destination, destinationOffset + i);
+		}
+
+		for (; i < length; i++) {
+			destination[destinationOffset + i] += source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public void scaleAdd(double scale, double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		var scaleVector = DoubleVector.broadcast(SPECIES, scale);
+
+		int i = 0;
+		for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			var s = DoubleVector.fromArray(SPECIES, source, sourceOffset + i);
+			var d = DoubleVector.fromArray(SPECIES, destination, destinationOffset + i);
+			s.fma(scaleVector, d).intoArray(destination, destinationOffset + i);
+		}
+
+		for (; i < length; i++) {
+			destination[destinationOffset + i] += scale * source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public void scale(double scale, double[] array, int offset, int length) {
+		int i = 0;
+		for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			DoubleVector.fromArray(SPECIES, array, offset + i).mul(scale).intoArray(array, offset + i);
+		}
+
+		for (; i < length; i++) {
+			array[offset + i] *= scale;
+		}
+	}
+
+	@Override
+	public void multiply(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+		int i = 0;
+		for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			var s = DoubleVector.fromArray(SPECIES, source, sourceOffset + i);
+			var d = DoubleVector.fromArray(SPECIES, destination, destinationOffset + i);
+			d.mul(s).intoArray(destination, destinationOffset + i);
+		}
+
+		for (; i < length; i++) {
+			destination[destinationOffset + i] *= source[sourceOffset + i];
+		}
+	}
+
+	@Override
+	public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+		var sum = DoubleVector.zero(SPECIES);
+
+		int i = 0;
+		for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			var x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+			var y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+			sum = x.fma(y, sum);
+		}
+
+		double result = sum.reduceLanes(VectorOperators.ADD);
+		for (; i < length; i++) {
+			result += a[aOffset + i] * b[bOffset + i];
+		}
+
+		return result;
+	}
+
+	@Override
+	public void multiplyPanels(int length, double[] a, int aOffset, double[] b, int bOffset, double[] tile) {
+		if (TILE_SPECIES.length() != TILE_SIZE || SPECIES.vectorBitSize() < TILE_SPECIES.vectorBitSize()) {
+			// This platform would emulate the 256-bit shape
+			SCALAR.multiplyPanels(length, a, aOffset, b, bOffset, tile);
+			return;
+		}
+
+		var c0 = DoubleVector.zero(TILE_SPECIES);
+		var c1 = DoubleVector.zero(TILE_SPECIES);
+		var c2 = DoubleVector.zero(TILE_SPECIES);
+		var c3 = DoubleVector.zero(TILE_SPECIES);
+
+		for (int p = 0; p < length; p++, aOffset += TILE_SIZE, bOffset += TILE_SIZE) {
+			var row = DoubleVector.fromArray(TILE_SPECIES, b, bOffset);
+
+			c0 = DoubleVector.broadcast(TILE_SPECIES, a[aOffset]).fma(row, c0);
+			c1 = DoubleVector.broadcast(TILE_SPECIES, a[aOffset + 1]).fma(row, c1);
+			c2 = DoubleVector.broadcast(TILE_SPECIES, a[aOffset + 2]).fma(row, c2);
+			c3 = DoubleVector.broadcast(TILE_SPECIES, a[aOffset + 3]).fma(row, c3);
+		}
+
+		c0.intoArray(tile, 0);
+		c1.intoArray(tile, TILE_SIZE);
+		c2.intoArray(tile, 2 * TILE_SIZE);
+		c3.intoArray(tile, 3 * TILE_SIZE);
+	}
+}
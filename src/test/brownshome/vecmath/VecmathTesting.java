@@ -1,6 +1,15 @@
 package brownshome.vecmath;
 
+import java.util.Random;
+
+import brownshome.vecmath.matrix.MMatrix;
 import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.SymmetricMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.transform.RigidTransform3;
+import brownshome.vecmath.vector.Vec3;
 import brownshome.vecmath.vector.generic.GenericVec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -8,6 +17,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class VecmathTesting {
 	public static final double ACCURACY = 1e-6;
 
+	/**
+	 * A quarter turn about the z axis followed by a translation
+	 */
+	public static final RigidTransform3 RIGID_A = RigidTransform3.of(
+			Rot3.ofAxisAngle(Vec3.Z_AXIS, Math.toRadians(90)), Vec3.of(1.0, 2.0, 3.0));
+
+	/**
+	 * A rotation about an axis that is not aligned with any coordinate axis, followed by a translation
+	 */
+	public static final RigidTransform3 RIGID_B = RigidTransform3.of(
+			Rot3.ofAxisAngle(Vec3.of(1.0, 1.0, -0.5).normalised(), 0.7), Vec3.of(-0.5, 0.0, 4.0));
+
 	public static <VEC_TYPE extends GenericVec<VEC_TYPE>> void assertVecEquals(VEC_TYPE expected, VEC_TYPE result) {
 		assertEquals(0.0, Math.abs(expected.distance(result)), ACCURACY, "expected: %s but was: %s".formatted(expected, result));
 	}
@@ -22,4 +43,25 @@ public class VecmathTesting {
 
 		assertEquals(0.0, sum, ACCURACY, "expected: %s but was: %s".formatted(expected, result));
 	}
+
+	/**
+	 * Creates a matrix with the given layout, with entries drawn uniformly from [-0.5, 0.5)
+	 */
+	public static ArrayMatrix random(Random random, MatrixLayout layout) {
+		return randomise(random, Matrix.of(layout));
+	}
+
+	/**
+	 * Sets every entry of a matrix to a value drawn uniformly from [-0.5, 0.5). Only the lower triangle of a symmetric
+	 * matrix is drawn.
+	 */
+	public static <MATRIX extends MMatrix> MATRIX randomise(Random random, MATRIX matrix) {
+		boolean symmetric = matrix instanceof SymmetricMatrix;
+
+		for (int r = 0; r < matrix.rows(); r++) for (int c = 0; c < (symmetric ? r + 1 : matrix.columns()); c++) {
+			matrix.set(random.nextDouble() - 0.5, r, c);
+		}
+
+		return matrix;
+	}
 }
@@ -0,0 +1,73 @@
+package brownshome.vecmath.generic;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.ACCURACY;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ArrayKernelsTest {
+	private static final int SEED = 1245;
+	private static final int LENGTH = 37;
+	private static final ArrayKernels SCALAR = new ScalarArrayKernels();
+
+	private static double[] random(Random random, int length) {
+		var result = new double[length];
+
+		for (int i = 0; i < length; i++) {
+			result[i] = random.nextDouble() - 0.5;
+		}
+
+		return result;
+	}
+
+	@Test
+	void scaleAdd() {
+		var random = new Random(SEED);
+		var source = random(random, LENGTH + 3);
+		var expected = random(random, LENGTH + 5);
+		var result = expected.clone();
+
+		SCALAR.scaleAdd(-1.5, source, 3, expected, 5, LENGTH);
+		ArrayKernels.INSTANCE.scaleAdd(-1.5, source, 3, result, 5, LENGTH);
+
+		assertArrayEquals(expected, result, ACCURACY);
+	}
+
+	@Test
+	void multiply() {
+		var random = new Random(SEED);
+		var source = random(random, LENGTH);
+		var expected = random(random, LENGTH + 1);
+		var result = expected.clone();
+
+		SCALAR.multiply(source, 0, expected, 1, LENGTH);
+		ArrayKernels.INSTANCE.multiply(source, 0, result, 1, LENGTH);
+
+		assertArrayEquals(expected, result, ACCURACY);
+	}
+
+	@Test
+	void dot() {
+		var random = new Random(SEED);
+		var a = random(random, LENGTH + 2);
+		var b = random(random, LENGTH);
+
+		assertEquals(SCALAR.dot(a, 2, b, 0, LENGTH), ArrayKernels.INSTANCE.dot(a, 2, b, 0, LENGTH), ACCURACY);
+	}
+
+	@Test
+	void multiplyPanels() {
+		var random = new Random(SEED);
+		var a = random(random, ArrayKernels.TILE_SIZE * LENGTH);
+		var b = random(random, ArrayKernels.TILE_SIZE * LENGTH);
+		var expected = new double[ArrayKernels.TILE_SIZE * ArrayKernels.TILE_SIZE];
+		var result = new double[ArrayKernels.TILE_SIZE * ArrayKernels.TILE_SIZE];
+
+		SCALAR.multiplyPanels(LENGTH, a, 0, b, 0, expected);
+		ArrayKernels.INSTANCE.multiplyPanels(LENGTH, a, 0, b, 0, result);
+
+		assertArrayEquals(expected, result, ACCURACY);
+	}
+}
@@ -0,0 +1,180 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.factorisation.basic.BandedCholeskyFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.BandedLowerUpperFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.TridiagonalFactorisation;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.ACCURACY;
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandedMatrixTest {
+	private static ArrayMatrix random(int size, int lower, int upper, double diagonal, long seed) {
+		var random = new Random(seed);
+		var matrix = Matrix.ofBanded(size, lower, upper);
+
+		for (int r = 0; r < size; r++) for (int c = Math.max(0, r - lower); c <= Math.min(size - 1, r + upper); c++) {
+			matrix.set(random.nextDouble() * 2.0 - 1.0 + (r == c ? diagonal : 0.0), r, c);
+		}
+
+		return matrix;
+	}
+
+	private static Matrix randomDense(int rows, int columns, long seed) {
+		var random = new Random(seed);
+		var matrix = Matrix.of(rows, columns);
+
+		for (int r = 0; r < rows; r++) for (int c = 0; c < columns; c++) {
+			matrix.set(random.nextDouble(), r, c);
+		}
+
+		return matrix;
+	}
+
+	private static void assertSolvesLikeDense(Matrix a) {
+		var dense = a.arrayBackedCopy(MatrixLayout.ofRowMajor(a.rows(), a.columns())).factorisation();
+		var factorisation = a.factorisation();
+		var b = randomDense(a.rows(), 3, 7);
+
+		assertMatrixEquals(dense.leftSolve(b), factorisation.leftSolve(b));
+		assertMatrixEquals(dense.rightSolve(b.transpose()), factorisation.rightSolve(b.transpose()));
+		assertVecEquals(dense.leftSolve(b.column(0)), factorisation.leftSolve(b.column(0)));
+		assertEquals(dense.determinant(), factorisation.determinant(), ACCURACY * Math.abs(dense.determinant()));
+	}
+
+	@Test
+	void storage() {
+		var matrix = Matrix.ofBanded(5, 1, 2);
+		matrix.set(3.0, 1, 0);
+		matrix.set(4.0, 0, 2);
+		matrix.set(0.0, 4, 0);
+
+		assertEquals(3.0, matrix.get(1, 0));
+		assertEquals(4.0, matrix.get(0, 2));
+		assertEquals(0.0, matrix.get(4, 0));
+		assertEquals(0.0, matrix.get(0, 3));
+		assertEquals(5 * 4 + 1, matrix.backingArray().length);
+
+		var copy = matrix.arrayBackedCopy();
+		assertEquals(0.0, copy.get(4, 0));
+		assertEquals(4.0, copy.get(0, 2));
+		assertTrue(matrix.exactEquals(copy));
+		assertEquals(4.0, matrix.transpose().get(2, 0));
+	}
+
+	@Test
+	void lowerUpper() {
+		// A small diagonal forces rows to be interchanged
+		var a = random(40, 3, 2, 0.0, 1);
+
+		assertTrue(a.factorisation() instanceof BandedLowerUpperFactorisation);
+		assertSolvesLikeDense(a);
+		assertSolvesLikeDense(random(30, 0, 4, 2.0, 2));
+		assertSolvesLikeDense(random(30, 4, 0, 2.0, 3));
+	}
+
+	@Test
+	void tridiagonal() {
+		var a = Matrix.ofTridiagonal(50);
+		for (int i = 0; i < 50; i++) {
+			a.set(4.0 + Math.sin(i), i, i);
+
+			if (i > 0) {
+				a.set(-1.0, i, i - 1);
+				a.set(Math.cos(i), i - 1, i);
+			}
+		}
+
+		assertTrue(a.factorisation() instanceof TridiagonalFactorisation);
+		assertSolvesLikeDense(a);
+
+		// Not diagonally dominant, so it must be pivoted
+		var pivoted = random(50, 1, 1, 0.0, 4);
+		assertTrue(pivoted.factorisation() instanceof BandedLowerUpperFactorisation);
+		assertSolvesLikeDense(pivoted);
+	}
+
+	@Test
+	void cholesky() {
+		int size = 40;
+		var a = Matrix.ofSymmetricBanded(size, 2);
+		for (int i = 0; i < size; i++) {
+			a.set(6.0, i, i);
+
+			if (i > 0) {
+				a.set(-1.5, i, i - 1);
+			}
+
+			if (i > 1) {
+				a.set(0.5, i - 2, i);
+			}
+		}
+
+		assertEquals(-1.5, a.get(0, 1));
+		assertEquals(0.0, a.get(0, 3));
+		assertTrue(a.factorisation() instanceof BandedCholeskyFactorisation);
+		assertSolvesLikeDense(a);
+	}
+
+	@Test
+	void multiply() {
+		var a = random(12, 2, 1, 0.0, 5);
+		var b = random(12, 1, 3, 0.0, 6);
+		var dense = randomDense(12, 5, 7);
+
+		var denseA = a.arrayBackedCopy(MatrixLayout.ofRowMajor(12, 12));
+		var denseB = b.arrayBackedCopy(MatrixLayout.ofRowMajor(12, 12));
+
+		assertMatrixEquals(denseA.multiply(dense), a.multiply(dense));
+		assertMatrixEquals(dense.transpose().multiply(denseA), dense.transpose().multiply(a));
+		assertMatrixEquals(denseA.multiply(denseB), a.multiply(b));
+
+		var symmetric = Matrix.ofSymmetric(12);
+		for (int r = 0; r < 12; r++) for (int c = 0; c <= r; c++) {
+			symmetric.set(r - 2.0 * c, r, c);
+		}
+
+		var denseSymmetric = Matrix.of(MatrixLayout.ofRowMajor(12, 12));
+		denseSymmetric.set(symmetric);
+
+		assertMatrixEquals(denseA.multiply(denseSymmetric), a.multiply(symmetric));
+		assertMatrixEquals(denseSymmetric.multiply(denseA), symmetric.multiply(a));
+	}
+
+	@Test
+	void indefiniteSymmetric() {
+		var a = Matrix.ofSymmetricBanded(3, 1);
+		a.set(1.0, 0, 0);
+		a.set(2.0, 1, 0);
+		a.set(1.0, 1, 1);
+		a.set(1.0, 2, 1);
+		a.set(3.0, 2, 2);
+
+		assertTrue(a.factorisation() instanceof BandedLowerUpperFactorisation);
+		assertEquals(-10.0, a.determinant(), ACCURACY);
+		assertSolvesLikeDense(a);
+	}
+
+	@Test
+	void singular() {
+		var a = Matrix.ofBanded(4, 1, 1);
+		a.set(1.0, 0, 0);
+		a.set(1.0, 1, 0);
+
+		assertThrows(SingularMatrixException.class, a::factorisation);
+
+		var tridiagonal = Matrix.ofTridiagonal(3);
+		tridiagonal.set(2.0, 0, 0);
+		tridiagonal.set(1.0, 1, 1);
+
+		assertThrows(SingularMatrixException.class, tridiagonal::factorisation);
+	}
+}
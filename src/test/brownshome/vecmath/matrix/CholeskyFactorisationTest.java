@@ -1,7 +1,11 @@
 package brownshome.vecmath.matrix;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import brownshome.vecmath.VecmathTesting;
 import brownshome.vecmath.matrix.basic.BasicSymmetricMatrix;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
 import brownshome.vecmath.matrix.factorisation.basic.CholeskyFactorisation;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
@@ -102,4 +106,58 @@ class CholeskyFactorisationTest {
 
 		assertThrows(SingularMatrixException.class, () -> new CholeskyFactorisation((BasicSymmetricMatrix) m, VecmathTesting.ACCURACY));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void leftSolveInParallel() {
+		int size = 120;
+		var random = new Random(1245);
+		var r = Matrix.of(size, size);
+		for (int i = 0; i < size; i++) for (int j = 0; j < size; j++) {
+			r.set(random.nextDouble() - 0.5, i, j);
+		}
+
+		var a = Matrix.ofSymmetric(size);
+		a.set(r.multiply(r.transpose()).add(Matrix.identity(size).scale(size)));
+
+		var b = Matrix.of(size, 2);
+		for (int i = 0; i < size; i++) {
+			b.set(random.nextDouble(), i, 0);
+			b.set(random.nextDouble(), i, 1);
+		}
+
+		var pool = new ForkJoinPool(4);
+
+		try {
+			var options = FactorisationOptions.of(0.0).withParallelism(new Parallelism(pool, 0));
+			var parallel = new CholeskyFactorisation((BasicSymmetricMatrix) a.asSymmetricCopy(), options);
+			var sequential = new CholeskyFactorisation((BasicSymmetricMatrix) a.asSymmetricCopy(), 0.0);
+
+			VecmathTesting.assertMatrixEquals(b, a.multiply(parallel.leftSolve(b)));
+			assertEquals(1.0, parallel.determinant() / sequential.determinant(), VecmathTesting.ACCURACY);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void solveManyPaddedRows() {
+		int size = 90;
+		var random = new Random(1245);
+		var layout = MatrixLayout.ofSymmetricRowMajor(size, 3, 2);
+		var a = new BasicSymmetricMatrix(new double[layout.end()], layout);
+		for (int r = 0; r < size; r++) for (int c = 0; c <= r; c++) {
+			a.set(r == c ? r % 7 - 3.5 : random.nextDouble() - 0.5, r, c);
+		}
+
+		var b = Matrix.of(size, 19);
+		for (int r = 0; r < size; r++) for (int c = 0; c < b.columns(); c++) {
+			b.set(random.nextDouble(), r, c);
+		}
+
+		var original = a.copy();
+		var factorisation = new CholeskyFactorisation(a, 0.0);
+
+		VecmathTesting.assertMatrixEquals(b, original.multiply(factorisation.leftSolve(b)));
+		VecmathTesting.assertMatrixEquals(b.transpose(), factorisation.rightSolve(b.transpose()).multiply(original));
+	}
+}
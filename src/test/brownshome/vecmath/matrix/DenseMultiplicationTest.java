@@ -0,0 +1,243 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.basic.DenseMultiplication;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+
+class DenseMultiplicationTest {
+	private static final int SEED = 1245;
+
+	private static ArrayMatrix random(Random random, MatrixLayout layout) {
+		var result = Matrix.of(layout);
+
+		for (int i = 0; i < result.backingArray().length; i++) {
+			result.backingArray()[i] = random.nextDouble() - 0.5;
+		}
+
+		return result;
+	}
+
+	private static Matrix expectedProduct(Matrix a, Matrix b) {
+		var result = Matrix.of(a.rows(), b.columns());
+
+		for (int r = 0; r < a.rows(); r++) for (int c = 0; c < b.columns(); c++) {
+			double value = 0.0;
+
+			for (int k = 0; k < a.columns(); k++) {
+				value += a.get(r, k) * b.get(k, c);
+			}
+
+			result.set(value, r, c);
+		}
+
+		return result;
+	}
+
+	@Test
+	void multiplySmall() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(3, 5));
+		var b = random(random, MatrixLayout.ofColumnMajor(5, 2));
+
+		assertMatrixEquals(expectedProduct(a, b), a.multiply(b));
+	}
+
+	@Test
+	void multiplyWithPartialTiles() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(67, 301));
+		var b = random(random, MatrixLayout.ofRowMajor(301, 41));
+
+		assertMatrixEquals(expectedProduct(a, b), a.multiply(b));
+	}
+
+	@Test
+	void multiplyTransposedViews() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(50, 70));
+		var b = random(random, MatrixLayout.ofColumnMajor(33, 50));
+
+		assertMatrixEquals(expectedProduct(a.transpose(), b.transpose()), a.transpose().multiply(b.transpose()));
+	}
+
+	@Test
+	void multiplySubMatrices() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(60, 60)).subMatrix(3, 7, 45, 38);
+		var b = random(random, MatrixLayout.ofColumnMajor(60, 60)).subMatrix(11, 2, 38, 51);
+
+		assertMatrixEquals(expectedProduct(a, b), a.multiply(b));
+	}
+
+	@Test
+	void multiplyAdd() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(40, 30));
+		var b = random(random, MatrixLayout.ofRowMajor(30, 20));
+		var c = random(random, MatrixLayout.ofColumnMajor(40, 20));
+
+		var expected = expectedProduct(a, b).scale(2.0).scaleAdd(c, -0.5);
+		DenseMultiplication.multiply(2.0, a, b, -0.5, c);
+
+		assertMatrixEquals(expected, c);
+	}
+
+	@Test
+	void multiplyInParallel() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(230, 170));
+		var b = random(random, MatrixLayout.ofColumnMajor(170, 190));
+		var pool = new ForkJoinPool(4);
+
+		try {
+			assertMatrixEquals(expectedProduct(a, b), a.multiply(b, new Parallelism(pool, 10_000)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void multiplyGenericMatricesInParallel() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(90, 90));
+		var symmetric = Matrix.ofSymmetric(90);
+		symmetric.set(a.add(a.transpose()));
+		var b = random(random, MatrixLayout.ofRowMajor(90, 110));
+		var pool = new ForkJoinPool(3);
+
+		try {
+			assertMatrixEquals(expectedProduct(symmetric, b), symmetric.multiply(b, new Parallelism(pool, 1_000)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void multiplyViewsInSlabs() {
+		// The inner dimension spans several slabs, the last of them partial
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(40, 600));
+		var b = random(random, MatrixLayout.ofColumnMajor(600, 30));
+		var permutation = new int[600];
+		for (int i = 0; i < permutation.length; i++) {
+			permutation[i] = i * 7 % 600;
+		}
+
+		var view = b.permuteByRow(permutation);
+		var pool = new ForkJoinPool(3);
+
+		try {
+			var parallelism = new Parallelism(pool, 1_000);
+
+			assertMatrixEquals(expectedProduct(a, view), a.multiply(view, parallelism));
+			assertMatrixEquals(expectedProduct(view.transpose(), a.transpose()), view.transpose().multiply(a.transpose(), parallelism));
+			assertMatrixEquals(expectedProduct(a.lazy(), view), a.lazy().multiply(view, parallelism));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void multiplyUsesGlobalParallelism() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(150, 140));
+		var b = random(random, MatrixLayout.ofRowMajor(140, 130));
+		var pool = new ForkJoinPool(2);
+		var previous = Parallelism.global();
+
+		try {
+			Parallelism.setGlobal(Parallelism.of(pool).withThreshold(0));
+			assertMatrixEquals(expectedProduct(a, b), a.multiply(b));
+		} finally {
+			Parallelism.setGlobal(previous);
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void multiplyInto() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(40, 30));
+		var b = random(random, MatrixLayout.ofColumnMajor(30, 20));
+		var destination = random(random, MatrixLayout.ofRowMajor(40, 20));
+
+		a.multiplyInto(b, destination);
+
+		assertMatrixEquals(expectedProduct(a, b), destination);
+	}
+
+	@Test
+	void multiplyIntoSharedStorage() {
+		var random = new Random(SEED);
+		var storage = random(random, MatrixLayout.ofRowMajor(60, 60));
+		var a = storage.subMatrix(0, 0, 30, 30);
+		var b = storage.subMatrix(10, 10, 30, 30);
+		var expected = expectedProduct(a, b);
+
+		a.multiplyInto(b, storage.subMatrix(5, 5, 30, 30));
+
+		assertMatrixEquals(expected, storage.subMatrix(5, 5, 30, 30));
+	}
+
+	@Test
+	void multiplyAddIntoGenericMatrices() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(20, 20));
+		var symmetric = Matrix.ofSymmetric(20);
+		symmetric.set(a.add(a.transpose()));
+		var b = random(random, MatrixLayout.ofRowMajor(20, 15)).transpose().copy().transpose();
+		var destination = random(random, MatrixLayout.ofColumnMajor(20, 15));
+
+		var expected = expectedProduct(symmetric, b).scale(0.5).scaleAdd(destination, 3.0);
+		symmetric.multiplyAddInto(0.5, b, 3.0, destination);
+
+		assertMatrixEquals(expected, destination);
+	}
+
+	@Test
+	void multiplySelf() {
+		var random = new Random(SEED);
+		var a = random(random, MatrixLayout.ofRowMajor(100, 90));
+		var square = random(random, MatrixLayout.ofColumnMajor(90, 90));
+		var left = random(random, MatrixLayout.ofRowMajor(100, 100));
+
+		var expectedRight = expectedProduct(a, square);
+		var expectedLeft = expectedProduct(left, expectedRight);
+
+		a.multiplyRightSelf(square);
+		assertMatrixEquals(expectedRight, a);
+
+		a.multiplyLeftSelf(left);
+		assertMatrixEquals(expectedLeft, a);
+
+		var expectedSquared = expectedProduct(square, square);
+		square.multiplyRightSelf(square);
+		assertMatrixEquals(expectedSquared, square);
+	}
+
+	@Test
+	void multiplySelfByView() {
+		var random = new Random(SEED);
+		var square = random(random, MatrixLayout.ofRowMajor(70, 70));
+		var other = square.copy();
+
+		var expectedRight = expectedProduct(square, square);
+		square.multiplyRightSelf(square.lazy());
+		assertMatrixEquals(expectedRight, square);
+
+		var expectedLeft = expectedProduct(other.scale(2.0), other);
+		other.multiplyLeftSelf(other.lazy().scale(2.0));
+		assertMatrixEquals(expectedLeft, other);
+
+		var destination = random(random, MatrixLayout.ofColumnMajor(70, 70));
+		var expectedInto = expectedProduct(destination, destination);
+		destination.multiplyInto(destination.lazy(), destination);
+		assertMatrixEquals(expectedInto, destination);
+	}
+}
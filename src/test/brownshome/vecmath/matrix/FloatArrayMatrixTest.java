@@ -0,0 +1,63 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.array.ArrayMatrix;
+import brownshome.vecmath.matrix.array.FloatArrayMatrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloatArrayMatrixTest {
+	@Test
+	void elementWise() {
+		var random = new Random(1245);
+		var a = VecmathTesting.randomise(random, FloatArrayMatrix.of(MatrixLayout.ofRowMajor(13, 7)));
+		var b = VecmathTesting.randomise(random, FloatArrayMatrix.of(MatrixLayout.ofColumnMajor(13, 7)));
+
+		var expected = a.arrayBackedCopy();
+		expected.scaleAddToSelf(b.arrayBackedCopy(), 2.0);
+		expected.scaleSelf(0.5);
+
+		var result = a.copy();
+		result.scaleAddToSelf(b, 2.0);
+		result.scaleSelf(0.5);
+		VecmathTesting.assertMatrixEquals(expected, result);
+
+		var columnMajor = FloatArrayMatrix.of(MatrixLayout.ofColumnMajor(13, 7));
+		columnMajor.set(result);
+		assertTrue(columnMajor.exactEquals(result));
+
+		// Storing a double rounds it to the nearest float
+		columnMajor.set(expected);
+		assertEquals((float) expected.get(3, 4), columnMajor.get(3, 4));
+
+		VecmathTesting.assertVecEquals(expected.row(2), result.row(2));
+		VecmathTesting.assertMatrixEquals(expected.subMatrix(1, 2, 5, 3).transpose(), result.subMatrix(1, 2, 5, 3).transpose());
+	}
+
+	@Test
+	void multiply() {
+		var random = new Random(1245);
+		var a = VecmathTesting.randomise(random, FloatArrayMatrix.of(MatrixLayout.ofRowMajor(30, 20)));
+		var b = VecmathTesting.randomise(random, FloatArrayMatrix.of(MatrixLayout.ofColumnMajor(20, 25)));
+
+		// The float inputs are exactly representable as doubles, so the products only differ by the final rounding
+		var expected = a.arrayBackedCopy().multiply(b.arrayBackedCopy());
+
+		var product = a.multiply(b);
+		assertTrue(product instanceof FloatArrayMatrix);
+		VecmathTesting.assertMatrixEquals(expected, product);
+
+		var mixed = a.multiply(b.arrayBackedCopy());
+		assertTrue(mixed instanceof ArrayMatrix);
+		VecmathTesting.assertMatrixEquals(expected, mixed);
+
+		var destination = FloatArrayMatrix.of(MatrixLayout.ofRowMajor(30, 25));
+		destination.set(expected);
+		a.multiplyAddInto(2.0, b, -1.0, destination);
+		VecmathTesting.assertMatrixEquals(expected, destination);
+	}
+}
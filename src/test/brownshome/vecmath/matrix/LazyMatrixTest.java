@@ -0,0 +1,42 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+
+final class LazyMatrixTest {
+	private static MMatrix sequence(MatrixLayout layout, double start) {
+		var result = Matrix.of(layout);
+		for (int r = 0; r < layout.rows(); r++) for (int c = 0; c < layout.columns(); c++) {
+			result.set(start + r * 0.5 - c, r, c);
+		}
+
+		return result;
+	}
+
+	@Test
+	void chainMatchesEager() {
+		var a = sequence(MatrixLayout.ofRowMajor(40, 30), 1.0);
+		var b = sequence(MatrixLayout.ofRowMajor(40, 30), -2.0);
+
+		var expected = a.add(b).scale(2.0).subtract(a.scale(b)).negated();
+		var result = a.lazy().add(b).scale(2.0).subtract(a.lazy().scale(b)).negated();
+
+		assertMatrixEquals(expected, result.evaluate());
+		assertMatrixEquals(expected, result.copy());
+	}
+
+	@Test
+	void mixedLayouts() {
+		var a = sequence(MatrixLayout.ofRowMajor(5, 7), 1.0);
+		var b = sequence(MatrixLayout.ofColumnMajor(5, 7), 3.0);
+		var expected = a.add(b).scale(0.5);
+
+		a.set(a.lazy().add(b).scale(0.5));
+		b.set(expected.lazy());
+
+		assertMatrixEquals(expected, a);
+		assertMatrixEquals(expected, b);
+	}
+}
@@ -1,6 +1,10 @@
 package brownshome.vecmath.matrix;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
 import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
 import brownshome.vecmath.matrix.factorisation.basic.LowerUpperFactorisation;
 import brownshome.vecmath.matrix.layout.MatrixLayout;
@@ -34,6 +38,20 @@ class LowerUpperFactorisationTest {
 		assertArrayEquals(expected, result, VecmathTesting.ACCURACY);
 	}
 
+	@Test
+	void leftSolveWithoutInterchanges() {
+		// Each pivot is already the largest in its column, so the permutation is the identity
+		var a = Matrix.of(new double[] {
+				4.0, 1.0,
+				1.0, 3.0
+		}, MatrixLayout.ofRowMajor(2, 2));
+
+		var b = Matrix.ofColumn(1.0, 2.0);
+		var result = new LowerUpperFactorisation(a.arrayBackedCopy(), 0.0).leftSolve(b);
+
+		VecmathTesting.assertMatrixEquals(b, a.multiply(result));
+	}
+
 	@Test
 	void rightSolve() {
 		double[] expected = new double[] {
@@ -125,4 +143,59 @@ class LowerUpperFactorisationTest {
 
 		assertThrows(SingularMatrixException.class, () -> new LowerUpperFactorisation(m, VecmathTesting.ACCURACY));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void leftSolveBlocked() {
+		var random = new Random(1245);
+
+		for (var layout : new MatrixLayout[] { MatrixLayout.ofRowMajor(150, 150), MatrixLayout.ofColumnMajor(150, 150) }) {
+			var a = VecmathTesting.random(random, layout);
+			var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(150, 3));
+
+			var factorisation = new LowerUpperFactorisation(a.arrayBackedCopy(layout), 0.0);
+
+			VecmathTesting.assertMatrixEquals(b, a.multiply(factorisation.leftSolve(b)));
+			VecmathTesting.assertMatrixEquals(b.transpose(), factorisation.rightSolve(b.transpose()).multiply(a));
+		}
+	}
+
+	@Test
+	void determinantBlocked() {
+		int size = 70;
+		var m = Matrix.of(MatrixLayout.ofRowMajor(size, size));
+		double expected = 1.0;
+
+		// An upper triangular matrix with its rows reversed
+		for (int r = 0; r < size; r++) {
+			for (int c = r; c < size; c++) {
+				m.set(c == r ? 1.0 + r % 3 : 1.0, size - 1 - r, c);
+			}
+
+			expected *= 1.0 + r % 3;
+		}
+
+		// Reversing 70 rows takes 35 swaps
+		expected = -expected;
+
+		var factorisation = new LowerUpperFactorisation(m, 0.0);
+
+		assertEquals(1.0, factorisation.determinant() / expected, VecmathTesting.ACCURACY);
+	}
+
+	@Test
+	void leftSolveInParallel() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(300, 300));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(300, 2));
+		var pool = new ForkJoinPool(4);
+
+		try {
+			var factorisation = a.factorisation(FactorisationOptions.of(0.0).withParallelism(new Parallelism(pool, 0)));
+
+			VecmathTesting.assertMatrixEquals(b, a.multiply(factorisation.leftSolve(b)));
+			assertEquals(1.0, factorisation.determinant() / a.factorisation(0.0).determinant(), VecmathTesting.ACCURACY);
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.rotation.Rot3;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec4;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class Mat3Test {
+	private static MMat3 random3(Random random) {
+		var result = Mat3.of(Matrix.of(MatrixLayout.ofRowMajor(3, 3)));
+		for (int r = 0; r < 3; r++) for (int c = 0; c < 3; c++) {
+			result.set(random.nextDouble() * 2 - 1, r, c);
+		}
+
+		return result;
+	}
+
+	private static MMat4 random4(Random random) {
+		var result = Mat4.of(Matrix.of(MatrixLayout.ofRowMajor(4, 4)));
+		for (int r = 0; r < 4; r++) for (int c = 0; c < 4; c++) {
+			result.set(random.nextDouble() * 2 - 1, r, c);
+		}
+
+		return result;
+	}
+
+	@Test
+	void mat3MatchesMatrix() {
+		var random = new Random(5312);
+		var a = random3(random);
+		var b = random3(random);
+
+		assertMatrixEquals(a.asMatrix().multiply(b.asMatrix()), a.multiply(b).asMatrix());
+		assertMatrixEquals(b.asMatrix().multiply(a.asMatrix()), b.multiply(a).asMatrix());
+		assertMatrixEquals(a.asMatrix().transpose(), a.transposed().asMatrix());
+		assertMatrixEquals(a.asMatrix().invert(), a.inverted().asMatrix());
+		assertEquals(a.asMatrix().determinant(), a.determinant(), ACCURACY);
+		assertMatrixEquals(Matrix.identity(3), a.multiply(a.inverted()).asMatrix());
+
+		var left = b.copy();
+		left.multiplyLeftSelf(a);
+		assertTrue(left.exactEquals(a.multiply(b)));
+
+		var v = Vec3.of(0.5, -1.0, 2.0);
+		var expected = a.asMatrix().multiply(v.asColumn()).asColumnVec();
+		assertVecEquals(expected.asVec3(), a.transformed(v));
+	}
+
+	@Test
+	void mat3Layouts() {
+		var a = random3(new Random(61));
+
+		var columnMajor = a.arrayBackedCopy(MatrixLayout.ofColumnMajor(3, 3));
+		assertTrue(columnMajor.exactEquals(a));
+		assertEquals(a.m01(), columnMajor.backingArray()[3]);
+
+		// The general matrix view shares storage with the array
+		columnMajor.asMatrix().set(7.0, 2, 1);
+		assertEquals(7.0, columnMajor.m21());
+
+		var fieldBacked = Mat3.of(columnMajor.asMatrix());
+		fieldBacked.asMatrix().set(3.0, 0, 2);
+		assertEquals(3.0, fieldBacked.m02());
+		assertEquals(7.0, fieldBacked.get(2, 1));
+
+		var sum = a.add(Mat3.IDENTITY);
+		assertEquals(a.m11() + 1.0, sum.m11());
+		assertEquals(a.m12(), sum.m12());
+		assertTrue(a.scale(2.0).exactEquals(a.add(a)));
+	}
+
+	@Test
+	void rotationMatrix() {
+		var rotation = Rot3.ofAxisAngle(Vec3.of(1.0, -2.0, 0.5).normalised(), 0.9);
+		var v = Vec3.of(-1.0, 3.0, 0.25);
+
+		assertMatrixEquals(rotation.asMatrix(), rotation.asMat3().asMatrix());
+		assertVecEquals(rotation.rotated(v), rotation.asMat3().transformed(v));
+		assertEquals(1.0, rotation.asMat3().determinant(), ACCURACY);
+	}
+
+	@Test
+	void mat4MatchesMatrix() {
+		var random = new Random(994);
+		var a = random4(random);
+		var b = random4(random);
+
+		assertMatrixEquals(a.asMatrix().multiply(b.asMatrix()), a.multiply(b).asMatrix());
+		assertMatrixEquals(a.asMatrix().transpose(), a.transposed().asMatrix());
+		assertMatrixEquals(a.asMatrix().invert(), a.inverted().asMatrix());
+		assertEquals(a.asMatrix().determinant(), a.determinant(), ACCURACY);
+		assertMatrixEquals(Matrix.identity(4), a.inverted().multiply(a).asMatrix());
+
+		var left = b.copy();
+		left.multiplyLeftSelf(a);
+		assertTrue(left.exactEquals(a.multiply(b)));
+
+		var v = Vec4.of(0.5, -1.0, 2.0, 1.0);
+		var expected = a.asMatrix().multiply(v.asColumn()).asColumnVec();
+		assertVecEquals(expected.asVec4(), a.transformed(v));
+
+		var arrayBacked = a.arrayBackedCopy();
+		arrayBacked.multiplyRightSelf(b);
+		assertMatrixEquals(a.multiply(b).asMatrix(), arrayBacked.asMatrix());
+		assertTrue(arrayBacked.copy().exactEquals(arrayBacked));
+	}
+}
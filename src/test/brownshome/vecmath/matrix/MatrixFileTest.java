@@ -0,0 +1,111 @@
+package brownshome.vecmath.matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.MatrixFile;
+import brownshome.vecmath.memory.MemoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixFileTest {
+	@Test
+	void roundTrip() throws IOException {
+		var path = Files.createTempFile("matrix", ".bin");
+
+		try {
+			var random = new Random(1245);
+			var rowMajor = VecmathTesting.random(random, MatrixLayout.ofRowMajor(7, 5));
+			var columnMajor = VecmathTesting.random(random, MatrixLayout.ofColumnMajor(7, 5));
+			var reversed = Matrix.of(rowMajor.backingArray(), MatrixLayout.of(7, 5, 34, -5, -1));
+
+			for (var matrix : new Matrix[] { rowMajor, columnMajor, reversed, rowMajor.subMatrix(1, 1, 4, 3).transpose(), Matrix.zero(0, 3) }) {
+				MatrixFile.write(path, matrix);
+
+				try (var scope = MemoryScope.open()) {
+					var opened = MatrixFile.open(path, FileChannel.MapMode.READ_ONLY, scope);
+					VecmathTesting.assertMatrixEquals(matrix, opened);
+				}
+			}
+
+			var symmetric = Matrix.ofSymmetric(4);
+			for (int r = 0; r < 4; r++) for (int c = 0; c <= r; c++) {
+				symmetric.set(r * 4 + c, r, c);
+			}
+
+			MatrixFile.write(path, symmetric);
+			assertEquals(64 + 10 * Double.BYTES, Files.size(path));
+
+			try (var scope = MemoryScope.open()) {
+				VecmathTesting.assertMatrixEquals(symmetric, MatrixFile.open(path, FileChannel.MapMode.READ_ONLY, scope));
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	void writesGoToTheFile() throws IOException {
+		var path = Files.createTempFile("matrix", ".bin");
+
+		try {
+			try (var scope = MemoryScope.open()) {
+				var created = MatrixFile.create(path, 3, 4, true, scope);
+				created.subMatrix(0, 0, 3, 3).set(Matrix.identity(3));
+				created.set(5.0, 2, 3);
+			}
+
+			try (var scope = MemoryScope.open()) {
+				var opened = MatrixFile.open(path, scope);
+				assertTrue(opened.isColumnOptimal());
+				assertEquals(1.0, opened.get(1, 1));
+				assertEquals(5.0, opened.get(2, 3));
+
+				opened.set(-2.0, 0, 3);
+
+				var readOnly = MatrixFile.open(path, FileChannel.MapMode.READ_ONLY, scope);
+				assertEquals(-2.0, readOnly.get(0, 3));
+				assertThrows(ReadOnlyBufferException.class, () -> readOnly.set(1.0, 0, 0));
+			}
+
+			try (var scope = MemoryScope.open()) {
+				assertEquals(-2.0, MatrixFile.open(path, FileChannel.MapMode.READ_ONLY, scope).get(0, 3));
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	void invalidFiles() throws IOException {
+		var path = Files.createTempFile("matrix", ".bin");
+
+		try (var scope = MemoryScope.open()) {
+			Files.write(path, new byte[10]);
+			assertThrows(IOException.class, () -> MatrixFile.open(path, scope));
+
+			Files.write(path, new byte[100]);
+			assertThrows(IOException.class, () -> MatrixFile.open(path, scope));
+
+			MatrixFile.write(path, Matrix.identity(3).subMatrix(0, 0, 3, 3));
+			var bytes = Files.readAllBytes(path);
+			Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+			assertThrows(IOException.class, () -> MatrixFile.open(path, scope));
+
+			// An element count that overflows when converted to bytes
+			ByteBuffer.wrap(bytes).putLong(48, Long.MAX_VALUE / 4);
+			Files.write(path, bytes);
+			assertThrows(IOException.class, () -> MatrixFile.open(path, scope));
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
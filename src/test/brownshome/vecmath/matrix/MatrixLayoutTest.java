@@ -0,0 +1,95 @@
+package brownshome.vecmath.matrix;
+
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.basic.layout.SubMatrixLayout;
+import brownshome.vecmath.matrix.basic.layout.TransposedMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.basic.layout.BasicVecNLayout;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixLayoutTest {
+	private static void assertSameIndexes(MatrixLayout expected, MatrixLayout result) {
+		assertEquals(expected.rows(), result.rows());
+		assertEquals(expected.columns(), result.columns());
+
+		for (int r = 0; r < expected.rows(); r++) for (int c = 0; c < expected.columns(); c++) {
+			assertEquals(expected.arrayIndex(r, c), result.arrayIndex(r, c));
+		}
+	}
+
+	@Test
+	void wrappedStridedLayoutsCollapse() {
+		var basic = MatrixLayout.ofRowMajor(6, 5, 3);
+
+		var chain = new SubMatrixLayout(new TransposedMatrixLayout(new SubMatrixLayout(basic, 1, 1, 4, 3)), 1, 0, 2, 3);
+		var collapsed = chain.subLayout(0, 1, 2, 2).transpose();
+
+		assertTrue(collapsed instanceof BasicMatrixLayout);
+		assertSameIndexes(new TransposedMatrixLayout(new SubMatrixLayout(chain, 0, 1, 2, 2)), collapsed);
+
+		var column = chain.transpose().column(1);
+		assertTrue(column instanceof BasicVecNLayout);
+		for (int i = 0; i < column.elements(); i++) {
+			assertEquals(chain.arrayIndex(1, i), column.arrayIndex(i));
+		}
+	}
+
+	@Test
+	void vectorLayoutsCollapse() {
+		var vector = VecNLayout.of(4, 2, 3);
+
+		var row = vector.asRowMatrix().subLayout(0, 1, 1, 3).transpose().column(0);
+
+		assertTrue(row instanceof BasicVecNLayout);
+		assertEquals(VecNLayout.of(3, 5, 3), row);
+	}
+
+	@Test
+	void transposeNonSquareSubLayout() {
+		var symmetric = MatrixLayout.ofSymmetricRowMajor(5);
+		var sub = symmetric.subLayout(1, 0, 3, 2);
+		var transposed = sub.transpose();
+
+		assertEquals(2, transposed.rows());
+		assertEquals(3, transposed.columns());
+
+		for (int r = 0; r < 3; r++) for (int c = 0; c < 2; c++) {
+			assertEquals(sub.arrayIndex(r, c), transposed.arrayIndex(c, r));
+		}
+	}
+
+	@Test
+	void symmetricRowSegmentsAreStrided() {
+		var symmetric = MatrixLayout.ofSymmetricRowMajor(6, 2, 1);
+
+		var row = symmetric.subLayout(4, 1, 1, 3);
+		var column = symmetric.subLayout(0, 5, 4, 1);
+
+		assertTrue(row instanceof BasicMatrixLayout);
+		assertTrue(column instanceof BasicMatrixLayout);
+
+		for (int c = 0; c < 3; c++) {
+			assertEquals(symmetric.arrayIndex(4, c + 1), row.arrayIndex(0, c));
+		}
+
+		for (int r = 0; r < 4; r++) {
+			assertEquals(symmetric.arrayIndex(r, 5), column.arrayIndex(r, 0));
+		}
+	}
+
+	@Test
+	void symmetricSegmentsHaveVectorViews() {
+		var symmetric = MatrixLayout.ofSymmetricRowMajor(4);
+
+		var row = symmetric.subLayout(2, 0, 1, 2);
+		var column = symmetric.subLayout(0, 3, 2, 1);
+
+		assertEquals(symmetric.arrayIndex(2, 1), row.column(1).arrayIndex(0));
+		assertEquals(symmetric.arrayIndex(1, 3), column.row(1).arrayIndex(0));
+		assertEquals(symmetric.arrayIndex(2, 1), row.row(0).arrayIndex(1));
+		assertEquals(symmetric.arrayIndex(1, 3), column.column(0).arrayIndex(1));
+	}
+}
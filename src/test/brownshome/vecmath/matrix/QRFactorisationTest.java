@@ -0,0 +1,150 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.factorisation.basic.LowerUpperFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.QRFactorisation;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QRFactorisationTest {
+	/**
+	 * The least-squares solution is the one where A'(AX - B) = 0
+	 */
+	private static void assertLeastSquares(Matrix a, Matrix b, Matrix x) {
+		var residual = b.arrayBackedCopy(MatrixLayout.ofRowMajor(b.rows(), b.columns()));
+		a.multiplyAddInto(1.0, x, -1.0, residual);
+
+		VecmathTesting.assertMatrixEquals(Matrix.zero(a.columns(), b.columns()), a.transpose().multiply(residual));
+	}
+
+	@Test
+	void leastSquaresSolve() {
+		var a = Matrix.of(new double[] {
+				1.0, 1.0,
+				1.0, 2.0,
+				1.0, 3.0,
+				1.0, 4.0
+		}, MatrixLayout.ofRowMajor(4, 2));
+
+		var b = Matrix.ofColumn(6.0, 5.0, 7.0, 10.0);
+
+		var factorisation = new QRFactorisation(a, 0.0);
+
+		// The line of best fit is y = 3.5 + 1.4x
+		VecmathTesting.assertMatrixEquals(Matrix.ofColumn(3.5, 1.4), factorisation.leastSquaresSolve(b));
+		assertEquals(2, factorisation.rank());
+	}
+
+	@Test
+	void leastSquaresSolveBlocked() {
+		var random = new Random(1245);
+
+		for (var layout : new MatrixLayout[] { MatrixLayout.ofRowMajor(300, 70), MatrixLayout.ofColumnMajor(300, 70) }) {
+			var a = VecmathTesting.random(random, layout);
+			var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(300, 3));
+
+			var factorisation = a.qrFactorisation(FactorisationOptions.of(0.0));
+
+			assertLeastSquares(a, b, factorisation.leastSquaresSolve(b));
+			assertEquals(70, factorisation.rank());
+		}
+	}
+
+	@Test
+	void applyQ() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(100, 40));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(100, 2));
+
+		var factorisation = new QRFactorisation(a, 0.0);
+		var qtb = factorisation.applyQTranspose(b);
+
+		VecmathTesting.assertMatrixEquals(b, factorisation.applyQ(qtb));
+
+		// Q is orthogonal, so it preserves the norm of each column
+		for (int c = 0; c < b.columns(); c++) {
+			assertEquals(b.column(c).lengthSquared(), qtb.column(c).lengthSquared(), VecmathTesting.ACCURACY);
+		}
+
+		// Q'A is upper triangular
+		var r = factorisation.applyQTranspose(a);
+		for (int row = 0; row < r.rows(); row++) for (int column = 0; column < Math.min(row, r.columns()); column++) {
+			assertEquals(0.0, r.get(row, column), VecmathTesting.ACCURACY);
+		}
+	}
+
+	@Test
+	void detectsRankDeficiency() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofColumnMajor(60, 40));
+
+		// Make the last column a combination of the first two
+		for (int r = 0; r < a.rows(); r++) {
+			a.set(a.get(r, 0) - 2.0 * a.get(r, 1), r, 39);
+		}
+
+		var factorisation = new QRFactorisation(a, VecmathTesting.ACCURACY);
+
+		assertEquals(39, factorisation.rank());
+		assertThrows(SingularMatrixException.class, () -> factorisation.leastSquaresSolve(Matrix.ofColumn(60)));
+	}
+
+	@Test
+	void detectsRankOfDeficientLeadingColumns() {
+		var a = Matrix.of(new double[] {
+				0.0, 1.0,
+				0.0, 0.0
+		}, MatrixLayout.ofRowMajor(2, 2));
+
+		var factorisation = new QRFactorisation(a, VecmathTesting.ACCURACY);
+
+		assertEquals(1, factorisation.rank());
+		assertEquals(0, new QRFactorisation(Matrix.zero(3, 2), VecmathTesting.ACCURACY).rank());
+	}
+
+	@Test
+	void rankIsScaleInvariant() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(200, 10)).scale(1e-12);
+
+		var factorisation = new QRFactorisation(a, VecmathTesting.ACCURACY);
+
+		assertEquals(10, factorisation.rank());
+	}
+
+	@Test
+	void squareSolve() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(80, 80));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(80, 3));
+
+		var factorisation = new QRFactorisation(a, 0.0);
+
+		VecmathTesting.assertMatrixEquals(b, a.multiply(factorisation.leftSolve(b)));
+		VecmathTesting.assertMatrixEquals(b.transpose(), factorisation.rightSolve(b.transpose()).multiply(a));
+		assertEquals(1.0, factorisation.determinant() / new LowerUpperFactorisation(a.arrayBackedCopy(), 0.0).determinant(), VecmathTesting.ACCURACY);
+	}
+
+	@Test
+	void leastSquaresSolveInParallel() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(400, 100));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(400, 2));
+		var pool = new ForkJoinPool(4);
+
+		try {
+			var factorisation = a.qrFactorisation(FactorisationOptions.of(0.0).withParallelism(new Parallelism(pool, 0)));
+
+			assertLeastSquares(a, b, factorisation.leastSquaresSolve(b));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.factorisation.FactorisationOptions;
+import brownshome.vecmath.matrix.factorisation.SingularValueDecomposition;
+import brownshome.vecmath.matrix.factorisation.basic.LowerUpperFactorisation;
+import brownshome.vecmath.matrix.factorisation.basic.SVDFactorisation;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SVDFactorisationTest {
+	/**
+	 * Checks that A = UΣV', and that U and V have orthonormal columns
+	 */
+	private static void assertDecomposes(Matrix a, SingularValueDecomposition decomposition) {
+		var values = decomposition.singularValues();
+		var scaled = decomposition.u().copy();
+
+		for (int r = 0; r < scaled.rows(); r++) for (int c = 0; c < scaled.columns(); c++) {
+			scaled.set(scaled.get(r, c) * values.get(c), r, c);
+		}
+
+		VecmathTesting.assertMatrixEquals(a, scaled.multiply(decomposition.v().transpose()));
+		VecmathTesting.assertMatrixEquals(Matrix.identity(decomposition.count()), decomposition.u().transpose().multiply(decomposition.u()));
+		VecmathTesting.assertMatrixEquals(Matrix.identity(decomposition.count()), decomposition.v().transpose().multiply(decomposition.v()));
+
+		for (int i = 1; i < values.size(); i++) {
+			assertTrue(values.get(i - 1) >= values.get(i));
+		}
+	}
+
+	@Test
+	void singularValues() {
+		var a = Matrix.of(new double[] {
+				3.0, 0.0,
+				0.0, -4.0,
+				0.0, 0.0
+		}, MatrixLayout.ofRowMajor(3, 2));
+
+		var decomposition = new SVDFactorisation(a, 0.0);
+
+		assertArrayEquals(new double[] { 4.0, 3.0 }, decomposition.singularValues().arrayBackedCopy().backingArray(), VecmathTesting.ACCURACY);
+		assertEquals(4.0 / 3.0, decomposition.conditionNumber(), VecmathTesting.ACCURACY);
+		assertDecomposes(a, decomposition);
+	}
+
+	@Test
+	void decomposeTallAndWide() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(60, 20));
+
+		assertDecomposes(a, a.singularValueDecomposition());
+		assertDecomposes(a.transpose(), a.transpose().singularValueDecomposition());
+	}
+
+	@Test
+	void pseudoInverseSolve() {
+		var random = new Random(1245);
+
+		// A 30x10 matrix of rank 8
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(30, 8)).multiply(VecmathTesting.random(random, MatrixLayout.ofRowMajor(8, 10)));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(30, 2));
+
+		var decomposition = a.singularValueDecomposition();
+		var x = decomposition.leftSolve(b);
+
+		assertEquals(8, decomposition.rank());
+		assertTrue(decomposition.conditionNumber() > 1e10);
+
+		// The residual is orthogonal to the columns of A
+		var residual = b.arrayBackedCopy(MatrixLayout.ofRowMajor(30, 2));
+		a.multiplyAddInto(1.0, x, -1.0, residual);
+		VecmathTesting.assertMatrixEquals(Matrix.zero(10, 2), a.transpose().multiply(residual));
+
+		// AA⁺A = A
+		var inverse = decomposition.inverse();
+		VecmathTesting.assertMatrixEquals(a, a.multiply(inverse).multiply(a));
+		VecmathTesting.assertMatrixEquals(x, inverse.multiply(b));
+	}
+
+	@Test
+	void squareSolve() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofColumnMajor(40, 40));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(40, 3));
+
+		var decomposition = new SVDFactorisation(a, 0.0);
+
+		VecmathTesting.assertMatrixEquals(b, a.multiply(decomposition.leftSolve(b)));
+		VecmathTesting.assertMatrixEquals(b.transpose(), decomposition.rightSolve(b.transpose()).multiply(a));
+		assertEquals(1.0, decomposition.determinant() / new LowerUpperFactorisation(a.arrayBackedCopy(), 0.0).determinant(), VecmathTesting.ACCURACY);
+	}
+
+	@Test
+	void truncated() {
+		var random = new Random(1245);
+
+		// A view of a matrix with quickly decaying singular values
+		var left = VecmathTesting.random(random, MatrixLayout.ofRowMajor(500, 30));
+		var right = VecmathTesting.random(random, MatrixLayout.ofRowMajor(30, 90));
+		for (int r = 0; r < 30; r++) for (int c = 0; c < 90; c++) {
+			right.set(right.get(r, c) * Math.pow(0.5, r), r, c);
+		}
+
+		var a = left.multiply(right).transpose().subMatrix(0, 0, 80, 500);
+
+		var full = a.singularValueDecomposition();
+		var truncated = a.truncatedSingularValueDecomposition(5, FactorisationOptions.defaults());
+
+		assertEquals(5, truncated.count());
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(1.0, truncated.singularValues().get(i) / full.singularValues().get(i), VecmathTesting.ACCURACY);
+		}
+
+		VecmathTesting.assertMatrixEquals(Matrix.identity(5), truncated.u().transpose().multiply(truncated.u()));
+		VecmathTesting.assertMatrixEquals(Matrix.identity(5), truncated.v().transpose().multiply(truncated.v()));
+
+		// The singular vectors match up to sign
+		for (int i = 0; i < 5; i++) {
+			assertEquals(1.0, Math.abs(truncated.v().column(i).dot(full.v().column(i))), VecmathTesting.ACCURACY);
+		}
+	}
+
+	@Test
+	void truncatedHasNoDeterminantOrConditionNumber() {
+		var a = VecmathTesting.random(new Random(1245), MatrixLayout.ofRowMajor(20, 20));
+
+		var truncated = a.truncatedSingularValueDecomposition(3);
+
+		assertThrows(IllegalStateException.class, truncated::determinant);
+		assertThrows(IllegalStateException.class, truncated::conditionNumber);
+	}
+
+	@Test
+	void singularConditionNumber() {
+		var a = Matrix.of(new double[] {
+				2.0, 0.0,
+				0.0, 0.0
+		}, MatrixLayout.ofRowMajor(2, 2));
+
+		assertEquals(Double.POSITIVE_INFINITY, new SVDFactorisation(a, 0.0).conditionNumber());
+		assertEquals(Double.POSITIVE_INFINITY, new SVDFactorisation(Matrix.zero(3, 3), 0.0).conditionNumber());
+	}
+}
@@ -0,0 +1,169 @@
+package brownshome.vecmath.matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.basic.layout.BasicMatrixLayout;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.segment.SegmentMatrix;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.memory.MemoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentMatrixTest {
+	/**
+	 * A segment made of many small buffers, so that runs cross the boundaries between them
+	 */
+	private static DoubleSegment chunked(long elements) {
+		var buffers = new DoubleBuffer[(int) ((elements + 7) / 8)];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = DoubleBuffer.allocate((int) Math.min(8, elements - i * 8L));
+		}
+
+		return DoubleSegment.ofBuffers(buffers);
+	}
+
+	@Test
+	void elementWise() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(13, 7));
+		var b = VecmathTesting.random(random, MatrixLayout.ofColumnMajor(13, 7));
+
+		var segment = SegmentMatrix.of(chunked(13 * 7), MatrixLayout.ofRowMajor(13, 7));
+		segment.set(a);
+		assertTrue(segment.exactEquals(a));
+
+		segment.scaleAddToSelf(b, 2.0);
+		segment.scaleSelf(0.5);
+		segment.addToSelf(segment.copy());
+
+		var expected = a.copy();
+		expected.scaleAddToSelf(b, 2.0);
+		VecmathTesting.assertMatrixEquals(expected, segment);
+
+		var columnMajor = SegmentMatrix.of(chunked(13 * 7), MatrixLayout.ofColumnMajor(13, 7));
+		columnMajor.set(segment);
+		assertTrue(columnMajor.exactEquals(segment));
+		assertTrue(columnMajor.arrayBackedCopy().exactEquals(expected));
+	}
+
+	@Test
+	void views() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(20, 10));
+
+		var segment = SegmentMatrix.allocate(20, 10);
+		segment.set(a);
+
+		VecmathTesting.assertMatrixEquals(a.subMatrix(3, 2, 5, 4), segment.subMatrix(3, 2, 5, 4));
+		VecmathTesting.assertMatrixEquals(a.subMatrix(3, 2, 5, 4).transpose(), segment.subMatrix(3, 2, 5, 4).transpose());
+		VecmathTesting.assertVecEquals(a.row(7), segment.row(7));
+		VecmathTesting.assertVecEquals(a.column(4), segment.transpose().row(4));
+		assertEquals(a.row(2).dot(a.row(5)), segment.row(2).dot(segment.row(5)), VecmathTesting.ACCURACY);
+
+		// Writes through a view are visible in the whole matrix
+		segment.subMatrix(10, 5, 2, 2).set(Matrix.identity(2));
+		assertEquals(1.0, segment.get(11, 6));
+		assertEquals(0.0, segment.get(11, 5));
+	}
+
+	@Test
+	void multiply() {
+		var random = new Random(1245);
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(30, 20));
+		var b = VecmathTesting.random(random, MatrixLayout.ofColumnMajor(20, 25));
+
+		var left = SegmentMatrix.of(chunked(30 * 20), MatrixLayout.ofRowMajor(30, 20));
+		var right = SegmentMatrix.of(chunked(20 * 25), MatrixLayout.ofColumnMajor(20, 25));
+		left.set(a);
+		right.set(b);
+
+		VecmathTesting.assertMatrixEquals(a.multiply(b), left.multiply(right));
+		VecmathTesting.assertMatrixEquals(a.multiply(b), left.multiply(b));
+		VecmathTesting.assertMatrixEquals(a.transpose().multiply(a), left.transpose().multiply(left));
+
+		var destination = SegmentMatrix.allocate(30, 25);
+		destination.set(a.multiply(b));
+		left.multiplyAddInto(2.0, right, -1.0, destination);
+		VecmathTesting.assertMatrixEquals(a.multiply(b), destination);
+	}
+
+	@Test
+	void multiplyInSlabs() {
+		var random = new Random(1245);
+
+		// Wide enough that the inner dimension is split into more than one staged slab
+		var a = VecmathTesting.random(random, MatrixLayout.ofRowMajor(3, 600));
+		var b = VecmathTesting.random(random, MatrixLayout.ofRowMajor(600, 2048));
+
+		var right = SegmentMatrix.allocate(600, 2048);
+		right.set(b);
+
+		VecmathTesting.assertMatrixEquals(a.multiply(b), SegmentMatrix.of(DoubleSegment.ofArray(a.backingArray()), a.layout()).multiply(right));
+	}
+
+	@Test
+	void closedScope() {
+		SegmentMatrix matrix;
+
+		try (var scope = MemoryScope.open()) {
+			matrix = SegmentMatrix.allocate(4, 4, scope);
+			matrix.set(Matrix.identity(4));
+
+			assertEquals(1.0, matrix.get(2, 2));
+		}
+
+		assertFalse(matrix.backingSegment().isAlive());
+		assertThrows(IllegalStateException.class, () -> matrix.get(2, 2));
+		assertThrows(UnsupportedOperationException.class, () -> MemoryScope.global().close());
+	}
+
+	@Test
+	void longIndexes() {
+		// Neither of these layouts can be indexed by an int
+		var tall = new BasicMatrixLayout(3, 2, 0, 1_500_000_000, 1);
+		assertEquals(3_000_000_001L, tall.longIndex(2, 1));
+		assertEquals(3_000_000_002L, tall.longEnd());
+		assertEquals(3_000_000_001L, tall.transpose().longIndex(1, 2));
+
+		var symmetric = MatrixLayout.ofSymmetricRowMajor(100_000);
+		assertEquals(5_000_049_999L, symmetric.longIndex(99_999, 99_999));
+		assertEquals(5_000_050_000L, symmetric.longEnd());
+	}
+
+	@Test
+	void sharesStorage() {
+		var array = Matrix.of(MatrixLayout.ofRowMajor(3, 3));
+		var segment = SegmentMatrix.of(DoubleSegment.ofArray(array.backingArray()), array.layout());
+
+		assertTrue(segment.sharesStorage(array));
+		assertTrue(array.sharesStorage(segment));
+		assertFalse(segment.sharesStorage(SegmentMatrix.allocate(3, 3)));
+	}
+
+	@Test
+	void copyBetweenViewsOfTheSameArray() {
+		// Both segments start at index zero, but the second starts further along the array, so the copy must run backwards
+		var array = new double[10_000];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = i;
+		}
+
+		var source = DoubleSegment.ofBuffers(DoubleBuffer.wrap(array));
+		var destination = DoubleSegment.ofBuffers(DoubleBuffer.wrap(array, 100, 9_900));
+		assertTrue(destination.sharesStorage(source));
+
+		destination.copyFrom(source, 0, 0, 5_000);
+		for (int i = 0; i < 5_000; i++) {
+			assertEquals(i, array[100 + i]);
+		}
+
+		source.copyFrom(destination, 0, 0, 5_000);
+		for (int i = 0; i < 5_000; i++) {
+			assertEquals(i, array[i]);
+		}
+	}
+}
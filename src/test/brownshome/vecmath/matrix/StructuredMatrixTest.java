@@ -0,0 +1,184 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.matrix.basic.DiagonalMatrix;
+import brownshome.vecmath.matrix.basic.SymmetricMatrix;
+import brownshome.vecmath.matrix.basic.ZeroMatrix;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.matrix.sparse.SparseMatrix;
+import brownshome.vecmath.vector.VecN;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.ACCURACY;
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuredMatrixTest {
+	private static final VecN D = VecN.of(2.0, -1.0, 0.5, 4.0);
+	private static final VecN E = VecN.of(1.0, 3.0, -2.0, 0.25);
+
+	private static Matrix random(int rows, int columns, long seed) {
+		var random = new Random(seed);
+		var matrix = Matrix.of(rows, columns);
+
+		for (int r = 0; r < rows; r++) for (int c = 0; c < columns; c++) {
+			matrix.set(random.nextDouble(), r, c);
+		}
+
+		return matrix;
+	}
+
+	private static Matrix symmetric(int size) {
+		var matrix = Matrix.ofSymmetric(size);
+
+		for (int r = 0; r < size; r++) for (int c = 0; c <= r; c++) {
+			matrix.set(r - 2.0 * c, r, c);
+		}
+
+		return matrix;
+	}
+
+	private static Matrix dense(Matrix matrix) {
+		return matrix.arrayBackedCopy(MatrixLayout.ofRowMajor(matrix.rows(), matrix.columns()));
+	}
+
+	@Test
+	void diagonalAlgebra() {
+		var d = Matrix.diagonal(D);
+		var e = Matrix.diagonal(E);
+		var a = random(4, 4, 1);
+
+		assertTrue(d.add(e) instanceof DiagonalMatrix);
+		assertTrue(d.subtract(e) instanceof DiagonalMatrix);
+		assertTrue(d.scaleAdd(e, 2.0) instanceof DiagonalMatrix);
+		assertTrue(d.multiply(e) instanceof DiagonalMatrix);
+		assertTrue(d.scale(a) instanceof DiagonalMatrix);
+		assertTrue(d.scale(3.0) instanceof DiagonalMatrix);
+		assertTrue(d.invert() instanceof DiagonalMatrix);
+
+		assertMatrixEquals(dense(d).add(dense(e)), d.add(e));
+		assertMatrixEquals(dense(d).subtract(dense(e)), d.subtract(e));
+		assertMatrixEquals(dense(d).scaleAdd(dense(e), 2.0), d.scaleAdd(e, 2.0));
+		assertMatrixEquals(dense(d).multiply(dense(e)), d.multiply(e));
+		assertMatrixEquals(dense(d).scale(a), d.scale(a));
+		assertMatrixEquals(dense(d).add(a), d.add(a));
+		assertMatrixEquals(dense(d).subtract(a), d.subtract(a));
+		assertMatrixEquals(dense(d).scaleAdd(a, -0.5), d.scaleAdd(a, -0.5));
+		assertMatrixEquals(dense(d).invert(), d.invert());
+		assertMatrixEquals(dense(d).subMatrix(1, 1, 2, 2), d.subMatrix(1, 1, 2, 2));
+	}
+
+	@Test
+	void diagonalProducts() {
+		var d = Matrix.diagonal(D);
+		var a = random(4, 3, 2);
+		var b = random(3, 4, 3);
+
+		assertMatrixEquals(dense(d).multiply(a), d.multiply(a));
+		assertMatrixEquals(b.multiply(dense(d)), b.multiply(d));
+		assertMatrixEquals(b.multiply(dense(d)), dense(b).transpose().transpose().multiply(d));
+
+		var permuted = random(4, 4, 4).permuteByRow(1, 3, 0, 2).permuteByColumn(2, 0, 3, 1);
+		assertMatrixEquals(dense(permuted).multiply(dense(d)), permuted.multiply(d));
+
+		var sparse = CsrMatrix.of(dense(random(4, 4, 5)));
+		assertTrue(d.multiply(sparse) instanceof SparseMatrix);
+		assertTrue(sparse.multiply(d) instanceof SparseMatrix);
+		assertMatrixEquals(dense(d).multiply(dense(sparse)), d.multiply(sparse));
+		assertMatrixEquals(dense(sparse).multiply(dense(d)), sparse.multiply(d));
+
+		var s = symmetric(4);
+		var denseS = Matrix.of(MatrixLayout.ofRowMajor(4, 4));
+		denseS.set(s);
+
+		assertFalse(d.multiply(s) instanceof SymmetricMatrix);
+		assertMatrixEquals(dense(d).multiply(denseS), d.multiply(s));
+		assertMatrixEquals(denseS.multiply(dense(d)), s.multiply(d));
+	}
+
+	@Test
+	void diagonalFactorisation() {
+		var d = Matrix.diagonal(D);
+		var b = random(4, 2, 6);
+		var factorisation = d.factorisation();
+
+		assertMatrixEquals(dense(d).factorisation().leftSolve(b), factorisation.leftSolve(b));
+		assertMatrixEquals(dense(d).factorisation().rightSolve(b.transpose()), factorisation.rightSolve(b.transpose()));
+		assertVecEquals(dense(d).factorisation().leftSolve(E), factorisation.leftSolve(E));
+		assertEquals(-4.0, factorisation.determinant(), ACCURACY);
+
+		var s = symmetric(4);
+		var denseS = Matrix.of(MatrixLayout.ofRowMajor(4, 4));
+		denseS.set(s);
+		assertMatrixEquals(dense(d).factorisation().leftSolve(denseS), factorisation.leftSolve(s));
+
+		var singular = Matrix.diagonal(VecN.of(1.0, 0.0, 2.0));
+		assertEquals(0.0, singular.determinant());
+		assertThrows(SingularMatrixException.class, singular::invert);
+	}
+
+	@Test
+	void zeroAndIdentity() {
+		var a = random(4, 4, 7);
+		var zero = Matrix.zero(4, 4);
+		var identity = Matrix.identity(4);
+		var d = Matrix.diagonal(D);
+
+		assertTrue(a.multiply(zero) instanceof ZeroMatrix);
+		assertTrue(zero.multiply(a) instanceof ZeroMatrix);
+		assertTrue(d.multiply(zero) instanceof ZeroMatrix);
+		assertTrue(d.scale(zero) instanceof ZeroMatrix);
+		assertSame(d, d.add(zero));
+
+		assertSame(a, identity.multiply(a));
+		assertSame(a, a.multiply(identity));
+		assertSame(d, d.multiply(identity));
+		assertTrue(identity.add(d) instanceof DiagonalMatrix);
+		assertMatrixEquals(dense(identity).add(dense(d)), identity.add(d));
+	}
+
+	@Test
+	void constantDiagonal() {
+		var identity = Matrix.identity(5);
+		var d = Matrix.diagonal(-2.0, 5);
+
+		assertEquals(-2.0, d.get(3, 3));
+		assertEquals(0.0, d.get(3, 2));
+		assertMatrixEquals(dense(identity).add(dense(d)), identity.add(d));
+		assertMatrixEquals(dense(d).scale(3.0), d.scale(3.0));
+		assertMatrixEquals(dense(d).negated(), d.negated());
+		assertMatrixEquals(dense(d).subMatrix(1, 1, 3, 3), d.subMatrix(1, 1, 3, 3));
+		assertMatrixEquals(dense(Matrix.diagonal(D)).scale(-2.0), d.subMatrix(0, 0, 4, 4).multiply(Matrix.diagonal(D)));
+		assertEquals(-32.0, d.determinant(), ACCURACY);
+
+		var empty = Matrix.identity(0);
+		assertEquals(0, empty.rows());
+		assertEquals(0, empty.columns());
+		assertEquals(0, Matrix.diagonal(2.0, 0).add(empty).rows());
+	}
+
+	@Test
+	void constantProducts() {
+		var c = Matrix.constant(1.5, 4, 3);
+		var a = random(3, 5, 8);
+		var b = random(2, 4, 9);
+
+		assertMatrixEquals(dense(c).multiply(a), c.multiply(a));
+		assertMatrixEquals(b.multiply(dense(c)), b.multiply(c));
+		assertMatrixEquals(dense(Matrix.diagonal(D)).multiply(dense(c)), Matrix.diagonal(D).multiply(c));
+
+		var csr = CsrMatrix.of(dense(random(4, 4, 10)));
+		for (var sparse : new Matrix[] { csr, csr.toCsc() }) {
+			assertMatrixEquals(dense(sparse).multiply(dense(c)), sparse.multiply(c));
+			assertMatrixEquals(dense(c.transpose()).multiply(dense(sparse)), c.transpose().multiply(sparse));
+			assertTrue(sparse.multiply(Matrix.zero(4, 3)) instanceof ZeroMatrix);
+		}
+
+		assertEquals(0.5, Matrix.constant(2.0, 1, 1).invert().get(0, 0));
+		assertEquals(0.0, Matrix.constant(2.0, 2, 2).determinant());
+	}
+}
@@ -0,0 +1,115 @@
+package brownshome.vecmath.matrix;
+
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.factorisation.EigenDecomposition;
+import brownshome.vecmath.matrix.factorisation.EigenOptions;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymmetricEigenDecompositionTest {
+	/**
+	 * Checks that AV = VΛ, and that the eigenvectors are orthonormal
+	 */
+	private static void assertDecomposes(Matrix a, EigenDecomposition decomposition) {
+		var values = decomposition.eigenvalues();
+		var vectors = decomposition.eigenvectors();
+		var scaled = vectors.copy();
+
+		for (int r = 0; r < scaled.rows(); r++) for (int c = 0; c < scaled.columns(); c++) {
+			scaled.set(scaled.get(r, c) * values.get(c), r, c);
+		}
+
+		VecmathTesting.assertMatrixEquals(scaled, a.multiply(vectors));
+		VecmathTesting.assertMatrixEquals(Matrix.identity(decomposition.count()), vectors.transpose().multiply(vectors));
+
+		for (int i = 1; i < values.size(); i++) {
+			assertTrue(values.get(i - 1) >= values.get(i));
+		}
+	}
+
+	@Test
+	void eigenvalues() {
+		var a = Matrix.ofSymmetric(new double[] {
+				2.0,
+				1.0, 2.0,
+				0.0, 0.0, 5.0
+		}, MatrixLayout.ofSymmetricRowMajor(3));
+
+		var decomposition = a.symmetricEigenDecomposition();
+
+		assertArrayEquals(new double[] { 5.0, 3.0, 1.0 }, decomposition.eigenvalues().arrayBackedCopy().backingArray(), VecmathTesting.ACCURACY);
+		assertDecomposes(a, decomposition);
+	}
+
+	@Test
+	void decomposeRandom() {
+		var random = new Random(1245);
+
+		for (var layout : new MatrixLayout[] { MatrixLayout.ofSymmetricRowMajor(60), MatrixLayout.ofSymmetricRowMajor(60, 3, 2) }) {
+			var a = VecmathTesting.randomise(random, Matrix.ofSymmetric(layout));
+
+			assertDecomposes(a, a.symmetricEigenDecomposition());
+		}
+	}
+
+	@Test
+	void valuesOnly() {
+		var random = new Random(1245);
+		var a = VecmathTesting.randomise(random, Matrix.ofSymmetric(MatrixLayout.ofSymmetricRowMajor(50)));
+
+		var all = a.symmetricEigenDecomposition();
+		var values = a.symmetricEigenDecomposition(EigenOptions.valuesOnly());
+
+		assertFalse(values.hasEigenvectors());
+		assertThrows(IllegalStateException.class, values::eigenvectors);
+		VecmathTesting.assertVecEquals(all.eigenvalues(), values.eigenvalues());
+	}
+
+	@Test
+	void largest() {
+		var random = new Random(1245);
+		var a = VecmathTesting.randomise(random, Matrix.ofSymmetric(MatrixLayout.ofSymmetricRowMajor(80)));
+
+		var all = a.symmetricEigenDecomposition(EigenOptions.valuesOnly());
+		var largest = a.symmetricEigenDecomposition(EigenOptions.largest(5));
+
+		assertEquals(5, largest.count());
+		assertDecomposes(a, largest);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(all.eigenvalues().get(i), largest.eigenvalues().get(i), VecmathTesting.ACCURACY);
+		}
+	}
+
+	@Test
+	void largestRepeatedEigenvalues() {
+		// A rank-two update of the identity has a repeated eigenvalue of one
+		int size = 40;
+		var a = Matrix.ofSymmetric(size);
+
+		for (int r = 0; r < size; r++) for (int c = 0; c <= r; c++) {
+			a.set((r == c ? 1.0 : 0.0) + 0.01 * (r + 1) * (c + 1) + (r % 2 == c % 2 ? 0.5 : -0.5) / size, r, c);
+		}
+
+		var largest = a.symmetricEigenDecomposition(EigenOptions.largest(6));
+
+		assertEquals(1.0, largest.eigenvalues().get(5), VecmathTesting.ACCURACY);
+		assertDecomposes(a, largest);
+	}
+
+	@Test
+	void nonFiniteMatrix() {
+		var a = Matrix.ofSymmetric(new double[] {
+				2.0,
+				1.0, 2.0,
+				Double.NaN, 0.0, 5.0
+		}, MatrixLayout.ofSymmetricRowMajor(3));
+
+		assertThrows(ArithmeticException.class, a::symmetricEigenDecomposition);
+		assertThrows(ArithmeticException.class, () -> a.symmetricEigenDecomposition(EigenOptions.largest(1)));
+	}
+}
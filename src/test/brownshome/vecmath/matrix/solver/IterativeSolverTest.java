@@ -0,0 +1,190 @@
+package brownshome.vecmath.matrix.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.matrix.sparse.CsrMatrix;
+import brownshome.vecmath.vector.VecN;
+import brownshome.vecmath.vector.array.ArrayVecN;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class IterativeSolverTest {
+	private static final SolverOptions OPTIONS = SolverOptions.defaults().withTolerance(1e-12);
+
+	/**
+	 * The five-point Laplacian on a square grid, with a first derivative term that makes it non-symmetric
+	 */
+	private static CsrMatrix grid(int width, double convection) {
+		int size = width * width;
+		int[] rows = new int[size * 5];
+		int[] columns = new int[size * 5];
+		double[] values = new double[size * 5];
+		int count = 0;
+
+		for (int x = 0; x < width; x++) for (int y = 0; y < width; y++) {
+			int i = x * width + y;
+
+			rows[count] = i;
+			columns[count] = i;
+			values[count++] = 4.0;
+
+			int[][] neighbours = { { x - 1, y }, { x + 1, y }, { x, y - 1 }, { x, y + 1 } };
+			for (int n = 0; n < neighbours.length; n++) {
+				int nx = neighbours[n][0], ny = neighbours[n][1];
+
+				if (nx >= 0 && nx < width && ny >= 0 && ny < width) {
+					rows[count] = i;
+					columns[count] = nx * width + ny;
+					values[count++] = -1.0 + (n == 0 ? convection : n == 1 ? -convection : 0.0);
+				}
+			}
+		}
+
+		return CsrMatrix.of(size, size,
+				Arrays.copyOf(rows, count), Arrays.copyOf(columns, count), Arrays.copyOf(values, count));
+	}
+
+	private static ArrayVecN expected(int size) {
+		var expected = VecN.zero(size);
+		for (int i = 0; i < size; i++) {
+			expected.set(Math.sin(i), i);
+		}
+
+		return expected;
+	}
+
+	private static ArrayVecN multiply(Matrix a, VecN vector) {
+		var result = VecN.zero(a.rows());
+		LinearOperator.of(a).multiplyInto(vector, result);
+		return result;
+	}
+
+	private static void assertSolves(Matrix a, IterativeSolver solver) {
+		var expected = expected(a.rows());
+		var x = VecN.zero(a.rows());
+
+		var result = solver.solve(multiply(a, expected), x);
+
+		assertTrue(result.converged());
+		assertVecEquals(expected, x);
+	}
+
+	@Test
+	void conjugateGradient() {
+		var a = grid(12, 0.0);
+		var operator = LinearOperator.of(a);
+
+		for (var preconditioner : List.of(
+				Preconditioner.IDENTITY,
+				Preconditioner.jacobi(a),
+				Preconditioner.ssor(a, 1.2),
+				Preconditioner.incompleteCholesky(a))) {
+			assertSolves(a, IterativeSolver.conjugateGradient(operator, a.rows(), preconditioner, OPTIONS));
+		}
+	}
+
+	@Test
+	void preconditioningReducesIterations() {
+		var a = grid(20, 0.0);
+		var b = multiply(a, expected(a.rows()));
+
+		int plain = IterativeSolver.conjugateGradient(a, Preconditioner.IDENTITY).solve(b, VecN.zero(a.rows())).iterations();
+		int incomplete = IterativeSolver.conjugateGradient(a, Preconditioner.incompleteCholesky(a)).solve(b, VecN.zero(a.rows())).iterations();
+
+		assertTrue(incomplete < plain);
+	}
+
+	@Test
+	void gmres() {
+		var a = grid(12, 0.3);
+		var operator = LinearOperator.of(a);
+
+		for (var preconditioner : List.of(Preconditioner.IDENTITY, Preconditioner.jacobi(a))) {
+			assertSolves(a, IterativeSolver.gmres(operator, a.rows(), preconditioner, 20, OPTIONS));
+			assertSolves(a, IterativeSolver.gmres(operator, a.rows(), preconditioner, a.rows(), OPTIONS));
+		}
+	}
+
+	@Test
+	void denseMatrix() {
+		var a = Matrix.of(new double[] {
+				4, 1, 0,
+				1, 3, 1,
+				0, 1, 2
+		}, MatrixLayout.ofRowMajor(3, 3));
+
+		assertSolves(a, IterativeSolver.conjugateGradient(LinearOperator.of(a), 3, Preconditioner.jacobi(a), OPTIONS));
+		assertSolves(a, IterativeSolver.gmres(LinearOperator.of(a), 3, Preconditioner.IDENTITY, 2, OPTIONS));
+	}
+
+	@Test
+	void symmetricMatrix() {
+		int size = 4;
+		var a = Matrix.ofSymmetric(size);
+		for (int r = 0; r < size; r++) for (int c = 0; c <= r; c++) {
+			a.set(r == c ? 4.0 + r : 1.0 / (1 + r + c), r, c);
+		}
+
+		var dense = Matrix.of(MatrixLayout.ofRowMajor(size, size));
+		dense.set(a);
+
+		var expected = expected(size);
+		var b = multiply(dense, expected);
+		assertVecEquals(b, multiply(a, expected));
+
+		var x = VecN.zero(size);
+		var result = IterativeSolver.conjugateGradient(LinearOperator.of(a), size, Preconditioner.IDENTITY, OPTIONS).solve(b, x);
+
+		assertTrue(result.converged());
+		assertVecEquals(expected, x);
+	}
+
+	@Test
+	void warmStart() {
+		var a = grid(12, 0.0);
+		var expected = expected(a.rows());
+		var x = expected.copy();
+
+		var result = IterativeSolver.conjugateGradient(a, Preconditioner.IDENTITY).solve(a.multiply(expected), x);
+
+		assertTrue(result.converged());
+		assertEquals(0, result.iterations());
+		assertVecEquals(expected, x);
+	}
+
+	@Test
+	void listenerAndIterationLimit() {
+		var a = grid(12, 0.3);
+		List<Double> residuals = new ArrayList<>();
+		var options = SolverOptions.defaults()
+				.withMaxIterations(5)
+				.withListener((iteration, residualNorm) -> {
+					assertEquals(residuals.size() + 1, iteration);
+					residuals.add(residualNorm);
+				});
+
+		var b = a.multiply(expected(a.rows()));
+
+		var cg = IterativeSolver.conjugateGradient(LinearOperator.of(a), a.rows(), Preconditioner.IDENTITY, options).solve(b, VecN.zero(a.rows()));
+		assertFalse(cg.converged());
+		assertEquals(5, cg.iterations());
+		assertEquals(5, residuals.size());
+
+		residuals.clear();
+
+		var gmres = IterativeSolver.gmres(LinearOperator.of(a), a.rows(), Preconditioner.IDENTITY, 3, options).solve(b, VecN.zero(a.rows()));
+		assertFalse(gmres.converged());
+		assertEquals(5, gmres.iterations());
+		assertEquals(5, residuals.size());
+
+		for (int i = 1; i < residuals.size(); i++) {
+			assertTrue(residuals.get(i) <= residuals.get(i - 1) * (1.0 + 1e-9));
+		}
+	}
+}
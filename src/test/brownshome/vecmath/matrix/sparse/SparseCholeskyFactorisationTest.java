@@ -0,0 +1,126 @@
+package brownshome.vecmath.matrix.sparse;
+
+import java.util.Arrays;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.factorisation.SingularMatrixException;
+import brownshome.vecmath.vector.VecN;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.ACCURACY;
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SparseCholeskyFactorisationTest {
+	/**
+	 * The five-point Laplacian on a square grid, with a shift added to the diagonal
+	 */
+	private static CsrMatrix grid(int width, double shift) {
+		int size = width * width;
+		int[] rows = new int[size * 5];
+		int[] columns = new int[size * 5];
+		double[] values = new double[size * 5];
+		int count = 0;
+
+		for (int x = 0; x < width; x++) for (int y = 0; y < width; y++) {
+			int i = x * width + y;
+
+			rows[count] = i;
+			columns[count] = i;
+			values[count++] = 4.0 + shift;
+
+			int[][] neighbours = { { x - 1, y }, { x + 1, y }, { x, y - 1 }, { x, y + 1 } };
+			for (var n : neighbours) {
+				if (n[0] >= 0 && n[0] < width && n[1] >= 0 && n[1] < width) {
+					rows[count] = i;
+					columns[count] = n[0] * width + n[1];
+					values[count++] = -1.0;
+				}
+			}
+		}
+
+		return CsrMatrix.of(size, size,
+				Arrays.copyOf(rows, count), Arrays.copyOf(columns, count), Arrays.copyOf(values, count));
+	}
+
+	@Test
+	void solve() {
+		var a = grid(12, 0.0);
+		var expected = VecN.zero(a.rows());
+		for (int i = 0; i < a.rows(); i++) {
+			expected.set(Math.sin(i), i);
+		}
+
+		var factorisation = a.symbolicCholesky().factorise(a);
+
+		assertVecEquals(expected, factorisation.leftSolve(a.multiply(expected)));
+		assertVecEquals(expected, factorisation.leftSolve(a.multiply(expected.asColumn())).asColumnVec());
+	}
+
+	@Test
+	void determinant() {
+		var a = grid(4, 0.5);
+
+		double expected = Matrix.of(a.rows(), a.columns()).add(a).factorisation().determinant();
+		double result = a.symbolicCholesky().factorise(a).determinant();
+
+		assertEquals(expected, result, Math.abs(expected) * ACCURACY);
+	}
+
+	@Test
+	void refactorise() {
+		var a = grid(8, 0.0);
+		var symbolic = a.symbolicCholesky();
+
+		// The same pattern with different values
+		var b = grid(8, 3.0);
+		var identity = Matrix.identity(b.rows());
+
+		assertMatrixEquals(identity, b.multiply(symbolic.factorise(b).leftSolve(identity)));
+		assertMatrixEquals(identity, a.multiply(symbolic.factorise(a).leftSolve(identity)));
+	}
+
+	@Test
+	void fillReducingOrder() {
+		// An arrow matrix has no fill if the dense row is eliminated last, and fills completely if it is eliminated first
+		int size = 50;
+		int[] rows = new int[size * 3];
+		int[] columns = new int[size * 3];
+		double[] values = new double[size * 3];
+
+		for (int i = 0; i < size; i++) {
+			rows[3 * i] = i;
+			columns[3 * i] = i;
+			values[3 * i] = size;
+
+			rows[3 * i + 1] = 0;
+			columns[3 * i + 1] = i;
+			values[3 * i + 1] = 1.0;
+
+			rows[3 * i + 2] = i;
+			columns[3 * i + 2] = 0;
+			values[3 * i + 2] = 1.0;
+		}
+
+		var a = CsrMatrix.of(size, size, rows, columns, values);
+		var symbolic = a.symbolicCholesky();
+
+		assertEquals(size - 1, symbolic.factorNonZeros());
+		var order = symbolic.permutation().clone();
+		Arrays.sort(order);
+		for (int i = 0; i < size; i++) {
+			assertEquals(i, order[i]);
+		}
+
+		var expected = VecN.axis(3, size);
+		assertVecEquals(expected, symbolic.factorise(a).leftSolve(a.multiply(expected)));
+	}
+
+	@Test
+	void singular() {
+		var a = CsrMatrix.of(2, 2, new int[] { 0, 0, 1, 1 }, new int[] { 0, 1, 0, 1 }, new double[] { 1.0, 1.0, 1.0, 1.0 });
+
+		assertThrows(SingularMatrixException.class, () -> a.symbolicCholesky().factorise(a));
+	}
+}
@@ -0,0 +1,137 @@
+package brownshome.vecmath.matrix.sparse;
+
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.vector.VecN;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.assertMatrixEquals;
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SparseMatrixTest {
+	private static final Matrix A = Matrix.of(new double[] {
+			4, 0, 0, 1,
+			0, 0, 2, 0,
+			0, 0, 0, 0,
+			3, 5, 0, 6
+	}, MatrixLayout.ofRowMajor(4, 4));
+
+	private static final Matrix B = Matrix.of(new double[] {
+			0, 1, 0,
+			2, 0, 0,
+			0, 0, 7,
+			1, 0, 3
+	}, MatrixLayout.ofRowMajor(4, 3));
+
+	@Test
+	void triplets() {
+		// Out of order, with the 4 and the 6 split into duplicates
+		var csr = CsrMatrix.of(4, 4,
+				new int[] { 3, 0, 1, 3, 0, 3, 0, 3 },
+				new int[] { 3, 0, 2, 1, 3, 0, 0, 3 },
+				new double[] { 2, 1, 2, 5, 1, 3, 3, 4 });
+
+		assertEquals(6, csr.nonZeros());
+		assertMatrixEquals(A, csr);
+		assertMatrixEquals(A, CscMatrix.of(4, 4,
+				new int[] { 3, 0, 1, 3, 0, 3, 0, 3 },
+				new int[] { 3, 0, 2, 1, 3, 0, 0, 3 },
+				new double[] { 2, 1, 2, 5, 1, 3, 3, 4 }));
+	}
+
+	@Test
+	void transpose() {
+		var csr = CsrMatrix.of(A);
+		var csc = CscMatrix.of(A);
+
+		assertSame(csr.values(), csr.transpose().values());
+		assertMatrixEquals(A.transpose(), csr.transpose());
+		assertMatrixEquals(A, csr.toCsc());
+		assertMatrixEquals(A, csc.toCsr());
+		assertMatrixEquals(A.transpose(), csc.transpose());
+	}
+
+	@Test
+	void sparseProduct() {
+		var expected = A.multiply(B);
+
+		var csrProduct = CsrMatrix.of(A).multiply(CsrMatrix.of(B));
+		var cscProduct = CscMatrix.of(A).multiply(CscMatrix.of(B));
+
+		assertTrue(csrProduct instanceof CsrMatrix);
+		assertTrue(cscProduct instanceof CscMatrix);
+		assertMatrixEquals(expected, csrProduct);
+		assertMatrixEquals(expected, cscProduct);
+		assertMatrixEquals(expected, CsrMatrix.of(A).multiply(CscMatrix.of(B)));
+		assertMatrixEquals(expected, CscMatrix.of(A).multiply(CsrMatrix.of(B)));
+	}
+
+	@Test
+	void denseProduct() {
+		assertMatrixEquals(A.multiply(B), CsrMatrix.of(A).multiply(B));
+		assertMatrixEquals(A.multiply(B), CscMatrix.of(A).multiply(B));
+		assertMatrixEquals(B.transpose().multiply(A), B.transpose().multiply(CsrMatrix.of(A)));
+		assertMatrixEquals(B.transpose().multiply(A), B.transpose().multiply(CscMatrix.of(A)));
+	}
+
+	@Test
+	void denseProductWithOtherLayouts() {
+		var symmetric = Matrix.ofSymmetric(4);
+		for (int r = 0; r < 4; r++) for (int c = 0; c <= r; c++) {
+			symmetric.set(r * 4 + c + 1, r, c);
+		}
+
+		// B with its columns stored in reverse, and B with its columns permuted
+		var reversed = Matrix.of(MatrixLayout.of(4, 3, 2, 3, -1));
+		reversed.set(B);
+		var permuted = Matrix.of(new double[12], MatrixLayout.ofRowMajor(4, 3).permuteByColumn(2, 0, 1));
+		permuted.set(B);
+
+		for (var dense : new Matrix[] { symmetric, reversed, permuted }) {
+			var plain = Matrix.of(MatrixLayout.ofRowMajor(dense.rows(), dense.columns()));
+			plain.set(dense);
+
+			assertMatrixEquals(A.multiply(plain), CsrMatrix.of(A).multiply(dense));
+			assertMatrixEquals(A.multiply(plain), CscMatrix.of(A).multiply(dense));
+			assertMatrixEquals(plain.transpose().multiply(A), dense.transpose().multiply(CsrMatrix.of(A)));
+			assertMatrixEquals(plain.transpose().multiply(A), dense.transpose().multiply(CscMatrix.of(A)));
+		}
+	}
+
+	@Test
+	void vectorProduct() {
+		var x = VecN.of(1.0, -2.0, 3.0, 0.5);
+		var expected = A.multiply(x.asColumn()).asColumnVec();
+
+		assertVecEquals(expected, CsrMatrix.of(A).multiply(x));
+		assertVecEquals(expected, CscMatrix.of(A).multiply(x));
+	}
+
+	@Test
+	void iteration() {
+		var sum = new double[1];
+		var csr = CsrMatrix.of(A);
+
+		csr.forEachInRow(3, (r, c, v) -> {
+			assertEquals(3, r);
+			sum[0] += v;
+		});
+		assertEquals(14.0, sum[0]);
+
+		CscMatrix.of(A).forEachInColumn(2, (r, c, v) -> {
+			assertEquals(1, r);
+			assertEquals(2.0, v);
+		});
+
+		sum[0] = 0.0;
+		csr.forEachNonZero((r, c, v) -> sum[0] += v * (r + 1));
+		assertEquals(4 + 1 + 4 + 4 * 14, sum[0]);
+	}
+
+	@Test
+	void scale() {
+		assertMatrixEquals(A.scale(-2.0), CsrMatrix.of(A).scale(-2.0));
+		assertMatrixEquals(A.negated(), CscMatrix.of(A).negated());
+	}
+}
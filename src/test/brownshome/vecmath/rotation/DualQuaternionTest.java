@@ -0,0 +1,136 @@
+package brownshome.vecmath.rotation;
+
+import brownshome.vecmath.vector.BufferArrangement;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class DualQuaternionTest {
+	private final Vec3 P = Vec3.of(0.3, -2.0, 1.5);
+
+	@Test
+	void transform() {
+		var a = DualQuaternion.of(RIGID_A);
+
+		assertVecEquals(RIGID_A.translation(), a.translation());
+		assertVecEquals(RIGID_A.transformedPoint(P), a.transformedPoint(P));
+		assertVecEquals(RIGID_A.transformedDirection(P), a.transformedDirection(P));
+		assertVecEquals(P, a.asRigidTransform().inverted().transformedPoint(a.transformedPoint(P)));
+	}
+
+	@Test
+	void multiply() {
+		var a = DualQuaternion.of(RIGID_A);
+		var b = DualQuaternion.of(RIGID_B);
+		var expected = RIGID_A.multiply(RIGID_B).transformedPoint(P);
+
+		assertVecEquals(expected, a.multiply(b).transformedPoint(P));
+
+		var left = b.copy();
+		left.multiplyLeftSelf(a);
+		assertVecEquals(expected, left.transformedPoint(P));
+
+		assertVecEquals(P, b.inverted().multiply(b).transformedPoint(P));
+	}
+
+	@Test
+	void matchesRigidTransform() {
+		var product = DualQuaternion.of(RIGID_A).multiply(DualQuaternion.of(RIGID_B));
+		var expected = RIGID_A.multiply(RIGID_B);
+		var converted = product.asRigidTransform();
+
+		assertVecEquals(expected.translation(), converted.translation());
+		assertVecEquals(expected.transformedPoint(P), converted.transformedPoint(P));
+		assertVecEquals(expected.transformedDirection(P), converted.transformedDirection(P));
+		assertVecEquals(expected.inverted().transformedPoint(P), product.inverted().transformedPoint(P));
+	}
+
+	@Test
+	void normalise() {
+		var a = DualQuaternion.of(RIGID_A);
+		var scaled = DualQuaternion.of(a.real().scale(3.0), a.dual().scale(3.0).add(a.real().scale(0.5)));
+
+		var normalised = scaled.normalised();
+		assertEquals(1.0, normalised.real().length(), ACCURACY);
+		assertEquals(0.0, normalised.real().dot(normalised.dual()), ACCURACY);
+		assertVecEquals(RIGID_A.transformedPoint(P), normalised.transformedPoint(P));
+	}
+
+	@Test
+	void blend() {
+		var a = DualQuaternion.of(RIGID_A);
+		var negated = DualQuaternion.of(a.real().negated(), a.dual().negated());
+		var b = DualQuaternion.of(RIGID_B);
+
+		// A dual quaternion and its negation are the same transform, so blending them gives that transform
+		var result = DualQuaternion.IDENTITY.copy();
+		result.setToBlend(new DualQuaternion[] { a, negated }, new double[] { 0.3, 0.7 });
+		assertVecEquals(RIGID_A.transformedPoint(P), result.transformedPoint(P));
+
+		result.setToBlend(new DualQuaternion[] { a, b }, new double[] { 0.0, 1.0 });
+		assertVecEquals(RIGID_B.transformedPoint(P), result.transformedPoint(P));
+
+		// Blending pure translations interpolates them
+		result.setToBlend(new DualQuaternion[] {
+				DualQuaternion.of(Rot3.IDENTITY, Vec3.of(2.0, 0.0, 0.0)),
+				DualQuaternion.of(Rot3.IDENTITY, Vec3.of(0.0, 4.0, 0.0))
+		}, new double[] { 0.5, 0.5 });
+		assertVecEquals(Vec3.of(1.0, 2.0, 0.0), result.translation());
+	}
+
+	@Test
+	void arrayBacked() {
+		var joints = new double[1 + DualQuaternion.ELEMENTS * 2];
+		var a = DualQuaternion.of(joints, 1);
+		var b = DualQuaternion.of(joints, 1 + DualQuaternion.ELEMENTS);
+		a.set(RIGID_A);
+		b.set(RIGID_B);
+
+		assertEquals(RIGID_A.rotation().w(), joints[4]);
+		assertTrue(a.exactEquals(DualQuaternion.of(RIGID_A)));
+		assertTrue(DualQuaternion.ofArrayBacked().exactEquals(DualQuaternion.IDENTITY));
+
+		var points = new double[] { 0.3, -2.0, 1.5, 1.0, 1.0, 1.0 };
+		var result = new double[6];
+		b.transformPoints(points, 0, result, 0, 2);
+		assertVecEquals(RIGID_B.transformedPoint(P), Vec3.of(result[0], result[1], result[2]));
+
+		var buffer = Vec3Buffer.of(2, BufferArrangement.INTERLEAVED);
+		buffer.set(P, 1);
+		b.transformPoints(buffer, 1, 2);
+		assertVecEquals(RIGID_B.transformedPoint(P), buffer.cursor(1));
+	}
+
+	@Test
+	void skin() {
+		var joints = new double[DualQuaternion.ELEMENTS * 2];
+		var a = DualQuaternion.of(joints, 0);
+		var b = DualQuaternion.of(joints, DualQuaternion.ELEMENTS);
+		a.set(RIGID_A);
+		b.set(RIGID_B);
+
+		// The second point's first influence is the negation of a
+		b.setToBlend(new DualQuaternion[] { b }, new double[] { -1.0 });
+
+		var points = new double[] { 0.3, -2.0, 1.5, 1.0, 1.0, 1.0, -1.0, 0.0, 2.0 };
+		var influenceJoints = new int[] { 0, 1, 1, 0, 0, 1 };
+		var influenceWeights = new double[] { 0.25, 0.75, 1.0, 0.0, 0.6, 0.4 };
+		var result = new double[9];
+		DualQuaternion.skinPoints(joints, 0, influenceJoints, influenceWeights, 0, 2, points, 0, result, 0, 3);
+
+		var blend = DualQuaternion.IDENTITY.copy();
+		for (int i = 0; i < 3; i++) {
+			blend.setToBlend(
+					new DualQuaternion[] { i == 1 ? b : a, i == 1 ? a : b },
+					new double[] { influenceWeights[i * 2], influenceWeights[i * 2 + 1] });
+
+			var p = Vec3.of(points[i * 3], points[i * 3 + 1], points[i * 3 + 2]);
+			assertVecEquals(blend.transformedPoint(p), Vec3.of(result[i * 3], result[i * 3 + 1], result[i * 3 + 2]));
+		}
+
+		assertVecEquals(RIGID_B.transformedPoint(Vec3.of(1.0, 1.0, 1.0)), Vec3.of(result[3], result[4], result[5]));
+	}
+}
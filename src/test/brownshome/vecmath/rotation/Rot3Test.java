@@ -23,6 +23,38 @@ final class Rot3Test {
 		assertVecEquals(Vec3.Z_AXIS, A.rotated(Vec3.Y_AXIS));
 	}
 
+	@Test
+	void rotateMatchesProduct() {
+		var rotation = A.multiply(Rot3.ofAxisAngle(Vec3.of(0.3, -1.0, 2.0).normalised(), 0.7));
+		var v = Vec3.of(1.5, -2.0, 0.25);
+
+		var product = rotation.multiply(Rot3.of(v.x(), v.y(), v.z(), 0.0)).multiply(rotation.inverted());
+		assertVecEquals(Vec3.of(product.x(), product.y(), product.z()), rotation.rotated(v));
+	}
+
+	@Test
+	void rotateAll() {
+		var rotation = A.multiply(B).multiply(Rot3.ofAxisAngle(Vec3.Z_AXIS, 0.3));
+		var source = new double[] { 9.0, 1.0, 2.0, 3.0, -4.0, 0.5, 7.0, 0.0, 0.0, 1.0, 5.0 };
+		var destination = new double[11];
+
+		rotation.rotateAll(source, 1, destination, 2, 3);
+
+		assertEquals(0.0, destination[0]);
+		assertEquals(0.0, destination[1]);
+		for (int i = 0; i < 3; i++) {
+			var expected = rotation.rotated(Vec3.of(source[1 + i * 3], source[2 + i * 3], source[3 + i * 3]));
+			assertVecEquals(expected, Vec3.of(destination[2 + i * 3], destination[3 + i * 3], destination[4 + i * 3]));
+		}
+
+		rotation.rotateAll(source, 1, source, 1, 3);
+		assertEquals(9.0, source[0]);
+		assertEquals(5.0, source[10]);
+		for (int i = 0; i < 9; i++) {
+			assertEquals(destination[2 + i], source[1 + i], ACCURACY);
+		}
+	}
+
 	@Test
 	void asMatrix() {
 		assertMatrixEquals(Matrix.of(new double[] {
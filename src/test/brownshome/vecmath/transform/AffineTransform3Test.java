@@ -0,0 +1,92 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.matrix.Mat3;
+import brownshome.vecmath.vector.BufferArrangement;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+import brownshome.vecmath.vector.Vec4;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class AffineTransform3Test {
+	private final AffineTransform3 A = AffineTransform3.of(Mat3.of(
+			2.0, 0.5, 0.0,
+			0.0, 1.0, -1.0,
+			0.3, 0.0, 1.5
+	), Vec3.of(1.0, 2.0, 3.0));
+
+	private final AffineTransform3 B = AffineTransform3.of(Mat3.of(
+			0.0, -1.0, 0.0,
+			1.0, 0.0, 0.25,
+			0.0, 0.0, 3.0
+	), Vec3.of(-0.5, 0.0, 4.0));
+
+	@Test
+	void transform() {
+		assertVecEquals(Vec3.of(3.0, 2.0, 3.3), A.transformedPoint(Vec3.X_AXIS));
+		assertVecEquals(Vec3.of(2.0, 0.0, 0.3), A.transformedDirection(Vec3.X_AXIS));
+	}
+
+	@Test
+	void compose() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+		var expected = A.transformedPoint(B.transformedPoint(p));
+
+		assertVecEquals(expected, A.multiply(B).transformedPoint(p));
+
+		var left = B.copy();
+		left.multiplyLeftSelf(A);
+		assertVecEquals(expected, left.transformedPoint(p));
+
+		var self = A.copy();
+		self.multiplyRightSelf(self);
+		assertVecEquals(A.transformedPoint(A.transformedPoint(p)), self.transformedPoint(p));
+	}
+
+	@Test
+	void invert() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+
+		assertVecEquals(p, A.inverted().transformedPoint(A.transformedPoint(p)));
+		assertVecEquals(p, A.multiply(A.inverted()).transformedPoint(p));
+	}
+
+	@Test
+	void matrices() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+		var homogeneous = A.asMat4().transformed(Vec4.of(p.x(), p.y(), p.z(), 1.0));
+		var expected = A.transformedPoint(p);
+
+		assertVecEquals(Vec4.of(expected.x(), expected.y(), expected.z(), 1.0), homogeneous);
+		assertMatrixEquals(A.asMat4().asMatrix().subMatrix(0, 0, 3, 4), A.asMatrix());
+		assertTrue(AffineTransform3.of(A.asMatrix()).exactEquals(A));
+		assertTrue(AffineTransform3.of(A.asMat4().asMatrix()).exactEquals(A));
+	}
+
+	@Test
+	void batch() {
+		var points = new double[] { 1.0, 2.0, 3.0, -1.0, 0.5, 0.0, 7.0 };
+		var result = new double[6];
+		A.transformPoints(points, 1, result, 0, 2);
+
+		for (int i = 0; i < 2; i++) {
+			var p = Vec3.of(points[1 + i * 3], points[2 + i * 3], points[3 + i * 3]);
+			assertVecEquals(A.transformedPoint(p), Vec3.of(result[i * 3], result[1 + i * 3], result[2 + i * 3]));
+		}
+
+		A.transformDirections(points, 1, points, 1, 2);
+		assertVecEquals(A.transformedDirection(Vec3.of(2.0, 3.0, -1.0)), Vec3.of(points[1], points[2], points[3]));
+
+		var buffer = Vec3Buffer.of(3, BufferArrangement.SEPARATE);
+		buffer.set(Vec3.of(0.3, -2.0, 1.5), 1);
+		A.transformPoints(buffer, 1, 3);
+		assertVecEquals(A.transformedPoint(Vec3.of(0.3, -2.0, 1.5)), buffer.cursor(1));
+		assertVecEquals(Vec3.ZERO, buffer.cursor(0));
+		assertVecEquals(A.translation(), buffer.cursor(2));
+
+		A.transformDirections(buffer, 2, 3);
+		assertVecEquals(A.transformedDirection(A.translation()), buffer.cursor(2));
+	}
+}
@@ -0,0 +1,79 @@
+package brownshome.vecmath.transform;
+
+import brownshome.vecmath.vector.BufferArrangement;
+import brownshome.vecmath.vector.Vec3;
+import brownshome.vecmath.vector.Vec3Buffer;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class RigidTransform3Test {
+	@Test
+	void transform() {
+		assertVecEquals(Vec3.of(1.0, 3.0, 3.0), RIGID_A.transformedPoint(Vec3.X_AXIS));
+		assertVecEquals(Vec3.Y_AXIS, RIGID_A.transformedDirection(Vec3.X_AXIS));
+	}
+
+	@Test
+	void compose() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+		var expected = RIGID_A.transformedPoint(RIGID_B.transformedPoint(p));
+
+		assertVecEquals(expected, RIGID_A.multiply(RIGID_B).transformedPoint(p));
+
+		var left = RIGID_B.copy();
+		left.multiplyLeftSelf(RIGID_A);
+		assertVecEquals(expected, left.transformedPoint(p));
+
+		var self = RIGID_A.copy();
+		self.multiplyRightSelf(self);
+		assertVecEquals(RIGID_A.transformedPoint(RIGID_A.transformedPoint(p)), self.transformedPoint(p));
+	}
+
+	@Test
+	void invert() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+
+		assertVecEquals(p, RIGID_B.inverted().transformedPoint(RIGID_B.transformedPoint(p)));
+		assertVecEquals(p, RIGID_B.multiply(RIGID_B.inverted()).transformedPoint(p));
+	}
+
+	@Test
+	void affine() {
+		var p = Vec3.of(0.3, -2.0, 1.5);
+		var affine = RIGID_B.asAffine();
+
+		assertVecEquals(RIGID_B.transformedPoint(p), affine.transformedPoint(p));
+		assertVecEquals(RIGID_B.transformedDirection(p), affine.transformedDirection(p));
+
+		var set = AffineTransform3.IDENTITY.copy();
+		set.set(RIGID_A);
+		assertVecEquals(RIGID_A.transformedPoint(p), set.transformedPoint(p));
+	}
+
+	@Test
+	void batch() {
+		var points = new double[] { 1.0, 2.0, 3.0, -1.0, 0.5, 0.0, 7.0 };
+		var result = new double[6];
+		RIGID_B.transformPoints(points, 1, result, 0, 2);
+
+		for (int i = 0; i < 2; i++) {
+			var p = Vec3.of(points[1 + i * 3], points[2 + i * 3], points[3 + i * 3]);
+			assertVecEquals(RIGID_B.transformedPoint(p), Vec3.of(result[i * 3], result[1 + i * 3], result[2 + i * 3]));
+		}
+
+		RIGID_B.transformDirections(points, 1, points, 1, 2);
+		assertVecEquals(RIGID_B.transformedDirection(Vec3.of(2.0, 3.0, -1.0)), Vec3.of(points[1], points[2], points[3]));
+
+		var buffer = Vec3Buffer.of(3, BufferArrangement.INTERLEAVED);
+		buffer.set(Vec3.of(0.3, -2.0, 1.5), 1);
+		RIGID_B.transformPoints(buffer, 1, 3);
+		assertVecEquals(RIGID_B.transformedPoint(Vec3.of(0.3, -2.0, 1.5)), buffer.cursor(1));
+		assertVecEquals(Vec3.ZERO, buffer.cursor(0));
+		assertVecEquals(RIGID_B.translation(), buffer.cursor(2));
+
+		RIGID_B.transformDirections(buffer, 2, 3);
+		assertVecEquals(RIGID_B.transformedDirection(RIGID_B.translation()), buffer.cursor(2));
+	}
+}
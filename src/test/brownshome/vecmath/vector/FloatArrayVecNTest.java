@@ -0,0 +1,50 @@
+package brownshome.vecmath.vector;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.vector.array.FloatArrayVecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class FloatArrayVecNTest {
+	@Test
+	void bulkOperations() {
+		var vector = FloatArrayVecN.of(VecNLayout.of(10));
+		var other = FloatArrayVecN.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		vector.set(other);
+		vector.scaleAddToSelf(other, 2.0);
+		vector.scaleSelf(FloatArrayVecN.of(1, 1, 1, 1, 1, 1, 1, 1, 1, -1));
+
+		assertEquals(3.0 * (385.0 - 200.0), vector.dot(other));
+		assertEquals(3.0 * (385.0 - 200.0), vector.dot(VecN.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+		assertEquals(3.0 * (385.0 - 200.0), VecN.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).dot(vector));
+		VecmathTesting.assertVecEquals(VecN.of(3, 6, 9, 12, 15, 18, 21, 24, 27, -30), vector.arrayBackedCopy());
+	}
+
+	@Test
+	void accumulatesInDouble() {
+		// A float sum loses the 1 entirely, as 1e8 + 1 is not a float
+		var vector = FloatArrayVecN.of(1e8f, 1f, -1e8f, 0f, 0f);
+		var ones = FloatArrayVecN.of(1f, 1f, 1f, 1f, 1f);
+
+		assertEquals(1.0, vector.dot(ones));
+	}
+
+	@Test
+	void views() {
+		var array = new float[] { 1, 2, 3, 4, 5, 6 };
+		var strided = FloatArrayVecN.of(array, VecNLayout.of(3, 5, -2));
+
+		VecmathTesting.assertVecEquals(VecN.of(6, 4, 2), strided);
+		VecmathTesting.assertVecEquals(Vec3.of(6, 4, 2), strided.asVec3());
+
+		strided.asVec3().z(-2.5);
+		assertEquals(-2.5f, array[1]);
+
+		var copy = strided.copy();
+		copy.set(0.0, 0);
+		assertEquals(6f, array[5]);
+	}
+}
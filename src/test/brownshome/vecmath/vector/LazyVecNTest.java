@@ -0,0 +1,57 @@
+package brownshome.vecmath.vector;
+
+import brownshome.vecmath.vector.array.ArrayVecN;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.ACCURACY;
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class LazyVecNTest {
+	private static ArrayVecN sequence(int size, double start, double step) {
+		var result = VecN.zero(size);
+		for (int i = 0; i < size; i++) {
+			result.set(start + i * step, i);
+		}
+
+		return result;
+	}
+
+	@Test
+	void chainMatchesEager() {
+		// Larger than a single block
+		var a = sequence(1500, 1.0, 0.5);
+		var b = sequence(1500, -3.0, 0.25);
+		var c = sequence(1500, 2.0, -0.125);
+
+		var expected = a.add(b).scale(2.0).subtract(c).scale(c).negated().scaleAdd(a, 3.0);
+		var result = a.lazy().add(b).scale(2.0).subtract(c).scale(c).negated().scaleAdd(a, 3.0);
+
+		assertVecEquals(expected, result.evaluate());
+		assertVecEquals(expected, result.copy());
+		assertEquals(expected.get(1234), result.get(1234), ACCURACY);
+		assertEquals(expected.lengthSquared(), result.lengthSquared(), expected.lengthSquared() * ACCURACY);
+	}
+
+	@Test
+	void setToOperand() {
+		var x = sequence(1000, 1.0, 1.0);
+		var y = sequence(1000, 0.0, -2.0);
+		var expected = y.add(x.scale(0.5));
+
+		x.set(y.lazy().scaleAdd(x, 0.5));
+
+		assertVecEquals(expected, x);
+	}
+
+	@Test
+	void stridedOperands() {
+		var strided = VecN.of(new double[] { 1, 0, 2, 0, 3, 0 }, VecNLayout.of(3, 0, 2));
+		var destination = VecN.of(new double[7], VecNLayout.of(3, 1, 2));
+
+		destination.set(strided.lazy().interpolated(VecN.of(3.0, 2.0, 1.0), 0.5).scale(strided));
+
+		assertVecEquals(VecN.of(2.0, 4.0, 6.0), destination);
+	}
+}
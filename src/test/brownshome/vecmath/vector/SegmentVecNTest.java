@@ -0,0 +1,44 @@
+package brownshome.vecmath.vector;
+
+import java.nio.DoubleBuffer;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.memory.DoubleSegment;
+import brownshome.vecmath.vector.layout.VecNLayout;
+import brownshome.vecmath.vector.segment.SegmentVecN;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SegmentVecNTest {
+	@Test
+	void bulkOperations() {
+		// Four buffers of four elements, so each operation crosses a buffer boundary
+		var segment = DoubleSegment.ofBuffers(DoubleBuffer.allocate(4), DoubleBuffer.allocate(4), DoubleBuffer.allocate(4), DoubleBuffer.allocate(4));
+		var vector = SegmentVecN.of(segment, VecNLayout.of(10, 3));
+		var other = VecN.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		vector.set(other);
+		vector.scaleAddToSelf(other, 2.0);
+		vector.scaleSelf(VecN.of(1, 1, 1, 1, 1, 1, 1, 1, 1, -1));
+
+		assertEquals(3.0 * (385.0 - 200.0), vector.dot(other), VecmathTesting.ACCURACY);
+		assertEquals(3.0, segment.get(3));
+		assertEquals(-30.0, segment.get(12));
+		assertEquals(0.0, segment.get(13));
+	}
+
+	@Test
+	void stridedViews() {
+		var vector = SegmentVecN.allocate(6);
+		vector.set(1, 2, 3, 4, 5, 6);
+
+		var strided = SegmentVecN.of(vector.backingSegment(), VecNLayout.of(3, 5, -2));
+		VecmathTesting.assertVecEquals(VecN.of(6, 4, 2), strided);
+		VecmathTesting.assertVecEquals(Vec3.of(6, 4, 2), strided.asVec3());
+
+		strided.asVec3().z(-2);
+		assertEquals(-2.0, vector.get(1));
+		assertTrue(VecN.of(6, 4, -2).exactEquals(strided.copy()));
+	}
+}
@@ -0,0 +1,156 @@
+package brownshome.vecmath.vector;
+
+import java.util.Random;
+
+import brownshome.vecmath.VecmathTesting;
+import brownshome.vecmath.matrix.Matrix;
+import brownshome.vecmath.matrix.layout.MatrixLayout;
+import brownshome.vecmath.rotation.Rot3;
+import org.junit.jupiter.api.Test;
+
+import static brownshome.vecmath.VecmathTesting.assertVecEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class Vec3BufferTest {
+	private static Vec3Buffer random(Random random, int size, BufferArrangement arrangement) {
+		var result = Vec3Buffer.of(size, arrangement);
+
+		for (int i = 0; i < size; i++) {
+			result.set(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5, i);
+		}
+
+		return result;
+	}
+
+	private static MVec3 vec(Vec3Buffer buffer, int index) {
+		return Vec3.of(buffer.x(index), buffer.y(index), buffer.z(index));
+	}
+
+	@Test
+	void bulkOperations() {
+		for (var first : BufferArrangement.values()) for (var second : BufferArrangement.values()) {
+			var random = new Random(1245);
+			var a = random(random, 20, first);
+			var b = random(random, 20, second);
+
+			var expected = new MVec3[20];
+			for (int i = 0; i < 20; i++) {
+				expected[i] = vec(a, i);
+			}
+
+			a.scaleAdd(b, 2.0, 3, 17);
+			a.scale(0.5, 5, 20);
+			a.cross(b, 0, 10);
+			a.add(Vec3.X_AXIS, 8, 12);
+
+			var dots = new double[20];
+			a.dot(b, dots, 0, 0, 20);
+
+			for (int i = 0; i < 20; i++) {
+				var e = expected[i];
+
+				if (i >= 3 && i < 17) e.scaleAddToSelf(vec(b, i), 2.0);
+				if (i >= 5) e.scaleSelf(0.5);
+				if (i < 10) e.setToRightCross(vec(b, i));
+				if (i >= 8 && i < 12) e.addToSelf(Vec3.X_AXIS);
+
+				assertVecEquals(e, vec(a, i));
+				assertEquals(e.dot(vec(b, i)), dots[i], VecmathTesting.ACCURACY);
+			}
+		}
+	}
+
+	@Test
+	void lengthsAndNormalise() {
+		var buffer = random(new Random(1245), 10, BufferArrangement.INTERLEAVED);
+		var lengths = new double[12];
+
+		buffer.lengths(lengths, 2, 0, 10);
+		assertEquals(0.0, lengths[0]);
+		assertEquals(vec(buffer, 3).length(), lengths[5], VecmathTesting.ACCURACY);
+
+		buffer.normalise(0, 10);
+		buffer.lengths(lengths, 0, 0, 10);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(1.0, lengths[i], VecmathTesting.ACCURACY);
+		}
+	}
+
+	@Test
+	void transformAndRotate() {
+		var random = new Random(1245);
+		var buffer = random(random, 10, BufferArrangement.SEPARATE);
+		var original = new MVec3[10];
+		for (int i = 0; i < 10; i++) {
+			original[i] = vec(buffer, i);
+		}
+
+		var rotation = Rot3.of(0.3, -0.2, 0.5, 0.7);
+		rotation.setToNormalised();
+		buffer.rotate(rotation, 0, 10);
+
+		// A rotation that is not normalised still only rotates
+		var lengths = new double[10];
+		var copy = Vec3Buffer.of(10);
+		copy.add(buffer, 0, 10);
+		copy.rotate(Rot3.of(0.6, -0.4, 1.0, 1.4), 0, 10);
+		copy.lengths(lengths, 0, 0, 10);
+		assertEquals(original[4].length(), lengths[4], VecmathTesting.ACCURACY);
+
+		var scale = Matrix.of(new double[] { 2, 0, 0, 0, 3, 0, 0, 1, 1 }, MatrixLayout.ofRowMajor(3, 3));
+		buffer.transform(scale, 0, 5);
+
+		for (int i = 0; i < 10; i++) {
+			var expected = original[i];
+			rotation.setToRotated(expected);
+
+			if (i < 5) {
+				expected.set(scale.multiply(expected.asColumn()).asColumnVec().asVec3());
+			}
+
+			assertVecEquals(expected, vec(buffer, i));
+		}
+	}
+
+	@Test
+	void cursor() {
+		var xyz = new double[] { 1, 2, 3, 4, 5, 6 };
+		var buffer = Vec3Buffer.ofInterleaved(xyz);
+		var cursor = buffer.cursor();
+
+		assertVecEquals(Vec3.of(1, 2, 3), cursor);
+		assertVecEquals(Vec3.of(4, 5, 6), cursor.moveTo(1));
+		assertEquals(1, cursor.index());
+
+		cursor.scaleSelf(2.0);
+		assertEquals(10.0, xyz[4]);
+		assertEquals("(8.000, 10.000, 12.000)", cursor.toString());
+	}
+
+	@Test
+	void vec4() {
+		var buffer = Vec4Buffer.of(3, BufferArrangement.INTERLEAVED);
+		buffer.set(Vec4.of(1, 2, 3, 4), 0);
+		buffer.set(Vec4.of(0, 0, 0, 2), 2);
+
+		var other = Vec4Buffer.of(3);
+		other.set(Vec4.of(1, 1, 1, 1), 0);
+		buffer.add(other, 0, 3);
+
+		var dots = new double[3];
+		buffer.dot(Vec4.of(1, 0, 0, 1), dots, 0, 0, 3);
+		assertArrayEquals(new double[] { 7, 0, 2 }, dots);
+
+		var swap = Matrix.of(new double[] {
+				0, 0, 0, 1,
+				0, 0, 1, 0,
+				0, 1, 0, 0,
+				1, 0, 0, 0
+		}, MatrixLayout.ofRowMajor(4, 4));
+		buffer.transform(swap, 0, 3);
+		buffer.normalise(2, 3);
+
+		assertVecEquals(Vec4.of(5, 4, 3, 2), buffer.cursor(0));
+		assertVecEquals(Vec4.of(1, 0, 0, 0), buffer.cursor(2));
+	}
+}